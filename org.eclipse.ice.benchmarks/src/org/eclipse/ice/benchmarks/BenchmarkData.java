@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2016 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - Jay Jay Billings
+ *******************************************************************************/
+package org.eclipse.ice.benchmarks;
+
+import org.eclipse.ice.datastructures.entry.IEntry;
+import org.eclipse.ice.datastructures.entry.StringEntry;
+import org.eclipse.ice.datastructures.form.DataComponent;
+import org.eclipse.ice.datastructures.form.Form;
+import org.eclipse.ice.datastructures.form.TreeComposite;
+
+/**
+ * This class generates the Forms, DataComponents and TreeComposites that are
+ * shared by the benchmarks. The same arguments always produce equal data.
+ *
+ * @author Jay Jay Billings
+ *
+ */
+public class BenchmarkData {
+
+	/**
+	 * This class only has static operations.
+	 */
+	private BenchmarkData() {
+	}
+
+	/**
+	 * This operation creates a DataComponent with string entries.
+	 *
+	 * @param id
+	 *            The id of the component
+	 * @param numEntries
+	 *            The number of entries
+	 * @return The component
+	 */
+	public static DataComponent createDataComponent(int id, int numEntries) {
+
+		DataComponent component = new DataComponent();
+		component.setId(id);
+		component.setName("Component " + id);
+		component.setDescription("Generated component " + id);
+		for (int i = 0; i < numEntries; i++) {
+			IEntry entry = new StringEntry();
+			entry.setId(i + 1);
+			entry.setName("entry_" + i);
+			entry.setDescription("Generated entry " + i);
+			entry.setDefaultValue("0");
+			entry.setValue(Integer.toString(i));
+			component.addEntry(entry);
+		}
+
+		return component;
+	}
+
+	/**
+	 * This operation creates a tree where every node has a DataComponent and
+	 * the same number of children.
+	 *
+	 * @param depth
+	 *            The number of levels below the root
+	 * @param width
+	 *            The number of children of each node that is not a leaf
+	 * @param numEntries
+	 *            The number of entries in the DataComponent of each node
+	 * @return The root of the tree
+	 */
+	public static TreeComposite createTree(int depth, int width,
+			int numEntries) {
+		return createTree(depth, width, numEntries, new int[] { 1 });
+	}
+
+	/**
+	 * This operation creates one node of a tree and its children.
+	 *
+	 * @param depth
+	 *            The number of levels below this node
+	 * @param width
+	 *            The number of children of each node that is not a leaf
+	 * @param numEntries
+	 *            The number of entries in the DataComponent of each node
+	 * @param nextId
+	 *            The id of the next node, which is incremented as nodes are
+	 *            created
+	 * @return The node
+	 */
+	private static TreeComposite createTree(int depth, int width,
+			int numEntries, int[] nextId) {
+
+		TreeComposite tree = new TreeComposite();
+		int id = nextId[0]++;
+		tree.setId(id);
+		tree.setName("Node " + id);
+		tree.addComponent(createDataComponent(id, numEntries));
+		if (depth > 0) {
+			for (int i = 0; i < width; i++) {
+				tree.setNextChild(
+						createTree(depth - 1, width, numEntries, nextId));
+			}
+		}
+
+		return tree;
+	}
+
+	/**
+	 * This operation creates a Form with DataComponents and a tree.
+	 *
+	 * @param numComponents
+	 *            The number of DataComponents
+	 * @param numEntries
+	 *            The number of entries in each DataComponent
+	 * @return The Form
+	 */
+	public static Form createForm(int numComponents, int numEntries) {
+
+		Form form = new Form();
+		form.setName("Benchmark Form");
+		form.setDescription("A generated Form for benchmarking");
+		form.setItemID(1);
+		for (int i = 0; i < numComponents; i++) {
+			form.addComponent(createDataComponent(i + 1, numEntries));
+		}
+		TreeComposite tree = createTree(2, 4, numEntries);
+		tree.setId(numComponents + 1);
+		form.addComponent(tree);
+
+		return form;
+	}
+
+}
@@ -0,0 +1,63 @@
+/*******************************************************************************
+ * Copyright (c) 2016 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - Jay Jay Billings
+ *******************************************************************************/
+package org.eclipse.ice.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * <p>
+ * This class runs the JMH benchmarks in this bundle and writes the results as
+ * JSON so that they can be compared between builds. It is run by the
+ * "benchmark" profile of this bundle's pom:
+ * </p>
+ * <p>
+ * mvn clean verify -P benchmark
+ * </p>
+ * <p>
+ * from org.eclipse.ice.aggregator. It can also be run as a Java application
+ * with the bundle and its dependencies on the class path.
+ * </p>
+ *
+ * @author Jay Jay Billings
+ *
+ */
+public class BenchmarkRunner {
+
+	/**
+	 * The entry point
+	 *
+	 * @param args
+	 *            The path of the JSON results file, which is jmh-result.json
+	 *            if it is not given, followed by an optional regular
+	 *            expression that selects the benchmarks to run, such as
+	 *            "ReaderBenchmark".
+	 * @throws RunnerException
+	 */
+	public static void main(String[] args) throws RunnerException {
+
+		String resultFile = (args.length > 0) ? args[0] : "jmh-result.json";
+		String include = (args.length > 1) ? args[1]
+				: BenchmarkRunner.class.getPackage().getName() + ".*";
+
+		Options options = new OptionsBuilder().include(include).forks(1)
+				.warmupIterations(5).measurementIterations(5)
+				.resultFormat(ResultFormatType.JSON).result(resultFile)
+				.build();
+		new Runner(options).run();
+
+		return;
+	}
+
+}
@@ -0,0 +1,204 @@
+/*******************************************************************************
+ * Copyright (c) 2016 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - Jay Jay Billings
+ *******************************************************************************/
+package org.eclipse.ice.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ice.datastructures.entry.IEntry;
+import org.eclipse.ice.datastructures.form.DataComponent;
+import org.eclipse.ice.datastructures.form.TreeComposite;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * This class benchmarks copying, comparing and hashing DataComponents and
+ * TreeComposites, which the Items and the UI do every time that a Form is
+ * updated.
+ *
+ * @author Jay Jay Billings
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DataStructureBenchmark {
+
+	/**
+	 * The number of entries in each DataComponent
+	 */
+	@Param({ "10", "100" })
+	public int numEntries;
+
+	/**
+	 * The depth of the trees. Every node has four children.
+	 */
+	@Param({ "2", "4" })
+	public int depth;
+
+	/**
+	 * The DataComponent that is copied and compared
+	 */
+	private DataComponent component;
+
+	/**
+	 * An equal DataComponent
+	 */
+	private DataComponent otherComponent;
+
+	/**
+	 * The tree that is copied and compared
+	 */
+	private TreeComposite tree;
+
+	/**
+	 * An equal tree
+	 */
+	private TreeComposite otherTree;
+
+	/**
+	 * The first Entry of the deepest node of the tree
+	 */
+	private IEntry leafEntry;
+
+	/**
+	 * This class changes the value of the Entry at the bottom of the tree
+	 * before every call to a benchmark that uses it, so that the TreeComposite
+	 * can not use the hash that it cached for the last call.
+	 *
+	 * @author Jay Jay Billings
+	 *
+	 */
+	@State(Scope.Thread)
+	public static class TreeChange {
+
+		/**
+		 * The number of changes that were made
+		 */
+		private int count;
+
+		/**
+		 * This operation changes the Entry. It is not timed.
+		 *
+		 * @param benchmark
+		 *            The benchmark that holds the tree
+		 */
+		@Setup(Level.Invocation)
+		public void change(DataStructureBenchmark benchmark) {
+			benchmark.leafEntry.setValue(Integer.toString(++count));
+		}
+	}
+
+	/**
+	 * This operation creates the data.
+	 */
+	@Setup
+	public void setup() {
+		component = BenchmarkData.createDataComponent(1, numEntries);
+		otherComponent = BenchmarkData.createDataComponent(1, numEntries);
+		tree = BenchmarkData.createTree(depth, 4, numEntries);
+		otherTree = BenchmarkData.createTree(depth, 4, numEntries);
+
+		// Find the deepest node
+		TreeComposite leaf = tree;
+		while (leaf.getNumberOfChildren() > 0) {
+			leaf = leaf.getChildAtIndex(0);
+		}
+		leafEntry = ((DataComponent) leaf.getDataNodes().get(0))
+				.retrieveAllEntries().get(0);
+	}
+
+	/**
+	 * Benchmarks {@link DataComponent#copy(DataComponent)}.
+	 *
+	 * @return The copy
+	 */
+	@Benchmark
+	public DataComponent copyDataComponent() {
+		DataComponent copy = new DataComponent();
+		copy.copy(component);
+		return copy;
+	}
+
+	/**
+	 * Benchmarks {@link DataComponent#equals(Object)} on equal components.
+	 *
+	 * @return The result of the comparison
+	 */
+	@Benchmark
+	public boolean equalsDataComponent() {
+		return component.equals(otherComponent);
+	}
+
+	/**
+	 * Benchmarks {@link DataComponent#hashCode()}.
+	 *
+	 * @return The hash
+	 */
+	@Benchmark
+	public int hashCodeDataComponent() {
+		return component.hashCode();
+	}
+
+	/**
+	 * Benchmarks {@link TreeComposite#copy(TreeComposite)}.
+	 *
+	 * @return The copy
+	 */
+	@Benchmark
+	public TreeComposite copyTreeComposite() {
+		TreeComposite copy = new TreeComposite();
+		copy.copy(tree);
+		return copy;
+	}
+
+	/**
+	 * Benchmarks {@link TreeComposite#equals(Object)} on equal trees.
+	 *
+	 * @return The result of the comparison
+	 */
+	@Benchmark
+	public boolean equalsTreeComposite() {
+		return tree.equals(otherTree);
+	}
+
+	/**
+	 * Benchmarks {@link TreeComposite#hashCode()} when the tree has not
+	 * changed since the last call, so the cached hash is returned after the
+	 * tree is checked for changes.
+	 *
+	 * @return The hash
+	 */
+	@Benchmark
+	public int hashCodeTreeComposite() {
+		return tree.hashCode();
+	}
+
+	/**
+	 * Benchmarks {@link TreeComposite#hashCode()} after an Entry at the bottom
+	 * of the tree changed, so the hash must be computed again.
+	 *
+	 * @param change
+	 *            The change that is made before each call
+	 * @return The hash
+	 */
+	@Benchmark
+	public int hashCodeChangedTreeComposite(TreeChange change) {
+		return tree.hashCode();
+	}
+
+}
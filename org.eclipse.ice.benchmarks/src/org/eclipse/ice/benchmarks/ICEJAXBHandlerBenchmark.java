@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2016 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - Jay Jay Billings
+ *******************************************************************************/
+package org.eclipse.ice.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.bind.JAXBException;
+
+import org.eclipse.ice.datastructures.ICEObject.ICEJAXBHandler;
+import org.eclipse.ice.datastructures.form.Form;
+import org.eclipse.ice.datastructures.jaxbclassprovider.ICEJAXBClassProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * This class benchmarks writing Forms to XML and reading them back with the
+ * {@link ICEJAXBHandler}. The handler creates a new JAXBContext for every
+ * call, so these numbers include that cost.
+ *
+ * @author Jay Jay Billings
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ICEJAXBHandlerBenchmark {
+
+	/**
+	 * The number of DataComponents in the Form
+	 */
+	@Param({ "10", "100" })
+	public int numComponents;
+
+	/**
+	 * The handler
+	 */
+	private ICEJAXBHandler handler;
+
+	/**
+	 * The Form that is written
+	 */
+	private Form form;
+
+	/**
+	 * The Form as XML
+	 */
+	private byte[] xml;
+
+	/**
+	 * This operation creates the Form and its XML.
+	 *
+	 * @throws IOException
+	 * @throws JAXBException
+	 */
+	@Setup
+	public void setup() throws JAXBException, IOException {
+		handler = new ICEJAXBHandler();
+		form = BenchmarkData.createForm(numComponents, 20);
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		handler.write(form, getClassList(), stream);
+		xml = stream.toByteArray();
+	}
+
+	/**
+	 * This operation returns the classes that the handler needs for Forms.
+	 * The handler modifies the list, so a new one is created for every call.
+	 *
+	 * @return The classes
+	 */
+	private ArrayList<Class> getClassList() {
+		ArrayList<Class> classList = new ArrayList<Class>(
+				new ICEJAXBClassProvider().getClasses());
+		classList.add(Form.class);
+		return classList;
+	}
+
+	/**
+	 * Benchmarks {@link ICEJAXBHandler#write(Object, ArrayList, java.io.OutputStream)}.
+	 *
+	 * @return The XML
+	 * @throws IOException
+	 * @throws JAXBException
+	 */
+	@Benchmark
+	public byte[] write() throws JAXBException, IOException {
+		ByteArrayOutputStream stream = new ByteArrayOutputStream(xml.length);
+		handler.write(form, getClassList(), stream);
+		return stream.toByteArray();
+	}
+
+	/**
+	 * Benchmarks {@link ICEJAXBHandler#read(ArrayList, java.io.InputStream)}.
+	 *
+	 * @return The Form
+	 * @throws IOException
+	 * @throws JAXBException
+	 */
+	@Benchmark
+	public Object read() throws JAXBException, IOException {
+		return handler.read(getClassList(), new ByteArrayInputStream(xml));
+	}
+
+}
@@ -0,0 +1,219 @@
+/*******************************************************************************
+ * Copyright (c) 2016 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - Jay Jay Billings
+ *******************************************************************************/
+package org.eclipse.ice.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ice.datastructures.form.TreeComposite;
+import org.eclipse.ice.item.utilities.moose.MOOSEFileHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * This class benchmarks loading generated MOOSE input files in the GetPot
+ * format and MOOSE syntax files in the YAML format with the
+ * {@link MOOSEFileHandler}.
+ *
+ * @author Jay Jay Billings
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MOOSEFileHandlerBenchmark {
+
+	/**
+	 * The number of top level blocks
+	 */
+	@Param({ "10", "100" })
+	public int numBlocks;
+
+	/**
+	 * The number of parameters in each block and the number of sub-blocks or
+	 * types of each top level block
+	 */
+	private static final int width = 10;
+
+	/**
+	 * The directory that holds the files. The YAML file is loaded from a
+	 * child directory because the handler lists the files in the directory
+	 * above it.
+	 */
+	private File directory;
+
+	/**
+	 * The GetPot input file
+	 */
+	private File getPotFile;
+
+	/**
+	 * The YAML syntax file
+	 */
+	private File yamlFile;
+
+	/**
+	 * The action syntax file that goes with the YAML file
+	 */
+	private File syntaxFile;
+
+	/**
+	 * This operation writes the files.
+	 *
+	 * @throws IOException
+	 */
+	@Setup
+	public void setup() throws IOException {
+
+		directory = Files.createTempDirectory("mooseBenchmark").toFile();
+		File appDirectory = new File(directory, "app");
+		appDirectory.mkdir();
+		getPotFile = new File(directory, "input.i");
+		yamlFile = new File(appDirectory, "app.yaml");
+		syntaxFile = new File(appDirectory, "app.syntax");
+
+		// The GetPot file has blocks with parameters and sub-blocks
+		StringBuilder builder = new StringBuilder("# Generated input\n");
+		for (int i = 0; i < numBlocks; i++) {
+			builder.append("[Block_").append(i).append("]\n");
+			appendGetPotParameters(builder, "  ");
+			for (int j = 0; j < width; j++) {
+				builder.append("  [./sub_").append(j).append("]\n")
+						.append("    type = Type_").append(j).append('\n');
+				appendGetPotParameters(builder, "    ");
+				builder.append("  [../]\n");
+			}
+			builder.append("[]\n\n");
+		}
+		write(getPotFile, builder);
+
+		// The YAML file has blocks with parameters and a list of types, and
+		// the action syntax file names all of the blocks.
+		builder = new StringBuilder();
+		StringBuilder syntax = new StringBuilder();
+		for (int i = 0; i < numBlocks; i++) {
+			String path = "/Block_" + i;
+			appendYAMLBlock(builder, path, "");
+			builder.append("  subblocks:\n");
+			appendYAMLBlock(builder, path + "/<type>", "    ");
+			builder.append("    subblocks:\n");
+			for (int j = 0; j < width; j++) {
+				appendYAMLBlock(builder, path + "/<type>/Type_" + j,
+						"      ");
+			}
+			syntax.append("Block_").append(i).append('\n').append("Block_")
+					.append(i).append("/*\n");
+		}
+		write(yamlFile, builder);
+		write(syntaxFile, syntax);
+	}
+
+	/**
+	 * This operation appends the parameters of a GetPot block.
+	 *
+	 * @param builder
+	 *            The builder for the file
+	 * @param indent
+	 *            The indentation of the parameters
+	 */
+	private void appendGetPotParameters(StringBuilder builder, String indent) {
+		for (int k = 0; k < width; k++) {
+			builder.append(indent).append("param_").append(k).append(" = ")
+					.append(k * 0.5).append('\n');
+		}
+	}
+
+	/**
+	 * This operation appends the name and parameters of a YAML block.
+	 *
+	 * @param builder
+	 *            The builder for the file
+	 * @param path
+	 *            The full path of the block
+	 * @param indent
+	 *            The indentation of the block
+	 */
+	private void appendYAMLBlock(StringBuilder builder, String path,
+			String indent) {
+		builder.append(indent).append("- name: \"").append(path).append("\"\n")
+				.append(indent).append("  description: \"A generated block\"\n")
+				.append(indent).append("  parameters:\n");
+		for (int k = 0; k < width; k++) {
+			builder.append(indent).append("    - name: param_").append(k)
+					.append('\n').append(indent)
+					.append("      cpp_type: double\n").append(indent)
+					.append("      default: \"").append(k * 0.5).append("\"\n")
+					.append(indent)
+					.append("      description: \"A generated parameter\"\n")
+					.append(indent).append("      required: ")
+					.append(k == 0).append('\n');
+		}
+	}
+
+	/**
+	 * This operation writes a file.
+	 *
+	 * @param file
+	 *            The file
+	 * @param builder
+	 *            The contents
+	 * @throws IOException
+	 */
+	private void write(File file, StringBuilder builder) throws IOException {
+		Files.write(file.toPath(),
+				builder.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * This operation deletes the files.
+	 */
+	@TearDown
+	public void tearDown() {
+		yamlFile.delete();
+		syntaxFile.delete();
+		yamlFile.getParentFile().delete();
+		getPotFile.delete();
+		directory.delete();
+	}
+
+	/**
+	 * Benchmarks {@link MOOSEFileHandler#loadFromGetPot(String)}.
+	 *
+	 * @return The blocks
+	 */
+	@Benchmark
+	public ArrayList<TreeComposite> loadFromGetPot() {
+		return new MOOSEFileHandler().loadFromGetPot(getPotFile.getPath());
+	}
+
+	/**
+	 * Benchmarks {@link MOOSEFileHandler#loadYAML(String)}.
+	 *
+	 * @return The blocks
+	 * @throws IOException
+	 */
+	@Benchmark
+	public ArrayList<TreeComposite> loadYAML() throws IOException {
+		return new MOOSEFileHandler().loadYAML(yamlFile.getPath());
+	}
+
+}
@@ -0,0 +1,183 @@
+/*******************************************************************************
+ * Copyright (c) 2016 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - Jay Jay Billings
+ *******************************************************************************/
+package org.eclipse.ice.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.core.resources.IFile;
+
+/**
+ * A MemoryFile is an IFile that keeps its contents in memory so that the
+ * readers and writers can be benchmarked without a workspace. It supports
+ * only what the readers and writers use: the name, existence checks and
+ * getting, setting and creating the contents. All other operations return
+ * null, false or zero.
+ *
+ * @author Jay Jay Billings
+ *
+ */
+public class MemoryFile implements InvocationHandler {
+
+	/**
+	 * The name of the file
+	 */
+	private final String name;
+
+	/**
+	 * The contents of the file, or null if it does not exist
+	 */
+	private byte[] contents;
+
+	/**
+	 * The number of times that the contents have been written
+	 */
+	private long writes;
+
+	/**
+	 * The IFile that is backed by this MemoryFile
+	 */
+	private final IFile file;
+
+	/**
+	 * The constructor
+	 *
+	 * @param name
+	 *            The name of the file
+	 * @param contents
+	 *            The contents of the file, or null if it should not exist yet
+	 */
+	public MemoryFile(String name, String contents) {
+		this.name = name;
+		this.contents = (contents != null)
+				? contents.getBytes(StandardCharsets.UTF_8) : null;
+		file = (IFile) Proxy.newProxyInstance(IFile.class.getClassLoader(),
+				new Class<?>[] { IFile.class }, this);
+	}
+
+	/**
+	 * This operation returns the IFile that is backed by this MemoryFile.
+	 *
+	 * @return The file
+	 */
+	public IFile getFile() {
+		return file;
+	}
+
+	/**
+	 * This operation returns the number of times that the contents have been
+	 * set or created.
+	 *
+	 * @return The number of writes
+	 */
+	public synchronized long getWrites() {
+		return writes;
+	}
+
+	/**
+	 * This operation blocks until the contents have been written more than the
+	 * given number of times. It is used to wait for writers that work on other
+	 * threads.
+	 *
+	 * @param count
+	 *            The number of writes that have already been seen
+	 * @throws InterruptedException
+	 */
+	public synchronized void awaitWrites(long count)
+			throws InterruptedException {
+		while (writes <= count) {
+			wait();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see java.lang.reflect.InvocationHandler#invoke(java.lang.Object,
+	 * java.lang.reflect.Method, java.lang.Object[])
+	 */
+	@Override
+	public Object invoke(Object proxy, Method method, Object[] args)
+			throws Throwable {
+
+		String methodName = method.getName();
+
+		if ("getName".equals(methodName) || "toString".equals(methodName)) {
+			return name;
+		} else if ("hashCode".equals(methodName)) {
+			return System.identityHashCode(proxy);
+		} else if ("equals".equals(methodName)) {
+			return proxy == args[0];
+		} else if ("getFileExtension".equals(methodName)) {
+			int index = name.lastIndexOf('.');
+			return (index >= 0) ? name.substring(index + 1) : null;
+		} else if ("exists".equals(methodName)) {
+			return getBytes() != null;
+		} else if ("getContents".equals(methodName)) {
+			byte[] bytes = getBytes();
+			return (bytes != null) ? new ByteArrayInputStream(bytes) : null;
+		} else if (("setContents".equals(methodName)
+				|| "create".equals(methodName))
+				&& args[0] instanceof InputStream) {
+			setBytes((InputStream) args[0]);
+			return null;
+		}
+
+		// Everything else is unsupported
+		Class<?> type = method.getReturnType();
+		if (type == boolean.class) {
+			return false;
+		} else if (type == int.class) {
+			return 0;
+		} else if (type == long.class) {
+			return 0L;
+		}
+		return null;
+	}
+
+	/**
+	 * This operation returns the current contents.
+	 *
+	 * @return The contents, or null if the file does not exist
+	 */
+	private synchronized byte[] getBytes() {
+		return contents;
+	}
+
+	/**
+	 * This operation replaces the contents with those of a stream and wakes
+	 * any threads that are waiting for the write.
+	 *
+	 * @param stream
+	 *            The new contents
+	 * @throws IOException
+	 */
+	private void setBytes(InputStream stream) throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		byte[] buffer = new byte[8192];
+		int count;
+		while ((count = stream.read(buffer)) != -1) {
+			output.write(buffer, 0, count);
+		}
+		synchronized (this) {
+			contents = output.toByteArray();
+			writes++;
+			notifyAll();
+		}
+	}
+
+}
@@ -0,0 +1,223 @@
+/*******************************************************************************
+ * Copyright (c) 2016 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - Jay Jay Billings
+ *******************************************************************************/
+package org.eclipse.ice.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.eavp.viz.modeling.Edge;
+import org.eclipse.eavp.viz.modeling.EdgeController;
+import org.eclipse.eavp.viz.modeling.Vertex;
+import org.eclipse.eavp.viz.modeling.VertexController;
+import org.eclipse.eavp.viz.modeling.base.BasicView;
+import org.eclipse.eavp.viz.modeling.base.IMesh;
+import org.eclipse.eavp.viz.modeling.factory.IControllerProvider;
+import org.eclipse.eavp.viz.modeling.factory.IControllerProviderFactory;
+import org.eclipse.eavp.viz.service.mesh.datastructures.NekPolygon;
+import org.eclipse.eavp.viz.service.mesh.datastructures.NekPolygonController;
+import org.eclipse.ice.datastructures.form.Component;
+import org.eclipse.ice.nek5000.NekReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * This class benchmarks loading generated two dimensional meshes with the
+ * {@link NekReader}. The meshes are square grids of quads with walls on the
+ * outside and interior boundaries everywhere else.
+ *
+ * @author Jay Jay Billings
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class NekReaderBenchmark {
+
+	/**
+	 * The number of quads along each side of the mesh
+	 */
+	@Param({ "10", "50" })
+	public int gridSize;
+
+	/**
+	 * The generated .rea file
+	 */
+	private File reaFile;
+
+	/**
+	 * The factory that creates plain controllers for the mesh parts, since
+	 * the visualization services are not available outside of OSGi.
+	 */
+	private final IControllerProviderFactory factory = new IControllerProviderFactory() {
+		@Override
+		public IControllerProvider createProvider(IMesh model) {
+			if (model instanceof Edge) {
+				return new IControllerProvider<EdgeController>() {
+					@Override
+					public EdgeController createController(IMesh model) {
+						return new EdgeController((Edge) model,
+								new BasicView());
+					}
+				};
+			} else if (model instanceof Vertex) {
+				return new IControllerProvider<VertexController>() {
+					@Override
+					public VertexController createController(IMesh model) {
+						return new VertexController((Vertex) model,
+								new BasicView());
+					}
+				};
+			} else if (model instanceof NekPolygon) {
+				return new IControllerProvider<NekPolygonController>() {
+					@Override
+					public NekPolygonController createController(
+							IMesh model) {
+						return new NekPolygonController((NekPolygon) model,
+								new BasicView());
+					}
+				};
+			}
+			return null;
+		}
+	};
+
+	/**
+	 * This operation writes the .rea file.
+	 *
+	 * @throws IOException
+	 */
+	@Setup
+	public void setup() throws IOException {
+
+		int numElements = gridSize * gridSize;
+		StringBuilder builder = new StringBuilder();
+
+		// Parameters
+		builder.append("****** PARAMETERS *****\n")
+				.append("   2.610000     NEKTON VERSION\n")
+				.append("   2 DIMENSIONAL RUN\n")
+				.append("          4 PARAMETERS FOLLOW\n")
+				.append("   1.00000     p01 DENSITY\n")
+				.append("  -100.000     p02 VISCOS\n")
+				.append("   0.00000     p03\n")
+				.append("   0.00000     p23 NPSCAL\n");
+		builder.append("      0  Lines of passive scalar data follows"
+				+ "2 CONDUCT; 2RHOCP\n");
+		builder.append("          2  LOGICAL SWITCHES FOLLOW\n")
+				.append(" T      IFFLOW\n").append(" F      IFHEAT\n");
+		builder.append("   10.0000       10.0000      -0.500000"
+				+ "     -0.500000     XFAC,YFAC,XZERO,YZERO\n");
+
+		// Mesh
+		builder.append(" **MESH DATA** 6 lines are X,Y,Z;X,Y,Z. Columns 1-8 "
+				+ "are X,Y,Z\n");
+		builder.append("    ").append(numElements).append("  2   ")
+				.append(numElements).append("           NEL,NDIM,NELV\n");
+		for (int row = 0; row < gridSize; row++) {
+			for (int column = 0; column < gridSize; column++) {
+				int element = row * gridSize + column + 1;
+				builder.append("            ELEMENT ").append(element)
+						.append(" [    1a]    GROUP     0\n");
+				builder.append(column).append(' ').append(column + 1)
+						.append(' ').append(column + 1).append(' ')
+						.append(column).append('\n');
+				builder.append(row).append(' ').append(row).append(' ')
+						.append(row + 1).append(' ').append(row + 1)
+						.append('\n');
+			}
+		}
+		builder.append("  ***** CURVED SIDE DATA *****\n")
+				.append("           0 Curved sides follow IEDGE,IEL,CURVE(I),"
+						+ "I=1,5, CCURVE\n");
+
+		// Fluid boundary conditions. Sides are numbered counter-clockwise
+		// from the bottom.
+		builder.append("  ***** BOUNDARY CONDITIONS *****\n")
+				.append("  ***** FLUID   BOUNDARY CONDITIONS *****\n");
+		for (int row = 0; row < gridSize; row++) {
+			for (int column = 0; column < gridSize; column++) {
+				int element = row * gridSize + column + 1;
+				appendCondition(builder, element, 1, row > 0,
+						element - gridSize, 3);
+				appendCondition(builder, element, 2, column < gridSize - 1,
+						element + 1, 4);
+				appendCondition(builder, element, 3, row < gridSize - 1,
+						element + gridSize, 1);
+				appendCondition(builder, element, 4, column > 0, element - 1,
+						2);
+			}
+		}
+		builder.append("  ***** NO THERMAL BOUNDARY CONDITIONS *****\n");
+
+		reaFile = File.createTempFile("benchmark", ".rea");
+		Files.write(reaFile.toPath(),
+				builder.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * This operation appends one boundary condition line.
+	 *
+	 * @param builder
+	 *            The builder for the file
+	 * @param element
+	 *            The element
+	 * @param side
+	 *            The side of the element
+	 * @param interior
+	 *            True if the side is shared with another element, false if it
+	 *            is a wall
+	 * @param neighbor
+	 *            The element on the other side
+	 * @param neighborSide
+	 *            The side of the neighbor
+	 */
+	private void appendCondition(StringBuilder builder, int element, int side,
+			boolean interior, int neighbor, int neighborSide) {
+		builder.append(' ').append(interior ? 'E' : 'W').append("  ")
+				.append(element).append(' ').append(side).append(' ')
+				.append(interior ? neighbor : 0).append(".0 ")
+				.append(interior ? neighborSide : 0)
+				.append(".0 0.0 0.0 0.0\n");
+	}
+
+	/**
+	 * This operation deletes the .rea file.
+	 */
+	@TearDown
+	public void tearDown() {
+		reaFile.delete();
+	}
+
+	/**
+	 * Benchmarks {@link NekReader#loadREAFile(File)}.
+	 *
+	 * @return The components
+	 * @throws IOException
+	 */
+	@Benchmark
+	public ArrayList<Component> loadREAFile() throws IOException {
+		NekReader reader = new NekReader();
+		reader.setControllerFactory(factory);
+		return reader.loadREAFile(reaFile);
+	}
+
+}
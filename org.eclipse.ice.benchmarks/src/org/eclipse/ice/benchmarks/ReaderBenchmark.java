@@ -0,0 +1,154 @@
+/*******************************************************************************
+ * Copyright (c) 2016 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - Jay Jay Billings
+ *******************************************************************************/
+package org.eclipse.ice.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ice.datastructures.form.Form;
+import org.eclipse.ice.io.csv.CSVReader;
+import org.eclipse.ice.io.csv.DelimitedReader;
+import org.eclipse.ice.io.ini.INIReader;
+import org.eclipse.ice.io.ips.IPSReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * This class benchmarks parsing generated files with the
+ * {@link DelimitedReader}, the {@link INIReader} and the {@link IPSReader}.
+ *
+ * @author Jay Jay Billings
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ReaderBenchmark {
+
+	/**
+	 * The number of sections in the INI file, the number of parameters in
+	 * each port of the IPS file and one hundredth of the number of lines in
+	 * the CSV file
+	 */
+	@Param({ "10", "100" })
+	public int size;
+
+	/**
+	 * The CSV file
+	 */
+	private MemoryFile csvFile;
+
+	/**
+	 * The INI file
+	 */
+	private MemoryFile iniFile;
+
+	/**
+	 * The IPS file
+	 */
+	private MemoryFile ipsFile;
+
+	/**
+	 * This operation generates the files.
+	 */
+	@Setup
+	public void setup() {
+
+		// A CSV file with ten columns
+		StringBuilder builder = new StringBuilder("# Generated data\n");
+		for (int i = 0; i < size * 100; i++) {
+			builder.append(i);
+			for (int j = 1; j < 10; j++) {
+				builder.append(',').append(i * 0.001 * j);
+			}
+			builder.append('\n');
+		}
+		csvFile = new MemoryFile("data.csv", builder.toString());
+
+		// An INI file with 100 assignments in each section
+		builder = new StringBuilder();
+		for (int i = 0; i < size; i++) {
+			builder.append("[section").append(i).append("]\n");
+			for (int j = 0; j < 100; j++) {
+				builder.append("key_").append(j).append(" = value_").append(j)
+						.append(" ; comment\n");
+			}
+		}
+		iniFile = new MemoryFile("data.ini", builder.toString());
+
+		// An IPS file with a few ports
+		String[] ports = { "INIT_STATE", "NTG", "DUALFOIL", "AMPERES" };
+		builder = new StringBuilder();
+		for (int i = 0; i < size; i++) {
+			builder.append("GLOBAL_").append(i).append(" = ").append(i)
+					.append(" # comment\n");
+		}
+		builder.append("\n[PORTS]\n   NAMES =");
+		for (String port : ports) {
+			builder.append(' ').append(port);
+		}
+		builder.append('\n');
+		for (String port : ports) {
+			builder.append("   [[").append(port).append("]]\n")
+					.append("      IMPLEMENTATION = ").append(port)
+					.append("_IMPL\n");
+		}
+		builder.append('\n');
+		for (String port : ports) {
+			builder.append('[').append(port).append("]\n")
+					.append("   CLASS = ").append(port).append('\n');
+			for (int j = 0; j < size; j++) {
+				builder.append("   PARAMETER_").append(j)
+						.append(" = $SIM_ROOT/input_").append(j).append('\n');
+			}
+			builder.append('\n');
+		}
+		builder.append("[TIME_LOOP]\n   MODE = REGULAR\n   START = 0\n"
+				+ "   FINISH = 10\n   NSTEP = 10\n");
+		ipsFile = new MemoryFile("data.ips", builder.toString());
+	}
+
+	/**
+	 * Benchmarks {@link CSVReader#read(org.eclipse.core.resources.IFile)}.
+	 *
+	 * @return The Form
+	 */
+	@Benchmark
+	public Form readCSV() {
+		return new CSVReader().read(csvFile.getFile());
+	}
+
+	/**
+	 * Benchmarks {@link INIReader#read(org.eclipse.core.resources.IFile)}.
+	 *
+	 * @return The Form
+	 */
+	@Benchmark
+	public Form readINI() {
+		return new INIReader().read(iniFile.getFile());
+	}
+
+	/**
+	 * Benchmarks {@link IPSReader#read(org.eclipse.core.resources.IFile)}.
+	 *
+	 * @return The Form
+	 */
+	@Benchmark
+	public Form readIPS() {
+		return new IPSReader().read(ipsFile.getFile());
+	}
+
+}
@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2016 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - Jay Jay Billings
+ *******************************************************************************/
+package org.eclipse.ice.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ice.reflectivity.ReflectivityCalculator;
+import org.eclipse.ice.reflectivity.ReflectivityProfile;
+import org.eclipse.ice.reflectivity.Slab;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * This class benchmarks
+ * {@link ReflectivityCalculator#getReflectivityProfile(Slab[], int, double, double, double, double[], boolean)}
+ * for the nickel oxide on silicon system that is used in the tests.
+ *
+ * @author Jay Jay Billings
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ReflectivityCalculatorBenchmark {
+
+	/**
+	 * The number of points in the wave vector
+	 */
+	@Param({ "402", "4020" })
+	public int numPoints;
+
+	/**
+	 * The number of slices used to approximate the roughness of each
+	 * interface
+	 */
+	@Param({ "41" })
+	public int numRough;
+
+	/**
+	 * The calculator
+	 */
+	private ReflectivityCalculator calculator;
+
+	/**
+	 * The slabs that define the system
+	 */
+	private Slab[] slabs;
+
+	/**
+	 * The wave vector
+	 */
+	private double[] waveVector;
+
+	/**
+	 * This operation creates the slabs and the wave vector.
+	 */
+	@Setup
+	public void setup() {
+
+		calculator = new ReflectivityCalculator();
+
+		// Air
+		Slab air = new Slab();
+		air.thickness = 200.0;
+
+		// NiOx
+		Slab niOx = new Slab();
+		niOx.scatteringLength = (0.00000686 + 0.00000715) / 2.0;
+		niOx.trueAbsLength = 2.27931868269305E-09;
+		niOx.incAbsLength = 4.74626235093697E-09;
+		niOx.thickness = 22.0;
+		niOx.interfaceWidth = 4.0 * 2.35;
+
+		// Ni
+		Slab ni = new Slab();
+		ni.scatteringLength = 9.31e-6;
+		ni.trueAbsLength = 2.27931868269305E-09;
+		ni.incAbsLength = 4.74626235093697E-09;
+		ni.thickness = 551.0;
+		ni.interfaceWidth = 4.3 * 2.35;
+
+		// SiNiOx
+		Slab siNiOx = new Slab();
+		siNiOx.scatteringLength = (0.00000554 + 0.00000585) / 2.0;
+		siNiOx.trueAbsLength = 2.27931868269305E-09;
+		siNiOx.incAbsLength = 4.74626235093697E-09;
+		siNiOx.thickness = 42.0;
+		siNiOx.interfaceWidth = 7.0 * 2.35;
+
+		// SiOx
+		Slab si = new Slab();
+		si.scatteringLength = 2.070e-6;
+		si.trueAbsLength = 4.74981478870069E-11;
+		si.incAbsLength = 1.99769988072137E-12;
+		si.thickness = 100.0;
+		si.interfaceWidth = 17.5;
+
+		slabs = new Slab[] { air, niOx, ni, siNiOx, si };
+
+		// Evenly spaced points over the range in the reference data
+		waveVector = new double[numPoints];
+		double start = 0.008, end = 0.44;
+		for (int i = 0; i < numPoints; i++) {
+			waveVector[i] = start + (end - start) * i / (numPoints - 1);
+		}
+	}
+
+	/**
+	 * Benchmarks the calculation of the reflectivity profile.
+	 *
+	 * @return The profile
+	 */
+	@Benchmark
+	public ReflectivityProfile getReflectivityProfile() {
+		return calculator.getReflectivityProfile(slabs, numRough, 0.0, 0.025,
+				4.25, waveVector, false);
+	}
+
+}
@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (c) 2016 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - Jay Jay Billings
+ *******************************************************************************/
+package org.eclipse.ice.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ice.item.Registry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * This class benchmarks {@link Registry#dispatch()}, which Items call to push
+ * the values of registered keys to their components.
+ *
+ * @author Jay Jay Billings
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RegistryBenchmark {
+
+	/**
+	 * The number of keys in the registry
+	 */
+	@Param({ "10", "1000" })
+	public int numKeys;
+
+	/**
+	 * The number of registrants for each key
+	 */
+	@Param({ "1", "10" })
+	public int numRegistrants;
+
+	/**
+	 * The registry
+	 */
+	private Registry registry;
+
+	/**
+	 * This operation registers DataComponents for every key and sets the
+	 * values.
+	 */
+	@Setup
+	public void setup() {
+		registry = new Registry();
+		for (int i = 0; i < numKeys; i++) {
+			String key = "key_" + i;
+			for (int j = 0; j < numRegistrants; j++) {
+				registry.register(BenchmarkData.createDataComponent(j, 10),
+						key);
+			}
+			registry.setValue(key, Integer.toString(i));
+		}
+	}
+
+	/**
+	 * Benchmarks {@link Registry#dispatch()}.
+	 *
+	 * @return The registry
+	 */
+	@Benchmark
+	public Registry dispatch() {
+		registry.dispatch();
+		return registry;
+	}
+
+}
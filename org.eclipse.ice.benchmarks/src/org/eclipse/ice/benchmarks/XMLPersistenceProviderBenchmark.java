@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright (c) 2016 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - Jay Jay Billings
+ *******************************************************************************/
+package org.eclipse.ice.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.bind.JAXBException;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IExtensionRegistry;
+import org.eclipse.core.runtime.RegistryFactory;
+import org.eclipse.core.runtime.spi.IRegistryProvider;
+import org.eclipse.ice.datastructures.form.Form;
+import org.eclipse.ice.datastructures.jaxbclassprovider.ICEJAXBClassProvider;
+import org.eclipse.ice.datastructures.jaxbclassprovider.IJAXBClassProvider;
+import org.eclipse.ice.persistence.xml.XMLPersistenceProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * This class benchmarks Form round trips through the
+ * {@link XMLPersistenceProvider}. Writes are queued on the provider's event
+ * loop, so the write benchmark waits until the file has been written. Files
+ * are kept in memory so that the numbers do not depend on the disk.
+ *
+ * @author Jay Jay Billings
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class XMLPersistenceProviderBenchmark {
+
+	/**
+	 * The number of DataComponents in the Form
+	 */
+	@Param({ "10", "100" })
+	public int numComponents;
+
+	/**
+	 * The provider
+	 */
+	private XMLPersistenceProvider provider;
+
+	/**
+	 * The Form that is written
+	 */
+	private Form form;
+
+	/**
+	 * The file to which the Form is written
+	 */
+	private MemoryFile output;
+
+	/**
+	 * The file from which the Form is read
+	 */
+	private MemoryFile input;
+
+	/**
+	 * This operation starts the provider and writes the Form once so that it
+	 * can be read.
+	 *
+	 * @throws CoreException
+	 * @throws JAXBException
+	 * @throws InterruptedException
+	 */
+	@Setup
+	public void setup()
+			throws JAXBException, CoreException, InterruptedException {
+
+		// The provider looks for class providers in the extension registry,
+		// which does not exist outside of OSGi, so create an empty one.
+		if (RegistryFactory.getRegistry() == null) {
+			final Object token = new Object();
+			RegistryFactory.setDefaultRegistryProvider(new IRegistryProvider() {
+				private final IExtensionRegistry registry = RegistryFactory
+						.createRegistry(null, token, token);
+
+				@Override
+				public IExtensionRegistry getRegistry() {
+					return registry;
+				}
+			});
+		}
+
+		// Start the provider with the classes needed for Forms
+		provider = new XMLPersistenceProvider();
+		provider.registerClassProvider(new ICEJAXBClassProvider());
+		provider.registerClassProvider(new IJAXBClassProvider() {
+			@Override
+			public List<Class> getClasses() {
+				List<Class> classes = new ArrayList<Class>();
+				classes.add(Form.class);
+				return classes;
+			}
+
+			@Override
+			public String getProviderName() {
+				return "Benchmark Form Provider";
+			}
+		});
+		provider.start();
+
+		// Write the Form that will be read
+		form = BenchmarkData.createForm(numComponents, 20);
+		output = new MemoryFile("output.xml", null);
+		input = new MemoryFile("input.xml", null);
+		provider.write(form, input.getFile());
+		input.awaitWrites(0);
+	}
+
+	/**
+	 * This operation stops the provider.
+	 */
+	@TearDown
+	public void tearDown() {
+		provider.stop();
+	}
+
+	/**
+	 * Benchmarks {@link XMLPersistenceProvider#write(Form, org.eclipse.core.resources.IFile)}
+	 * until the file has been written.
+	 *
+	 * @return The number of writes
+	 * @throws InterruptedException
+	 */
+	@Benchmark
+	public long write() throws InterruptedException {
+		long writes = output.getWrites();
+		provider.write(form, output.getFile());
+		output.awaitWrites(writes);
+		return writes;
+	}
+
+	/**
+	 * Benchmarks {@link XMLPersistenceProvider#read(org.eclipse.core.resources.IFile)}.
+	 *
+	 * @return The Form
+	 */
+	@Benchmark
+	public Form read() {
+		return provider.read(input.getFile());
+	}
+
+	/**
+	 * Benchmarks a write followed by a read of the same file.
+	 *
+	 * @return The Form
+	 * @throws InterruptedException
+	 */
+	@Benchmark
+	public Form roundTrip() throws InterruptedException {
+		write();
+		return provider.read(output.getFile());
+	}
+
+}
@@ -22,6 +22,7 @@ import java.net.URI;
 import java.net.URISyntaxException;
 
 import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlTransient;
 
 import org.eclipse.core.filesystem.EFS;
 import org.eclipse.core.resources.IFile;
@@ -47,15 +48,20 @@ import org.eclipse.ice.item.ItemType;
 public class BatMLModel extends Item {
 
 	/**
-	 * References to the main BatML schema file and xml file to be loaded, respectively.
+	 * References to the main BatML schema file and xml file to be loaded,
+	 * respectively. These belong to each model so that several BatML models
+	 * can be open at once. The compiled schema is shared between them by the
+	 * EMFComponent.
 	 */
-	private static File xsdFile, xmlFile;
+	@XmlTransient
+	private File xsdFile, xmlFile;
 
 	/**
 	 * Reference to the EMFComponent that takes the XML Schema file and maps it
 	 * to an Ecore model.
 	 */
-	private static EMFComponent emfComp;
+	@XmlTransient
+	private EMFComponent emfComp;
 
 	/**
 	 * The constructor.
@@ -138,8 +144,8 @@ public class BatMLModel extends Item {
 		// Local Declarations
 		FormStatus retStatus = FormStatus.InfoError;
 
-		// Make sure we've got the correct action
-		if (actionName.equals("Write to XML")) {
+		// Make sure we've got the correct action and that a model was loaded
+		if (actionName.equals("Write to XML") && emfComp != null) {
 			// Get the file name
 			String fileName = xsdFile.getName().replaceAll(".xsd", ".xml");
 
@@ -135,6 +135,7 @@ public class MOOSETreeCompositeView extends TreeCompositeViewer implements
 			treeViewer = checkboxTreeViewer;
 
 			// Set and configure the content and label providers
+			configureLookup(treeViewer);
 			treeViewer.setContentProvider(new TreeCompositeContentProvider(
 					this, parentMap));
 			treeViewer.setLabelProvider(new TreeCompositeLabelProvider());
@@ -214,6 +214,14 @@ public abstract class AbstractEntryComposite extends Composite
 	public void refresh() {
 
 		logger.info("Refresh called for " + entry.getName());
+
+		// Update the existing widgets if that is all that is needed instead of
+		// creating new ones
+		if (!isDisposed() && updateWidgets()) {
+			layout();
+			return;
+		}
+
 		if (label != null) {
 			label.dispose();
 			label = null;
@@ -292,10 +300,44 @@ public abstract class AbstractEntryComposite extends Composite
 	 */
 	@Override
 	public void setEntry(IEntry ent) {
-		entry = ent;
+		// Listen to the new Entry instead of the old one
+		if (ent != entry) {
+			entry.unregister(this);
+			entry = ent;
+			entry.register(this);
+		}
 		refresh();
 	}
 
+	/**
+	 * This operation updates the existing widgets from the Entry without
+	 * creating new ones. It is called by {@link #refresh()}, which only
+	 * disposes and re-renders the widgets if this operation returns false.
+	 * Subclasses should override it to handle changes to the value or allowed
+	 * values of the Entry that do not change which widgets are needed.
+	 * 
+	 * @return True if the widgets were updated, false if they must be
+	 *         re-rendered. This implementation always returns false.
+	 */
+	protected boolean updateWidgets() {
+		return false;
+	}
+
+	/**
+	 * This operation updates the text and tool tip of the label from the
+	 * Entry if the label exists.
+	 */
+	protected void updateLabel() {
+		if (label != null && !label.isDisposed()) {
+			String text = entry.getName() + ":";
+			if (!text.equals(label.getText())) {
+				label.setText(text);
+			}
+			label.setToolTipText(entry.getDescription());
+		}
+		return;
+	}
+
 	/**
 	 * Creates a label for the EntryComposite.
 	 */
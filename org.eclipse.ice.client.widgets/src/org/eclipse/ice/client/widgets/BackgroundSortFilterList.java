@@ -0,0 +1,323 @@
+/*******************************************************************************
+ * Copyright (c) 2016 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - Jay Jay Billings
+ *******************************************************************************/
+package org.eclipse.ice.client.widgets;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import ca.odell.glazedlists.EventList;
+import ca.odell.glazedlists.TransformedList;
+import ca.odell.glazedlists.event.ListEvent;
+import ca.odell.glazedlists.matchers.Matcher;
+
+/**
+ * <p>
+ * This class is an EventList that shows a sorted and filtered view of another
+ * EventList, such as a ListComponent. The sorting and filtering are done on a
+ * background thread against a snapshot of the source list, and the result is
+ * published to the listeners of this list as a single list event. This keeps
+ * large lists from blocking the thread that changes the source list or the
+ * comparator, which is usually the UI thread.
+ * </p>
+ * <p>
+ * If neither a comparator nor a matcher is set, the list is a pass-through
+ * view of the source and changes to the source are forwarded as they happen.
+ * Otherwise the list holds the sorted and filtered elements of the last
+ * snapshot and every change to the source schedules a new snapshot. Elements
+ * can not be added to or removed from a sorted or filtered list.
+ * </p>
+ *
+ * @author Jay Jay Billings
+ *
+ * @param <E>
+ *            The type of the elements in the list
+ */
+public class BackgroundSortFilterList<E> extends TransformedList<E, E> {
+
+	/**
+	 * Logger for handling event messages and other information.
+	 */
+	private static final Logger logger = LoggerFactory
+			.getLogger(BackgroundSortFilterList.class);
+
+	/**
+	 * The thread on which all lists are sorted and filtered.
+	 */
+	private static final ExecutorService executor = Executors
+			.newSingleThreadExecutor(new ThreadFactory() {
+				@Override
+				public Thread newThread(Runnable runnable) {
+					Thread thread = new Thread(runnable,
+							"BackgroundSortFilterList");
+					thread.setDaemon(true);
+					return thread;
+				}
+			});
+
+	/**
+	 * The comparator used to sort the list or null if it is not sorted.
+	 */
+	private volatile Comparator<? super E> comparator;
+
+	/**
+	 * The matcher used to filter the list or null if it is not filtered.
+	 */
+	private volatile Matcher<? super E> matcher;
+
+	/**
+	 * The sorted and filtered elements or null if the source is shown as it
+	 * is. It is only replaced while the write lock is held.
+	 */
+	private volatile Object[] view;
+
+	/**
+	 * The number of changes that have been requested. A snapshot is only
+	 * published if no change was requested while it was sorted.
+	 */
+	private final AtomicLong changeCount = new AtomicLong();
+
+	/**
+	 * True if an update has been submitted to the executor but has not
+	 * started yet. Further changes are handled by that update.
+	 */
+	private final AtomicBoolean updatePending = new AtomicBoolean(false);
+
+	/**
+	 * The constructor.
+	 *
+	 * @param source
+	 *            The list that is sorted and filtered
+	 */
+	public BackgroundSortFilterList(EventList<E> source) {
+		super(source);
+		view = null;
+		source.addListEventListener(this);
+	}
+
+	/**
+	 * This operation sets the comparator used to sort the list. The list is
+	 * sorted in the background.
+	 *
+	 * @param comparator
+	 *            The comparator or null if the list should be in the order of
+	 *            the source
+	 */
+	public void setComparator(Comparator<? super E> comparator) {
+		this.comparator = comparator;
+		scheduleUpdate();
+	}
+
+	/**
+	 * This operation returns the comparator used to sort the list.
+	 *
+	 * @return The comparator or null if the list is not sorted
+	 */
+	public Comparator<? super E> getComparator() {
+		return comparator;
+	}
+
+	/**
+	 * This operation sets the matcher used to filter the list. Only the
+	 * elements that it matches are shown. The list is filtered in the
+	 * background.
+	 *
+	 * @param matcher
+	 *            The matcher or null if all elements should be shown
+	 */
+	public void setMatcher(Matcher<? super E> matcher) {
+		this.matcher = matcher;
+		scheduleUpdate();
+	}
+
+	/**
+	 * This operation returns the matcher used to filter the list.
+	 *
+	 * @return The matcher or null if the list is not filtered
+	 */
+	public Matcher<? super E> getMatcher() {
+		return matcher;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see ca.odell.glazedlists.TransformedList#size()
+	 */
+	@Override
+	public int size() {
+		Object[] currentView = view;
+		return (currentView == null) ? source.size() : currentView.length;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see ca.odell.glazedlists.TransformedList#get(int)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public E get(int index) {
+		Object[] currentView = view;
+		return (currentView == null) ? source.get(index)
+				: (E) currentView[index];
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see ca.odell.glazedlists.TransformedList#isWritable()
+	 */
+	@Override
+	protected boolean isWritable() {
+		return view == null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see
+	 * ca.odell.glazedlists.TransformedList#listChanged(ca.odell.glazedlists.
+	 * event.ListEvent)
+	 */
+	@Override
+	public void listChanged(ListEvent<E> listChanges) {
+		// Forward the changes if the source is shown as it is
+		if (view == null) {
+			updates.forwardEvent(listChanges);
+		}
+		// Sort and filter the list again if it is, or is about to be, sorted
+		// or filtered
+		if (view != null || comparator != null || matcher != null) {
+			scheduleUpdate();
+		}
+	}
+
+	/**
+	 * This operation schedules the list to be sorted and filtered again on the
+	 * background thread. Only one update is queued at a time.
+	 */
+	private void scheduleUpdate() {
+		changeCount.incrementAndGet();
+		if (updatePending.compareAndSet(false, true)) {
+			executor.execute(new Runnable() {
+				@Override
+				public void run() {
+					update();
+				}
+			});
+		}
+	}
+
+	/**
+	 * This operation takes a snapshot of the source, sorts and filters it and
+	 * publishes the result if nothing changed in the meantime. It runs on the
+	 * background thread.
+	 */
+	@SuppressWarnings("unchecked")
+	private void update() {
+
+		// Changes from here on need another update
+		updatePending.set(false);
+		long change = changeCount.get();
+		Comparator<? super E> currentComparator = comparator;
+		Matcher<? super E> currentMatcher = matcher;
+		Object[] result = null;
+
+		try {
+			// Sort and filter a snapshot of the source
+			if (currentComparator != null || currentMatcher != null) {
+				Object[] snapshot;
+				getReadWriteLock().readLock().lock();
+				try {
+					snapshot = source.toArray();
+				} finally {
+					getReadWriteLock().readLock().unlock();
+				}
+
+				// Filter the snapshot
+				if (currentMatcher != null) {
+					List<Object> matches = new ArrayList<Object>(
+							snapshot.length);
+					for (Object element : snapshot) {
+						if (currentMatcher.matches((E) element)) {
+							matches.add(element);
+						}
+					}
+					snapshot = matches.toArray();
+				}
+
+				// Sort it. The sort is stable, so equal elements stay in the
+				// order of the source.
+				if (currentComparator != null) {
+					Arrays.sort(snapshot, (Comparator<Object>) currentComparator);
+				}
+				result = snapshot;
+			}
+
+			// Publish the result unless another update will replace it
+			getReadWriteLock().writeLock().lock();
+			try {
+				if (change == changeCount.get()) {
+					publish(result);
+				}
+			} finally {
+				getReadWriteLock().writeLock().unlock();
+			}
+		} catch (RuntimeException e) {
+			// Don't let a bad comparator or matcher stop the thread
+			logger.error(getClass().getName() + " Exception!", e);
+		}
+
+		return;
+	}
+
+	/**
+	 * This operation replaces the elements of the list and sends one list
+	 * event for the whole change. The write lock must be held.
+	 *
+	 * @param newView
+	 *            The new elements or null to show the source as it is
+	 */
+	private void publish(Object[] newView) {
+
+		// Local Declarations
+		int oldSize = size();
+		int newSize = (newView == null) ? source.size() : newView.length;
+		int commonSize = Math.min(oldSize, newSize);
+
+		// Switch to the new elements and describe the change as updates to
+		// the rows that are still there and inserts or deletes at the end.
+		updates.beginEvent();
+		view = newView;
+		if (commonSize > 0) {
+			updates.addUpdate(0, commonSize - 1);
+		}
+		if (newSize > oldSize) {
+			updates.addInsert(oldSize, newSize - 1);
+		} else if (oldSize > newSize) {
+			updates.addDelete(newSize, oldSize - 1);
+		}
+		updates.commitEvent();
+
+		return;
+	}
+
+}
@@ -12,12 +12,14 @@
  *******************************************************************************/
 package org.eclipse.ice.client.widgets;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.e4.core.contexts.ContextInjectionFactory;
 import org.eclipse.e4.core.contexts.IEclipseContext;
@@ -28,8 +30,10 @@ import org.eclipse.ice.datastructures.ICEObject.IUpdateableListener;
 import org.eclipse.ice.datastructures.entry.IEntry;
 import org.eclipse.ice.datastructures.form.DataComponent;
 import org.eclipse.swt.SWT;
+import org.eclipse.swt.custom.ScrolledComposite;
 import org.eclipse.swt.events.DisposeEvent;
 import org.eclipse.swt.events.DisposeListener;
+import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.layout.GridData;
 import org.eclipse.swt.layout.GridLayout;
 import org.eclipse.swt.widgets.Composite;
@@ -42,6 +46,7 @@ import org.eclipse.swt.widgets.Listener;
 import org.eclipse.ui.PlatformUI;
 import org.eclipse.ui.forms.IMessageManager;
 import org.eclipse.ui.forms.widgets.FormToolkit;
+import org.eclipse.ui.forms.widgets.SharedScrolledComposite;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -116,6 +121,43 @@ public class DataComponentComposite extends Composite
 	 */
 	private IEclipseContext context;
 
+	/**
+	 * The number of Entries above which the EntryComposites are only rendered
+	 * when they are scrolled into view.
+	 */
+	private static final int LAZY_RENDERING_THRESHOLD = 50;
+
+	/**
+	 * The number of EntryComposites that are rendered at once when rendering
+	 * lazily.
+	 */
+	private static final int LAZY_RENDERING_BATCH = 25;
+
+	/**
+	 * The index of the first Entry that has not been rendered yet because it
+	 * has not been scrolled into view. It is Integer.MAX_VALUE if all of the
+	 * Entries can be rendered.
+	 */
+	private int renderLimit = Integer.MAX_VALUE;
+
+	/**
+	 * The scrolled ancestor that determines which Entries are visible when
+	 * rendering lazily, or null if there is none.
+	 */
+	private ScrolledComposite scrolledAncestor;
+
+	/**
+	 * The listener that renders more Entries when the scrolled ancestor is
+	 * scrolled or resized.
+	 */
+	private Listener scrollListener;
+
+	/**
+	 * True if a refresh has been requested from update() but has not yet run
+	 * on the UI thread. Further updates are handled by that refresh.
+	 */
+	private final AtomicBoolean refreshPending = new AtomicBoolean(false);
+
 	/**
 	 * The constructor.
 	 *
@@ -159,6 +201,7 @@ public class DataComponentComposite extends Composite
 			@Override
 			public void widgetDisposed(DisposeEvent e) {
 				dataComp.unregister(DataComponentComposite.this);
+				unhookScrolledAncestor();
 			}
 		});
 
@@ -193,6 +236,7 @@ public class DataComponentComposite extends Composite
 	 * This operation handles a re-draw of EntryComposites that have been
 	 * recently changed. This method attempts to avoid a complete redraw of all
 	 * EntryComposites and only re-draws those that have been recently changed.
+	 * Existing EntryComposites update their widgets in place where they can.
 	 */
 	public void refresh() {
 
@@ -205,84 +249,47 @@ public class DataComponentComposite extends Composite
 			emptyLabel = null;
 		}
 
-		// If a selection change triggered this refresh, make sure to update
-		// any Entries on the dataComp that need their value(s) updating
-		for (int i = 0; i < entries.size(); i++) {
-			IEntry entry = dataComp.retrieveAllEntries().get(i);
-			IEntryComposite entryComp = entryMap.get(i);
-			if (entryComp != null && !entry.getValue()
-					.equals(entryComp.getEntry().getValue())) {
-				// Reset the reference to the Entry because depending on the way
-				// its value was updated it could be an entirely new Entry
-				// (reset vs. cloned/destructive copy).
-				entryComp.setEntry(entry);
-				entryComp.refresh();
-			}
+		// Compare the list of Entries to the EntryComposites in entryMap to
+		// determine what needs to be done
+		int maxIterations = entries.size();
+		if (!entryMap.isEmpty() && entryMap.lastKey() >= maxIterations) {
+			maxIterations = entryMap.lastKey() + 1;
 		}
 
-		// Begin comparing the list of Entries to the EntryComposites in
-		// entryMap to determine what needs to be done
-		int maxIterations = entries.size() > entryMap.size() ? entries.size()
-				: entryMap.size();
-
 		for (int i = 0; i < maxIterations; i++) {
 			IEntry entry = (i < entries.size() ? entries.get(i) : null);
-			IEntryComposite entryComp = (i < entryMap.size() ? entryMap.get(i)
-					: null);
-			String value = (entryComp != null ? entryComp.getEntry().getValue()
-					: (entry != null ? entry.getValue() : ""));
+			IEntryComposite entryComp = entryMap.get(i);
 
 			// First, if the Entry isn't supposed to be displayed, dispose it
 			// and move on (she ain't worth it, man...)
 			if (entry == null || !entry.isReady()) {
 				disposeEntry(i);
-				continue;
-
-			} else if (entryComp == null && entry.isReady()) {
-
-				// If the AbstractEntryComposite hasn't been rendered yet,
-				// render
-				// it,
-				// and add it to the entryMap
-				renderEntry(entry, i);
-				entryComp = entryMap.get(i);
-				entryComp.getEntry().setValue(value);
-				entryComp.refresh();
-
-			} else {
-
-				// Iterate through the Entry.AllowedValues and compare to the
-				// values of the corresponding AbstractEntryComposite in the map
-				int nAllowed = 0;
-
-				// This IEntry may not be a DiscreteEntry, so check
-				// that we can get allowed values here, continue if not.
-				try {
-					nAllowed = entry.getAllowedValues().size();
-				} catch (UnsupportedOperationException e) {
-					continue;
-				}
-
-				for (int j = 0; j < nAllowed; j++) {
-					String allowedValue = entry.getAllowedValues().get(j);
-
-					// Re-render Entries only if they've had a new AllowedValue
-					// added
-					if (!entryComp.getEntry().getAllowedValues()
-							.contains(allowedValue)) {
-						disposeEntry(i);
-						renderEntry(entry, i);
-						entryComp = entryMap.get(i);
-						entryComp.getEntry().setValue(value);
-						entryComp.refresh();
-					}
+			} else if (entryComp == null) {
+				// If the AbstractEntryComposite hasn't been rendered yet, render
+				// it and add it to the entryMap, unless it is waiting to be
+				// scrolled into view
+				if (i < renderLimit) {
+					renderEntry(entry, i);
 				}
+			} else if (entryComp.getEntry() != entry) {
+				// Reset the reference to the Entry because depending on the way
+				// its value was updated it could be an entirely new Entry
+				// (reset vs. cloned/destructive copy). This also refreshes the
+				// AbstractEntryComposite.
+				entryComp.setEntry(entry);
 			}
+			// Otherwise the AbstractEntryComposite refreshes itself when its
+			// Entry changes
 		}
 
 		// Layout the DataComponentComposite. This can redraw stale widgets.
 		layout();
 
+		// Render any Entries that are now in view
+		if (renderLimit < Integer.MAX_VALUE) {
+			scheduleVisibleEntryRendering();
+		}
+
 		return;
 
 	}
@@ -320,8 +327,9 @@ public class DataComponentComposite extends Composite
 			PlatformUI.getWorkbench().getDisplay().syncExec(new Runnable() {
 				@Override
 				public void run() {
-					// Dispose the old EntryComposites.
-					disposeEntries();
+					// Point the old EntryComposites at the new Entries
+					// where possible and dispose the rest.
+					reuseEntries();
 					// Render the new EntryComposites.
 					renderEntries();
 				}
@@ -361,12 +369,16 @@ public class DataComponentComposite extends Composite
 				// overridden method is not necessary.
 				super.setLayout(layout);
 			}
-			// Create EntryComposites for all ready Entries.
-			for (int i = 0; i < entries.size(); i++) {
-				IEntry entry = entries.get(i);
-				if (entry.isReady()) {
-					renderEntry(entry, i);
-				}
+			// Only render the Entries that are in view if there are a lot of
+			// them and they can be scrolled.
+			hookScrolledAncestor();
+			if (entries.size() > LAZY_RENDERING_THRESHOLD
+					&& scrolledAncestor != null) {
+				renderLimit = renderEntryRange(entries, 0,
+						LAZY_RENDERING_BATCH);
+			} else {
+				// Create EntryComposites for all ready Entries.
+				renderLimit = renderEntryRange(entries, 0, entries.size());
 			}
 		}
 
@@ -398,22 +410,190 @@ public class DataComponentComposite extends Composite
 		// Layout the DataComponentComposite. This can redraw stale widgets.
 		layout();
 
+		// Render more Entries once the layout has been applied if needed
+		if (renderLimit < Integer.MAX_VALUE) {
+			scheduleVisibleEntryRendering();
+		}
+
 		return;
 	}
 
 	/**
-	 * This operation disposes the existing EntryComposites and clears the
-	 * current map of Entries.
+	 * This operation renders the ready Entries that do not have
+	 * EntryComposites yet, starting at an index, until a number of
+	 * EntryComposites have been created or there are no more Entries.
+	 *
+	 * @param entries
+	 *            The Entries of the DataComponent
+	 * @param start
+	 *            The index of the first Entry to render
+	 * @param count
+	 *            The largest number of EntryComposites to create
+	 * @return The index of the first Entry that was not examined or
+	 *         Integer.MAX_VALUE if all of them were
 	 */
-	private void disposeEntries() {
+	private int renderEntryRange(List<IEntry> entries, int start, int count) {
 
-		// Dispose the composites from GUI
-		for (IEntryComposite comp : entryMap.values()) {
-			comp.getComposite().dispose();
+		// Local Declarations
+		int index = start, numRendered = 0;
+
+		for (; index < entries.size() && numRendered < count; index++) {
+			IEntry entry = entries.get(index);
+			if (entry.isReady() && !entryMap.containsKey(index)) {
+				renderEntry(entry, index);
+				numRendered++;
+			}
 		}
 
-		// Clear the list
-		entryMap.clear();
+		return (index < entries.size() ? index : Integer.MAX_VALUE);
+	}
+
+	/**
+	 * This operation updates the existing EntryComposites after the
+	 * DataComponent has been replaced. EntryComposites that were created for
+	 * the same type of Entry and context as the new Entry at their index are
+	 * pointed at the new Entry, which lets them update their widgets in place.
+	 * The others are disposed.
+	 */
+	private void reuseEntries() {
+
+		// Local Declarations
+		List<IEntry> entries = dataComp.retrieveAllEntries();
+
+		for (Integer index : new ArrayList<Integer>(entryMap.keySet())) {
+			IEntryComposite entryComp = entryMap.get(index);
+			IEntry oldEntry = entryComp.getEntry();
+			IEntry newEntry = (index < entries.size() ? entries.get(index)
+					: null);
+			// The providers pick the type of EntryComposite based on the
+			// context and type of the Entry
+			if (newEntry != null && newEntry.isReady()
+					&& newEntry.getClass() == oldEntry.getClass()
+					&& (newEntry.getContext() == null
+							? oldEntry.getContext() == null
+							: newEntry.getContext()
+									.equals(oldEntry.getContext()))) {
+				entryComp.setEntry(newEntry);
+			} else {
+				disposeEntry(index);
+			}
+		}
+
+		return;
+	}
+
+	/**
+	 * This operation finds the closest scrolled ancestor of this composite and
+	 * listens to it so that Entries can be rendered when they are scrolled
+	 * into view.
+	 */
+	private void hookScrolledAncestor() {
+
+		// Find the closest scrolled ancestor
+		Composite parent = getParent();
+		while (parent != null && !(parent instanceof ScrolledComposite)) {
+			parent = parent.getParent();
+		}
+
+		// Listen to it if it is new
+		if (parent != scrolledAncestor) {
+			unhookScrolledAncestor();
+			scrolledAncestor = (ScrolledComposite) parent;
+			if (scrolledAncestor != null) {
+				scrollListener = new Listener() {
+					@Override
+					public void handleEvent(Event event) {
+						scheduleVisibleEntryRendering();
+					}
+				};
+				scrolledAncestor.addListener(SWT.Resize, scrollListener);
+				if (scrolledAncestor.getVerticalBar() != null) {
+					scrolledAncestor.getVerticalBar()
+							.addListener(SWT.Selection, scrollListener);
+				}
+			}
+		}
+
+		return;
+	}
+
+	/**
+	 * This operation stops listening to the scrolled ancestor.
+	 */
+	private void unhookScrolledAncestor() {
+
+		if (scrolledAncestor != null && !scrolledAncestor.isDisposed()) {
+			scrolledAncestor.removeListener(SWT.Resize, scrollListener);
+			if (scrolledAncestor.getVerticalBar() != null) {
+				scrolledAncestor.getVerticalBar()
+						.removeListener(SWT.Selection, scrollListener);
+			}
+		}
+		scrolledAncestor = null;
+		scrollListener = null;
+
+		return;
+	}
+
+	/**
+	 * This operation checks for Entries that have been scrolled into view
+	 * after the pending events have been processed, when the layout is up to
+	 * date.
+	 */
+	private void scheduleVisibleEntryRendering() {
+		getDisplay().asyncExec(new Runnable() {
+			@Override
+			public void run() {
+				if (!isDisposed()) {
+					renderVisibleEntries();
+				}
+			}
+		});
+	}
+
+	/**
+	 * This operation renders the next batch of Entries if the bottom of the
+	 * rendered EntryComposites is less than a page below the visible area of
+	 * the scrolled ancestor. It is repeated, one batch per pass of the event
+	 * loop, until the visible area is filled or all of the Entries have been
+	 * rendered.
+	 */
+	private void renderVisibleEntries() {
+
+		// Local Declarations
+		List<IEntry> entries = dataComp.retrieveAllEntries();
+
+		// Nothing to do if everything has been rendered
+		if (renderLimit >= entries.size()) {
+			renderLimit = Integer.MAX_VALUE;
+			return;
+		}
+
+		// Compare the bottom of the rendered EntryComposites to the visible
+		// area in the coordinates of this composite
+		if (scrolledAncestor != null && !scrolledAncestor.isDisposed()
+				&& !entryMap.isEmpty()) {
+			Rectangle visible = getDisplay().map(scrolledAncestor, this,
+					scrolledAncestor.getClientArea());
+			Rectangle last = entryMap.get(entryMap.lastKey()).getComposite()
+					.getBounds();
+			if (last.y + last.height > visible.y + 2 * visible.height) {
+				return;
+			}
+		}
+
+		// Render the next batch
+		renderLimit = renderEntryRange(entries, renderLimit,
+				LAZY_RENDERING_BATCH);
+
+		// Make room for the new EntryComposites and check again
+		layout();
+		if (scrolledAncestor instanceof SharedScrolledComposite) {
+			((SharedScrolledComposite) scrolledAncestor).reflow(true);
+		} else if (scrolledAncestor != null) {
+			scrolledAncestor.layout(true, true);
+		}
+		scheduleVisibleEntryRendering();
 
 		return;
 	}
@@ -432,10 +612,8 @@ public class DataComponentComposite extends Composite
 
 		// Check the entry map to see if there is already a composite for this
 		// entry. If there is, fail silently.
-		for (IEntryComposite entryTemp : entryMap.values()) {
-			if (entryTemp.getEntry().equals(entry)) {
-				return;
-			}
+		if (entryMap.containsKey(index)) {
+			return;
 		}
 
 		// Local Declarations
@@ -465,6 +643,12 @@ public class DataComponentComposite extends Composite
 		// Add theIEntryComposite to the Map
 		entryMap.put(index, entryComposite);
 
+		// New EntryComposites are added after the other children, so they are
+		// already in the right place if they come last.
+		if (index == entryMap.lastKey()) {
+			return;
+		}
+
 		// Lastly, reorder the EntryComposites on this DataComponentComposite
 		// to be in the correct order (according to their index in the entryMap)
 
@@ -620,10 +804,13 @@ public class DataComponentComposite extends Composite
 	public void update(IUpdateable component) {
 
 		// When the DataComponent has updated, refresh on the Eclipse UI thread.
-		if (component == dataComp) {
-			PlatformUI.getWorkbench().getDisplay().syncExec(new Runnable() {
+		// Updates that arrive before the refresh runs are handled by it, so
+		// only one refresh is queued at a time.
+		if (component == dataComp && refreshPending.compareAndSet(false, true)) {
+			PlatformUI.getWorkbench().getDisplay().asyncExec(new Runnable() {
 				@Override
 				public void run() {
+					refreshPending.set(false);
 					if (!DataComponentComposite.this.isDisposed()) {
 						refresh();
 					} else {
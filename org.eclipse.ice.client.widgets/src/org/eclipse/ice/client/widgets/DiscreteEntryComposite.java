@@ -11,6 +11,7 @@
  *******************************************************************************/
 package org.eclipse.ice.client.widgets;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -41,6 +42,22 @@ import org.eclipse.swt.widgets.Layout;
  */
 public class DiscreteEntryComposite extends AbstractEntryComposite {
 
+	/**
+	 * The largest number of allowed values that may be drawn as buttons.
+	 */
+	private static final int MAX_SHORT_VALUES = 4;
+
+	/**
+	 * The longest allowed value that may be drawn as a button.
+	 */
+	private static final int MAX_VALUE_LENGTH = 12;
+
+	/**
+	 * The allowed values of the Entry when the widgets were last rendered or
+	 * updated.
+	 */
+	private List<String> renderedAllowedValues = new ArrayList<String>();
+
 	/**
 	 * The constructor 
 	 * 
@@ -59,25 +76,17 @@ public class DiscreteEntryComposite extends AbstractEntryComposite {
 	@Override
 	public void render() {
 		// Local Declarations
-		int numAllowedValues = 0, maxValueLength = 12, maxShortValues = 4;
-		boolean shortValues = true;
+		int numAllowedValues = 0;
 
 		// Make all of the allowed values lowercase
+		lowercaseAllowedValues.clear();
 		for (String value : entry.getAllowedValues()) {
 			lowercaseAllowedValues.add(value.toLowerCase());
 		}
+		renderedAllowedValues = new ArrayList<String>(entry.getAllowedValues());
 
 		// Get the number of allowed values
 		numAllowedValues = entry.getAllowedValues().size();
-		// Figure out if the allowed values are small in length. This
-		// will let us draw it in a more intuitive way, but it only
-		// takes one value that is not short to ruin the view.
-		for (String i : entry.getAllowedValues()) {
-			if (i.length() > maxValueLength) {
-				shortValues = false;
-				break;
-			}
-		}
 
 		// Set the default layout to a vertical FillLayout.
 		FillLayout fillLayout = new FillLayout(SWT.VERTICAL);
@@ -90,7 +99,7 @@ public class DiscreteEntryComposite extends AbstractEntryComposite {
 		// figure out how to draw it
 		if (numAllowedValues > 0) {
 			// We can use Radio buttons if the allowed values are few
-			if (numAllowedValues <= maxShortValues && shortValues) {
+			if (!usesDropdown(entry.getAllowedValues())) {
 				// Check to see if this is something that should use a check box
 				if (numAllowedValues == 2 && allowedBinaryValues.containsAll(lowercaseAllowedValues)) {
 					createCheckbox();
@@ -112,6 +121,82 @@ public class DiscreteEntryComposite extends AbstractEntryComposite {
 		setLayout(layout);
 	}
 
+	/**
+	 * This operation determines whether a set of allowed values is drawn as a
+	 * drop-down menu instead of a set of buttons or a check box.
+	 * 
+	 * @param allowedValues
+	 *            The allowed values of the Entry
+	 * @return True if a drop-down menu is used, false otherwise
+	 */
+	protected boolean usesDropdown(List<String> allowedValues) {
+
+		// Buttons are only used if there are a few values. It only takes one
+		// value that is not short to ruin the view.
+		if (allowedValues.size() > MAX_SHORT_VALUES) {
+			return true;
+		}
+		for (String value : allowedValues) {
+			if (value.length() > MAX_VALUE_LENGTH) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.eclipse.ice.client.widgets.AbstractEntryComposite#updateWidgets()
+	 */
+	@Override
+	protected boolean updateWidgets() {
+
+		// Local Declarations
+		List<String> allowedValues = entry.getAllowedValues();
+		String value = entry.getValue();
+
+		if (widget instanceof Combo && !widget.isDisposed()) {
+			// A drop-down menu can show any number of values, so it only has
+			// to be replaced if buttons should be used instead
+			if (allowedValues.isEmpty() || !usesDropdown(allowedValues)) {
+				return false;
+			}
+			Combo combo = (Combo) widget;
+			if (!allowedValues.equals(renderedAllowedValues)) {
+				combo.setItems(allowedValues.toArray(new String[0]));
+			}
+			int index = allowedValues.indexOf(value);
+			if (index >= 0 && index != combo.getSelectionIndex()) {
+				combo.select(index);
+			}
+		} else if (!buttons.isEmpty()
+				&& allowedValues.equals(renderedAllowedValues)) {
+			// The buttons or check box can be kept if the choices are the same
+			for (Button button : buttons) {
+				if (button.isDisposed()) {
+					return false;
+				} else if ((button.getStyle() & SWT.RADIO) != 0) {
+					button.setSelection(button.getText().equals(value));
+				} else if ((button.getStyle() & SWT.CHECK) != 0) {
+					button.setText(entry.getName());
+					button.setSelection(allowedBinaryValues.subList(0, 5)
+							.contains(value.toLowerCase()));
+				}
+			}
+		} else {
+			return false;
+		}
+
+		// Update the rest of the composite
+		updateLabel();
+		renderedAllowedValues = new ArrayList<String>(allowedValues);
+
+		return true;
+	}
+
 	/**
 	 * This operation creates buttons on the Composite.
 	 */
@@ -77,6 +77,19 @@ public class ExecutableEntryComposite extends FileEntryComposite {
 		setLayout(setupDropDownLayout(numAllowedValues));
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.eclipse.ice.client.widgets.DiscreteEntryComposite#updateWidgets()
+	 */
+	@Override
+	protected boolean updateWidgets() {
+		// The executable drop-down is edited by hand and validated when it is
+		// created, so always re-render it.
+		return false;
+	}
+
 	/**
 	 * This method creates a drop down Combo for an Entry with the Executable
 	 * AllowedValueType.
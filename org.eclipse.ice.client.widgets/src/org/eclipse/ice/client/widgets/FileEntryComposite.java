@@ -71,6 +71,19 @@ public class FileEntryComposite extends DiscreteEntryComposite {
 		setLayout(setupDropDownLayout(numAllowedValues));
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.eclipse.ice.client.widgets.DiscreteEntryComposite#usesDropdown(java.
+	 * util.List)
+	 */
+	@Override
+	protected boolean usesDropdown(List<String> allowedValues) {
+		// Files are always listed in a drop-down menu
+		return true;
+	}
+
 	/**
 	 * This method creates a browse button on the EntryComposite. Clicking the
 	 * button opens a file browser, and once a file is selected, the file is
@@ -13,8 +13,8 @@
 package org.eclipse.ice.client.widgets;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.ice.datastructures.ICEObject.IUpdateable;
 import org.eclipse.ice.datastructures.ICEObject.IUpdateableListener;
@@ -25,8 +25,8 @@ import org.eclipse.jface.viewers.CellEditor;
 import org.eclipse.jface.viewers.CellLabelProvider;
 import org.eclipse.jface.viewers.ColumnViewerToolTipSupport;
 import org.eclipse.jface.viewers.ComboBoxViewerCellEditor;
-import org.eclipse.jface.viewers.ICellModifier;
-import org.eclipse.jface.viewers.IStructuredContentProvider;
+import org.eclipse.jface.viewers.EditingSupport;
+import org.eclipse.jface.viewers.ILazyContentProvider;
 import org.eclipse.jface.viewers.LabelProvider;
 import org.eclipse.jface.viewers.TableViewer;
 import org.eclipse.jface.viewers.TableViewerColumn;
@@ -41,8 +41,8 @@ import org.eclipse.swt.layout.GridData;
 import org.eclipse.swt.layout.GridLayout;
 import org.eclipse.swt.widgets.Button;
 import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Table;
 import org.eclipse.swt.widgets.TableColumn;
-import org.eclipse.swt.widgets.TableItem;
 import org.eclipse.ui.PlatformUI;
 import org.eclipse.ui.forms.IManagedForm;
 import org.eclipse.ui.forms.SectionPart;
@@ -59,9 +59,12 @@ import org.slf4j.LoggerFactory;
  * renders, updates and monitors an ICE MatrixComponent that is part of a
  * ICEForm. The ICESectionPart takes place in the IManagedForm lifecycle and
  * receives is refreshed dynamically if the underlying ICEMatrixComponent has
- * been updated (i.e. - "gone stale" in the Eclipse parlance). The Java source
- * code for this class contains a private hashmap that is not represented in the
- * model because Jay can not figure out how to show a java.util.hashmap in RSA.
+ * been updated (i.e. - "gone stale" in the Eclipse parlance).
+ * </p>
+ * <p>
+ * The matrix is drawn in a virtual table. Rows are only created when they are
+ * scrolled into view and the cells read their values directly from the
+ * MatrixComponent, so large matrices are not copied into the viewer.
  * </p>
  * 
  * @author Jay Jay Billings
@@ -75,6 +78,12 @@ public class ICEMatrixComponentSectionPart extends SectionPart
 	private static final Logger logger = LoggerFactory
 			.getLogger(ICEMatrixComponentSectionPart.class);
 
+	/**
+	 * The smallest width of a column in pixels when the columns are resized to
+	 * share the width of the table.
+	 */
+	private static final int MIN_COLUMN_WIDTH = 60;
+
 	/**
 	 * <p>
 	 * This attribute is a reference to an ICE MatrixComponent that stores the
@@ -110,10 +119,24 @@ public class ICEMatrixComponentSectionPart extends SectionPart
 	 */
 	protected Composite sectionClient;
 
+	/**
+	 * The cell editor that is shared by all of the columns of the
+	 * TableViewer. Only one cell is edited at a time, so one editor is enough
+	 * no matter how wide the matrix is.
+	 */
+	private CellEditor cellEditor;
+
+	/**
+	 * True if an update has been requested but has not yet run on the UI
+	 * thread. Further updates are handled by that one.
+	 */
+	private final AtomicBoolean updatePending = new AtomicBoolean(false);
+
 	/**
 	 * <p>
-	 * Class used to pass information for the rows in TableComponent to
-	 * TableViewer
+	 * Class used to pass the rows of the MatrixComponent to the TableViewer.
+	 * It only holds the index of the row. The values are read from the
+	 * MatrixComponent when the cells are drawn.
 	 * </p>
 	 * 
 	 */
@@ -121,74 +144,44 @@ public class ICEMatrixComponentSectionPart extends SectionPart
 
 		/**
 		 * <p>
-		 * Holds an ArrayList of Entries in the TableComponent for TableViewer.
+		 * The index of the row in the MatrixComponent.
 		 * </p>
 		 * 
 		 */
-		private List<Double> list;
+		private final int rowIndex;
 
 		/**
 		 * <p>
+		 * The Constructor, injects the index of the row.
 		 * </p>
 		 * 
-		 */
-		private int rowIndex;
-
-		/**
-		 * <p>
-		 * The Constructor, injects the ArrayList of Entries at this row.
-		 * </p>
-		 * 
-		 * @param list
+		 * @param index
 		 *            <p>
-		 *            The list of Entries that make up this RowWrapper.
+		 *            The index of the row in the MatrixComponent.
 		 *            </p>
 		 * 
 		 */
-		public RowWrapper(ArrayList<Double> row, int index) {
-			this.list = row;
+		public RowWrapper(int index) {
 			rowIndex = index;
 		}
 
 		/**
 		 * <p>
-		 * Return the ArrayList of Entries for this row.
+		 * Return the value of the matrix element in this row and the given
+		 * column as a String.
 		 * </p>
 		 * 
+		 * @param column
+		 *            The index of the column
 		 */
-		public List<Double> getRowWrapper() {
-			return list;
-		}
-
-		/**
-		 * <p>
-		 * </p>
-		 * 
-		 */
-		public void add() {
-			list.add(0.0);
-		}
-
-		/**
-		 * <p>
-		 * </p>
-		 * 
-		 */
-		public void add(Double value) {
-			list.add(value);
-		}
-
-		/**
-		 * <p>
-		 * </p>
-		 * 
-		 */
-		public void remove() {
-			list.remove(list.size() - 1);
+		public String getValue(int column) {
+			return String.valueOf(
+					matrixComponent.getDoubleValue(rowIndex, column));
 		}
 
 		/**
 		 * <p>
+		 * Return the index of the row in the MatrixComponent.
 		 * </p>
 		 * 
 		 */
@@ -208,7 +201,6 @@ public class ICEMatrixComponentSectionPart extends SectionPart
 	 */
 	private class ICECellLabelProvider extends CellLabelProvider {
 
-		//
 		/**
 		 * <p>
 		 * The index of the table column this CellLabelProvider corresponds to.
@@ -238,9 +230,8 @@ public class ICEMatrixComponentSectionPart extends SectionPart
 
 		/**
 		 * <p>
-		 * Update is called whenever data is entered into the cell. Current
-		 * implementation simply sets the text as what's currently the value on
-		 * the Entry
+		 * Update is called whenever the cell is drawn. Current implementation
+		 * simply sets the text as the value of the matrix element.
 		 * </p>
 		 * 
 		 * @param cell
@@ -251,14 +242,13 @@ public class ICEMatrixComponentSectionPart extends SectionPart
 		 */
 		@Override
 		public void update(ViewerCell cell) {
-			cell.setText(((RowWrapper) cell.getElement()).getRowWrapper()
-					.get(tableColumn).toString());
+			cell.setText(((RowWrapper) cell.getElement()).getValue(tableColumn));
 		}
 
 		/**
 		 * <p>
 		 * Return the tool tip when a MouseHover event occurs. Current
-		 * implementation displays the proper Entry's description attribute.
+		 * implementation displays the row and column of the element.
 		 * </p>
 		 * 
 		 * @param element
@@ -269,7 +259,8 @@ public class ICEMatrixComponentSectionPart extends SectionPart
 		 */
 		@Override
 		public String getToolTipText(Object element) {
-			return "Hello";
+			return "Row " + (((RowWrapper) element).getRowIndex() + 1)
+					+ ", Column " + (tableColumn + 1);
 		}
 
 		/**
@@ -314,107 +305,108 @@ public class ICEMatrixComponentSectionPart extends SectionPart
 
 	/**
 	 * <p>
-	 * ICECellModifier is a realization of the ICellModifier interface that
-	 * enables the customization of how Cell's in a TableViewer can be modified,
-	 * and how the underlying JFace Viewer Model changes upon modification.
+	 * ICEEditingSupport is a subclass of EditingSupport that lets the cells of
+	 * one column of the TableViewer be edited with the shared cell editor and
+	 * writes the new values to the MatrixComponent.
 	 * </p>
 	 * 
 	 */
-	private class ICECellModifier implements ICellModifier {
+	private class ICEEditingSupport extends EditingSupport {
+
 		/**
 		 * <p>
-		 * Checks whether the given property of the given element can be
-		 * modified.
+		 * The index of the table column this EditingSupport corresponds to.
 		 * </p>
 		 * 
-		 * @param object
+		 */
+		private final int tableColumn;
+
+		/**
+		 * <p>
+		 * The Constructor, used to inject the current column index
+		 * </p>
+		 * 
+		 * @param index
+		 *            <p>
+		 *            The index of the column that pertains to this
+		 *            EditingSupport
+		 *            </p>
+		 * 
+		 */
+		public ICEEditingSupport(int index) {
+			super(matrixViewer);
+			tableColumn = index;
+		}
+
+		/**
+		 * <p>
+		 * Returns the shared cell editor.
+		 * </p>
+		 * 
+		 * @param element
 		 * 
 		 */
 		@Override
-		public boolean canModify(Object element, String property) {
-			return true;
+		protected CellEditor getCellEditor(Object element) {
+			return cellEditor;
 		}
 
 		/**
 		 * <p>
-		 * Returns the value for the given property of the given element.
+		 * Checks whether the given element can be edited.
 		 * </p>
 		 * 
-		 * @param object
+		 * @param element
 		 * 
 		 */
 		@Override
-		public Object getValue(Object element, String property) {
-			int counter = -1;
-
-			// Iterate over the list to grab the location of the column.
-			for (int i = 0; i < matrixViewer
-					.getColumnProperties().length; i++) {
-				if (property.equals(matrixViewer.getColumnProperties()[i])) {
-					// Get the column
-					counter = i;
-				}
-			}
-			// Return value of entry given the column (counter)
-			return ((RowWrapper) element).getRowWrapper().get(counter)
-					.toString();
+		protected boolean canEdit(Object element) {
+			return true;
 		}
 
 		/**
 		 * <p>
-		 * Modifies the value for the given property of the given element.
+		 * Returns the value of the given element in this column.
 		 * </p>
 		 * 
-		 * @param object
+		 * @param element
 		 * 
 		 */
 		@Override
-		public void modify(Object element, String property, Object value) {
-			// Get the column index of the current Cell
-			int counter = -1;
-			for (int i = 0; i < matrixViewer
-					.getColumnProperties().length; i++) {
-				if (property.equals(matrixViewer.getColumnProperties()[i])) {
-					// Get the column, set to counter
-					counter = i;
-				}
-			}
+		protected Object getValue(Object element) {
+			return ((RowWrapper) element).getValue(tableColumn);
+		}
 
-			// The input Object element is a TableItem, cast it so we can use it
-			TableItem item = (TableItem) element;
+		/**
+		 * <p>
+		 * Sets the value of the given element in this column.
+		 * </p>
+		 * 
+		 * @param element
+		 * @param value
+		 * 
+		 */
+		@Override
+		protected void setValue(Object element, Object value) {
 
-			// Return if the value is null
-			if (value == null) {
+			// Return if the value or row is null
+			if (value == null || element == null) {
 				return;
 			}
-			// Get the data structure from the TableItem
-			// to a RowWrapper.
-			RowWrapper row = (RowWrapper) item.getData();
-
-			Double input = 0.0;
-			// Make sure the element is not null
-			if (row != null) {
-				// Set the value in the data structure
-
-				try {
-					input = Double.parseDouble((String) value);
-					matrixComponent.setElementValue(row.getRowIndex(), counter,
-							input);
-				} catch (NumberFormatException ex) {
-					logger.info("Invalid Matrix Element.");
-				}
-
-				// FIXME FUTURE GREG WORK, ADD ERRORS AND FONT CHANGE...
 
+			// Set the value in the data structure
+			RowWrapper row = (RowWrapper) element;
+			try {
+				matrixComponent.setElementValue(row.getRowIndex(), tableColumn,
+						Double.parseDouble((String) value));
+			} catch (NumberFormatException ex) {
+				logger.info("Invalid Matrix Element.");
 			}
 
-			// Set the value on the RowWrapper instance
-			row.getRowWrapper().set(counter, matrixComponent
-					.getElementValue(row.getRowIndex(), counter));
+			// Only redraw the row that changed
+			matrixViewer.update(row, null);
 
-			// Set the Cell's text and refresh the TableViewer
-			item.setText(row.getRowWrapper().get(counter).toString());
-			matrixViewer.refresh();
+			return;
 		}
 	}
 
@@ -462,9 +454,9 @@ public class ICEMatrixComponentSectionPart extends SectionPart
 			return;
 		}
 		// Instantiate a new JFace TableViewer with the sectionClient as its
-		// parent
-		matrixViewer = new TableViewer(sectionClient,
-				SWT.BORDER | SWT.H_SCROLL | SWT.V_SCROLL | SWT.FULL_SELECTION);
+		// parent. It is virtual so that only the visible rows are created.
+		matrixViewer = new TableViewer(sectionClient, SWT.VIRTUAL | SWT.BORDER
+				| SWT.H_SCROLL | SWT.V_SCROLL | SWT.FULL_SELECTION);
 
 		// Enable tooltip support for the individual ColumnViewers
 		// Original version, commented out for RAP testing. ~JJB 20120827
@@ -472,76 +464,17 @@ public class ICEMatrixComponentSectionPart extends SectionPart
 		// ToolTip.NO_RECREATE);
 		ColumnViewerToolTipSupport.enableFor(matrixViewer);
 
-		// Create an array of the Column names
-		String[] colNames = new String[matrixComponent.numberOfColumns()];
-
-		// Create a numberOfColumns() TableViewerColumns, setting its title and
-		// width
-		for (int i = 0; i < matrixComponent.numberOfColumns(); i++) {
-			// Create a column
-			TableViewerColumn column = new TableViewerColumn(matrixViewer,
-					SWT.CENTER);
-			// Set its column title
-			column.getColumn().setText("Column " + (i + 1));
-			colNames[i] = String.valueOf(i);
-			// Tell the column to set its own width according to the space
-			// available
-			column.getColumn().pack();
-			// Set this Column's LabelProvider
-			column.setLabelProvider(new ICECellLabelProvider(i));
-		}
-
 		// Attach a ContentProvider for this JFace Viewer
 		attachContentProvider();
 
-		// Set the Column Properties as the previously constructed column names
-		matrixViewer.setColumnProperties(colNames);
-
-		// Set up an array of CellEditors, a Combo cell editor if the
-		// Elements are of a Discrete set (like an Adjacency Matrix), and a
-		// regular Text Cell Editor if they are not
-		CellEditor[] editors = new CellEditor[matrixComponent
-				.numberOfColumns()];
-		// Also create a String array list to handle conversion of
-		// MatrixComponents AllowedValues from Double to String (needed by JFace
-		// Viewer Model)
-		List<String> stringArray = new ArrayList<String>();
-
-		// For each Column, set the appropriate CellEditor
-		for (int i = 0; i < matrixComponent.numberOfColumns(); i++) {
-			if (matrixComponent
-					.getAllowedValueType() == AllowedValueType.Discrete) {
-				editors[i] = new ComboBoxViewerCellEditor(
-						matrixViewer.getTable(), SWT.READ_ONLY);
-				((ComboBoxViewerCellEditor) editors[i])
-						.setLabelProvider(new LabelProvider());
-				((ComboBoxViewerCellEditor) editors[i])
-						.setContentProvider(new ArrayContentProvider());
-				for (Double d : matrixComponent.getAllowedValues()) {
-					stringArray.add(d.toString());
-				}
-				((ComboBoxViewerCellEditor) editors[i]).setInput(stringArray);
-				stringArray.clear();
-			} else {
-				editors[i] = new TextCellEditor(matrixViewer.getTable());
-			}
-		}
-
-		// Set the JFace TableViewer's Cell Editors
-		matrixViewer.setCellEditors(editors);
+		// Create the shared cell editor and the columns that use it
+		cellEditor = createCellEditor();
+		syncColumns();
 
-		// Attach Cell Modifiers
-		attachCellModifiers();
-
-		// JFace Viewer Model requires an input Model.
-		// Set it up here
-		RowWrapper[] rows = new RowWrapper[matrixComponent.numberOfRows()];
-		for (int i = 0; i < matrixComponent.numberOfRows(); i++) {
-			rows[i] = new RowWrapper(matrixComponent.getRow(i), i);
-		}
-
-		// Set that input
-		matrixViewer.setInput(rows);
+		// The MatrixComponent is the input. The rows are created by the
+		// content provider when they are needed.
+		matrixViewer.setInput(matrixComponent);
+		matrixViewer.setItemCount(matrixComponent.numberOfRows());
 
 		// Tell the TableViewer to show the column headers and the
 		// Grid lines
@@ -569,6 +502,121 @@ public class ICEMatrixComponentSectionPart extends SectionPart
 
 	}
 
+	/**
+	 * <p>
+	 * This operation adds or removes columns so that the TableViewer has as
+	 * many columns as the MatrixComponent. Existing columns are kept and new
+	 * columns edit their cells with the shared cell editor.
+	 * </p>
+	 * 
+	 * @return True if columns were added or removed, false otherwise
+	 */
+	private boolean syncColumns() {
+
+		// Local Declarations
+		Table table = matrixViewer.getTable();
+		int nCols = table.getColumnCount();
+		int newCols = matrixComponent.numberOfColumns();
+
+		if (nCols == newCols) {
+			return false;
+		}
+
+		// Remove the extra columns
+		for (int i = nCols - 1; i >= newCols; i--) {
+			table.getColumn(i).dispose();
+		}
+
+		// Add the new columns
+		for (int i = nCols; i < newCols; i++) {
+			TableViewerColumn column = new TableViewerColumn(matrixViewer,
+					SWT.CENTER);
+			column.getColumn().setText("Column " + (i + 1));
+			column.getColumn().setWidth(MIN_COLUMN_WIDTH);
+			column.setLabelProvider(new ICECellLabelProvider(i));
+			column.setEditingSupport(new ICEEditingSupport(i));
+		}
+
+		return true;
+	}
+
+	/**
+	 * <p>
+	 * This operation creates the cell editor that is shared by the columns. It
+	 * is a Combo cell editor if the elements are of a Discrete set (like an Adjacency Matrix),
+	 * and a regular Text Cell Editor if they are not.
+	 * </p>
+	 * 
+	 * @return The cell editor
+	 */
+	private CellEditor createCellEditor() {
+
+		// Local Declarations
+		CellEditor editor;
+
+		if (matrixComponent
+				.getAllowedValueType() == AllowedValueType.Discrete) {
+			ComboBoxViewerCellEditor comboEditor = new ComboBoxViewerCellEditor(
+					matrixViewer.getTable(), SWT.READ_ONLY);
+			comboEditor.setLabelProvider(new LabelProvider());
+			comboEditor.setContentProvider(new ArrayContentProvider());
+			// Here we need to convert the Doubles to Strings, because the
+			// underlying JFace Viewer model is expecting Strings.
+			List<String> stringArray = new ArrayList<String>();
+			for (Double d : matrixComponent.getAllowedValues()) {
+				stringArray.add(d.toString());
+			}
+			comboEditor.setInput(stringArray);
+			editor = comboEditor;
+		} else {
+			editor = new TextCellEditor(matrixViewer.getTable());
+		}
+
+		return editor;
+	}
+
+	/**
+	 * <p>
+	 * This operation makes the TableViewer match the MatrixComponent after
+	 * rows, columns or values have changed. Only the visible rows are redrawn.
+	 * </p>
+	 */
+	private void syncTable() {
+
+		// Update the columns and resize them if they changed
+		boolean columnsChanged = syncColumns();
+
+		// Update the number of rows and redraw the visible ones
+		matrixViewer.setItemCount(matrixComponent.numberOfRows());
+		matrixViewer.refresh();
+
+		if (columnsChanged) {
+			resizeColumns();
+		}
+
+		return;
+	}
+
+	/**
+	 * <p>
+	 * This operation resizes the columns to share the width of the table, but
+	 * not below a minimum width.
+	 * </p>
+	 */
+	private void resizeColumns() {
+
+		Table table = matrixViewer.getTable();
+		if (table.getColumnCount() > 0) {
+			int columnWidth = Math.max(MIN_COLUMN_WIDTH,
+					table.getSize().x / table.getColumnCount());
+			for (TableColumn col : table.getColumns()) {
+				col.setWidth(columnWidth);
+			}
+		}
+
+		return;
+	}
+
 	/**
 	 * <p>
 	 * This operation sets the MatrixComponent that should be rendered, updated
@@ -649,7 +697,7 @@ public class ICEMatrixComponentSectionPart extends SectionPart
 	/**
 	 * <p>
 	 * This operation creates the content provider that sets up the rows of the
-	 * TableViewer.
+	 * TableViewer. Rows are only created when the table asks for them.
 	 * </p>
 	 * 
 	 */
@@ -659,11 +707,9 @@ public class ICEMatrixComponentSectionPart extends SectionPart
 			return;
 		}
 		// Set the ContentProvider as a realization of the
-		// IStructuredContentProvider
-		// Interface. This provides input to the JFace Viewer individual Arrays
-		// representing
-		// rows in a table, or items in a list or tree.
-		matrixViewer.setContentProvider(new IStructuredContentProvider() {
+		// ILazyContentProvider interface. It wraps the index of each row that
+		// is shown in a RowWrapper.
+		matrixViewer.setContentProvider(new ILazyContentProvider() {
 			@Override
 			public void dispose() {
 			}
@@ -674,28 +720,12 @@ public class ICEMatrixComponentSectionPart extends SectionPart
 			}
 
 			@Override
-			public Object[] getElements(Object inputElement) {
-				return (RowWrapper[]) inputElement;
+			public void updateElement(int index) {
+				matrixViewer.replace(new RowWrapper(index), index);
 			}
 		});
 	}
 
-	/**
-	 * <p>
-	 * This operation attaches the CellModifiers to the TableViewer so that
-	 * Cells may be edited.
-	 * </p>
-	 * 
-	 */
-	protected void attachCellModifiers() {
-		// Make sure we have a valid TableViewer
-		if (matrixViewer == null) {
-			return;
-		}
-		// Set the TableViewer's Cell Modifier realization
-		matrixViewer.setCellModifier(new ICECellModifier());
-	}
-
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -705,158 +735,69 @@ public class ICEMatrixComponentSectionPart extends SectionPart
 	 */
 	@Override
 	public void update(IUpdateable component) {
+
+		// Only queue one update at a time
+		if (!updatePending.compareAndSet(false, true)) {
+			return;
+		}
+
 		PlatformUI.getWorkbench().getDisplay().asyncExec(new Runnable() {
 			@Override
 			public void run() {
-				if (!matrixViewer.getTable().isDisposed()) {
+				updatePending.set(false);
+				if (matrixViewer != null
+						&& !matrixViewer.getTable().isDisposed()) {
 					getSection().setText(matrixComponent.getName());
 					getSection()
 							.setDescription(matrixComponent.getDescription());
 
-					// Get the old input
-					RowWrapper[] rows = (RowWrapper[]) matrixViewer.getInput();
-					RowWrapper[] newRows = rows;
-					int nCols = rows[0].getRowWrapper().size();
-
-					// Check if we need to add or remove more columns
-					if (nCols != matrixComponent.numberOfColumns()) {
-						if (nCols < matrixComponent.numberOfColumns()) {
-							// Add Columns
-							for (int i = nCols + 1; i <= matrixComponent
-									.numberOfColumns(); i++) {
-
-								List<CellEditor> editorList = new ArrayList<CellEditor>(
-										Arrays.asList(
-												matrixViewer.getCellEditors()));
-								// Create an Array to hold default Strings for
-								// the case when this MatrixComponent has
-								// Discrete AllowedValueType
-								List<String> stringArray = new ArrayList<String>();
-								// If this Matrix is Discrete, set up Combo Cell
-								// Editors
-								if (matrixComponent
-										.getAllowedValueType() == AllowedValueType.Discrete) {
-									CellEditor ed = new ComboBoxViewerCellEditor(
-											matrixViewer.getTable(),
-											SWT.READ_ONLY);
-									((ComboBoxViewerCellEditor) ed)
-											.setLabelProvider(
-													new LabelProvider());
-									((ComboBoxViewerCellEditor) ed)
-											.setContentProvider(
-													new ArrayContentProvider());
-									// Here we need to convert the Doubles to
-									// Strings, because the underlying JFace
-									// Viewer model is expecting Strings.
-									for (Double d : matrixComponent
-											.getAllowedValues()) {
-										stringArray.add(d.toString());
-									}
-									// Set the Input for the Discrete Combo Box
-									// Editor
-									((ComboBoxViewerCellEditor) ed)
-											.setInput(stringArray);
-									stringArray.clear();
-									// Add the new Cell Editor to the list
-									editorList.add(ed);
-								} else {
-									// If the elements do not have to be
-									// Discrete, just add a new TextCellEditor
-									editorList.add(new TextCellEditor(
-											matrixViewer.getTable()));
-								}
-								// Create a primitive Array of these new
-								// CellEditors
-								CellEditor[] editors = new CellEditor[editorList
-										.size()];
-								editorList.toArray(editors);
-								// Set the CellEditors
-								matrixViewer.setCellEditors(editors);
-
-								// We must do the same thing with the Column
-								// Properties
-								List<Object> columnPropertyList = new ArrayList<Object>(
-										Arrays.asList(matrixViewer
-												.getColumnProperties()));
-								columnPropertyList.add(String.valueOf(
-										matrixComponent.numberOfColumns() - 1));
-								String[] columnProperties = new String[columnPropertyList
-										.size()];
-								columnPropertyList.toArray(columnProperties);
-								// Set the Column Properties
-								matrixViewer
-										.setColumnProperties(columnProperties);
-
-								// Add the new Column, with an Editor set
-								// accordingly above
-								TableViewerColumn column = new TableViewerColumn(
-										matrixViewer, SWT.CENTER);
-								column.getColumn().setText("Column " + i);
-
-								// Set the ICELableProvider
-								column.setLabelProvider(
-										new ICECellLabelProvider(i - 1));
-							}
-						} else {
-							// Just delete the Columns
-							for (int i = nCols - 1; i >= matrixComponent
-									.numberOfColumns(); i--) {
-								matrixViewer.getTable().getColumn(i).dispose();
-							}
-						}
-					}
-
-					// Set a new input if need be. This is for when we need to
-					// add or remove Rows
-					if (rows.length != matrixComponent.numberOfRows()
-							|| rows[0].getRowWrapper().size() != matrixComponent
-									.numberOfColumns()) {
-						logger.info("Altering Rows: "
-								+ matrixComponent.numberOfRows() + " "
-								+ matrixComponent.numberOfColumns());
-						newRows = new RowWrapper[matrixComponent
-								.numberOfRows()];
-						for (int i = 0; i < matrixComponent
-								.numberOfRows(); i++) {
-							logger.info("Row: ");
-							for (int j = 0; j < matrixComponent
-									.numberOfColumns(); j++) {
-								logger.info(
-										matrixComponent.getRow(i).get(j) + " ");
-							}
-							logger.info("");
-							newRows[i] = new RowWrapper(
-									matrixComponent.getRow(i), i);
-						}
-
-					}
-
-					// Resize the column widths
-					int columnWidth = matrixViewer.getTable().getSize().x
-							/ matrixViewer.getTable().getColumnCount();
-					for (TableColumn col : matrixViewer.getTable()
-							.getColumns()) {
-						col.setWidth(columnWidth);
-					}
-
-					// Make sure the individual matrix elements are correct
-					for (int i = 0; i < newRows.length; i++) {
-						for (int j = 0; j < matrixComponent
-								.numberOfColumns(); j++) {
-							newRows[i].getRowWrapper().set(j,
-									matrixComponent.getElementValue(i, j));
-						}
-					}
+					// Update the rows and columns and redraw the visible cells
+					syncTable();
+				}
+			}
+		});
+	}
 
-					// Set the new input
-					matrixViewer.setInput(newRows);
+	/**
+	 * <p>
+	 * This operation creates a button that changes the size of the matrix and
+	 * then updates the TableViewer.
+	 * </p>
+	 * 
+	 * @param text
+	 *            The text of the button
+	 * @param verticalAlignment
+	 *            The vertical alignment of the button in its cell
+	 * @param resize
+	 *            The change to make to the MatrixComponent
+	 */
+	private void createResizeButton(String text, int verticalAlignment,
+			final Runnable resize) {
 
-					// Refresh the Viewer
-					matrixViewer.refresh();
+		Button button = new Button(sectionClient, 0);
+		button.setText(text);
 
+		// Resize the matrix and update the table when the button is pressed
+		button.addSelectionListener(new SelectionAdapter() {
+			@Override
+			public void widgetSelected(SelectionEvent e) {
+				if (matrixComponent != null && matrixViewer != null) {
+					resize.run();
+					syncTable();
 				}
 			}
 		});
+
+		// Keep the button on the right, next to the other buttons, and give
+		// it an unchangeable size
+		GridData gridData = new GridData();
+		gridData.horizontalAlignment = SWT.END;
+		gridData.verticalAlignment = verticalAlignment;
+		gridData.widthHint = 30;
+		gridData.heightHint = 30;
+		button.setLayoutData(gridData);
+
+		return;
 	}
 
 	/**
@@ -875,654 +816,41 @@ public class ICEMatrixComponentSectionPart extends SectionPart
 		// any buttons. If square, we only need to add one set of
 		// + and - buttons. If not square, add two sets of buttons.
 		if (matrixComponent.isResizable()) {
-			// Check it the matrix is square
-			if (matrixComponent.isSquare()) {
-				// Create the Add Row and Column button (both because matrix is
-				// square)
-				Button addButton = new Button(sectionClient, 0);
-				addButton.setText("+");
-
-				// Set a selection listener
-				addButton.addSelectionListener(new SelectionAdapter() {
-					@Override
-					public void widgetSelected(SelectionEvent e) {
-						if (matrixComponent != null && matrixViewer != null) {
-							// Add a Row to the MatrixComponent. Since it is
-							// square, this will also add a Column
-							matrixComponent.addRow();
-
-							// We need to get the old set of CellEditors and add
-							// to it
-							List<CellEditor> cellEditorList = new ArrayList<CellEditor>(
-									Arrays.asList(
-											matrixViewer.getCellEditors()));
-							// Create an Array to hold default Strings for the
-							// case when this MatrixComponent has Discrete
-							// AllowedValueType
-							List<String> stringArray = new ArrayList<String>();
-							// If this Matrix is Discrete, set up Combo Cell
-							// Editors
-							if (matrixComponent
-									.getAllowedValueType() == AllowedValueType.Discrete) {
-								CellEditor ed = new ComboBoxViewerCellEditor(
-										matrixViewer.getTable(), SWT.READ_ONLY);
-								((ComboBoxViewerCellEditor) ed)
-										.setLabelProvider(new LabelProvider());
-								((ComboBoxViewerCellEditor) ed)
-										.setContentProvider(
-												new ArrayContentProvider());
-								// Here we need to convert the Doubles to
-								// Strings, because the underlying JFace Viewer
-								// model is expecting Strings.
-								for (Double d : matrixComponent
-										.getAllowedValues()) {
-									stringArray.add(d.toString());
-								}
-								// Set the Input for the Discrete Combo Box
-								// Editor
-								((ComboBoxViewerCellEditor) ed)
-										.setInput(stringArray);
-								stringArray.clear();
-								// Add the new Cell Editor to the list
-								cellEditorList.add(ed);
-							} else {
-								// If the elements do not have to be Discrete,
-								// just add a new TextCellEditor
-								cellEditorList.add(new TextCellEditor(
-										matrixViewer.getTable()));
-							}
-							// Create a primitive Array of these new CellEditors
-							CellEditor[] editors = new CellEditor[cellEditorList
-									.size()];
-							cellEditorList.toArray(editors);
-							// Set the CellEditors
-							matrixViewer.setCellEditors(editors);
-
-							// We must do the same thing with the Column
-							// Properties
-							List<Object> columnPropertyList = new ArrayList<Object>(
-									Arrays.asList(matrixViewer
-											.getColumnProperties()));
-							columnPropertyList.add(String.valueOf(
-									matrixComponent.numberOfColumns() - 1));
-							String[] columnProperties = new String[columnPropertyList
-									.size()];
-							columnPropertyList.toArray(columnProperties);
-							// Set the Column Properties
-							matrixViewer.setColumnProperties(columnProperties);
-
-							// Since we've also added a column, create a new
-							// TableViewerColumn
-							TableViewerColumn column = new TableViewerColumn(
-									matrixViewer, SWT.CENTER);
-							column.getColumn().setText("Column "
-									+ matrixComponent.numberOfColumns());
-
-							column.setLabelProvider(new ICECellLabelProvider(
-									matrixComponent.numberOfColumns() - 1));
-
-							// Create a new Input to set in the JFace Viewer
-							// model that is taken from the old input
-							RowWrapper[] rows = (RowWrapper[]) matrixViewer
-									.getInput();
-							RowWrapper[] newRows = new RowWrapper[rows.length
-									+ 1];
-
-							// Set the new Input
-							for (int i = 0; i < matrixComponent
-									.numberOfRows(); i++) {
-								if (i == (matrixComponent.numberOfRows() - 1)) {
-									// If this is the last iteration, add a new
-									// RowWrapper
-									newRows[i] = new RowWrapper(
-											matrixComponent.getRow(i), i);
-								} else {
-									// Otherwise, add a column entry to each row
-									if (matrixComponent
-											.getAllowedValueType() == AllowedValueType.Discrete) {
-										rows[i].add(matrixComponent
-												.getAllowedValues().get(0));
-									} else {
-										rows[i].add();
-									}
-									newRows[i] = rows[i];
-								}
-							}
-
-							// Set the new Input
-							matrixViewer.setInput(newRows);
-
-							// Resize the column widths
-							int columnWidth = matrixViewer.getTable()
-									.getSize().x
-									/ matrixViewer.getTable().getColumnCount();
-							for (TableColumn col : matrixViewer.getTable()
-									.getColumns()) {
-								col.setWidth(columnWidth);
-							}
-
-							// Refresh the Table
-							matrixViewer.refresh();
-						}
-					}
-				});
-
-				// Sets the GridData to keep the "+" button on the right and
-				// next the "-" button
-				GridData plusButtonSquare = new GridData();
-				// Sets the position of the button in its cell upward and
-				// rightward
-				plusButtonSquare.horizontalAlignment = SWT.END;
-				plusButtonSquare.verticalAlignment = SWT.END;
-				// Sets an initial height and width that are unchangeable for
-				// the button
-				plusButtonSquare.widthHint = 30;
-				plusButtonSquare.heightHint = 30;
-				// Applies this instance of GridData to the addButton
-				addButton.setLayoutData(plusButtonSquare);
-
-				// Add a Delete Row/Column Button
-				Button deleteButton = new Button(sectionClient, 0);
-				deleteButton.setText("-");
-
-				// Add a selection listener
-				deleteButton.addSelectionListener(new SelectionAdapter() {
-					@Override
-					public void widgetSelected(SelectionEvent e) {
-						if (matrixComponent != null && matrixViewer != null
-								&& matrixComponent.numberOfRows() > 1) {
-							// Make sure we don't delete a row or column if this
-							// is a 1x1 matrix Delete a Row from the Matrix
-							// Component This also removes a Column since this
-							// matrix is square
-							matrixComponent.deleteRow();
-
-							// We need to get the old set of CellEditors and
-							// add to it
-							List<CellEditor> cellEditorList = new ArrayList<CellEditor>(
-									Arrays.asList(
-											matrixViewer.getCellEditors()));
-							// Create an Array to hold default Strings for
-							// the case when this MatrixComponent has Discrete
-							// AllowedValueType
-							List<String> stringArray = new ArrayList<String>();
-							// If this Matrix is Discrete, set up Combo Cell
-							// Editors
-							if (matrixComponent
-									.getAllowedValueType() == AllowedValueType.Discrete) {
-								CellEditor ed = new ComboBoxViewerCellEditor(
-										matrixViewer.getTable(), SWT.READ_ONLY);
-								((ComboBoxViewerCellEditor) ed)
-										.setLabelProvider(new LabelProvider());
-								((ComboBoxViewerCellEditor) ed)
-										.setContentProvider(
-												new ArrayContentProvider());
-								// Here we need to convert the Doubles to
-								// Strings, because the underlying JFace Viewer
-								// model is expecting Strings.
-								for (Double d : matrixComponent
-										.getAllowedValues()) {
-									stringArray.add(d.toString());
-								}
-								// Set the Input for the Discrete Combo Box
-								// Editor
-								((ComboBoxViewerCellEditor) ed)
-										.setInput(stringArray);
-								stringArray.clear();
-								// Add the new Cell Editor to the list
-								cellEditorList.add(ed);
-							} else {
-								// If the elements do not have to be Discrete,
-								// just add a new TextCellEditor
-								cellEditorList.add(new TextCellEditor(
-										matrixViewer.getTable()));
-							}
-							// Create a primitive Array of these new
-							// CellEditors
-							CellEditor[] editors = new CellEditor[cellEditorList
-									.size()];
-							cellEditorList.toArray(editors);
-							// Set the CellEditors
-							matrixViewer.setCellEditors(editors);
-
-							// We must do the same thing with the Column
-							// Properties
-							List<Object> columnPropertyList = new ArrayList<Object>(
-									Arrays.asList(matrixViewer
-											.getColumnProperties()));
-							columnPropertyList.remove(String.valueOf(
-									matrixComponent.numberOfColumns()));
-							String[] columnProperties = new String[columnPropertyList
-									.size()];
-							columnPropertyList.toArray(columnProperties);
-							// Set the Column Properties
-							matrixViewer.setColumnProperties(columnProperties);
-
-							// Remove the old column
-							matrixViewer
-									.getTable().getColumn(matrixViewer
-											.getTable().getColumnCount() - 1)
-									.dispose();
-
-							// Set up a new Input for the JFace Viewer Model
-							RowWrapper[] rows = (RowWrapper[]) matrixViewer
-									.getInput();
-							RowWrapper[] newRows = new RowWrapper[rows.length
-									- 1];
-
-							for (int i = 0; i < matrixComponent
-									.numberOfRows(); i++) {
-								// Remove a column entry from the row wrappers
-								rows[i].remove();
-								newRows[i] = rows[i];
-							}
-
-							// Set the Input
-							matrixViewer.setInput(newRows);
-
-							// Resize the column widths
-							int columnWidth = matrixViewer.getTable()
-									.getSize().x
-									/ matrixViewer.getTable().getColumnCount();
-							for (TableColumn col : matrixViewer.getTable()
-									.getColumns()) {
-								col.setWidth(columnWidth);
-							}
-
-							// Refresh the Viewer
-							matrixViewer.refresh();
-
-						}
-					}
-				});
-
-				// Sets the GridData to keep the "-" button on the right and
-				// next the "+" button
-				GridData minusSquareData = new GridData();
-				// Sets the position of the button in its cell downward and
-				// rightward
-				minusSquareData.horizontalAlignment = SWT.END;
-				minusSquareData.verticalAlignment = SWT.BEGINNING;
-				// Sets an initial height and width that are unchangeable for
-				// the button
-				minusSquareData.widthHint = 30;
-				minusSquareData.heightHint = 30;
-				// Applies this instance of GridData to the deleteButton
-				deleteButton.setLayoutData(minusSquareData);
-
-			} else {
-				// This is to add Buttons for a non-Square matrix, Two sets of +
-				// and - buttons
-				Button addNonSquareButton = new Button(sectionClient, 0);
-				addNonSquareButton.setText("+");
-
-				// Add the Selection Listener
-				addNonSquareButton.addSelectionListener(new SelectionAdapter() {
-					@Override
-					public void widgetSelected(SelectionEvent e) {
-						if (matrixComponent != null && matrixViewer != null) {
-							// Add just a single row to this
-							// MatrixComponent
-							matrixComponent.addRow();
-
-							// Create a new input from the old input
-							RowWrapper[] rows = (RowWrapper[]) matrixViewer
-									.getInput();
-							RowWrapper[] newRows = new RowWrapper[rows.length
-									+ 1];
-
-							// Add the old rows to the new input, but
-							// add a new row at the end
-							for (int i = 0; i < matrixComponent
-									.numberOfRows(); i++) {
-								if (i == (matrixComponent.numberOfRows() - 1)) {
-									newRows[i] = new RowWrapper(
-											matrixComponent.getRow(i), i);
-								} else {
-									newRows[i] = rows[i];
-								}
-							}
-
-							// Set that Input
-							matrixViewer.setInput(newRows);
-
-							// Resize the column widths
-							int columnWidth = matrixViewer.getTable()
-									.getSize().x
-									/ matrixViewer.getTable().getColumnCount();
-							for (TableColumn col : matrixViewer.getTable()
-									.getColumns()) {
-								col.setWidth(columnWidth);
-							}
-
-							// Refresh the Viewer
-							matrixViewer.refresh();
-						}
+			// Adding a row adds a column too if the matrix is square
+			createResizeButton("+", SWT.END, new Runnable() {
+				@Override
+				public void run() {
+					matrixComponent.addRow();
+				}
+			});
+			// Make sure we don't delete the last row
+			createResizeButton("-", SWT.BEGINNING, new Runnable() {
+				@Override
+				public void run() {
+					if (matrixComponent.numberOfRows() > 1) {
+						matrixComponent.deleteRow();
 					}
-				});
+				}
+			});
 
-				// Sets the GridData to keep the "+" button on the right and
-				// next the "-" button
-				GridData plusNonSquareData = new GridData();
-				// Sets the position of the button in its cell upward and
-				// rightward
-				plusNonSquareData.horizontalAlignment = SWT.END;
-				plusNonSquareData.verticalAlignment = SWT.END;
-				// Sets an initial height and width that are unchangeable for
-				// the button
-				plusNonSquareData.widthHint = 30;
-				plusNonSquareData.heightHint = 30;
-				// Applies this instance of GridData to the addButton
-				addNonSquareButton.setLayoutData(plusNonSquareData);
-
-				Button deleteRowNonSquareButton = new Button(sectionClient, 0);
-				deleteRowNonSquareButton.setText("-");
-
-				deleteRowNonSquareButton
-						.addSelectionListener(new SelectionAdapter() {
-							@Override
-							public void widgetSelected(SelectionEvent e) {
-								if (matrixComponent != null
-										&& matrixViewer != null
-										&& matrixComponent.numberOfRows() > 1) {
-									// Delete a Row from the Matrix
-									matrixComponent.deleteRow();
-
-									// Create a new input from the old input
-									RowWrapper[] rows = (RowWrapper[]) matrixViewer
-											.getInput();
-									RowWrapper[] newRows = new RowWrapper[rows.length
-											- 1];
-
-									for (int i = 0; i < matrixComponent
-											.numberOfRows(); i++) {
-										newRows[i] = rows[i];
-									}
-
-									// Set that new Input
-									matrixViewer.setInput(newRows);
-
-									// Resize the column widths
-									int columnWidth = matrixViewer.getTable()
-											.getSize().x
-											/ matrixViewer.getTable()
-													.getColumnCount();
-									for (TableColumn col : matrixViewer
-											.getTable().getColumns()) {
-										col.setWidth(columnWidth);
-									}
-
-									// Refresh the Viewer
-									matrixViewer.refresh();
-								}
-							}
-						});
-
-				// Sets the GridData to keep the "-" button on the right and
-				// next the "+" button
-				GridData minusNonSquareRowData = new GridData();
-				// Sets the position of the button in its cell downward and
-				// rightward
-				minusNonSquareRowData.horizontalAlignment = SWT.END;
-				minusNonSquareRowData.verticalAlignment = SWT.BEGINNING;
-				// Sets an initial height and width that are unchangeable for
-				// the button
-				minusNonSquareRowData.widthHint = 30;
-				minusNonSquareRowData.heightHint = 30;
-				// Applies this instance of GridData to the deleteButton
-				deleteRowNonSquareButton.setLayoutData(minusNonSquareRowData);
-
-				// Create a button to remove columns
-				Button colDeleteButton = new Button(sectionClient, 0);
-				colDeleteButton.setText("-");
-
-				colDeleteButton.addSelectionListener(new SelectionAdapter() {
+			// Non-square matrices get a second set of buttons for the columns
+			if (!matrixComponent.isSquare()) {
+				createResizeButton("-", SWT.BEGINNING, new Runnable() {
 					@Override
-					public void widgetSelected(SelectionEvent e) {
-						if (matrixComponent != null && matrixViewer != null
-								&& matrixComponent.numberOfColumns() > 1) {
+					public void run() {
+						if (matrixComponent.numberOfColumns() > 1) {
 							matrixComponent.deleteColumn();
-
-							// We need to get the old set of CellEditors and add
-							// to it
-							List<CellEditor> cellEditorList = new ArrayList<CellEditor>(
-									Arrays.asList(
-											matrixViewer.getCellEditors()));
-							// Create an Array to hold default Strings for the
-							// case when this MatrixComponent has Discrete
-							// AllowedValueType
-							List<String> stringArray = new ArrayList<String>();
-							// If this Matrix is Discrete, set up Combo Cell
-							// Editors
-							if (matrixComponent
-									.getAllowedValueType() == AllowedValueType.Discrete) {
-								CellEditor ed = new ComboBoxViewerCellEditor(
-										matrixViewer.getTable(), SWT.READ_ONLY);
-								((ComboBoxViewerCellEditor) ed)
-										.setLabelProvider(new LabelProvider());
-								((ComboBoxViewerCellEditor) ed)
-										.setContentProvider(
-												new ArrayContentProvider());
-								// Here we need to convert the Doubles to
-								// Strings, because the underlying JFace Viewer
-								// model is expecting Strings.
-								for (Double d : matrixComponent
-										.getAllowedValues()) {
-									stringArray.add(d.toString());
-								}
-								// Set the Input for the Discrete Combo Box
-								// Editor
-								((ComboBoxViewerCellEditor) ed)
-										.setInput(stringArray);
-								stringArray.clear();
-								// Add the new Cell Editor to the list
-								cellEditorList.add(ed);
-							} else {
-								// If the elements do not have to be Discrete,
-								// just add a new TextCellEditor
-								cellEditorList.add(new TextCellEditor(
-										matrixViewer.getTable()));
-							}
-							// Create a primitive Array of these new CellEditors
-							CellEditor[] editors = new CellEditor[cellEditorList
-									.size()];
-							cellEditorList.toArray(editors);
-							// Set the CellEditors
-							matrixViewer.setCellEditors(editors);
-
-							// We must do the same thing with the Column
-							// Properties
-							List<Object> columnPropertyList = new ArrayList<Object>(
-									Arrays.asList(matrixViewer
-											.getColumnProperties()));
-							columnPropertyList.remove(String.valueOf(
-									matrixComponent.numberOfColumns()));
-							String[] columnProperties = new String[columnPropertyList
-									.size()];
-							columnPropertyList.toArray(columnProperties);
-							// Set the Column Properties
-							matrixViewer.setColumnProperties(columnProperties);
-
-							// Remove the old column
-							matrixViewer
-									.getTable().getColumn(matrixViewer
-											.getTable().getColumnCount() - 1)
-									.dispose();
-
-							// Create a new Input from the old Input
-							RowWrapper[] rows = (RowWrapper[]) matrixViewer
-									.getInput();
-							RowWrapper[] newRows = new RowWrapper[rows.length];
-
-							for (int i = 0; i < matrixComponent
-									.numberOfRows(); i++) {
-								rows[i].remove();
-								newRows[i] = rows[i];
-							}
-
-							// Set the new Input
-							matrixViewer.setInput(newRows);
-
-							// Resize the column widths
-							int columnWidth = matrixViewer.getTable()
-									.getSize().x
-									/ matrixViewer.getTable().getColumnCount();
-							for (TableColumn col : matrixViewer.getTable()
-									.getColumns()) {
-								col.setWidth(columnWidth);
-							}
-
-							// Refresh the Viewer
-							matrixViewer.refresh();
 						}
 					}
 				});
-
-				// Sets the GridData to keep the "-" button on the right and
-				// next the "+" button
-				GridData colGridData3 = new GridData();
-				// Sets the position of the button in its cell downward and
-				// rightward
-				colGridData3.horizontalAlignment = SWT.END;
-				colGridData3.verticalAlignment = SWT.BEGINNING;
-				// Sets an initial height and width that are unchangeable for
-				// the button
-				colGridData3.widthHint = 30;
-				colGridData3.heightHint = 30;
-				// Applies this instance of GridData to the colDeleteButton
-				colDeleteButton.setLayoutData(colGridData3);
-
-				// Create an Add Column Button
-				Button colAddButton = new Button(sectionClient, 0);
-				colAddButton.setText("+");
-
-				colAddButton.addSelectionListener(new SelectionAdapter() {
+				createResizeButton("+", SWT.END, new Runnable() {
 					@Override
-					public void widgetSelected(SelectionEvent e) {
-						if (matrixComponent != null && matrixViewer != null) {
-							logger.info("Adding a new Column");
-							matrixComponent.addColumn();
-
-							// We need to get the old set of CellEditors and add
-							// to it
-							List<CellEditor> cellEditorList = new ArrayList<CellEditor>(
-									Arrays.asList(
-											matrixViewer.getCellEditors()));
-							// Create an Array to hold default Strings for the
-							// case when this MatrixComponent has Discrete
-							// AllowedValueType
-							List<String> stringArray = new ArrayList<String>();
-							// If this Matrix is Discrete, set up Combo Cell
-							// Editors
-							if (matrixComponent
-									.getAllowedValueType() == AllowedValueType.Discrete) {
-								CellEditor ed = new ComboBoxViewerCellEditor(
-										matrixViewer.getTable(), SWT.READ_ONLY);
-								((ComboBoxViewerCellEditor) ed)
-										.setLabelProvider(new LabelProvider());
-								((ComboBoxViewerCellEditor) ed)
-										.setContentProvider(
-												new ArrayContentProvider());
-								// Here we need to convert the Doubles to
-								// Strings, because the underlying JFace Viewer
-								// model is expecting Strings.
-								for (Double d : matrixComponent
-										.getAllowedValues()) {
-									stringArray.add(d.toString());
-								}
-								// Set the Input for the Discrete Combo Box
-								// Editor
-								((ComboBoxViewerCellEditor) ed)
-										.setInput(stringArray);
-								stringArray.clear();
-								// Add the new Cell Editor to the list
-								cellEditorList.add(ed);
-							} else {
-								// If the elements do not have to be Discrete,
-								// just add a new TextCellEditor
-								cellEditorList.add(new TextCellEditor(
-										matrixViewer.getTable()));
-							}
-							// Create a primitive Array of these new CellEditors
-							CellEditor[] editors = new CellEditor[cellEditorList
-									.size()];
-							cellEditorList.toArray(editors);
-							// Set the CellEditors
-							matrixViewer.setCellEditors(editors);
-
-							// We must do the same thing with the Column
-							// Properties
-							List<Object> columnPropertyList = new ArrayList<Object>(
-									Arrays.asList(matrixViewer
-											.getColumnProperties()));
-							columnPropertyList.add(String.valueOf(
-									matrixComponent.numberOfColumns() - 1));
-							String[] columnProperties = new String[columnPropertyList
-									.size()];
-							columnPropertyList.toArray(columnProperties);
-							// Set the Column Properties
-							matrixViewer.setColumnProperties(columnProperties);
-
-							// Add a new column
-							TableViewerColumn column = new TableViewerColumn(
-									matrixViewer, SWT.CENTER);
-							column.getColumn().setText("Column "
-									+ matrixComponent.numberOfColumns());
-							column.setLabelProvider(new ICECellLabelProvider(
-									matrixComponent.numberOfColumns() - 1));
-
-							// Create a new Input
-							RowWrapper[] rows = (RowWrapper[]) matrixViewer
-									.getInput();
-							RowWrapper[] newRows = new RowWrapper[rows.length];
-
-							for (int i = 0; i < matrixComponent
-									.numberOfRows(); i++) {
-								if (matrixComponent
-										.getAllowedValueType() == AllowedValueType.Discrete) {
-									rows[i].add(matrixComponent
-											.getAllowedValues().get(0));
-								} else {
-									rows[i].add();
-								}
-								newRows[i] = rows[i];
-							}
-
-							// Set the newly created input
-							matrixViewer.setInput(newRows);
-
-							// Resize the column widths
-							int columnWidth = matrixViewer.getTable()
-									.getSize().x
-									/ matrixViewer.getTable().getColumnCount();
-							for (TableColumn col : matrixViewer.getTable()
-									.getColumns()) {
-								col.setWidth(columnWidth);
-							}
-
-							// Viewer refresh
-							matrixViewer.refresh();
-
-						}
-
+					public void run() {
+						matrixComponent.addColumn();
 					}
 				});
-
-				// Sets the GridData to keep the "+" button on the right and
-				// next the "-" button
-				GridData colGridData2 = new GridData();
-				// Sets the position of the button in its cell upward and
-				// rightward
-				colGridData2.horizontalAlignment = SWT.END;
-				colGridData2.verticalAlignment = SWT.END;
-				// Sets an initial height and width that are unchangeable for
-				// the button
-				colGridData2.widthHint = 30;
-				colGridData2.heightHint = 30;
-				// Applies this instance of GridData to the colAddButton
-				colAddButton.setLayoutData(colGridData2);
 			}
 		}
 
 	}
-}
\ No newline at end of file
+}
@@ -14,8 +14,10 @@ package org.eclipse.ice.client.widgets;
 
 import java.util.ArrayList;
 import java.util.Hashtable;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.ice.client.common.PropertySource;
@@ -42,6 +44,7 @@ import org.eclipse.jface.viewers.Viewer;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.Listener;
 import org.eclipse.swt.widgets.TabFolder;
@@ -165,6 +168,43 @@ public class ICEResourceView extends PlayableViewPart
 	 */
 	private final ListComponent<VizResource> plotList;
 
+	/**
+	 * The minimum time between updates of the TreeViewers in milliseconds.
+	 * Jobs that write many files update the ResourceComponent many times per
+	 * second, so the updates are throttled to this rate.
+	 */
+	private static final int UPDATE_INTERVAL = 250;
+
+	/**
+	 * True if an update of the TreeViewers has been scheduled but has not run
+	 * yet. Updates that are requested in the meantime are merged into it.
+	 */
+	private final AtomicBoolean updatePending = new AtomicBoolean(false);
+
+	/**
+	 * The time at which the TreeViewers were last updated. It is only used on
+	 * the UI thread.
+	 */
+	private long lastUpdateTime = 0L;
+
+	/**
+	 * The task that updates the TreeViewers on the UI thread.
+	 */
+	private final Runnable updateTask = new Runnable() {
+		@Override
+		public void run() {
+			// Changes that come in after this point need a new update
+			updatePending.set(false);
+			lastUpdateTime = System.currentTimeMillis();
+			if (!fileTreeViewer.getControl().isDisposed()
+					&& !imageTreeViewer.getControl().isDisposed()) {
+				logger.info("ICEResourceView Message: "
+						+ "Updating resource table.");
+				updateTreeContent();
+			}
+		}
+	};
+
 	/**
 	 * The default constructor.
 	 */
@@ -557,51 +597,127 @@ public class ICEResourceView extends PlayableViewPart
 	@Override
 	public void update(IUpdateable component) {
 
-		// Only perform a UI update if the component is valid and the UI pieces
-		// exist.
+		// Only perform a UI update if the component is valid, the UI pieces
+		// exist and an update is not already scheduled.
 		if (component != null && component == resourceComponent
-				&& fileTreeViewer != null) {
+				&& fileTreeViewer != null && imageTreeViewer != null
+				&& updatePending.compareAndSet(false, true)) {
 
-			// Sync with the display
-			PlatformUI.getWorkbench().getDisplay().asyncExec(new Runnable() {
+			// Sync with the display and wait until the interval has passed
+			final Display display = PlatformUI.getWorkbench().getDisplay();
+			display.asyncExec(new Runnable() {
 				@Override
 				public void run() {
-					// Just do a blanket update - no need to check the component
-					if (fileTreeViewer != null
-							&& !fileTreeViewer.getControl().isDisposed()) {
-						logger.info("ICEResourceView Message: "
-								+ "Updating resource table.");
-						sortTreeContent();
-						setTreeContent();
-						fileTreeViewer.refresh();
-						fileTreeViewer.getTree().redraw();
-					}
+					long delay = lastUpdateTime + UPDATE_INTERVAL
+							- System.currentTimeMillis();
+					display.timerExec((int) Math.max(0L, delay), updateTask);
 				}
 			});
 		}
 
-		// Only perform a UI update if the component is valid and the UI
-		// pieces exist.
-		if (component != null && component == resourceComponent
-				&& imageTreeViewer != null) {
+		return;
+	}
 
-			// Sync with the display
-			PlatformUI.getWorkbench().getDisplay().asyncExec(new Runnable() {
-				@Override
-				public void run() {
-					// Just do a blanket update - no need to check the
-					// component
-					if (imageTreeViewer != null
-							&& !imageTreeViewer.getControl().isDisposed()) {
-						logger.info("ICEResourceView Message: "
-								+ "Updating resource table.");
-						sortTreeContent();
-						setTreeContent();
-						imageTreeViewer.refresh();
-						imageTreeViewer.getTree().redraw();
-					}
+	/**
+	 * This operation updates the TreeViewers to match the ResourceComponent.
+	 * The first time that the component has resources, the TreeViewers are
+	 * filled and the first resource is selected. After that, only the
+	 * resources that were added or removed are added to or removed from the
+	 * TreeViewers and the resources whose files changed are refreshed, so the
+	 * selection is kept and the trees are not redrawn from scratch.
+	 */
+	private void updateTreeContent() {
+
+		// Local Declarations
+		Map<ICEResource, ResourcePropertySource> sources;
+		List<ResourcePropertySource> removedText, removedImages;
+		List<ResourcePropertySource> addedText, addedImages;
+
+		// Do a full update if nothing is shown yet
+		if (resourceComponent == null
+				|| (textList.isEmpty() && imageList.isEmpty())) {
+			sortTreeContent();
+			setTreeContent();
+			fileTreeViewer.refresh();
+			imageTreeViewer.refresh();
+			return;
+		}
+
+		// Map the resources that are shown to their sources
+		sources = new IdentityHashMap<ICEResource, ResourcePropertySource>();
+		for (ResourcePropertySource source : textList) {
+			sources.put((ICEResource) source.getWrappedData(), source);
+		}
+		for (ResourcePropertySource source : imageList) {
+			sources.put((ICEResource) source.getWrappedData(), source);
+		}
+
+		// Find the resources that were added and refresh those that changed
+		addedText = new ArrayList<ResourcePropertySource>();
+		addedImages = new ArrayList<ResourcePropertySource>();
+		for (ICEResource resource : resourceComponent.getResources()) {
+			ResourcePropertySource source = sources.remove(resource);
+			if (source == null) {
+				source = new ResourcePropertySource(resource);
+				if (resource.isPictureType()) {
+					addedImages.add(source);
+				} else {
+					addedText.add(source);
 				}
-			});
+			} else if (source.isModified()) {
+				(resource.isPictureType() ? imageTreeViewer : fileTreeViewer)
+						.refresh(source);
+			}
+		}
+
+		// Whatever is left over was removed
+		removedText = new ArrayList<ResourcePropertySource>();
+		removedImages = new ArrayList<ResourcePropertySource>();
+		for (ResourcePropertySource source : sources.values()) {
+			if (((ICEResource) source.getWrappedData()).isPictureType()) {
+				removedImages.add(source);
+			} else {
+				removedText.add(source);
+			}
+		}
+
+		// Apply the changes
+		applyTreeChanges(fileTreeViewer, textList, addedText, removedText);
+		applyTreeChanges(imageTreeViewer, imageList, addedImages,
+				removedImages);
+
+		return;
+	}
+
+	/**
+	 * This operation adds and removes resources from one of the TreeViewers
+	 * and the list that is its input.
+	 * 
+	 * @param viewer
+	 *            The TreeViewer
+	 * @param list
+	 *            The list that is the input of the TreeViewer
+	 * @param added
+	 *            The sources that should be added
+	 * @param removed
+	 *            The sources that should be removed
+	 */
+	private void applyTreeChanges(TreeViewer viewer,
+			List<ResourcePropertySource> list,
+			List<ResourcePropertySource> added,
+			List<ResourcePropertySource> removed) {
+
+		if (!removed.isEmpty()) {
+			// Stop playing if the resources that are played are removed
+			if (viewer == imageTreeViewer && playAction.isInPlayState()) {
+				playAction.stop();
+			}
+			list.removeAll(removed);
+			viewer.remove(removed.toArray());
+		}
+		if (!added.isEmpty()) {
+			list.addAll(added);
+			viewer.add(list, added.toArray());
 		}
 
 		return;
@@ -992,6 +1108,14 @@ public class ICEResourceView extends PlayableViewPart
 					new PropertyDescriptor(ID_DATE, "Date") };
 		}
 
+		/**
+		 * The modification date of the resource's file when the source was
+		 * created or last checked by {@link #isModified()}. It is compared to
+		 * the current date to decide whether the resource's tree item needs to
+		 * be refreshed.
+		 */
+		private String lastModificationDate;
+
 		/**
 		 * The constructor
 		 * 
@@ -1004,9 +1128,30 @@ public class ICEResourceView extends PlayableViewPart
 			// Just call the superclass constructor
 			super(obj);
 
+			// Remember the date that is shown
+			lastModificationDate = ((ICEResource) obj)
+					.getLastModificationDate();
+
 			return;
 		}
 
+		/**
+		 * This operation checks whether the file of the resource has been
+		 * modified since this operation was last called or the source was
+		 * created.
+		 * 
+		 * @return True if the modification date changed, false otherwise
+		 */
+		public boolean isModified() {
+			String date = ((ICEResource) getWrappedData())
+					.getLastModificationDate();
+			boolean modified = (date != null)
+					? !date.equals(lastModificationDate)
+					: lastModificationDate != null;
+			lastModificationDate = date;
+			return modified;
+		}
+
 		/**
 		 * This function returns the array of descriptors for properties.
 		 * 
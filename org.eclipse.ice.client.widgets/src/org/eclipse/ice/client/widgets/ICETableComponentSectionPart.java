@@ -14,6 +14,7 @@ package org.eclipse.ice.client.widgets;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.ice.datastructures.ICEObject.IUpdateable;
 import org.eclipse.ice.datastructures.ICEObject.IUpdateableListener;
@@ -26,8 +27,8 @@ import org.eclipse.jface.viewers.CellLabelProvider;
 import org.eclipse.jface.viewers.ColumnViewerToolTipSupport;
 import org.eclipse.jface.viewers.ComboBoxViewerCellEditor;
 import org.eclipse.jface.viewers.ICellModifier;
+import org.eclipse.jface.viewers.ILazyContentProvider;
 import org.eclipse.jface.viewers.ISelectionChangedListener;
-import org.eclipse.jface.viewers.IStructuredContentProvider;
 import org.eclipse.jface.viewers.LabelProvider;
 import org.eclipse.jface.viewers.SelectionChangedEvent;
 import org.eclipse.jface.viewers.TableViewer;
@@ -66,6 +67,9 @@ import org.slf4j.LoggerFactory;
  * class contains a private hashmap that is not represented in the model because
  * Jay can not figure out how to show a java.util.hashmap in RSA.
  * 
+ * The table is virtual, so the rows are only read from the TableComponent when
+ * they are scrolled into view.
+ * 
  * @author Jay Jay Billings
  */
 public class ICETableComponentSectionPart extends SectionPart
@@ -105,6 +109,12 @@ public class ICETableComponentSectionPart extends SectionPart
 	 */
 	private ICEFormEditor editor;
 
+	/**
+	 * True if an update has been requested but has not yet run on the UI
+	 * thread. Further updates are handled by that one.
+	 */
+	private final AtomicBoolean updatePending = new AtomicBoolean(false);
+
 	/**
 	 * Class used to pass information for the rows in TableComponent to
 	 * TableViewer
@@ -408,15 +418,8 @@ public class ICETableComponentSectionPart extends SectionPart
 					// Add a row to the tableComponent
 					tableComponent.addRow();
 
-					// Reset input for tableViewer
-					RowWrapper[] rows = new RowWrapper[tableComponent
-							.getRowIds().size()];
-					// add rows to list - using RowWrapper class
-					for (int i = 0; i < tableComponent.getRowIds().size(); i++) {
-						rows[i] = (new RowWrapper(tableComponent.getRow(i)));
-					}
-					// Reset the input
-					tableComponentViewer.setInput(rows);
+					// Update the rows in the tableViewer
+					syncTable();
 
 					// Make the editor dirty
 					editor.setDirty(true);
@@ -457,15 +460,8 @@ public class ICETableComponentSectionPart extends SectionPart
 					tableComponent.deleteRow(tableComponentViewer.getTable()
 							.getSelectionIndex());
 
-					// Reset input for tableViewer
-					RowWrapper[] rows = new RowWrapper[tableComponent
-							.getRowIds().size()];
-					// add rows to list - using RowWrapper class
-					for (int i = 0; i < tableComponent.getRowIds().size(); i++) {
-						rows[i] = (new RowWrapper(tableComponent.getRow(i)));
-					}
-					// Reset the input
-					tableComponentViewer.setInput(rows);
+					// Update the rows in the tableViewer
+					syncTable();
 
 					// Make the editor dirty
 					editor.setDirty(true);
@@ -503,8 +499,8 @@ public class ICETableComponentSectionPart extends SectionPart
 		}
 		// Allow for a border, horizontal scroll, vertical scroll, and
 		// full selection of the row. This style configuration is for the
-		// TableViewer.
-		int style = SWT.BORDER | SWT.H_SCROLL | SWT.V_SCROLL
+		// TableViewer. It is virtual so that only the visible rows are read.
+		int style = SWT.VIRTUAL | SWT.BORDER | SWT.H_SCROLL | SWT.V_SCROLL
 				| SWT.FULL_SELECTION;
 
 		// Initialize the tableViewer and set it up with the style
@@ -583,18 +579,10 @@ public class ICETableComponentSectionPart extends SectionPart
 		// set cell editors to TableViewer
 		attachCellModifiers();
 
-		// These rows will be used to wrap the arraylist of tableComponent
-		// entries
-		// into the RowWrapper class.
-		RowWrapper[] rows = new RowWrapper[tableComponent.getRowIds().size()];
-
-		// add rows to list - using RowWrapper class
-		for (int i = 0; i < tableComponent.getRowIds().size(); i++) {
-			rows[i] = (new RowWrapper(tableComponent.getRow(i)));
-		}
-
-		// Set the rows in TableViewer.
-		tableComponentViewer.setInput(rows);
+		// Set the TableComponent as the input. The content provider wraps its
+		// rows in RowWrappers when they are shown.
+		tableComponentViewer.setInput(tableComponent);
+		tableComponentViewer.setItemCount(tableComponent.numberOfRows());
 
 		// Set header and lines visible.
 		table.setHeaderVisible(true);
@@ -658,27 +646,27 @@ public class ICETableComponentSectionPart extends SectionPart
 			return;
 		}
 		// Override the functionality of the content provider. Only one method
-		// is implemented here. This is for marshalling objects into
-		// RowWrappers.
+		// is implemented here. This is for marshalling the rows that are shown
+		// into RowWrappers.
 		this.tableComponentViewer
-				.setContentProvider(new IStructuredContentProvider() {
+				.setContentProvider(new ILazyContentProvider() {
 
 					@Override
 					public void dispose() {
-						// TODO Auto-generated method stub
+						// Nothing to do
 					}
 
 					@Override
 					public void inputChanged(Viewer arg0, Object arg1,
 							Object arg2) {
-						// TODO Auto-generated method stub
+						// Nothing to do
 					}
 
 					@Override
-					public Object[] getElements(Object element) {
-
-						// Return the list of rowWrapper elements from an Object
-						return (RowWrapper[]) element;
+					public void updateElement(int index) {
+						tableComponentViewer.replace(
+								new RowWrapper(tableComponent.getRow(index)),
+								index);
 					}
 				});
 
@@ -777,8 +765,8 @@ public class ICETableComponentSectionPart extends SectionPart
 				// needed
 				item.setText(row.getRowWrapper().get(counter).getValue());
 
-				// Refresh changes in the table
-				tableComponentViewer.refresh();
+				// Redraw the row that changed
+				tableComponentViewer.update(row, null);
 			}
 		});
 
@@ -808,71 +796,60 @@ public class ICETableComponentSectionPart extends SectionPart
 	@Override
 	public void update(IUpdateable component) {
 
-		// Updating the view since the underlying data has changed
+		// Updating the view since the underlying data has changed. Only one
+		// update is queued at a time.
+		if (!updatePending.compareAndSet(false, true)) {
+			return;
+		}
 
 		// We must use the UI Thread
 		PlatformUI.getWorkbench().getDisplay().asyncExec(new Runnable() {
 			@Override
 			public void run() {
+				updatePending.set(false);
+				if (tableComponentViewer == null
+						|| tableComponentViewer.getTable().isDisposed()) {
+					return;
+				}
+
 				// Update the name and description of the SectionPart
 				getSection().setText(tableComponent.getName());
 				getSection().setDescription(tableComponent.getDescription());
 
-				// Get the old data content
-				RowWrapper[] rows = (RowWrapper[]) tableComponentViewer
-						.getInput();
-
-				// Compare the rows to make sure they are the same
-				boolean rowStatus = true;
-				if (rows.length == tableComponent.numberOfRows()) {
-					for (int j = 0; j < rows.length; j++) {
-						List<IEntry> rowList = rows[j].list;
-
-						// If the number of entries are not the same, needs to
-						// be fixed.
-						if (rowList.size() != tableComponent.getRow(j).size()) {
-							rowStatus = false;
-							break;
-						}
-
-						// Check the entries
-						for (int k = 0; k < rowList.size(); k++) {
-							// If the entries are not equal, refresh
-							if (rowList.get(k)
-									.equals(tableComponent.getRow(j).get(k))) {
-								rowStatus = false;
-								break;
-							}
-						}
-					}
-				}
-
-				// If the row length is different from the tablecomponent,
-				// then we must update the tableViewer content
-				if (rows.length != tableComponent.numberOfRows()
-						|| !rowStatus) {
-					// Reset input for tableViewer
-					RowWrapper[] rowWrappers = new RowWrapper[tableComponent
-							.getRowIds().size()];
-					// add rows to list - using RowWrapper class
-					for (int i = 0; i < rowWrappers.length; i++) {
-						rowWrappers[i] = (new RowWrapper(tableComponent
-								.getRow(i)));
-					}
-
-					// Reset the input and re-pack the table.
-					tableComponentViewer.setInput(rowWrappers);
+				// Update the rows. The columns are re-packed if rows were
+				// added or removed.
+				if (syncTable()) {
 					packTableColumns();
 
 					// Mark stale to get a refresh
 					markStale();
 				}
-
 			}
 		});
 
 	}
 
+	/**
+	 * This operation makes the {@link #tableComponentViewer} match the
+	 * TableComponent. The number of rows is updated and the visible rows are
+	 * read again.
+	 * 
+	 * @return True if the number of rows changed, false otherwise
+	 */
+	private boolean syncTable() {
+
+		// Update the number of rows
+		int numRows = tableComponent.numberOfRows();
+		boolean changed = (numRows != tableComponentViewer.getTable()
+				.getItemCount());
+		tableComponentViewer.setItemCount(numRows);
+
+		// Read the visible rows again
+		tableComponentViewer.refresh();
+
+		return changed;
+	}
+
 	/**
 	 * Packs all columns in the {@link #tableComponentViewer}. This can be used
 	 * to resize each column to fit the maximum width of its content.
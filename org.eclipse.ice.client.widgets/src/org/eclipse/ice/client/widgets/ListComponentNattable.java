@@ -11,7 +11,9 @@
  *******************************************************************************/
 package org.eclipse.ice.client.widgets;
 
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.Locale;
 
 import org.eclipse.ice.datastructures.ICEObject.ListComponent;
 import org.eclipse.jface.viewers.ISelectionChangedListener;
@@ -44,15 +46,27 @@ import org.eclipse.nebula.widgets.nattable.layer.ILayer;
 import org.eclipse.nebula.widgets.nattable.layer.cell.ColumnLabelAccumulator;
 import org.eclipse.nebula.widgets.nattable.selection.RowSelectionProvider;
 import org.eclipse.nebula.widgets.nattable.selection.SelectionLayer;
+import org.eclipse.nebula.widgets.nattable.ui.action.IMouseAction;
+import org.eclipse.nebula.widgets.nattable.ui.matcher.MouseEventMatcher;
 import org.eclipse.nebula.widgets.nattable.viewport.ViewportLayer;
 import org.eclipse.swt.SWT;
+import org.eclipse.swt.events.DisposeEvent;
+import org.eclipse.swt.events.DisposeListener;
+import org.eclipse.swt.events.MouseEvent;
 import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.layout.GridData;
 import org.eclipse.swt.widgets.Composite;
 
+import ca.odell.glazedlists.matchers.Matcher;
+
 /**
  * Displays the information contained in a ListComponent as a Nattable.
  * 
+ * The table shows the ListComponent through a {@link BackgroundSortFilterList},
+ * so it can be sorted and filtered without blocking the UI thread. Clicking a
+ * column header while holding the Alt key sorts the table by that column.
+ * NatTable only reads the cells of the visible rows, so only those are
+ * converted through the ListComponent's table format.
  * 
  * @author Jay Jay Billings, Kasper Gammeltoft
  * 
@@ -71,6 +85,24 @@ public class ListComponentNattable {
 	 */
 	private ListComponent list;
 
+	/**
+	 * The sorted and filtered view of the {@link #list} that is shown in the
+	 * table.
+	 */
+	private BackgroundSortFilterList<Object> displayList;
+
+	/**
+	 * The index of the column by which the table is sorted or -1 if it is not
+	 * sorted by a column.
+	 */
+	private int sortColumn = -1;
+
+	/**
+	 * True if the table is sorted in ascending order, false if it is sorted in
+	 * descending order.
+	 */
+	private boolean sortAscending = true;
+
 	/**
 	 * Holds the selected list components.
 	 */
@@ -174,12 +206,15 @@ public class ListComponentNattable {
 	 */
 	private void createTable() {
 
-		// Create the data layer of the table
+		// Create the data layer of the table. It shows a view of the list
+		// that is sorted and filtered in the background.
 		accessor = new ListComponentColumnPropertyAccessor(list);
-		IDataProvider dataProvider = new ListDataProvider(list, accessor);
+		displayList = new BackgroundSortFilterList<Object>(list);
+		IDataProvider dataProvider = new ListDataProvider(displayList,
+				accessor);
 		DataLayer dataLayer = new DataLayer(dataProvider);
 		GlazedListsEventLayer eventLayer = new GlazedListsEventLayer(dataLayer,
-				list);
+				displayList);
 
 		// If the table's columns and rows should autoresize their widths to
 		// fill the parent Composite.
@@ -254,6 +289,28 @@ public class ListComponentNattable {
 		natTable.setLayoutData(
 				new GridData(SWT.FILL, SWT.FILL, true, false, 1, 1));
 
+		// Sort by a column when its header is clicked with the Alt key held
+		natTable.getUiBindingRegistry().registerSingleClickBinding(
+				MouseEventMatcher.columnHeaderLeftClick(SWT.ALT),
+				new IMouseAction() {
+					@Override
+					public void run(NatTable natTable, MouseEvent event) {
+						int column = natTable.getColumnIndexByPosition(
+								natTable.getColumnPositionByX(event.x));
+						if (column >= 0) {
+							toggleSort(column);
+						}
+					}
+				});
+
+		// Stop listening to the list when the table is disposed
+		natTable.addDisposeListener(new DisposeListener() {
+			@Override
+			public void widgetDisposed(DisposeEvent e) {
+				displayList.dispose();
+			}
+		});
+
 		// Setting table instance variable
 		table = natTable;
 
@@ -282,6 +339,111 @@ public class ListComponentNattable {
 		return;
 	}
 
+	/**
+	 * This operation sorts the table by a column. Sorting a column again
+	 * reverses the order and sorting it a third time restores the order of the
+	 * list.
+	 * 
+	 * @param column
+	 *            The index of the column
+	 */
+	private void toggleSort(int column) {
+		if (column != sortColumn) {
+			sortByColumn(column, true);
+		} else if (sortAscending) {
+			sortByColumn(column, false);
+		} else {
+			sortByColumn(-1, true);
+		}
+	}
+
+	/**
+	 * This operation sorts the table by the values in a column. Values that
+	 * are Comparable with each other are compared directly and other values
+	 * are compared by their String representations. The sort is done in the
+	 * background and the list itself is not changed.
+	 * 
+	 * @param column
+	 *            The index of the column or -1 to show the list in its own
+	 *            order
+	 * @param ascending
+	 *            True if the rows should be sorted in ascending order, false
+	 *            for descending order
+	 */
+	public void sortByColumn(final int column, final boolean ascending) {
+
+		sortColumn = column;
+		sortAscending = ascending;
+
+		// Clear the sort if there is no column
+		if (column < 0) {
+			displayList.setComparator(null);
+			return;
+		}
+
+		// Otherwise sort by the column values
+		displayList.setComparator(new Comparator<Object>() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public int compare(Object first, Object second) {
+				Object firstValue = accessor.getDataValue(first, column);
+				Object secondValue = accessor.getDataValue(second, column);
+				int result;
+				if (firstValue == null || secondValue == null) {
+					result = (firstValue == null)
+							? ((secondValue == null) ? 0 : -1) : 1;
+				} else if (firstValue instanceof Comparable && firstValue
+						.getClass().isInstance(secondValue)) {
+					result = ((Comparable<Object>) firstValue)
+							.compareTo(secondValue);
+				} else {
+					result = firstValue.toString()
+							.compareTo(secondValue.toString());
+				}
+				return ascending ? result : -result;
+			}
+		});
+
+		return;
+	}
+
+	/**
+	 * This operation filters the table so that it only shows the rows with a
+	 * column value that contains the text, ignoring case. The filtering is
+	 * done in the background and the list itself is not changed.
+	 * 
+	 * @param text
+	 *            The text to look for or null or an empty String to show all
+	 *            of the rows
+	 */
+	public void setFilterText(String text) {
+
+		// Show everything if there is no text
+		if (text == null || text.isEmpty()) {
+			displayList.setMatcher(null);
+			return;
+		}
+
+		// Otherwise match the rows with a column that contains the text
+		final String filterText = text.toLowerCase(Locale.ENGLISH);
+		final int columnCount = accessor.getColumnCount();
+		displayList.setMatcher(new Matcher<Object>() {
+			@Override
+			public boolean matches(Object item) {
+				for (int i = 0; i < columnCount; i++) {
+					Object value = accessor.getDataValue(item, i);
+					if (value != null && value.toString()
+							.toLowerCase(Locale.ENGLISH).contains(filterText)) {
+						return true;
+					}
+				}
+				return false;
+			}
+		});
+
+		return;
+	}
+
 	/**
 	 * Gets the currently selected elements.
 	 * 
@@ -118,4 +118,32 @@ public class StringEntryComposite extends AbstractEntryComposite {
 		
 		setLayout(layout);
 	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.eclipse.ice.client.widgets.AbstractEntryComposite#updateWidgets()
+	 */
+	@Override
+	protected boolean updateWidgets() {
+
+		// The Text can be reused unless it has to switch to or from a password
+		// field
+		if (label == null || label.isDisposed() || !(widget instanceof Text)
+				|| widget.isDisposed() || ((widget.getStyle()
+						& SWT.PASSWORD) != 0) != entry.isSecret()) {
+			return false;
+		}
+
+		// Only reset the text if it changed so that the cursor does not jump
+		updateLabel();
+		Text text = (Text) widget;
+		text.setToolTipText(entry.getDescription());
+		if (!text.getText().equals(entry.getValue())) {
+			text.setText(entry.getValue());
+		}
+
+		return true;
+	}
 }
@@ -152,18 +152,11 @@ public class TreeCompositeContentProvider implements ILazyTreeContentProvider {
 				TreeComposite child = children.get(index);
 				treeViewer.replace(parent, index, child);
 
-				// Update the child's count if possible. Data nodes have no
-				// children, but TreeComposites can have multiple children.
-				int childCount = 0;
-				TreeComposite childTree = child;
-
-				// Get the number of children of the updated child.
-				childCount = childTree.getNumberOfChildren();
-
-				// Check the child TreeComposite if it is "active".
-
-				// Update the number of children for the child element.
-				treeViewer.setChildCount(child, childCount);
+				// Update the number of children for the child element. Only
+				// the count is needed, so the child is not loaded until it is
+				// expanded.
+				treeViewer.setChildCount(child,
+						treeCompositeViewer.getChildCount(child));
 			}
 		}
 
@@ -187,8 +180,8 @@ public class TreeCompositeContentProvider implements ILazyTreeContentProvider {
 		// TreeComposites have a set of data nodes (just Components) and child
 		// TreeComposites.
 		if (element instanceof TreeComposite) {
-			childCount = treeCompositeViewer.loadTree((TreeComposite) element)
-					.size();
+			childCount = treeCompositeViewer
+					.getChildCount((TreeComposite) element);
 		}
 		// If the child count has changed, we need to update the tree viewer's
 		// child count for the tree element.
@@ -13,8 +13,10 @@
 package org.eclipse.ice.client.widgets;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 
 import org.eclipse.ice.client.common.TreeCompositeLabelProvider;
 import org.eclipse.ice.datastructures.ICEObject.Component;
@@ -30,6 +32,7 @@ import org.eclipse.jface.action.IToolBarManager;
 import org.eclipse.jface.action.MenuManager;
 import org.eclipse.jface.action.Separator;
 import org.eclipse.jface.dialogs.MessageDialog;
+import org.eclipse.jface.viewers.IElementComparer;
 import org.eclipse.jface.viewers.ISelection;
 import org.eclipse.jface.viewers.IStructuredSelection;
 import org.eclipse.jface.viewers.TreeViewer;
@@ -54,10 +57,10 @@ import org.slf4j.LoggerFactory;
  * This class provides an Eclipse view showing the list of Items that have been
  * created and made available in the Core.
  * 
- * This class uses a private, recursive tree walking operation (mapParents) to
- * create map where the keys are the data nodes and the values are their
- * TreeComposite parents since it cannot directly mark regular components as
- * active.
+ * The TreeViewer is virtual and the children of a TreeComposite are only
+ * loaded, and recorded in the {@link #parentMap} and {@link #childMap}, when
+ * the viewer asks for them. Updates from the TreeComposite are collected and
+ * applied on the UI thread to the affected elements only.
  * 
  * @author Jay Jay Billings, Jordan H. Deyton
  * 
@@ -125,6 +128,13 @@ public class TreeCompositeViewer extends ViewPart
 	 */
 	protected final IdentityHashMap<TreeComposite, List<TreeComposite>> childMap;
 
+	/**
+	 * The TreeComposites that have posted updates which have not yet been
+	 * applied to the TreeViewer. It is shared with the notifying threads, so
+	 * it must be synchronized on.
+	 */
+	private final Set<TreeComposite> pendingUpdates;
+
 	/**
 	 * The default constructor.
 	 */
@@ -141,6 +151,8 @@ public class TreeCompositeViewer extends ViewPart
 		// Initialize the meta data containers.
 		parentMap = new IdentityHashMap<Component, TreeComposite>();
 		childMap = new IdentityHashMap<TreeComposite, List<TreeComposite>>();
+		pendingUpdates = Collections.newSetFromMap(
+				new IdentityHashMap<TreeComposite, Boolean>());
 	}
 
 	/**
@@ -395,6 +407,7 @@ public class TreeCompositeViewer extends ViewPart
 							| SWT.FULL_SELECTION | SWT.BORDER);
 
 			// Set and configure the content and label providers
+			configureLookup(treeViewer);
 			treeViewer.setContentProvider(
 					new TreeCompositeContentProvider(this, parentMap));
 			treeViewer.setLabelProvider(new TreeCompositeLabelProvider());
@@ -403,6 +416,31 @@ public class TreeCompositeViewer extends ViewPart
 		return treeViewer;
 	}
 
+	/**
+	 * This operation configures a TreeViewer to find its items with a hash
+	 * table keyed by the identity of the TreeComposites. This keeps updates to
+	 * single elements fast in large trees. Identity is used because
+	 * TreeComposite.equals() compares whole subtrees, so equal siblings would
+	 * otherwise be confused. It must be called before the input is set.
+	 * 
+	 * @param viewer
+	 *            The TreeViewer to configure
+	 */
+	protected void configureLookup(TreeViewer viewer) {
+		viewer.setComparer(new IElementComparer() {
+			@Override
+			public boolean equals(Object a, Object b) {
+				return a == b;
+			}
+
+			@Override
+			public int hashCode(Object element) {
+				return System.identityHashCode(element);
+			}
+		});
+		viewer.setUseHashlookup(true);
+	}
+
 	/**
 	 * This operation populates the context menu for this view.
 	 * 
@@ -455,14 +493,18 @@ public class TreeCompositeViewer extends ViewPart
 
 		if (tree != inputTree) {
 			// Unregister from the old root TreeComposite, if possible.
-			if (tree != null) {
-				tree.unregister(this);
+			if (inputTree != null) {
+				inputTree.unregister(this);
 			}
 			// Set the reference to the new root TreeComposite.
 			inputTree = tree;
 
-			// Clear the old meta data (parent and child maps).
+			// Clear the old meta data (parent and child maps) and any updates
+			// from the old tree.
 			clearMetaData();
+			synchronized (pendingUpdates) {
+				pendingUpdates.clear();
+			}
 
 			if (inputTree != null) {
 				// Load the root element. This also builds the meta data
@@ -482,7 +524,9 @@ public class TreeCompositeViewer extends ViewPart
 			}
 
 			// Set the name of the view
-			setPartName(inputTree.getName() + " -- Tree View");
+			if (inputTree != null) {
+				setPartName(inputTree.getName() + " -- Tree View");
+			}
 		}
 
 		// Set the reference to the source of the input tree. It may need to be
@@ -515,6 +559,11 @@ public class TreeCompositeViewer extends ViewPart
 		// Perform the usual dispose operation.
 		super.dispose();
 
+		// Stop listening to the tree.
+		if (inputTree != null) {
+			inputTree.unregister(this);
+		}
+
 		// Dispose of the meta data structures.
 		clearMetaData();
 	}
@@ -522,7 +571,8 @@ public class TreeCompositeViewer extends ViewPart
 	/**
 	 * This methods loads a TreeComposite and all meta data associated with it.
 	 * This includes caching the links between the tree and its children in both
-	 * {@link #parentMap} and {@link #childMap}.
+	 * {@link #parentMap} and {@link #childMap}. The children are only read from
+	 * the tree the first time it is loaded or after it has changed.
 	 * 
 	 * @param tree
 	 *            The TreeComposite that is getting UI resources allocated.
@@ -534,34 +584,135 @@ public class TreeCompositeViewer extends ViewPart
 		// Get the list of the TreeComposite's children.
 		List<TreeComposite> children = childMap.get(tree);
 
-		// Get the number of children we expect to have.
-		int childCount = tree.getNumberOfChildren();
-
-		// The list will be null if the tree has never been loaded before. We
-		// should create the list.
+		// The list will be null if the tree has never been loaded before or if
+		// it has changed since. We should create the list.
 		if (children == null) {
-			children = new ArrayList<TreeComposite>(childCount);
+			children = getVisibleChildren(tree);
 			childMap.put(tree, children);
+			for (TreeComposite child : children) {
+				parentMap.put(child, tree);
+			}
 		}
 
-		// Fill out the list of children if necessary.
-		if (children.size() != childCount) {
-			// Reset the list of children.
-			children.clear();
+		return children;
+	}
 
-			// Add all non-default child components to the list.
-			for (int i = 0; i < childCount; i++) {
-				TreeComposite child = tree.getChildAtIndex(i);
-				if (!("ICE Object".equals(child.getName()))) {
-					children.add(child);
-					parentMap.put(child, tree);
-				}
+	/**
+	 * This operation returns the number of children of a TreeComposite that
+	 * are shown in the tree without loading the TreeComposite.
+	 * 
+	 * @param tree
+	 *            The TreeComposite
+	 * @return The number of children that are shown for the tree
+	 */
+	protected int getChildCount(TreeComposite tree) {
+
+		// Use the loaded children if possible
+		List<TreeComposite> children = childMap.get(tree);
+		if (children != null) {
+			return children.size();
+		}
+
+		// Otherwise count the children that have been set up
+		int count = 0;
+		int childCount = tree.getNumberOfChildren();
+		for (int i = 0; i < childCount; i++) {
+			if (!("ICE Object".equals(tree.getChildAtIndex(i).getName()))) {
+				count++;
+			}
+		}
+
+		return count;
+	}
+
+	/**
+	 * This operation reads the children of a TreeComposite that are shown in
+	 * the tree. Children that have not been set up (their name is still the
+	 * default, <code>"ICE Object"</code>) are not included.
+	 * 
+	 * @param tree
+	 *            The TreeComposite
+	 * @return The list of children that are shown for the tree
+	 */
+	private List<TreeComposite> getVisibleChildren(TreeComposite tree) {
+
+		// Local Declarations
+		int childCount = tree.getNumberOfChildren();
+		List<TreeComposite> children = new ArrayList<TreeComposite>(
+				childCount);
+
+		// Add all non-default child components to the list.
+		for (int i = 0; i < childCount; i++) {
+			TreeComposite child = tree.getChildAtIndex(i);
+			if (!("ICE Object".equals(child.getName()))) {
+				children.add(child);
 			}
 		}
 
 		return children;
 	}
 
+	/**
+	 * This operation drops the meta data of a TreeComposite that is no longer
+	 * shown in the tree and, recursively, of its loaded children.
+	 * 
+	 * @param tree
+	 *            The TreeComposite that was removed from the tree
+	 */
+	private void unloadTree(TreeComposite tree) {
+
+		parentMap.remove(tree);
+		List<TreeComposite> children = childMap.remove(tree);
+		if (children != null) {
+			for (TreeComposite child : children) {
+				unloadTree(child);
+			}
+		}
+
+		return;
+	}
+
+	/**
+	 * This operation reloads the children of a loaded TreeComposite if they
+	 * have changed. The meta data of children that were removed is dropped.
+	 * 
+	 * @param tree
+	 *            The loaded TreeComposite
+	 * @return True if the children changed, false otherwise
+	 */
+	private boolean reloadTree(TreeComposite tree) {
+
+		// Local Declarations
+		List<TreeComposite> oldChildren = childMap.get(tree);
+		List<TreeComposite> newChildren = getVisibleChildren(tree);
+		boolean changed = (oldChildren.size() != newChildren.size());
+
+		// Compare by reference since TreeComposite.equals() compares the
+		// whole subtree
+		for (int i = 0; !changed && i < newChildren.size(); i++) {
+			changed = (oldChildren.get(i) != newChildren.get(i));
+		}
+
+		if (changed) {
+			// Drop the meta data of the removed children
+			Set<TreeComposite> remaining = Collections.newSetFromMap(
+					new IdentityHashMap<TreeComposite, Boolean>());
+			remaining.addAll(newChildren);
+			for (TreeComposite child : oldChildren) {
+				if (!remaining.contains(child)) {
+					unloadTree(child);
+				}
+			}
+			// Store the new children
+			childMap.put(tree, newChildren);
+			for (TreeComposite child : newChildren) {
+				parentMap.put(child, tree);
+			}
+		}
+
+		return changed;
+	}
+
 	/**
 	 * Clears the meta data used to speed up synchronization between the model
 	 * (a TreeComposite) and the view (a TreeViewer). This includes resetting
@@ -583,7 +734,9 @@ public class TreeCompositeViewer extends ViewPart
 	/**
 	 * This method is only called by TreeComposites and their child data nodes
 	 * (Components). It updates the TreeViewer specifically for the updated
-	 * element rather than, say, refreshing the entire tree.
+	 * element rather than, say, refreshing the entire tree. Updates are
+	 * collected and applied together on the UI thread, so a TreeComposite that
+	 * changes many times in a row is only refreshed once.
 	 * 
 	 * @param component
 	 *            The component (a TreeComposite or Component) that has been
@@ -592,22 +745,66 @@ public class TreeCompositeViewer extends ViewPart
 	@Override
 	public void update(IUpdateable component) {
 
-		// Only proceed if the component is one of the TreeComposites with
-		// allocated UI resources or if it is a child of a displayed
-		// TreeComposite.
-		if (childMap.containsKey(component)
-				|| parentMap.containsKey(component)) {
-			// Create a final reference to the object that can be used in the
-			// UI thread.
-			final Object element = component;
-			PlatformUI.getWorkbench().getDisplay().asyncExec(new Runnable() {
-				@Override
-				public void run() {
-					// To be used when a particular TreeComposite has added or
-					// removed children.
-					treeViewer.refresh(element);
+		// Data nodes are not shown in the tree, so only TreeComposites are
+		// handled.
+		if (component instanceof TreeComposite) {
+			boolean schedule;
+			synchronized (pendingUpdates) {
+				schedule = pendingUpdates.isEmpty();
+				pendingUpdates.add((TreeComposite) component);
+			}
+			// Apply the updates on the UI thread if they are not already
+			// scheduled.
+			if (schedule) {
+				PlatformUI.getWorkbench().getDisplay()
+						.asyncExec(new Runnable() {
+							@Override
+							public void run() {
+								applyUpdates();
+							}
+						});
+			}
+		}
+
+		return;
+	}
+
+	/**
+	 * This operation applies the pending updates to the TreeViewer. Only
+	 * TreeComposites that have been loaded or are shown as a child of a loaded
+	 * TreeComposite are refreshed. It must be called on the UI thread.
+	 */
+	private void applyUpdates() {
+
+		// Local Declarations
+		List<TreeComposite> updatedTrees;
+
+		// Take the pending updates
+		synchronized (pendingUpdates) {
+			updatedTrees = new ArrayList<TreeComposite>(pendingUpdates);
+			pendingUpdates.clear();
+		}
+
+		// Make sure the TreeViewer is still around.
+		if (treeViewer == null || treeViewer.getTree().isDisposed()) {
+			return;
+		}
+
+		for (TreeComposite tree : updatedTrees) {
+			if (childMap.containsKey(tree)) {
+				// Loaded trees are only refreshed structurally if their
+				// children changed.
+				if (reloadTree(tree)) {
+					treeViewer.refresh(tree);
+				} else {
+					treeViewer.update(tree, null);
 				}
-			});
+			} else if (parentMap.containsKey(tree)) {
+				// Trees that have not been expanded only need their label and
+				// number of children updated.
+				treeViewer.update(tree, null);
+				treeViewer.setChildCount(tree, getChildCount(tree));
+			}
 		}
 
 		return;
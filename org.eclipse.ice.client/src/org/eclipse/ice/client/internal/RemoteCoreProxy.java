@@ -12,11 +12,20 @@
  *******************************************************************************/
 package org.eclipse.ice.client.internal;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response.Status;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
@@ -24,6 +33,7 @@ import org.eclipse.ice.core.iCore.ICore;
 import org.eclipse.ice.datastructures.ICEObject.ICEList;
 import org.eclipse.ice.datastructures.ICEObject.Identifiable;
 import org.eclipse.ice.datastructures.form.Form;
+import org.eclipse.ice.datastructures.form.FormDelta;
 import org.eclipse.ice.datastructures.form.FormStatus;
 import org.eclipse.ice.item.ICompositeItemBuilder;
 import org.eclipse.ice.item.ItemBuilder;
@@ -31,7 +41,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.sun.jersey.api.client.Client;
+import com.sun.jersey.api.client.ClientHandlerException;
+import com.sun.jersey.api.client.ClientResponse;
 import com.sun.jersey.api.client.WebResource;
+import com.sun.jersey.api.client.filter.GZIPContentEncodingFilter;
 import com.sun.jersey.api.client.filter.HTTPBasicAuthFilter;
 
 /**
@@ -56,6 +69,15 @@ import com.sun.jersey.api.client.filter.HTTPBasicAuthFilter;
  * <p>
  * The exact mechanism by which the HTTPS connection is made and utilized is not
  * modeled here. It is sufficient to say that ICE 2.0 uses the Jersey Client.
+ * All proxies share one Client so that its persistent HTTP connections are
+ * reused between requests and between proxies, and the Client compresses
+ * requests and accepts compressed responses with gzip.
+ * </p>
+ * <p>
+ * Forms retrieved with getItem() are cached along with the entity tags that
+ * the server sent with them. The tag is sent back with the next request for
+ * the same Item and, if the Item has not changed, the server does not send
+ * the Form again and a copy of the cached Form is returned instead.
  * </p>
  * 
  * @author Jay Jay Billings
@@ -102,9 +124,63 @@ public class RemoteCoreProxy implements ICore {
 	/** ----- Objects for using the Jersey client ----- **/
 
 	/**
-	 * The Jersey Client that connects to the server.
+	 * The Jersey Client that connects to the server. It is shared by all of
+	 * the proxies because it is thread-safe and keeps the HTTP connections
+	 * alive between requests. Credentials are added to the base resource of
+	 * each proxy instead of to the Client.
+	 */
+	private static final Client client = createClient();
+
+	/**
+	 * The filter that sets the authentication credentials or null if the
+	 * proxy connects without authentication.
+	 */
+	private HTTPBasicAuthFilter authFilter = null;
+
+	/**
+	 * The JAXB context used to read cached Forms. It is created when the
+	 * first Form is read.
+	 */
+	private static JAXBContext formContext = null;
+
+	/**
+	 * The Forms that were retrieved from the server, keyed by Item id. The
+	 * XML of a Form is stored with its entity tag so that both are always
+	 * read and replaced together.
 	 */
-	private Client client = null;
+	private final Map<Integer, CachedForm> cachedForms = new ConcurrentHashMap<>();
+
+	/**
+	 * This class holds the XML of a Form that was retrieved from the server
+	 * and the entity tag that the server sent with it. The XML is stored
+	 * instead of the Form so that every request gets its own Form, read the
+	 * same way as a Form sent by the server.
+	 */
+	private static class CachedForm {
+
+		/**
+		 * The XML of the Form
+		 */
+		private final byte[] xml;
+
+		/**
+		 * The entity tag of the Form
+		 */
+		private final EntityTag tag;
+
+		/**
+		 * The constructor.
+		 * 
+		 * @param xml
+		 *            The XML of the Form
+		 * @param tag
+		 *            The entity tag of the Form
+		 */
+		private CachedForm(byte[] xml, EntityTag tag) {
+			this.xml = xml;
+			this.tag = tag;
+		}
+	}
 
 	/**
 	 * A web resource that is configured as "base" from which other resources
@@ -121,10 +197,21 @@ public class RemoteCoreProxy implements ICore {
 	 * 
 	 */
 	public RemoteCoreProxy() {
+	}
 
-		// Create the client
-		client = new Client();
+	/**
+	 * This operation creates the Jersey Client that is shared by all proxies.
+	 * 
+	 * @return The Client
+	 */
+	private static Client createClient() {
 
+		// Create the client and let it compress requests and decompress
+		// responses
+		Client newClient = Client.create();
+		newClient.addFilter(new GZIPContentEncodingFilter(true));
+
+		return newClient;
 	}
 
 	/**
@@ -215,11 +302,9 @@ public class RemoteCoreProxy implements ICore {
 	 */
 	public String connect(String username, String password) {
 
-		// Create a filter for the client that sets the authentication
-		// credentials
-		final HTTPBasicAuthFilter authFilter = new HTTPBasicAuthFilter(username,
-				password);
-		client.addFilter(authFilter);
+		// Create a filter that sets the authentication credentials. It is
+		// added to the base resource when it is created.
+		authFilter = new HTTPBasicAuthFilter(username, password);
 
 		// Connect as usual
 		return connect();
@@ -236,6 +321,9 @@ public class RemoteCoreProxy implements ICore {
 		// Only load the resource if the hostname is valid
 		if (host != null) {
 			baseResource = client.resource(host + ":" + serverPort + "/ice");
+			if (authFilter != null) {
+				baseResource.addFilter(authFilter);
+			}
 		} else {
 			return "-1";
 		}
@@ -356,21 +444,80 @@ public class RemoteCoreProxy implements ICore {
 		// Local Declarations
 		Form itemForm = null;
 		WebResource resource = null;
+		ClientResponse response = null;
 		String id = String.valueOf(itemId);
 
 		// Only load the resource if the hostname is valid
 		if (host != null) {
 			resource = baseResource.path("/items/" + id);
 
-			// Get the available ItemTypes
-			itemForm = resource.accept(MediaType.APPLICATION_XML)
-					.header("X-FOO", "BAR").get(Form.class);
-
+			// Send the tag of the cached Form, if any, so that the server
+			// only sends the Form if it changed. The cached Form is only read
+			// once because another thread may replace or remove it.
+			WebResource.Builder builder = resource
+					.accept(MediaType.APPLICATION_XML).header("X-FOO", "BAR");
+			CachedForm cached = cachedForms.get(itemId);
+			if (cached != null) {
+				builder.header(HttpHeaders.IF_NONE_MATCH, cached.tag);
+			}
+
+			// Get the Form
+			response = builder.get(ClientResponse.class);
+			try {
+				if (response.getStatus() == Status.NOT_MODIFIED.getStatusCode()
+						&& cached != null) {
+					itemForm = readForm(cached.xml);
+				} else if (response.getStatus() == Status.OK.getStatusCode()) {
+					byte[] xml = response.getEntity(byte[].class);
+					itemForm = readForm(xml);
+					cacheForm(itemId, itemForm != null ? xml : null,
+							response.getEntityTag());
+				}
+			} finally {
+				// Closing the response returns the connection to the pool
+				response.close();
+			}
 		}
 
 		return itemForm;
 	}
 
+	/**
+	 * (non-Javadoc)
+	 * 
+	 * @see ICore#getItemRevision(int itemId)
+	 */
+	@Override
+	public long getItemRevision(int itemId) {
+
+		// Local Declarations
+		long revision = -1;
+		ClientResponse response = null;
+
+		// Only ask if the hostname is valid
+		if (host != null) {
+			WebResource resource = baseResource
+					.path("/items/" + itemId + "/revision");
+			try {
+				response = resource.accept(MediaType.TEXT_PLAIN)
+						.header("X-FOO", "BAR").get(ClientResponse.class);
+				if (response.getStatus() == Status.OK.getStatusCode()) {
+					revision = Long
+							.parseLong(response.getEntity(String.class));
+				}
+			} catch (ClientHandlerException | IllegalArgumentException e) {
+				logger.error(getClass().getName() + " Exception!", e);
+			} finally {
+				// Closing the response returns the connection to the pool
+				if (response != null) {
+					response.close();
+				}
+			}
+		}
+
+		return revision;
+	}
+
 	/**
 	 * (non-Javadoc)
 	 * 
@@ -403,8 +550,124 @@ public class RemoteCoreProxy implements ICore {
 	 */
 	@Override
 	public FormStatus updateItem(Form form, int uniqueClientId) {
-		// TODO Auto-generated method stub
-		return null;
+
+		// Only post the Form if the hostname is valid
+		if (host != null && form != null) {
+			return postUpdate(form.getItemID(), "/items/" + form.getItemID(),
+					form, uniqueClientId);
+		}
+
+		return FormStatus.InfoError;
+	}
+
+	/**
+	 * (non-Javadoc)
+	 * 
+	 * @see ICore#updateItem(FormDelta delta, int uniqueClientId)
+	 */
+	@Override
+	public FormStatus updateItem(FormDelta delta, int uniqueClientId) {
+
+		// Only post the delta if the hostname is valid. The server responds
+		// with 409 (Conflict) if the delta is out of date, which is reported
+		// as FormStatus.InfoError like any other rejection.
+		if (host != null && delta != null) {
+			return postUpdate(delta.getItemID(),
+					"/items/" + delta.getItemID() + "/delta", delta,
+					uniqueClientId);
+		}
+
+		return FormStatus.InfoError;
+	}
+
+	/**
+	 * This operation posts a Form or FormDelta to the server and returns the
+	 * status of the Item that the server sends back.
+	 * 
+	 * @param itemId
+	 *            The id of the Item that is updated
+	 * @param path
+	 *            The path of the resource that accepts the update
+	 * @param update
+	 *            The Form or FormDelta
+	 * @param uniqueClientId
+	 *            The unique client id of this proxy
+	 * @return The status of the Item or FormStatus.InfoError if the update
+	 *         was rejected or failed
+	 */
+	private FormStatus postUpdate(int itemId, String path, Object update,
+			int uniqueClientId) {
+
+		// Local Declarations
+		FormStatus status = FormStatus.InfoError;
+		ClientResponse response = null;
+		WebResource resource = baseResource.path(path).queryParam("client",
+				String.valueOf(uniqueClientId));
+
+		try {
+			response = resource.type(MediaType.APPLICATION_XML)
+					.accept(MediaType.TEXT_PLAIN).header("X-FOO", "BAR")
+					.post(ClientResponse.class, update);
+			if (response.getStatus() == Status.OK.getStatusCode()) {
+				status = FormStatus.valueOf(response.getEntity(String.class));
+			}
+			response.close();
+		} catch (ClientHandlerException | IllegalArgumentException e) {
+			logger.error(getClass().getName() + " Exception!", e);
+		}
+
+		// The Item may have changed the Form, so the cached copy is stale
+		// either way.
+		cachedForms.remove(itemId);
+
+		return status;
+	}
+
+	/**
+	 * This operation caches the XML of a Form that was retrieved from the
+	 * server along with its entity tag. Forms without tags are not cached.
+	 * 
+	 * @param itemId
+	 *            The id of the Item that the Form represents
+	 * @param xml
+	 *            The XML of the Form
+	 * @param tag
+	 *            The entity tag of the Form
+	 */
+	private void cacheForm(int itemId, byte[] xml, EntityTag tag) {
+		if (xml != null && tag != null) {
+			cachedForms.put(itemId, new CachedForm(xml, tag));
+		} else {
+			cachedForms.remove(itemId);
+		}
+	}
+
+	/**
+	 * This operation reads a Form from the XML that was sent by the server.
+	 * 
+	 * @param xml
+	 *            The XML of the Form
+	 * @return The Form or null if it could not be read
+	 */
+	private Form readForm(byte[] xml) {
+
+		// Local Declarations
+		Form form = null;
+
+		try {
+			synchronized (RemoteCoreProxy.class) {
+				if (formContext == null) {
+					formContext = JAXBContext.newInstance(Form.class);
+				}
+			}
+			// Unmarshallers are not thread-safe, so each read gets its own
+			form = (Form) formContext.createUnmarshaller()
+					.unmarshal(new ByteArrayInputStream(xml));
+		} catch (JAXBException | ClassCastException e) {
+			logger.error(getClass().getName() + " Exception!", e);
+		}
+
+		return form;
 	}
 
 	/**
@@ -419,6 +682,28 @@ public class RemoteCoreProxy implements ICore {
 		return null;
 	}
 
+	/**
+	 * (non-Javadoc)
+	 * 
+	 * @see ICore#processItems(ArrayList itemIds, String actionName, int
+	 *      uniqueClientId)
+	 */
+	@Override
+	public HashMap<Integer, FormStatus> processItems(
+			ArrayList<Integer> itemIds, String actionName, int uniqueClientId) {
+
+		// Process the Items one at a time on the remote Core
+		HashMap<Integer, FormStatus> statuses = new HashMap<Integer, FormStatus>();
+		if (itemIds != null) {
+			for (Integer itemId : itemIds) {
+				statuses.put(itemId,
+						processItem(itemId, actionName, uniqueClientId));
+			}
+		}
+
+		return statuses;
+	}
+
 	/**
 	 * (non-Javadoc)
 	 * 
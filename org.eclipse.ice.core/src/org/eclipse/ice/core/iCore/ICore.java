@@ -15,12 +15,11 @@ package org.eclipse.ice.core.iCore;
 import java.io.File;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.HashMap;
 
-import javax.ws.rs.Consumes;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
-import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 
 import org.eclipse.core.resources.IFile;
@@ -28,6 +27,7 @@ import org.eclipse.core.resources.IProject;
 import org.eclipse.ice.datastructures.ICEObject.ICEList;
 import org.eclipse.ice.datastructures.ICEObject.Identifiable;
 import org.eclipse.ice.datastructures.form.Form;
+import org.eclipse.ice.datastructures.form.FormDelta;
 import org.eclipse.ice.datastructures.form.FormStatus;
 import org.eclipse.ice.item.ICompositeItemBuilder;
 import org.eclipse.ice.item.ItemBuilder;
@@ -190,15 +190,29 @@ public interface ICore {
 	 * information. The smaller Form is created by the Action that is executed
 	 * during the call to processItem().
 	 *
+	 * Realizations that publish this operation on the web should tag the Form
+	 * with its revision so that clients can skip retrieving Forms that have not
+	 * changed, which is why it is not bound to a web path here.
+	 *
 	 * @param itemId
 	 *            The identification number of the Item that should be
 	 *            retrieved.
 	 * @return A Form that represents the Item managed by the core.
 	 */
-	@GET
-	@Path("items/{id}")
-	@Produces("application/xml")
-	public Form getItem(@PathParam("id") int itemId);
+	public Form getItem(int itemId);
+
+	/**
+	 * This operation returns the revision of the Form of an Item. The revision
+	 * increases every time that the Item changes, so clients that cache Forms
+	 * can compare it to the revision of their copy and only retrieve the Form
+	 * again if it is different.
+	 *
+	 * @param itemId
+	 *            The identification number of the Item.
+	 * @return The revision of the Form of the Item or -1 if there is no Item
+	 *         with the id.
+	 */
+	public long getItemRevision(int itemId);
 
 	/**
 	 * This operation returns a list of the available Item types that can be
@@ -227,6 +241,21 @@ public interface ICore {
 	 */
 	public FormStatus updateItem(Form form, int uniqueClientId);
 
+	/**
+	 * This operation posts a set of changes to the Entries of a Form to the
+	 * Core so that only the changed information is processed by the
+	 * appropriate Item. The changes are rejected with FormStatus.InfoError if
+	 * they were not made on the current revision of the Form.
+	 *
+	 * @param delta
+	 *            The changes to the Form of an Item.
+	 * @param uniqueClientId
+	 *            The unique client id the IClient that is making the update
+	 *            request.
+	 * @return The status of the updated Item.
+	 */
+	public FormStatus updateItem(FormDelta delta, int uniqueClientId);
+
 	/**
 	 * This operation directs the Core to process the Item with the specified id
 	 * by performing the specific action. The action name must be one of the set
@@ -255,6 +284,28 @@ public interface ICore {
 	public FormStatus processItem(int itemId, String actionName,
 			int uniqueClientId);
 
+	/**
+	 * This operation directs the Core to process several Items with the same
+	 * action at the same time. It is meant for actions that only read the
+	 * Items' Forms, such as the actions that export them to files.
+	 *
+	 * @param itemIds
+	 *            The item ids of the Items that should be processed with the
+	 *            specified action.
+	 *
+	 * @param actionName
+	 *            The action that should be performed on each Item.
+	 *
+	 * @param uniqueClientId
+	 *            The unique identification number of the client making the
+	 *            request.
+	 *
+	 * @return The status of each Item after the action was performed, keyed
+	 *         by Item id.
+	 */
+	public HashMap<Integer, FormStatus> processItems(
+			ArrayList<Integer> itemIds, String actionName, int uniqueClientId);
+
 	/**
 	 * This operation returns the list of Items that have been created in ICE.
 	 * It returns a list of Identifiables that represent those Items and
@@ -413,17 +464,17 @@ public interface ICore {
 	 * the Core from remote processes. The message format can be found in the
 	 * documentation for the Updater.
 	 *
+	 * Realizations that publish this operation on the web should tell clients
+	 * to post again later when they are overwhelmed, which is why it is not
+	 * bound to a web path here.
+	 *
 	 * @param message
 	 *            The message that should be passed on to the specified Item.
 	 *            This string must be in JSON and conform to the message format
 	 *            of the ICE Updater.
-	 * @return "OK" if the post was successful, null if not to conform to JAX-RS
-	 *         HTTP 200/204 return code conversion.
+	 *
+	 * @return "OK" if the post was successful, null if not.
 	 */
-	@POST
-	@Path("update")
-	@Consumes("application/x-www-form-urlencoded")
-	@Produces("text/plain")
 	public String postUpdateMessage(String message);
 	
 }
\ No newline at end of file
@@ -15,19 +15,35 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.net.URI;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Dictionary;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Hashtable;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.inject.Inject;
 import javax.servlet.ServletException;
 import javax.ws.rs.ApplicationPath;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Application;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.ResponseBuilder;
+import javax.ws.rs.core.Response.Status;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
@@ -41,16 +57,17 @@ import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.ice.core.iCore.ICore;
+import org.eclipse.ice.core.internal.UpdateMessagePipeline.Result;
 import org.eclipse.ice.core.internal.itemmanager.ItemManager;
 import org.eclipse.ice.datastructures.ICEObject.ICEList;
 import org.eclipse.ice.datastructures.ICEObject.Identifiable;
 import org.eclipse.ice.datastructures.form.Form;
+import org.eclipse.ice.datastructures.form.FormDelta;
 import org.eclipse.ice.datastructures.form.FormStatus;
 import org.eclipse.ice.io.serializable.IIOService;
 import org.eclipse.ice.item.ICompositeItemBuilder;
 import org.eclipse.ice.item.ItemBuilder;
 import org.eclipse.ice.item.SerializedItemBuilder;
-import org.eclipse.ice.item.messaging.Message;
 import org.eclipse.ice.item.model.AbstractModelBuilder;
 import org.eclipse.ice.item.persistence.IPersistenceProvider;
 import org.eclipse.ice.materials.IMaterialsDatabase;
@@ -65,14 +82,7 @@ import org.osgi.service.http.NamespaceException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParseException;
-import com.google.gson.JsonParser;
-import com.google.gson.JsonPrimitive;
+import com.sun.jersey.api.container.filter.GZIPContentEncodingFilter;
 import com.sun.jersey.spi.container.servlet.ServletContainer;
 
 /**
@@ -144,10 +154,10 @@ public class Core extends Application implements ICore, BundleActivator {
 	private IPersistenceProvider provider;
 
 	/**
-	 * An AtomicBoolean to lock and unlock the update operation with hardware.
-	 * True if locked, false if not.
+	 * The pipeline that delivers the update messages that are posted to the
+	 * Core.
 	 */
-	private AtomicBoolean updateLock;
+	private UpdateMessagePipeline updatePipeline;
 
 	/**
 	 * This is the service registration used to register the Core as a service
@@ -179,8 +189,12 @@ public class Core extends Application implements ICore, BundleActivator {
 			throw new RuntimeException("ICore Message: Unable to load workspace!");
 		}
 
-		// Set the update lock
-		updateLock = new AtomicBoolean(false);
+		// Create the update pipeline
+		updatePipeline = new UpdateMessagePipeline(itemManager,
+				UpdateMessagePipeline.DEFAULT_CAPACITY);
+
+		// Forward changes to the workspace to the Items that use them
+		itemManager.startResourceTracking(ResourcesPlugin.getWorkspace());
 
 		return;
 	}
@@ -200,8 +214,12 @@ public class Core extends Application implements ICore, BundleActivator {
 			throw new RuntimeException("ICore Message: Unable to load workspace!");
 		}
 
-		// Set the update lock
-		updateLock = new AtomicBoolean(false);
+		// Create the update pipeline
+		updatePipeline = new UpdateMessagePipeline(itemManager,
+				UpdateMessagePipeline.DEFAULT_CAPACITY);
+
+		// Forward changes to the workspace to the Items that use them
+		itemManager.startResourceTracking(ResourcesPlugin.getWorkspace());
 
 		return;
 	}
@@ -304,6 +322,9 @@ public class Core extends Application implements ICore, BundleActivator {
 		// Update everything in the ItemManager that requires it
 		itemManager.persistItems();
 
+		// Stop listening to the workspace
+		itemManager.stopResourceTracking();
+
 		// Unregister with the HTTP Service
 		if (httpServiceRef != null) {
 			bundleContext.ungetService(httpServiceRef);
@@ -432,6 +453,163 @@ public class Core extends Application implements ICore, BundleActivator {
 		return itemManager.retrieveItem(itemId);
 	}
 
+	/**
+	 * (non-Javadoc)
+	 *
+	 * @see ICore#getItemRevision(int itemId)
+	 */
+	@Override
+	public long getItemRevision(int itemId) {
+		return itemManager.getItemRevision(itemId);
+	}
+
+	/**
+	 * This operation publishes the revision of the Form of an Item on the
+	 * web. It is the web realization of getItemRevision().
+	 *
+	 * @param itemId
+	 *            The identification number of the Item
+	 * @return The revision or -1 if there is no Item with the id
+	 */
+	@GET
+	@javax.ws.rs.Path("items/{id}/revision")
+	@Produces(MediaType.TEXT_PLAIN)
+	public String getItemRevisionResource(@PathParam("id") int itemId) {
+		return String.valueOf(getItemRevision(itemId));
+	}
+
+	/**
+	 * This operation publishes the Form of an Item on the web. It is the web
+	 * realization of getItem(). The response is tagged with an entity tag
+	 * created from the revision of the Form and the status of the Item, so a
+	 * client that sends the tag of its copy in an If-None-Match header will
+	 * receive a 304 (Not Modified) response without the Form if the Item has
+	 * not changed.
+	 *
+	 * @param itemId
+	 *            The identification number of the Item
+	 * @param request
+	 *            The request, which is injected by Jersey
+	 * @return The response with the Form, a 304 response, or a 404 response
+	 *         if there is no Item with the id
+	 */
+	@GET
+	@javax.ws.rs.Path("items/{id}")
+	@Produces(MediaType.APPLICATION_XML)
+	public Response getItemResource(@PathParam("id") int itemId,
+			@Context Request request) {
+
+		// Make sure the Item exists
+		Form form = getItem(itemId);
+		if (form == null) {
+			return Response.status(Status.NOT_FOUND).build();
+		}
+
+		// Only send the Form if the client's copy is out of date
+		EntityTag tag = createEntityTag(itemId);
+		ResponseBuilder builder = request.evaluatePreconditions(tag);
+		if (builder == null) {
+			builder = Response.ok(form);
+		}
+
+		return builder.tag(tag).build();
+	}
+
+	/**
+	 * This operation accepts an updated Form from the web. It is the web
+	 * realization of updateItem(). The response contains the status of the
+	 * Item and is tagged with the new entity tag of its Form.
+	 *
+	 * @param itemId
+	 *            The identification number of the Item
+	 * @param uniqueClientId
+	 *            The unique client id of the client that posted the Form
+	 * @param form
+	 *            The updated Form
+	 * @return The response with the status of the Item, or a 400 response if
+	 *         the Form does not belong to the Item
+	 */
+	@POST
+	@javax.ws.rs.Path("items/{id}")
+	@Consumes(MediaType.APPLICATION_XML)
+	@Produces(MediaType.TEXT_PLAIN)
+	public Response updateItemResource(@PathParam("id") int itemId,
+			@QueryParam("client") int uniqueClientId, Form form) {
+
+		// Make sure the Form is for this Item
+		if (form == null || form.getItemID() != itemId) {
+			return Response.status(Status.BAD_REQUEST).build();
+		}
+
+		// Submit the Form and tag the response with the new revision
+		FormStatus status = updateItem(form, uniqueClientId);
+		ResponseBuilder builder = Response.ok(status.toString());
+		Form currentForm = getItem(itemId);
+		if (currentForm != null) {
+			builder.tag(createEntityTag(itemId));
+		}
+
+		return builder.build();
+	}
+
+	/**
+	 * This operation accepts a set of changes to the Form of an Item from the
+	 * web. It is the web realization of updateItem(FormDelta, int). The
+	 * response contains the status of the Item and is tagged with the new
+	 * entity tag of its Form.
+	 *
+	 * @param itemId
+	 *            The identification number of the Item
+	 * @param uniqueClientId
+	 *            The unique client id of the client that posted the delta
+	 * @param delta
+	 *            The changes to the Form
+	 * @return The response with the status of the Item, a 400 response if the
+	 *         delta does not belong to the Item, or a 409 (Conflict) response
+	 *         if the delta was not made on the current revision of the Form
+	 */
+	@POST
+	@javax.ws.rs.Path("items/{id}/delta")
+	@Consumes(MediaType.APPLICATION_XML)
+	@Produces(MediaType.TEXT_PLAIN)
+	public Response updateItemDeltaResource(@PathParam("id") int itemId,
+			@QueryParam("client") int uniqueClientId, FormDelta delta) {
+
+		// Make sure the delta is for this Item and its current revision
+		Form currentForm = getItem(itemId);
+		if (delta == null || delta.getItemID() != itemId
+				|| currentForm == null) {
+			return Response.status(Status.BAD_REQUEST).build();
+		} else if (delta.getRevision() != getItemRevision(itemId)) {
+			return Response.status(Status.CONFLICT)
+					.tag(createEntityTag(itemId)).build();
+		}
+
+		// Submit the delta and tag the response with the new revision
+		FormStatus status = updateItem(delta, uniqueClientId);
+		ResponseBuilder builder = Response.ok(status.toString());
+		currentForm = getItem(itemId);
+		if (currentForm != null) {
+			builder.tag(createEntityTag(itemId));
+		}
+
+		return builder.build();
+	}
+
+	/**
+	 * This operation creates the entity tag for the current state of an Item.
+	 * The status is included because it can change while the Item is
+	 * processed without the Form changing.
+	 *
+	 * @param itemId
+	 *            The identification number of the Item
+	 * @return The entity tag
+	 */
+	private EntityTag createEntityTag(int itemId) {
+		return new EntityTag(itemId + "-" + getItemRevision(itemId) + "-"
+				+ itemManager.getItemStatus(itemId));
+	}
+
 	/**
 	 * (non-Javadoc)
 	 *
@@ -473,6 +651,25 @@ public class Core extends Application implements ICore, BundleActivator {
 		return status;
 	}
 
+	/**
+	 * (non-Javadoc)
+	 *
+	 * @see ICore#updateItem(FormDelta delta, int uniqueClientId)
+	 */
+	@Override
+	public FormStatus updateItem(FormDelta delta, int uniqueClientId) {
+
+		// Local Declarations
+		FormStatus status = FormStatus.InfoError;
+
+		// Process the update request
+		if (delta != null) {
+			status = itemManager.updateItem(delta);
+		}
+
+		return status;
+	}
+
 	/**
 	 * (non-Javadoc)
 	 *
@@ -493,6 +690,26 @@ public class Core extends Application implements ICore, BundleActivator {
 		return status;
 	}
 
+	/**
+	 * (non-Javadoc)
+	 *
+	 * @see ICore#processItems(ArrayList itemIds, String actionName, int
+	 *      uniqueClientId)
+	 */
+	@Override
+	public HashMap<Integer, FormStatus> processItems(
+			ArrayList<Integer> itemIds, String actionName, int uniqueClientId) {
+
+		// Check the action name
+		if (actionName == null) {
+			return new HashMap<Integer, FormStatus>();
+		}
+
+		// Process the Items with one thread per processor
+		return itemManager.processItems(itemIds, actionName,
+				Runtime.getRuntime().availableProcessors());
+	}
+
 	/**
 	 * (non-Javadoc)
 	 *
@@ -644,6 +861,15 @@ public class Core extends Application implements ICore, BundleActivator {
 
 				// Set the parameters
 				servletParams.put("javax.ws.rs.Application", Core.class.getName());
+				// Compress responses and decompress requests with gzip when
+				// the client asks for it in its Accept-Encoding and
+				// Content-Encoding headers.
+				servletParams.put(
+						"com.sun.jersey.spi.container.ContainerRequestFilters",
+						GZIPContentEncodingFilter.class.getName());
+				servletParams.put(
+						"com.sun.jersey.spi.container.ContainerResponseFilters",
+						GZIPContentEncodingFilter.class.getName());
 
 				// Register the service
 				try {
@@ -803,103 +1029,81 @@ public class Core extends Application implements ICore, BundleActivator {
 	}
 
 	/**
-	 * This private operation creates an instance of the Message class from a
-	 * string using a JSON parser.
-	 *
-	 * This operation is synchronized so that the core can't be overloaded.
+	 * (non-Javadoc)
 	 *
-	 * @param messageString
-	 *            The original message, as a string
-	 * @return list list of built messages.
+	 * @see ICore#postUpdateMessage(String message)
 	 */
-	private ArrayList<Message> buildMessagesFromString(String messageString) {
-
-		// Create the ArrayList of messages
-		ArrayList<Message> messages = new ArrayList<>();
-
-		// Create the parser and gson utility
-		JsonParser parser = new JsonParser();
-		GsonBuilder builder = new GsonBuilder();
-		Gson gson = builder.create();
+	@Override
+	public String postUpdateMessage(String message) {
 
-		// Catch any exceptions and return the empty list
-		try {
+		// Post the messages. Fail if they were not accepted.
+		Result result = updatePipeline.post(message);
 
-			// Make the string a json string
-			JsonElement messageJson = parser.parse(messageString);
-			JsonObject messageJsonObject = messageJson.getAsJsonObject();
-
-			// Get the Item id from the json
-			JsonPrimitive itemIdJson = messageJsonObject.getAsJsonPrimitive("item_id");
-			int itemId = itemIdJson.getAsInt();
-
-			// Get the array of posts from the message
-			JsonArray jsonMessagesList = messageJsonObject.getAsJsonArray("posts");
-
-			// Load the list
-			for (int i = 0; i < jsonMessagesList.size(); i++) {
-				// Get the message as a json element
-				JsonElement jsonMessage = jsonMessagesList.get(i);
-				// Marshal it into a message
-				Message tmpMessage = gson.fromJson(jsonMessage, Message.class);
-				// Set the item id
-				if (tmpMessage != null) {
-					tmpMessage.setItemId(itemId);
-					// Put it in the list
-					messages.add(tmpMessage);
-				}
-			}
-		} catch (JsonParseException e) {
-			// Log the message
-			String err = "Core Message: " + "JSON parsing failed for message " + messageString;
-			logger.error(getClass().getName() + " Exception!", e);
-			logger.error(err);
-		}
+		return (result == Result.ACCEPTED) ? "OK" : null;
+	}
 
-		return messages;
+	/**
+	 * This operation accepts form-encoded update messages from the web. It is
+	 * the web realization of postUpdateMessage().
+	 *
+	 * @param message
+	 *            The form-encoded post
+	 * @return The response, which is "OK" if the messages were accepted, 503
+	 *         (Service Unavailable) with a Retry-After header if the messages
+	 *         should be posted again later, 404 if none of their Items exist
+	 *         or 400 if they could not be read
+	 */
+	@POST
+	@javax.ws.rs.Path("update")
+	@Consumes(MediaType.APPLICATION_FORM_URLENCODED)
+	@Produces(MediaType.TEXT_PLAIN)
+	public Response postUpdateResource(String message) {
+		return createUpdateResponse(updatePipeline.post(message));
 	}
 
 	/**
-	 * (non-Javadoc)
+	 * This operation accepts a stream of JSON update messages from the web.
+	 * The stream may contain any number of posts, which are read as they
+	 * arrive instead of all at once.
 	 *
-	 * @see ICore#postUpdateMessage(String message)
+	 * @param stream
+	 *            The stream of JSON posts
+	 * @return The response, as for postUpdateResource()
 	 */
-	@Override
-	public String postUpdateMessage(String message) {
+	@POST
+	@javax.ws.rs.Path("update")
+	@Consumes(MediaType.APPLICATION_JSON)
+	@Produces(MediaType.TEXT_PLAIN)
+	public Response postUpdateStreamResource(InputStream stream) {
+		return createUpdateResponse(updatePipeline
+				.post(new InputStreamReader(stream, StandardCharsets.UTF_8)));
+	}
 
-		// Lock the operation
-		updateLock.set(true);
+	/**
+	 * This operation creates the response for a post of update messages.
+	 *
+	 * @param result
+	 *            The result of the post
+	 * @return The response
+	 */
+	private Response createUpdateResponse(Result result) {
 
 		// Local Declarations
-		String retVal = null;
-
-		// Print the message if debugging is enabled
-		// if (debuggingEnabled) {
-		logger.info("Core Message: " + "Update received with message: " + message);
-		// }
-
-		// Only process the message if it exists and is not empty
-		if (message != null && !message.isEmpty() && message.contains("=")) {
-			// Split the message on "=" since it is
-			// application/x-www-form-encoded
-			String[] messageParts = message.split("=");
-			if (messageParts.length > 1) {
-				// Get the message object.
-				ArrayList<Message> msgList = buildMessagesFromString(messageParts[1]);
-				// Post the messages if there are any. Fail otherwise.
-				if (!msgList.isEmpty()) {
-					for (int i = 0; i < msgList.size(); i++) {
-						Message msg = msgList.get(i);
-						itemManager.postUpdateMessage(msg);
-					}
-					// Set the return value
-					retVal = "OK";
-				}
-			}
+		Response response = null;
+
+		if (result == Result.ACCEPTED) {
+			response = Response.ok("OK").build();
+		} else if (result == Result.BUSY) {
+			// Tell the client to slow down
+			response = Response.status(Status.SERVICE_UNAVAILABLE)
+					.header("Retry-After", "1").build();
+		} else if (result == Result.UNKNOWN_ITEM) {
+			response = Response.status(Status.NOT_FOUND).build();
+		} else {
+			response = Response.status(Status.BAD_REQUEST).build();
 		}
 
-		// Unlock the operation and return safely
-		return (updateLock.getAndSet(false)) ? retVal : null;
+		return response;
 	}
 
 	/**
@@ -1051,8 +1255,9 @@ public class Core extends Application implements ICore, BundleActivator {
 					return;
 				}
 			}
-			// Refresh all of the Items
-			itemManager.reloadItemData();
+			// The Items that use the file are refreshed by the ItemManager
+			// when the workspace reports the new file, so there is no need
+			// to refresh all of them here.
 
 			// Drop some debug info.
 			if (System.getProperty("DebugICE") != null) {
@@ -0,0 +1,563 @@
+/*******************************************************************************
+ * Copyright (c) 2016 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - Jay Jay Billings
+ *******************************************************************************/
+package org.eclipse.ice.core.internal;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.ice.core.internal.itemmanager.ItemManager;
+import org.eclipse.ice.item.messaging.Message;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * <p>
+ * This class accepts the update messages that are posted to the Core by
+ * remote processes and delivers them to the Items through the ItemManager.
+ * </p>
+ * <p>
+ * Posts are read as a stream of JSON objects of the form
+ * </p>
+ * <p>
+ * {"item_id":"5", "client_key":"...", "posts":[{"type":"FILE_MODIFIED",
+ * "message":"/tmp/file"}, ...]}
+ * </p>
+ * <p>
+ * A single post may contain one such object, an array of them or several of
+ * them one after another. The form-encoded posts from the ICE updaters, which
+ * have the object as the value of the "post" key, are also accepted.
+ * </p>
+ * <p>
+ * Each Item has a bounded queue of messages that have not been delivered yet.
+ * A post is only accepted if there is room for all of its messages, otherwise
+ * it is rejected as a whole with {@link Result#BUSY} so that the client can
+ * send it again later. Messages are delivered by the threads that post them
+ * and only one thread delivers to any given Item at a time. Messages that
+ * arrive while another thread is delivering to their Item are left for that
+ * thread, so the threads that post do not wait on each other. The queue of an
+ * Item is dropped once all of its messages have been delivered.
+ * </p>
+ * <p>
+ * Messages for which only the latest value matters are coalesced while they
+ * wait. A new FILE_MODIFIED message replaces a waiting one for the same file
+ * and a new PROGRESS_UPDATED message replaces a waiting one for the same
+ * Item. Other messages are never coalesced. In particular, every
+ * MESSAGE_POSTED message is a new data point for a postprocessor and is
+ * always delivered.
+ * </p>
+ * <p>
+ * Messages for Items that do not exist are dropped. A post is refused with
+ * {@link Result#UNKNOWN_ITEM} if all of its messages were dropped.
+ * </p>
+ *
+ * @author Jay Jay Billings
+ */
+public class UpdateMessagePipeline {
+
+	/**
+	 * The results of a post.
+	 *
+	 * @author Jay Jay Billings
+	 */
+	public enum Result {
+		/**
+		 * The messages were accepted.
+		 */
+		ACCEPTED,
+		/**
+		 * The post was empty or could not be read.
+		 */
+		REJECTED,
+		/**
+		 * The queue of one of the Items was full and no messages were
+		 * accepted.
+		 */
+		BUSY,
+		/**
+		 * None of the Items to which the messages were posted exist, so no
+		 * messages were accepted.
+		 */
+		UNKNOWN_ITEM
+	}
+
+	/**
+	 * The default number of messages that can wait for each Item.
+	 */
+	public static final int DEFAULT_CAPACITY = 1000;
+
+	/**
+	 * Logger for handling event messages and other information.
+	 */
+	private static final Logger logger = LoggerFactory
+			.getLogger(UpdateMessagePipeline.class);
+
+	/**
+	 * The Gson instance that creates the Messages. It is thread-safe.
+	 */
+	private static final Gson gson = new Gson();
+
+	/**
+	 * The ItemManager that delivers the messages to the Items.
+	 */
+	private final ItemManager itemManager;
+
+	/**
+	 * The number of messages that can wait for each Item.
+	 */
+	private final int capacity;
+
+	/**
+	 * The queues of waiting messages, keyed by Item id. The map and the
+	 * messages in the queues are guarded by the lock on this map.
+	 */
+	private final Map<Integer, ItemQueue> queues = new HashMap<>();
+
+	/**
+	 * The constructor.
+	 *
+	 * @param itemManager
+	 *            The ItemManager that delivers the messages to the Items
+	 * @param capacity
+	 *            The number of messages that can wait for each Item
+	 */
+	public UpdateMessagePipeline(ItemManager itemManager, int capacity) {
+		this.itemManager = itemManager;
+		this.capacity = capacity;
+	}
+
+	/**
+	 * This operation posts the messages in a string. The string may be
+	 * form-encoded with the messages as the value of the "post" key or it may
+	 * be plain JSON.
+	 *
+	 * @param post
+	 *            The posted string
+	 * @return The result of the post
+	 */
+	public Result post(String post) {
+
+		// Only process the message if it exists and is not empty
+		if (post == null || post.trim().isEmpty()) {
+			return Result.REJECTED;
+		}
+
+		// Strip the key from form-encoded posts and decode them. The updaters
+		// do not encode their posts, so the body is only decoded if it does
+		// not already look like JSON.
+		String json = post.trim();
+		if (!json.startsWith("{") && !json.startsWith("[")) {
+			int index = json.indexOf('=');
+			if (index < 0) {
+				return Result.REJECTED;
+			}
+			json = json.substring(index + 1).trim();
+			if (!json.startsWith("{") && !json.startsWith("[")) {
+				try {
+					json = URLDecoder.decode(json, "UTF-8");
+				} catch (UnsupportedEncodingException
+						| IllegalArgumentException e) {
+					logger.error(getClass().getName() + " Exception!", e);
+					return Result.REJECTED;
+				}
+			}
+		}
+
+		return post(new StringReader(json));
+	}
+
+	/**
+	 * This operation posts the messages that are read from a stream of JSON.
+	 *
+	 * @param reader
+	 *            The reader for the JSON
+	 * @return The result of the post
+	 */
+	public Result post(Reader reader) {
+
+		// Read the messages
+		List<Message> messages = new ArrayList<>();
+		try {
+			JsonReader jsonReader = new JsonReader(reader);
+			jsonReader.setLenient(true);
+			while (jsonReader.peek() != JsonToken.END_DOCUMENT) {
+				if (jsonReader.peek() == JsonToken.BEGIN_ARRAY) {
+					jsonReader.beginArray();
+					while (jsonReader.hasNext()) {
+						readPost(jsonReader, messages);
+					}
+					jsonReader.endArray();
+				} else {
+					readPost(jsonReader, messages);
+				}
+			}
+		} catch (IOException | JsonParseException | IllegalStateException
+				| NumberFormatException e) {
+			logger.error(getClass().getName() + " Exception!", e);
+			logger.error("Core Message: JSON parsing failed for update post.");
+			return Result.REJECTED;
+		}
+		if (messages.isEmpty()) {
+			return Result.REJECTED;
+		}
+
+		// Group the messages by Item, dropping those for Items that do not
+		// exist
+		Map<Integer, List<Message>> messagesByItem = new HashMap<>();
+		for (Message message : messages) {
+			if (itemManager.retrieveItem(message.getItemId()) == null) {
+				logger.info("Core Message: Dropping update for unknown Item "
+						+ message.getItemId());
+				continue;
+			}
+			List<Message> itemMessages = messagesByItem
+					.get(message.getItemId());
+			if (itemMessages == null) {
+				itemMessages = new ArrayList<>();
+				messagesByItem.put(message.getItemId(), itemMessages);
+			}
+			itemMessages.add(message);
+		}
+		if (messagesByItem.isEmpty()) {
+			return Result.UNKNOWN_ITEM;
+		}
+
+		// Queue the messages if there is room for all of them. New queues
+		// are only added to the map once the post is accepted.
+		List<ItemQueue> updatedQueues = new ArrayList<>();
+		synchronized (queues) {
+			for (Map.Entry<Integer, List<Message>> entry : messagesByItem
+					.entrySet()) {
+				ItemQueue queue = queues.get(entry.getKey());
+				if (queue == null) {
+					queue = new ItemQueue(entry.getKey());
+				}
+				if (queue.countAdditions(entry.getValue()) > capacity
+						- queue.size()) {
+					logger.info("Core Message: Update queue for Item "
+							+ entry.getKey() + " is full.");
+					return Result.BUSY;
+				}
+				updatedQueues.add(queue);
+			}
+			for (ItemQueue queue : updatedQueues) {
+				queues.put(queue.itemId, queue);
+				for (Message message : messagesByItem.get(queue.itemId)) {
+					queue.add(message);
+				}
+			}
+		}
+
+		// Deliver the messages
+		for (ItemQueue queue : updatedQueues) {
+			deliver(queue);
+		}
+
+		return Result.ACCEPTED;
+	}
+
+	/**
+	 * This operation returns the number of messages that are waiting for an
+	 * Item.
+	 *
+	 * @param itemId
+	 *            The id of the Item
+	 * @return The number of waiting messages
+	 */
+	public int getQueueSize(int itemId) {
+		synchronized (queues) {
+			ItemQueue queue = queues.get(itemId);
+			return (queue != null) ? queue.size() : 0;
+		}
+	}
+
+	/**
+	 * This operation returns the number of Items that have a queue of
+	 * messages that are waiting or being delivered.
+	 *
+	 * @return The number of queues
+	 */
+	public int getQueueCount() {
+		synchronized (queues) {
+			return queues.size();
+		}
+	}
+
+	/**
+	 * This operation reads one post object from the stream and adds its
+	 * messages to the list.
+	 *
+	 * @param jsonReader
+	 *            The reader that is positioned at the start of the object
+	 * @param messages
+	 *            The list of messages
+	 * @throws IOException
+	 */
+	private void readPost(JsonReader jsonReader, List<Message> messages)
+			throws IOException {
+
+		// Local Declarations
+		int itemId = 0;
+		List<Message> postMessages = new ArrayList<>();
+
+		jsonReader.beginObject();
+		while (jsonReader.hasNext()) {
+			String name = jsonReader.nextName();
+			if ("item_id".equals(name)) {
+				itemId = jsonReader.nextInt();
+			} else if ("posts".equals(name)) {
+				jsonReader.beginArray();
+				while (jsonReader.hasNext()) {
+					Message message = gson.fromJson(jsonReader, Message.class);
+					if (message != null) {
+						postMessages.add(message);
+					}
+				}
+				jsonReader.endArray();
+			} else {
+				jsonReader.skipValue();
+			}
+		}
+		jsonReader.endObject();
+
+		// The Item id may come after the posts, so set it last
+		for (Message message : postMessages) {
+			message.setItemId(itemId);
+			messages.add(message);
+		}
+	}
+
+	/**
+	 * This operation delivers the messages that are waiting in a queue unless
+	 * another thread is already delivering them.
+	 *
+	 * @param queue
+	 *            The queue
+	 */
+	private void deliver(ItemQueue queue) {
+
+		// Keep delivering until the queue is empty or another thread takes
+		// over. The check after unlocking catches messages that were added
+		// just before the lock was released.
+		while (queue.deliveryLock.tryLock()) {
+			try {
+				Message message;
+				while ((message = poll(queue)) != null) {
+					itemManager.postUpdateMessage(message);
+				}
+			} finally {
+				queue.deliveryLock.unlock();
+			}
+			synchronized (queues) {
+				if (queue.size() == 0) {
+					return;
+				}
+			}
+		}
+
+		return;
+	}
+
+	/**
+	 * This operation removes the next message from a queue. If the queue is
+	 * empty, it is removed from the map. It must be called by the thread that
+	 * holds the delivery lock of the queue, so a new queue for the same Item
+	 * is never delivered while this one is.
+	 *
+	 * @param queue
+	 *            The queue
+	 * @return The message or null if the queue is empty
+	 */
+	private Message poll(ItemQueue queue) {
+		synchronized (queues) {
+			Message message = queue.poll();
+			if (message == null && queues.get(queue.itemId) == queue) {
+				queues.remove(queue.itemId);
+			}
+			return message;
+		}
+	}
+
+	/**
+	 * This operation returns the key that identifies messages that replace
+	 * each other while they wait.
+	 *
+	 * @param message
+	 *            The message
+	 * @return The key or null if the message can not be coalesced
+	 */
+	private static String getCoalescingKey(Message message) {
+
+		String type = message.getType();
+		String text = (message.getMessage() != null) ? message.getMessage()
+				: "";
+
+		// Only the latest modification of a file and the latest progress of
+		// an Item matter. The queues are per Item, so the type is enough for
+		// progress.
+		if ("FILE_MODIFIED".equals(type)) {
+			return type + ":" + text;
+		} else if ("PROGRESS_UPDATED".equals(type)) {
+			return type;
+		}
+
+		return null;
+	}
+
+	/**
+	 * The messages that are waiting for one Item.
+	 *
+	 * @author Jay Jay Billings
+	 */
+	private static class ItemQueue {
+
+		/**
+		 * The id of the Item
+		 */
+		private final int itemId;
+
+		/**
+		 * The slots of the waiting messages, in the order in which they will
+		 * be delivered
+		 */
+		private final ArrayDeque<Slot> slots = new ArrayDeque<>();
+
+		/**
+		 * The slots of the waiting messages that can be coalesced, keyed by
+		 * their coalescing keys
+		 */
+		private final Map<String, Slot> coalescable = new HashMap<>();
+
+		/**
+		 * The lock held by the thread that delivers the messages
+		 */
+		private final ReentrantLock deliveryLock = new ReentrantLock();
+
+		/**
+		 * The constructor.
+		 *
+		 * @param itemId
+		 *            The id of the Item
+		 */
+		private ItemQueue(int itemId) {
+			this.itemId = itemId;
+		}
+
+		/**
+		 * This operation returns the number of waiting messages.
+		 *
+		 * @return The number of messages
+		 */
+		private int size() {
+			return slots.size();
+		}
+
+		/**
+		 * This operation adds a message to the queue or replaces a waiting
+		 * message that it supersedes. The new message takes the place of the
+		 * one that it replaces.
+		 *
+		 * @param message
+		 *            The message
+		 */
+		private void add(Message message) {
+			String key = getCoalescingKey(message);
+			Slot slot = (key != null) ? coalescable.get(key) : null;
+			if (slot != null) {
+				slot.message = message;
+			} else {
+				slot = new Slot(message);
+				slots.add(slot);
+				if (key != null) {
+					coalescable.put(key, slot);
+				}
+			}
+		}
+
+		/**
+		 * This operation removes the next message from the queue.
+		 *
+		 * @return The message or null if the queue is empty
+		 */
+		private Message poll() {
+			Slot slot = slots.poll();
+			if (slot == null) {
+				return null;
+			}
+			String key = getCoalescingKey(slot.message);
+			if (key != null && coalescable.get(key) == slot) {
+				coalescable.remove(key);
+			}
+			return slot.message;
+		}
+
+		/**
+		 * This operation counts the number of messages that adding a list of
+		 * messages would add to the queue after coalescing.
+		 *
+		 * @param newMessages
+		 *            The messages
+		 * @return The number of additional messages
+		 */
+		private int countAdditions(List<Message> newMessages) {
+			int count = 0;
+			Set<String> keys = new HashSet<>();
+			for (Message message : newMessages) {
+				String key = getCoalescingKey(message);
+				if (key == null || (!coalescable.containsKey(key)
+						&& keys.add(key))) {
+					count++;
+				}
+			}
+			return count;
+		}
+	}
+
+	/**
+	 * A place in an ItemQueue that holds the latest of the messages that
+	 * were coalesced into it.
+	 *
+	 * @author Jay Jay Billings
+	 */
+	private static class Slot {
+
+		/**
+		 * The message
+		 */
+		private Message message;
+
+		/**
+		 * The constructor.
+		 *
+		 * @param message
+		 *            The message
+		 */
+		private Slot(Message message) {
+			this.message = message;
+		}
+	}
+
+}
@@ -16,12 +16,23 @@ import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.IWorkspace;
 import org.eclipse.ice.datastructures.ICEObject.Identifiable;
 import org.eclipse.ice.datastructures.form.Form;
+import org.eclipse.ice.datastructures.form.FormDelta;
 import org.eclipse.ice.datastructures.form.FormStatus;
 import org.eclipse.ice.io.serializable.IIOService;
 import org.eclipse.ice.item.ICompositeItemBuilder;
@@ -54,10 +65,16 @@ import org.slf4j.LoggerFactory;
  * output file and retrieving a Form are separated because they are treated as
  * two distinctly different things on the Item class.
  * </p>
+ * <p>
+ * Once startResourceTracking() has been called, the ItemManager listens for
+ * changes to the workspace and forwards each change only to the Items in the
+ * changed project, which reload their data only if they depend on one of the
+ * changed resources.
+ * </p>
  *
  * @author Jay Jay Billings
  */
-public class ItemManager implements ItemListener {
+public class ItemManager implements ItemListener, IResourceChangeListener {
 
 	/**
 	 * Logger for handling event messages and other information.
@@ -122,6 +139,12 @@ public class ItemManager implements ItemListener {
 	 */
 	private IProject loadedProject = null;
 
+	/**
+	 * The workspace whose resource changes are forwarded to the Items or null
+	 * if resource changes are not tracked.
+	 */
+	private IWorkspace trackedWorkspace = null;
+
 	/**
 	 * <p>
 	 * The constructor.
@@ -215,6 +238,9 @@ public class ItemManager implements ItemListener {
 			logger.info("ItemManager Message: Persisting Item " + retVal
 					+ " with the provider");
 			provider.persistItem(item);
+			if (item != null) {
+				item.markPersisted();
+			}
 		}
 
 		return retVal;
@@ -553,6 +579,8 @@ public class ItemManager implements ItemListener {
 		rebuiltItem.submitForm(rebuiltItem.getForm());
 		// Register as a observer of the Item
 		rebuiltItem.addListener(this);
+		// It matches what the provider has until it changes
+		rebuiltItem.markPersisted();
 		// Load the Item into the list
 		itemList.put(rebuiltItem.getId(), rebuiltItem);
 	}
@@ -651,6 +679,7 @@ public class ItemManager implements ItemListener {
 					// Otherwise just put the Item in the list, but disable
 					// it. It can still be read, just not processed.
 					item.disable(true);
+					item.markPersisted();
 					itemList.put(item.getId(), item);
 				}
 			}
@@ -692,7 +721,7 @@ public class ItemManager implements ItemListener {
 	 * persistence operation per se since all of the Items have already been
 	 * initially persisted during creation and updating. Instead, the
 	 * persistence provider is asked to update all of the information for the
-	 * persisted Items.
+	 * persisted Items that have changed since they were last persisted.
 	 * </p>
 	 *
 	 */
@@ -701,13 +730,13 @@ public class ItemManager implements ItemListener {
 		// I'm not sure how to check this in tests in a very detailed way. It is
 		// only minimally tested now.
 
-		// Update all of the Items in the database if the provider is available.
+		// Update all of the changed Items in the database if the provider is
+		// available.
 		if (provider != null) {
 			logger.info("ItemManager Message: Updating all Items with "
 					+ "Persistence Provider.");
 			for (Item item : itemList.values()) {
-				logger.info("ItemManager Message: Persisting " + item.getName());
-				provider.updateItem(item);
+				persistItem(item);
 			}
 		}
 
@@ -778,6 +807,7 @@ public class ItemManager implements ItemListener {
 			// Try to cancel the task. This kills all processes regardless of
 			// name for now.
 			status = item.cancelProcess();
+			increaseRevision(item);
 		}
 
 		return status;
@@ -795,6 +825,7 @@ public class ItemManager implements ItemListener {
 		// Send a reload signal to all of the Items
 		for (Item item : itemList.values()) {
 			item.reloadProjectData();
+			increaseRevision(item);
 		}
 
 		return;
@@ -830,6 +861,7 @@ public class ItemManager implements ItemListener {
 			Item messagedItem = itemList.get(itemId);
 			// Post the message
 			retVal = messagedItem.update(msg);
+			increaseRevision(messagedItem);
 		}
 
 		return retVal;
@@ -845,11 +877,89 @@ public class ItemManager implements ItemListener {
 
 		// Not threaded for now, but should it be? ~JJB 20130912 17:06
 
+		// If the workspace is tracked, the resource changes that caused this
+		// call are forwarded to the Items that depend on them.
+		if (trackedWorkspace != null) {
+			return;
+		}
+
 		// Direct all of the Items to reload their data
 		logger.info(
 				"ItemManager Message: " + "Reloading all Item project data.");
 		for (Item item : itemList.values()) {
 			item.reloadProjectData();
+			increaseRevision(item);
+		}
+
+		return;
+	}
+
+	/**
+	 * This operation directs the ItemManager to listen for changes to the
+	 * resources in the workspace and forward them to the Items in the
+	 * projects that changed.
+	 *
+	 * @param workspace
+	 *            The workspace that should be tracked
+	 */
+	public void startResourceTracking(IWorkspace workspace) {
+		stopResourceTracking();
+		if (workspace != null) {
+			trackedWorkspace = workspace;
+			workspace.addResourceChangeListener(this,
+					IResourceChangeEvent.POST_CHANGE);
+		}
+		return;
+	}
+
+	/**
+	 * This operation directs the ItemManager to stop listening for changes to
+	 * the workspace.
+	 */
+	public void stopResourceTracking() {
+		if (trackedWorkspace != null) {
+			trackedWorkspace.removeResourceChangeListener(this);
+			trackedWorkspace = null;
+		}
+		return;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see
+	 * org.eclipse.core.resources.IResourceChangeListener#resourceChanged(org.
+	 * eclipse.core.resources.IResourceChangeEvent)
+	 */
+	@Override
+	public void resourceChanged(IResourceChangeEvent event) {
+		if (event.getDelta() != null) {
+			reloadItemData(event.getDelta());
+		}
+	}
+
+	/**
+	 * This operation forwards changes to the workspace to the Items in the
+	 * projects that changed. Only the Items that depend on a changed resource
+	 * reload their data.
+	 *
+	 * @param delta
+	 *            The changes to the workspace, starting at the workspace root
+	 */
+	public void reloadItemData(IResourceDelta delta) {
+
+		// Copy the Items since the changes may be reported on any thread
+		ArrayList<Item> items = new ArrayList<Item>(itemList.values());
+
+		// Forward the delta of each Item's project
+		for (Item item : items) {
+			IProject project = item.getProject();
+			IResourceDelta projectDelta = (project != null)
+					? delta.findMember(project.getFullPath()) : null;
+			if (projectDelta != null
+					&& item.reloadProjectData(projectDelta)) {
+				increaseRevision(item);
+			}
 		}
 
 		return;
@@ -916,7 +1026,10 @@ public class ItemManager implements ItemListener {
 		// Make sure the Id is valid and then find its parent
 		if (itemList.containsKey(id)) {
 			currentItem = itemList.get(id);
-			status = currentItem.submitForm(form);
+			synchronized (currentItem) {
+				status = currentItem.submitForm(form);
+				increaseRevision(currentItem);
+			}
 		}
 
 		// Check the status and write to the database if it is enabled
@@ -924,7 +1037,61 @@ public class ItemManager implements ItemListener {
 		if ((status.equals(FormStatus.Processed)
 				|| status.equals(FormStatus.ReadyToProcess))
 				&& provider != null) {
-			provider.updateItem(currentItem);
+			persistItem(currentItem);
+		}
+
+		return status;
+	}
+
+	/**
+	 * <p>
+	 * This operation updates an Item that is managed by the ItemManager with a
+	 * set of changes to its Form and returns the status of that Item. The
+	 * Item is persisted as it is by updateItem(Form).
+	 * </p>
+	 * <p>
+	 * The revision check, the changes and the new revision are applied while
+	 * holding the lock of the Item, so no other update or revision change can
+	 * come between them.
+	 * </p>
+	 *
+	 * @param delta
+	 *            <p>
+	 *            The changes to the Form of the Item that needs to be updated.
+	 *            </p>
+	 * @return
+	 * 		<p>
+	 *         The status of the Item after the delta is submitted.
+	 *         </p>
+	 */
+	public FormStatus updateItem(FormDelta delta) {
+
+		// Local Declarations
+		FormStatus status = FormStatus.InfoError;
+		int id = delta.getItemID();
+		Item currentItem = null;
+
+		// Make sure the Id is valid and then find its parent
+		if (itemList.containsKey(id)) {
+			currentItem = itemList.get(id);
+			synchronized (currentItem) {
+				// The revision only changes if the delta was made on the
+				// current revision, otherwise the Item rejects it without
+				// changes.
+				boolean current = currentItem.getForm() != null && currentItem
+						.getForm().getRevision() == delta.getRevision();
+				status = currentItem.submitDelta(delta);
+				if (current) {
+					increaseRevision(currentItem);
+				}
+			}
+		}
+
+		// Check the status and write to the database if it is enabled
+		if ((status.equals(FormStatus.Processed)
+				|| status.equals(FormStatus.ReadyToProcess))
+				&& provider != null) {
+			persistItem(currentItem);
 		}
 
 		return status;
@@ -979,6 +1146,7 @@ public class ItemManager implements ItemListener {
 			tmpItem = itemList.get(itemId);
 			if (tmpItem != null) {
 				status = tmpItem.process(actionName);
+				increaseRevision(tmpItem);
 			}
 		} else {
 			logger.info(
@@ -991,6 +1159,73 @@ public class ItemManager implements ItemListener {
 		return status;
 	}
 
+	/**
+	 * This operation performs the same action on several Items at the same
+	 * time. It is meant for actions that only read the Items' Forms, such as
+	 * exporting them to files, which can be run in parallel without affecting
+	 * each other. Each Item is processed as if processItem() had been called
+	 * for it, and the calling thread waits until all of them are finished.
+	 *
+	 * @param itemIds
+	 *            The identification numbers of the Items
+	 * @param actionName
+	 *            The name of the action that should be performed for each
+	 *            Item
+	 * @param maxThreads
+	 *            The largest number of Items that should be processed at the
+	 *            same time. Values less than one process the Items one at a
+	 *            time.
+	 * @return A map of the status of each Item after the action has been
+	 *         performed, keyed by Item id. Items that could not be processed
+	 *         have the status FormStatus.InfoError.
+	 */
+	public HashMap<Integer, FormStatus> processItems(List<Integer> itemIds,
+			final String actionName, int maxThreads) {
+
+		// Local Declarations
+		HashMap<Integer, FormStatus> statuses = new HashMap<Integer, FormStatus>();
+		HashMap<Integer, Future<FormStatus>> results = new HashMap<Integer, Future<FormStatus>>();
+
+		// Don't bother with a pool if there is nothing to do
+		if (itemIds == null || itemIds.isEmpty()) {
+			return statuses;
+		}
+
+		// Submit each Item to a pool no larger than the number of Items
+		ExecutorService executor = Executors.newFixedThreadPool(
+				Math.max(1, Math.min(maxThreads, itemIds.size())));
+		try {
+			for (final Integer itemId : itemIds) {
+				if (itemId != null && !results.containsKey(itemId)) {
+					results.put(itemId,
+							executor.submit(new Callable<FormStatus>() {
+								@Override
+								public FormStatus call() {
+									return processItem(itemId, actionName);
+								}
+							}));
+				}
+			}
+			// Collect the results
+			for (Integer itemId : results.keySet()) {
+				FormStatus status = FormStatus.InfoError;
+				try {
+					status = results.get(itemId).get();
+				} catch (ExecutionException e) {
+					logger.error(getClass().getName() + " Exception!", e);
+				}
+				statuses.put(itemId, status);
+			}
+		} catch (InterruptedException e) {
+			logger.error(getClass().getName() + " Exception!", e);
+			Thread.currentThread().interrupt();
+		} finally {
+			executor.shutdownNow();
+		}
+
+		return statuses;
+	}
+
 	/**
 	 * <p>
 	 * This operation will delete the item with id itemID.
@@ -1045,9 +1280,69 @@ public class ItemManager implements ItemListener {
 	 */
 	public void renameItem(int itemID, String name) {
 		itemList.get(itemID).setName(name);
+		increaseRevision(itemList.get(itemID));
 		provider.renameItem(itemList.get(itemID), name);
 	}
 
+	/**
+	 * This operation increases the revision of the current Form of an Item,
+	 * if the Item changed, so that clients that cached an older copy of it
+	 * know to retrieve it again. It holds the lock of the Item so that it can
+	 * not change the revision while updateItem(FormDelta) is applying a delta.
+	 *
+	 * @param item
+	 *            The Item that was changed
+	 */
+	private void increaseRevision(Item item) {
+		if (item != null) {
+			synchronized (item) {
+				item.increaseFormRevision();
+			}
+		}
+	}
+
+	/**
+	 * This operation updates an Item with the persistence provider if it
+	 * changed since it was last persisted. Unchanged Items are skipped.
+	 *
+	 * @param item
+	 *            The Item that should be persisted
+	 */
+	private void persistItem(Item item) {
+		if (item.isDirty()) {
+			logger.info("ItemManager Message: Persisting " + item.getName());
+			provider.updateItem(item);
+			item.markPersisted();
+		}
+	}
+
+	/**
+	 * This operation returns the revision of the Form of an Item. The
+	 * revision is increased first if the Item changed since it was last
+	 * increased, so it always reflects the current state of the Item.
+	 *
+	 * @param itemId
+	 *            The id of the Item
+	 * @return The revision or -1 if there is no Item with the id or it does
+	 *         not have a Form
+	 */
+	public long getItemRevision(int itemId) {
+
+		// Local Declarations
+		long revision = -1;
+		Item item = itemList.get(itemId);
+
+		if (item != null) {
+			increaseRevision(item);
+			Form form = item.getForm();
+			if (form != null) {
+				revision = form.getRevision();
+			}
+		}
+
+		return revision;
+	}
+
 	/**
 	 * This operation configures the IOService that should be used by Items
 	 *
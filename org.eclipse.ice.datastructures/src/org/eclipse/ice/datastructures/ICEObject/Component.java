@@ -46,4 +46,33 @@ public interface Component extends IUpdateable {
 	 *            </p>
 	 */
 	public void accept(IComponentVisitor visitor);
+
+	/**
+	 * This operation returns the content revision of the Component. It is
+	 * increased every time that the Component or any of its contents change,
+	 * so containers can use it to tell if they changed without comparing
+	 * their contents.
+	 * 
+	 * @return The content revision
+	 */
+	public long getContentRevision();
+
+	/**
+	 * This operation registers a listener that is called on the thread that
+	 * changes the content revision of the Component, right after it changes.
+	 * Registering the same listener twice has no effect.
+	 * 
+	 * @param listener
+	 *            The listener
+	 */
+	public void registerRevisionListener(IContentRevisionListener listener);
+
+	/**
+	 * This operation unregisters a listener that was registered with
+	 * registerRevisionListener().
+	 * 
+	 * @param listener
+	 *            The listener
+	 */
+	public void unregisterRevisionListener(IContentRevisionListener listener);
 }
\ No newline at end of file
@@ -13,6 +13,8 @@
 package org.eclipse.ice.datastructures.ICEObject;
 
 import java.util.ArrayList;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.xml.bind.annotation.XmlAttribute;
 import javax.xml.bind.annotation.XmlRootElement;
@@ -49,6 +51,14 @@ import org.slf4j.LoggerFactory;
  * unregistering and notifications. Subclasses are expected to override
  * update().
  * </p>
+ * <p>
+ * ICEObjects also carry a content revision that changes every time the object
+ * notifies its listeners of a change. Content revisions are taken from a clock
+ * that is shared by all ICEObjects and Entries, so a newer change always has a
+ * larger revision and the largest content revision in a tree of objects tells
+ * whether any part of the tree changed since it was last checked. Containers
+ * override getContentRevision() to include the revisions of their contents.
+ * </p>
  * 
  * @author Jay Jay Billings
  */
@@ -99,6 +109,24 @@ public class ICEObject implements IUpdateable {
 	@XmlTransient
 	protected ArrayList<IUpdateableListener> listeners;
 
+	/**
+	 * The clock from which the content revisions of all ICEObjects and
+	 * Entries are taken.
+	 */
+	private static final AtomicLong revisionClock = new AtomicLong();
+
+	/**
+	 * The content revision of the ICEObject. It is not persisted.
+	 */
+	private volatile long contentRevision = nextContentRevision();
+
+	/**
+	 * The set of IContentRevisionListeners that are called when the content
+	 * revision changes.
+	 */
+	@XmlTransient
+	private final CopyOnWriteArrayList<IContentRevisionListener> revisionListeners = new CopyOnWriteArrayList<IContentRevisionListener>();
+
 	/**
 	 * The Constructor
 	 */
@@ -216,16 +244,79 @@ public class ICEObject implements IUpdateable {
 		objectName = entity.objectName;
 		uniqueId = entity.uniqueId;
 		context = entity.context;
+		markContentChanged();
 
 		return;
 	}
 
+	/**
+	 * This operation returns the next content revision from the clock that is
+	 * shared by all ICEObjects and Entries.
+	 * 
+	 * @return A content revision that is larger than all previous ones
+	 */
+	public static long nextContentRevision() {
+		return revisionClock.incrementAndGet();
+	}
+
+	/**
+	 * This operation returns the content revision of the ICEObject. It is
+	 * increased every time that the ICEObject changes.
+	 * 
+	 * @return The content revision
+	 */
+	@XmlTransient
+	public long getContentRevision() {
+		return contentRevision;
+	}
+
+	/**
+	 * This operation marks the ICEObject as changed by giving it a new content
+	 * revision and calls the IContentRevisionListeners. It is called by
+	 * notifyListeners() and only needs to be called directly for changes that
+	 * do not notify the listeners.
+	 */
+	protected void markContentChanged() {
+		contentRevision = nextContentRevision();
+		for (IContentRevisionListener listener : revisionListeners) {
+			listener.contentRevisionChanged(this);
+		}
+	}
+
+	/**
+	 * This operation registers a listener that is called on the thread that
+	 * changes the content revision of the ICEObject. Registering the same
+	 * listener twice has no effect.
+	 * 
+	 * @param listener
+	 *            The listener
+	 */
+	public void registerRevisionListener(IContentRevisionListener listener) {
+		if (listener != null) {
+			revisionListeners.addIfAbsent(listener);
+		}
+	}
+
+	/**
+	 * This operation unregisters a listener that was registered with
+	 * registerRevisionListener().
+	 * 
+	 * @param listener
+	 *            The listener
+	 */
+	public void unregisterRevisionListener(IContentRevisionListener listener) {
+		revisionListeners.remove(listener);
+	}
+
 	/**
 	 * This protected operation notifies the listeners of the ICEObject that its
 	 * state has changed.
 	 */
 	protected void notifyListeners() {
 
+		// The state changed, so the revision changes
+		markContentChanged();
+
 		// Only process the update if there are listeners
 		if (listeners != null && !listeners.isEmpty()) {
 			// Create a thread on which to notify the listeners.
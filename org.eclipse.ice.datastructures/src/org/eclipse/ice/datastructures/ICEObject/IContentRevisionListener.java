@@ -0,0 +1,38 @@
+/*******************************************************************************
+ * Copyright (c) 2016 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - Jay Jay Billings
+ *******************************************************************************/
+package org.eclipse.ice.datastructures.ICEObject;
+
+/**
+ * <p>
+ * The IContentRevisionListener interface specifies the operation that must be
+ * realized by classes that need to know right away when the content revision
+ * of a Component or an Entry changes.
+ * </p>
+ * <p>
+ * Unlike IUpdateableListeners, which are notified on a separate thread,
+ * IContentRevisionListeners are called on the thread that makes the change
+ * before the operation that made it returns. They should be fast and must not
+ * modify the object that changed.
+ * </p>
+ *
+ * @author Jay Jay Billings
+ */
+public interface IContentRevisionListener {
+
+	/**
+	 * This operation notifies the listener that the content revision of an
+	 * object changed.
+	 *
+	 * @param source
+	 *            The Component or Entry that changed
+	 */
+	public void contentRevisionChanged(Object source);
+}
@@ -13,6 +13,7 @@ package org.eclipse.ice.datastructures.ICEObject;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -141,6 +142,20 @@ public class ListComponent<T> extends TransformedList<T, T>
 	@XmlTransient
 	protected WritableTableFormat<T> tableFormat;
 
+	/**
+	 * The content revision of the list, which is taken from the same clock as
+	 * the content revisions of ICEObjects. It is not persisted.
+	 */
+	@XmlTransient
+	private volatile long contentRevision = ICEObject.nextContentRevision();
+
+	/**
+	 * The set of IContentRevisionListeners that are called when the content
+	 * revision changes.
+	 */
+	@XmlTransient
+	private final CopyOnWriteArrayList<IContentRevisionListener> revisionListeners = new CopyOnWriteArrayList<IContentRevisionListener>();
+
 	/**
 	 * The default constructor.
 	 * 
@@ -185,6 +200,14 @@ public class ListComponent<T> extends TransformedList<T, T>
 		idList.add("");
 		// Setup the listener map
 		listenerMap = new HashMap<IUpdateableListener, ListEventListener<Object>>();
+		// Listen to the elements and ids to track the content revision
+		source.addListEventListener(this);
+		idList.addListEventListener(new ListEventListener<String>() {
+			@Override
+			public void listChanged(ListEvent<String> listChanges) {
+				markContentChanged();
+			}
+		});
 	}
 
 	/**
@@ -339,7 +362,49 @@ public class ListComponent<T> extends TransformedList<T, T>
 	 */
 	@Override
 	public void listChanged(ListEvent<T> listChanges) {
-		logger.info("List changed!");
+		// The elements changed, so the revision changes
+		markContentChanged();
+	}
+
+	/**
+	 * This operation returns the content revision of the list. It is
+	 * increased every time that the elements of the list or its name or
+	 * description change.
+	 * 
+	 * @see Component#getContentRevision()
+	 */
+	@Override
+	public long getContentRevision() {
+		return contentRevision;
+	}
+
+	/**
+	 * @see Component#registerRevisionListener(IContentRevisionListener)
+	 */
+	@Override
+	public void registerRevisionListener(IContentRevisionListener listener) {
+		if (listener != null) {
+			revisionListeners.addIfAbsent(listener);
+		}
+	}
+
+	/**
+	 * @see Component#unregisterRevisionListener(IContentRevisionListener)
+	 */
+	@Override
+	public void unregisterRevisionListener(IContentRevisionListener listener) {
+		revisionListeners.remove(listener);
+	}
+
+	/**
+	 * This operation gives the list a new content revision and calls the
+	 * IContentRevisionListeners.
+	 */
+	private void markContentChanged() {
+		contentRevision = ICEObject.nextContentRevision();
+		for (IContentRevisionListener listener : revisionListeners) {
+			listener.contentRevisionChanged(this);
+		}
 	}
 
 	/*
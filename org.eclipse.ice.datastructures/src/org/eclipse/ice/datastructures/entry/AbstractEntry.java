@@ -15,6 +15,7 @@ package org.eclipse.ice.datastructures.entry;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -23,6 +24,8 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlTransient;
 
+import org.eclipse.ice.datastructures.ICEObject.ICEObject;
+import org.eclipse.ice.datastructures.ICEObject.IContentRevisionListener;
 import org.eclipse.ice.datastructures.ICEObject.IUpdateable;
 import org.eclipse.ice.datastructures.ICEObject.IUpdateableListener;
 import org.eclipse.ice.datastructures.ICEObject.Identifiable;
@@ -73,6 +76,20 @@ public abstract class AbstractEntry implements IEntry {
 	@XmlTransient
 	protected ArrayList<IUpdateableListener> listeners;
 
+	/**
+	 * The content revision of the Entry, which is taken from the same clock as
+	 * the content revisions of ICEObjects. It is not persisted.
+	 */
+	@XmlTransient
+	private volatile long contentRevision = ICEObject.nextContentRevision();
+
+	/**
+	 * The set of IContentRevisionListeners that are called when the content
+	 * revision changes.
+	 */
+	@XmlTransient
+	private final CopyOnWriteArrayList<IContentRevisionListener> revisionListeners = new CopyOnWriteArrayList<IContentRevisionListener>();
+
 	/**
 	 * The value of this AbstractEntry
 	 */
@@ -275,9 +292,55 @@ public abstract class AbstractEntry implements IEntry {
 		this.isRequired = entity.isRequired;
 		this.tag = entity.tag;
 		this.contextId = entity.contextId;
+		markContentChanged();
 
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.eclipse.ice.datastructures.entry.IEntry#getContentRevision()
+	 */
+	@Override
+	public long getContentRevision() {
+		return contentRevision;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.eclipse.ice.datastructures.entry.IEntry#registerRevisionListener(
+	 * org.eclipse.ice.datastructures.ICEObject.IContentRevisionListener)
+	 */
+	@Override
+	public void registerRevisionListener(IContentRevisionListener listener) {
+		if (listener != null) {
+			revisionListeners.addIfAbsent(listener);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.eclipse.ice.datastructures.entry.IEntry#unregisterRevisionListener(
+	 * org.eclipse.ice.datastructures.ICEObject.IContentRevisionListener)
+	 */
+	@Override
+	public void unregisterRevisionListener(IContentRevisionListener listener) {
+		revisionListeners.remove(listener);
+	}
+
+	/**
+	 * This operation gives the Entry a new content revision and calls the
+	 * IContentRevisionListeners.
+	 */
+	private void markContentChanged() {
+		contentRevision = ICEObject.nextContentRevision();
+		for (IContentRevisionListener listener : revisionListeners) {
+			listener.contentRevisionChanged(this);
+		}
+	}
+
 	/**
 	 * <p>
 	 * This protected operation notifies the listeners of the ICEObject that its
@@ -287,6 +350,9 @@ public abstract class AbstractEntry implements IEntry {
 	 */
 	protected void notifyListeners() {
 
+		// The state changed, so the revision changes
+		markContentChanged();
+
 		// Only process the update if there are listeners
 		if (listeners != null && !listeners.isEmpty()) {
 			// Create a thread on which to notify the listeners.
@@ -467,6 +533,22 @@ public abstract class AbstractEntry implements IEntry {
 	@Override
 	public abstract boolean setValue(String... values);
 
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see
+	 * org.eclipse.ice.datastructures.entry.IEntry#validate(java.lang.String)
+	 */
+	@Override
+	public String validate(String value) {
+		// Any String is acceptable by default, but null is never accepted by
+		// setValue().
+		if (value == null) {
+			return "'null' is an unacceptable value.";
+		}
+		return null;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -42,6 +42,38 @@ public class ContinuousEntry extends DiscreteEntry {
 	protected String continuousErrMsg = "'${incorrectValue}' is an "
 			+ "unacceptable value. The value must be between ${lowerBound} " + "and ${upperBound}.";
 
+	/**
+	 * The lower bound of the range, parsed from the allowed values.
+	 */
+	@XmlTransient
+	private double lowerBound;
+
+	/**
+	 * The upper bound of the range, parsed from the allowed values.
+	 */
+	@XmlTransient
+	private double upperBound;
+
+	/**
+	 * True if the allowed values were parsed into a lower and upper bound,
+	 * false otherwise.
+	 */
+	@XmlTransient
+	private boolean hasBounds;
+
+	/**
+	 * The String that the lower bound was parsed from. It is used to notice
+	 * bounds that were replaced in place.
+	 */
+	@XmlTransient
+	private String lowerBoundText;
+
+	/**
+	 * The String that the upper bound was parsed from.
+	 */
+	@XmlTransient
+	private String upperBoundText;
+
 	/**
 	 * The constructor
 	 */
@@ -79,45 +111,95 @@ public class ContinuousEntry extends DiscreteEntry {
 	 */
 	@Override
 	public boolean setValue(String newValue) {
-		Double newValueDouble, lowerBound, upperBound;
-		// Check continuous value against the bounds. Doing this with
-		// doubles is simplest. allowedValues should only have two
-		// values for Continuous values.
-		if (allowedValues.size() == 2) {
-			lowerBound = Double.valueOf(allowedValues.get(0));
-			upperBound = Double.valueOf(allowedValues.get(1));
-			// Try to cast to a double, but fail if it is impossible.
-			try {
-				newValueDouble = Double.valueOf(newValue);
-			} catch (NumberFormatException | NullPointerException e) {
-				// Replace the default error values with the ones for this Entry
-				String error = continuousErrMsg;
-				error = error.replace("${incorrectValue}", newValue != null ? newValue : "null");
-				error = error.replace("${lowerBound}", getAllowedValues().get(0));
-				error = error.replace("${upperBound}", getAllowedValues().get(1));
-				this.errorMessage = error;
-				return false;
-			}
+		// allowedValues should only have two values for Continuous values.
+		compileIfNeeded();
+		if (hasBounds) {
 			// Set the value if it is within the bounds
-			if (newValueDouble != null
-					&& (newValueDouble.compareTo(lowerBound) != -1 && newValueDouble.compareTo(upperBound) != 1)) {
+			String error = validate(newValue);
+			if (error == null) {
 				this.value = newValue;
 				errorMessage = null;
 				return true;
-			} else {
-				// Replace the default error values with the ones for this Entry
-				String error = continuousErrMsg;
-				error = error.replace("${incorrectValue}", newValue != null ? newValue : "null");
-				error = error.replace("${lowerBound}", getAllowedValues().get(0));
-				error = error.replace("${upperBound}", getAllowedValues().get(1));
-				this.errorMessage = error;
-				return false;
 			}
+			this.errorMessage = error;
+			return false;
 		}
 	
 		logger.info("ContinuousEntry must be initialized with an allowedValue list of size 2: the lower bound at index 0 and the upper bound at index 1.");
 		return false;
 	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.ice.datastructures.entry.DiscreteEntry#validate(java.lang.String)
+	 */
+	@Override
+	public String validate(String value) {
+		// Check continuous value against the parsed bounds. Doing this with
+		// doubles is simplest.
+		compileIfNeeded();
+		if (hasBounds && value != null) {
+			// Try to cast to a double, but fail if it is impossible.
+			try {
+				double newValueDouble = Double.parseDouble(value);
+				if (Double.compare(newValueDouble, lowerBound) >= 0
+						&& Double.compare(newValueDouble, upperBound) <= 0) {
+					return null;
+				}
+			} catch (NumberFormatException e) {
+				// Fall through to the error below
+			}
+		}
+
+		// Replace the default error values with the ones for this Entry
+		String error = continuousErrMsg;
+		error = error.replace("${incorrectValue}", value != null ? value : "null");
+		if (allowedValues != null && allowedValues.size() == 2) {
+			error = error.replace("${lowerBound}", allowedValues.get(0));
+			error = error.replace("${upperBound}", allowedValues.get(1));
+		}
+		return error;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.ice.datastructures.entry.DiscreteEntry#compileAllowedValues()
+	 */
+	@Override
+	protected void compileAllowedValues() {
+		// Parse the bounds once instead of on every call to setValue()
+		hasBounds = false;
+		lowerBoundText = null;
+		upperBoundText = null;
+		if (allowedValues != null && allowedValues.size() == 2) {
+			lowerBoundText = allowedValues.get(0);
+			upperBoundText = allowedValues.get(1);
+			try {
+				lowerBound = Double.parseDouble(allowedValues.get(0));
+				upperBound = Double.parseDouble(allowedValues.get(1));
+				hasBounds = true;
+			} catch (NumberFormatException | NullPointerException e) {
+				logger.info("ContinuousEntry Message: The bounds "
+						+ allowedValues + " are not numbers.");
+			}
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.ice.datastructures.entry.DiscreteEntry#compileIfNeeded()
+	 */
+	@Override
+	protected void compileIfNeeded() {
+		// There are only two bounds, so it is cheap to also check whether
+		// either of them was replaced without resizing the list.
+		if (allowedValues != null && allowedValues.size() == 2
+				&& (allowedValues.get(0) != lowerBoundText
+						|| allowedValues.get(1) != upperBoundText)) {
+			invalidateAllowedValues();
+		}
+		super.compileIfNeeded();
+	}
 	
 	/*
 	 * (non-Javadoc)
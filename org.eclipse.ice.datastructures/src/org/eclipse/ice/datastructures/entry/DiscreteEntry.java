@@ -15,7 +15,9 @@ package org.eclipse.ice.datastructures.entry;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -54,6 +56,27 @@ public class DiscreteEntry extends AbstractEntry {
 	@XmlElement(name = "AllowedValues")
 	protected List<String> allowedValues;
 
+	/**
+	 * The allowed values hashed for fast membership checks. It is compiled
+	 * from the allowed values by {@link #compileAllowedValues()}.
+	 */
+	@XmlTransient
+	private Set<String> allowedValueSet;
+
+	/**
+	 * The list of allowed values from which the validator was last compiled,
+	 * or null if it must be compiled again.
+	 */
+	@XmlTransient
+	private List<String> compiledValues;
+
+	/**
+	 * The size of the list of allowed values when the validator was last
+	 * compiled.
+	 */
+	@XmlTransient
+	private int compiledSize;
+
 	/**
 	 * The Constructor
 	 */
@@ -109,34 +132,90 @@ public class DiscreteEntry extends AbstractEntry {
 	@Override
 	public boolean setValue(String newValue) {
 		// Only set the value if it is allowed
-		if (allowedValues.contains(newValue)) {
+		String error = validate(newValue);
+		if (error == null) {
 			errorMessage = null;
 			return super.setValue(newValue);
 		}
 
+		this.errorMessage = error;
+		return false;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.eclipse.ice.datastructures.entry.AbstractEntry#validate(java.lang.
+	 * String)
+	 */
+	@Override
+	public String validate(String value) {
+		// Check the value against the hashed allowed values
+		compileIfNeeded();
+		if (value != null && allowedValueSet.contains(value)) {
+			return null;
+		}
+
 		String error = this.discreteErrMsg;
 
 		// loop to get all the values of the allowedValues
-		String tempValues = "";
-		for (int i = 0; i < allowedValues.size(); i++) {
+		int size = (allowedValues != null) ? allowedValues.size() : 0;
+		StringBuilder tempValues = new StringBuilder();
+		for (int i = 0; i < size; i++) {
 			// If it is a list and it is the last item, add an "or"
-			if (i == allowedValues.size() - 1 && allowedValues.size() > 1) {
-				tempValues += " or";
+			if (i == size - 1 && size > 1) {
+				tempValues.append(" or");
 			}
 			// Add the value to the message
-			tempValues += " " + allowedValues.get(i);
+			tempValues.append(" ").append(allowedValues.get(i));
 			// Add a comma for the allowedValues
-			if (i < allowedValues.size() - 1 && allowedValues.size() > 2) {
-				tempValues += ",";
+			if (i < size - 1 && size > 2) {
+				tempValues.append(",");
 			}
 
 		}
 
 		// Replace with correct errors
-		error = error.replace("${incorrectValue}", newValue != null ? newValue : "null");
-		error = error.replace(" ${allowedValues}", tempValues);
-		this.errorMessage = error;
-		return false;
+		error = error.replace("${incorrectValue}", value != null ? value : "null");
+		error = error.replace(" ${allowedValues}", tempValues.toString());
+		return error;
+	}
+
+	/**
+	 * This operation compiles the allowed values into the form used to
+	 * validate new values. Subclasses that interpret the allowed values
+	 * differently should override it and call it through
+	 * {@link #compileIfNeeded()}, which only recompiles after the allowed
+	 * values change.
+	 */
+	protected void compileAllowedValues() {
+		allowedValueSet = (allowedValues != null)
+				? new HashSet<String>(allowedValues) : new HashSet<String>();
+	}
+
+	/**
+	 * This operation recompiles the allowed values if they were replaced,
+	 * resized or handed out through {@link #getAllowedValues()} since the last
+	 * compilation. A list that is changed in place through some other
+	 * reference without changing its size should be passed to
+	 * {@link #setAllowedValues(List)} again.
+	 */
+	protected void compileIfNeeded() {
+		if (compiledValues == null || compiledValues != allowedValues
+				|| compiledSize != allowedValues.size()) {
+			compileAllowedValues();
+			compiledValues = allowedValues;
+			compiledSize = (allowedValues != null) ? allowedValues.size() : 0;
+		}
+	}
+
+	/**
+	 * This operation marks the compiled allowed values as stale so that they
+	 * are compiled again the next time a value is validated.
+	 */
+	protected void invalidateAllowedValues() {
+		compiledValues = null;
 	}
 
 	/*
@@ -147,6 +226,9 @@ public class DiscreteEntry extends AbstractEntry {
 	 */
 	@Override
 	public List<String> getAllowedValues() {
+		// The list can be modified by the caller, so compile it again before
+		// the next validation.
+		invalidateAllowedValues();
 		return allowedValues;
 	}
 
@@ -160,6 +242,7 @@ public class DiscreteEntry extends AbstractEntry {
 	@Override
 	public void setAllowedValues(List<String> values) {
 		allowedValues = values;
+		invalidateAllowedValues();
 		if (allowedValues != null && !allowedValues.isEmpty()) {
 			setValue(allowedValues.get(0));
 		}
@@ -226,6 +309,7 @@ public class DiscreteEntry extends AbstractEntry {
 
 		super.copy(entity);
 		allowedValues = entity.allowedValues;
+		invalidateAllowedValues();
 		return;
 	}
 
@@ -15,6 +15,7 @@ package org.eclipse.ice.datastructures.entry;
 
 import java.util.List;
 
+import org.eclipse.ice.datastructures.ICEObject.IContentRevisionListener;
 import org.eclipse.ice.datastructures.ICEObject.IUpdateable;
 import org.eclipse.ice.datastructures.ICEObject.IUpdateableListener;
 import org.eclipse.ice.datastructures.ICEObject.Identifiable;
@@ -46,13 +47,50 @@ public interface IEntry extends Identifiable, IUpdateable, IUpdateableListener {
 	 * @return success True if the values were set correctly.
 	 */
 	public boolean setValue(String... values);
-	
+
+	/**
+	 * This operation checks a value against the constraints of this IEntry
+	 * without setting it. It is used to review the Entries of a Form in bulk.
+	 *
+	 * @param value The String value to check
+	 * @return error The error message that setValue() would report for the
+	 * value, or null if the value is acceptable.
+	 */
+	public String validate(String value);
+
 	/**
 	 * This operation returns this IEntry realization's value.
 	 *  
 	 * @return value The value of this Entry
 	 */
 	public String getValue();
+
+	/**
+	 * This operation returns the content revision of the Entry. It is
+	 * increased every time that the Entry changes.
+	 * 
+	 * @return The content revision
+	 */
+	public long getContentRevision();
+
+	/**
+	 * This operation registers a listener that is called on the thread that
+	 * changes the content revision of the Entry, right after it changes.
+	 * Registering the same listener twice has no effect.
+	 * 
+	 * @param listener
+	 *            The listener
+	 */
+	public void registerRevisionListener(IContentRevisionListener listener);
+
+	/**
+	 * This operation unregisters a listener that was registered with
+	 * registerRevisionListener().
+	 * 
+	 * @param listener
+	 *            The listener
+	 */
+	public void unregisterRevisionListener(IContentRevisionListener listener);
 	
 	/**
 	 * Return the value at the given index for an IEntry that is multi-valued. 
@@ -14,12 +14,15 @@ package org.eclipse.ice.datastructures.form;
 
 import java.util.ArrayList;
 
+import javax.xml.bind.Unmarshaller;
 import javax.xml.bind.annotation.XmlAnyElement;
 import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlTransient;
 
 import org.eclipse.ice.datastructures.ICEObject.Component;
 import org.eclipse.ice.datastructures.ICEObject.ICEObject;
+import org.eclipse.ice.datastructures.ICEObject.IContentRevisionListener;
 import org.eclipse.ice.datastructures.ICEObject.IUpdateable;
 import org.eclipse.ice.datastructures.ICEObject.IUpdateableListener;
 import org.eclipse.ice.datastructures.componentVisitor.IComponentVisitor;
@@ -45,6 +48,19 @@ public class DataComponent extends ICEObject
 	@XmlAnyElement(lax = true)
 	private ArrayList<IEntry> entries;
 
+	/**
+	 * The listener that marks this DataComponent as changed as soon as one of
+	 * its Entries changes, so that the containers of this DataComponent are
+	 * told right away too.
+	 */
+	@XmlTransient
+	private final IContentRevisionListener entryRevisionListener = new IContentRevisionListener() {
+		@Override
+		public void contentRevisionChanged(Object source) {
+			markContentChanged();
+		}
+	};
+
 	/**
 	 * <p>
 	 * The Constructor
@@ -75,6 +91,7 @@ public class DataComponent extends ICEObject
 			entries.add(newEntry);
 			// Register the data component as a listener of the Entry
 			newEntry.register(this);
+			newEntry.registerRevisionListener(entryRevisionListener);
 			// Notify the listeners that the component has changed
 			notifyListeners();
 		}
@@ -114,6 +131,9 @@ public class DataComponent extends ICEObject
 
 		// Clear the list of Entries if it is not already empty
 		if (!entries.isEmpty()) {
+			for (IEntry entry : entries) {
+				entry.unregisterRevisionListener(entryRevisionListener);
+			}
 			entries.clear();
 			notifyListeners();
 		}
@@ -144,7 +164,8 @@ public class DataComponent extends ICEObject
 			// search is OK since the list should be small
 			for (i = 0; i < entries.size(); i++) {
 				if (entries.get(i).getName().equals(entryName)) {
-					entries.remove(i);
+					entries.remove(i)
+							.unregisterRevisionListener(entryRevisionListener);
 				}
 			}
 
@@ -224,6 +245,27 @@ public class DataComponent extends ICEObject
 		return entries;
 	}
 
+	/**
+	 * This operation returns the content revision of the DataComponent, which
+	 * is the largest content revision of the DataComponent and its Entries.
+	 * 
+	 * @see ICEObject#getContentRevision()
+	 */
+	@Override
+	@XmlTransient
+	public long getContentRevision() {
+
+		// Local Declarations
+		long contentRevision = super.getContentRevision();
+
+		for (IEntry entry : entries) {
+			contentRevision = Math.max(contentRevision,
+					entry.getContentRevision());
+		}
+
+		return contentRevision;
+	}
+
 	/**
 	 * <p>
 	 * This operation determines whether a Form contains an Entry with the name
@@ -348,11 +390,17 @@ public class DataComponent extends ICEObject
 			super.copy(otherDataComponent);
 
 			// reset entries
+			for (IEntry entry : entries) {
+				entry.unregisterRevisionListener(entryRevisionListener);
+			}
 			entries.clear();
 
 			// Copy entries
 			for (int i = 0; i < otherDataComponent.entries.size(); i++) {
-				entries.add((IEntry) otherDataComponent.entries.get(i).clone());
+				IEntry entry = (IEntry) otherDataComponent.entries.get(i)
+						.clone();
+				entry.registerRevisionListener(entryRevisionListener);
+				entries.add(entry);
 			}
 
 			notifyListeners();
@@ -422,4 +470,20 @@ public class DataComponent extends ICEObject
 
 	}
 
+	/**
+	 * This operation is called by JAXB after the DataComponent is
+	 * unmarshalled. It registers the revision listener with the Entries.
+	 * 
+	 * @param unmarshaller
+	 *            The unmarshaller
+	 * @param parentObject
+	 *            The object that holds this DataComponent, if any
+	 */
+	private void afterUnmarshal(Unmarshaller unmarshaller,
+			Object parentObject) {
+		for (IEntry entry : entries) {
+			entry.registerRevisionListener(entryRevisionListener);
+		}
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (c) 2016 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - Jay Jay Billings
+ *******************************************************************************/
+package org.eclipse.ice.datastructures.form;
+
+import org.eclipse.ice.datastructures.ICEObject.Component;
+import org.eclipse.ice.datastructures.entry.IEntry;
+
+/**
+ * <p>
+ * The EntryViolation class describes one Entry in a Form whose value does not
+ * satisfy the constraints of that Entry. A list of these is returned by
+ * {@link Form#validateEntries()} so that all of the problems in a Form can be
+ * reported at once.
+ * </p>
+ *
+ * @author Jay Jay Billings
+ */
+public class EntryViolation {
+
+	/**
+	 * The Component that holds the Entry.
+	 */
+	private final Component component;
+
+	/**
+	 * The Entry with the unacceptable value.
+	 */
+	private final IEntry entry;
+
+	/**
+	 * The error message that describes the violation.
+	 */
+	private final String message;
+
+	/**
+	 * The constructor
+	 *
+	 * @param component
+	 *            The Component that holds the Entry
+	 * @param entry
+	 *            The Entry with the unacceptable value
+	 * @param message
+	 *            The error message that describes the violation
+	 */
+	public EntryViolation(Component component, IEntry entry, String message) {
+		this.component = component;
+		this.entry = entry;
+		this.message = message;
+	}
+
+	/**
+	 * This operation returns the Component that holds the Entry.
+	 *
+	 * @return The Component
+	 */
+	public Component getComponent() {
+		return component;
+	}
+
+	/**
+	 * This operation returns the Entry with the unacceptable value.
+	 *
+	 * @return The Entry
+	 */
+	public IEntry getEntry() {
+		return entry;
+	}
+
+	/**
+	 * This operation returns the error message that describes the violation.
+	 *
+	 * @return The error message
+	 */
+	public String getMessage() {
+		return message;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return component.getName() + ": " + entry.getName() + ": " + message;
+	}
+
+}
@@ -13,12 +13,15 @@
 package org.eclipse.ice.datastructures.form;
 
 import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.xml.bind.annotation.XmlAnyElement;
 import javax.xml.bind.annotation.XmlAttribute;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlTransient;
 
 import org.eclipse.ice.datastructures.ICEObject.Component;
 import org.eclipse.ice.datastructures.ICEObject.Composite;
@@ -26,6 +29,8 @@ import org.eclipse.ice.datastructures.ICEObject.ICEObject;
 import org.eclipse.ice.datastructures.ICEObject.IUpdateableListener;
 import org.eclipse.ice.datastructures.ICEObject.Identifiable;
 import org.eclipse.ice.datastructures.componentVisitor.IComponentVisitor;
+import org.eclipse.ice.datastructures.componentVisitor.SelectiveComponentVisitor;
+import org.eclipse.ice.datastructures.entry.IEntry;
 
 /**
  * <p>
@@ -85,6 +90,18 @@ public class Form extends ICEObject implements Composite {
 	 */
 	protected boolean canProcess = true;
 
+	/**
+	 * <p>
+	 * The revision of the Form. It is increased each time the Item that the
+	 * Form represents is changed through the Core so that clients can tell
+	 * whether or not their copies of the Form are current. It is not part of
+	 * the Form's identity and is not considered by equals(), hashCode() or
+	 * copy(), but clones have the same revision.
+	 * </p>
+	 * 
+	 */
+	private final AtomicLong revision = new AtomicLong();
+
 	/**
 	 * <p>
 	 * The constructor. This constructor requires a list of Actions for which
@@ -135,6 +152,71 @@ public class Form extends ICEObject implements Composite {
 		this.itemID = newItemID;
 	}
 
+	/**
+	 * <p>
+	 * This operation returns the revision of the Form.
+	 * </p>
+	 * 
+	 * @return <p>
+	 *         The revision, which is zero for a new Form.
+	 *         </p>
+	 */
+	@XmlAttribute()
+	public long getRevision() {
+		return revision.get();
+	}
+
+	/**
+	 * <p>
+	 * This operation sets the revision of the Form. It is used when the Form
+	 * is unmarshalled and should not be called otherwise.
+	 * </p>
+	 * 
+	 * @param newRevision
+	 *            <p>
+	 *            The new revision.
+	 *            </p>
+	 */
+	public void setRevision(long newRevision) {
+		revision.set(newRevision);
+	}
+
+	/**
+	 * <p>
+	 * This operation increases the revision of the Form by one.
+	 * </p>
+	 * 
+	 * @return <p>
+	 *         The new revision.
+	 *         </p>
+	 */
+	public long incrementRevision() {
+		return revision.incrementAndGet();
+	}
+
+	/**
+	 * This operation returns the content revision of the Form, which is the
+	 * largest content revision of the Form and all of its Components. It is
+	 * different than the revision of the Form, which is only increased when
+	 * the Form is updated through the Core.
+	 * 
+	 * @see ICEObject#getContentRevision()
+	 */
+	@Override
+	@XmlTransient
+	public long getContentRevision() {
+
+		// Local Declarations
+		long contentRevision = super.getContentRevision();
+
+		for (Component component : componentList) {
+			contentRevision = Math.max(contentRevision,
+					component.getContentRevision());
+		}
+
+		return contentRevision;
+	}
+
 	/**
 	 * <p>
 	 * This operation retrieves the list of Actions that can be performed for
@@ -327,6 +409,7 @@ public class Form extends ICEObject implements Composite {
 		// create a new instance of form and copy contents
 		Form form = new Form();
 		form.copy(this);
+		form.setRevision(getRevision());
 		return form;
 	}
 
@@ -445,6 +528,7 @@ public class Form extends ICEObject implements Composite {
 			comp = componentList.get(i);
 			if (comp.getId() == childId) {
 				componentList.remove(i);
+				markContentChanged();
 				break;
 			}
 		}
@@ -493,4 +577,96 @@ public class Form extends ICEObject implements Composite {
 	public ArrayList<Component> getComponents() {
 		return this.componentList;
 	}
+
+	/**
+	 * <p>
+	 * This operation checks the value of every ready Entry in the Form against
+	 * the constraints of that Entry and reports every violation that it finds
+	 * in a single pass. Entries are found in DataComponents, the rows of
+	 * TableComponents, the globals and details of MasterDetailsComponents and
+	 * the data nodes of TreeComposites. The Entries are not modified.
+	 * </p>
+	 * 
+	 * @return <p>
+	 *         The violations in the order the Entries were found, or an empty
+	 *         list if all of the Entries are acceptable.
+	 *         </p>
+	 */
+	public List<EntryViolation> validateEntries() {
+
+		// Local Declarations
+		final List<EntryViolation> violations = new ArrayList<EntryViolation>();
+
+		// Check the Entries in each Component that can hold them
+		IComponentVisitor visitor = new SelectiveComponentVisitor() {
+
+			@Override
+			public void visit(DataComponent component) {
+				check(component, component.retrieveAllEntries());
+			}
+
+			@Override
+			public void visit(TimeDataComponent component) {
+				check(component, component.retrieveAllEntries());
+			}
+
+			@Override
+			public void visit(TableComponent component) {
+				for (int i = 0; i < component.numberOfRows(); i++) {
+					check(component, component.getRow(i));
+				}
+			}
+
+			@Override
+			public void visit(MasterDetailsComponent component) {
+				if (component.getGlobalsComponent() != null) {
+					visit(component.getGlobalsComponent());
+				}
+				for (int i = 0; i < component.numberOfMasters(); i++) {
+					DataComponent details = component.getDetailsAtIndex(i);
+					if (details != null) {
+						visit(details);
+					}
+				}
+			}
+
+			@Override
+			public void visit(TreeComposite component) {
+				for (Component dataNode : component.getDataNodes()) {
+					dataNode.accept(this);
+				}
+				for (int i = 0; i < component.getNumberOfChildren(); i++) {
+					component.getChildAtIndex(i).accept(this);
+				}
+			}
+
+			@Override
+			public void visit(AdaptiveTreeComposite component) {
+				visit((TreeComposite) component);
+			}
+
+			/**
+			 * Validate the current values of the ready Entries in a list.
+			 */
+			private void check(Component component, List<IEntry> entries) {
+				if (entries == null) {
+					return;
+				}
+				for (IEntry entry : entries) {
+					if (entry.isReady()) {
+						String error = entry.validate(entry.getValue());
+						if (error != null) {
+							violations.add(
+									new EntryViolation(component, entry, error));
+						}
+					}
+				}
+			}
+		};
+		for (Component component : componentList) {
+			component.accept(visitor);
+		}
+
+		return violations;
+	}
 }
\ No newline at end of file
@@ -0,0 +1,200 @@
+/*******************************************************************************
+ * Copyright (c) 2016 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - Jay Jay Billings
+ *******************************************************************************/
+package org.eclipse.ice.datastructures.form;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+/**
+ * <p>
+ * A FormDelta is a set of changes to the values of Entries in the
+ * DataComponents of a Form. It is submitted to an Item in place of the whole
+ * Form when only a few values have changed.
+ * </p>
+ * <p>
+ * Each delta carries the revision of the Form on which the changes were made
+ * (see {@link Form#getRevision()}). It is only applied if the Item's Form still
+ * has that revision, so changes that were made on an out of date copy are
+ * rejected instead of overwriting newer values.
+ * </p>
+ *
+ * @author Jay Jay Billings
+ */
+@XmlRootElement(name = "FormDelta")
+@XmlAccessorType(XmlAccessType.FIELD)
+public class FormDelta {
+
+	/**
+	 * The id of the Item whose Form was changed.
+	 */
+	@XmlAttribute
+	private int itemID;
+
+	/**
+	 * The revision of the Form on which the changes were made.
+	 */
+	@XmlAttribute
+	private long revision;
+
+	/**
+	 * The changes, in the order in which they should be applied.
+	 */
+	@XmlElement(name = "Change")
+	private ArrayList<EntryChange> changes;
+
+	/**
+	 * The nullary constructor, which is required by JAXB.
+	 */
+	public FormDelta() {
+		this(0, 0L);
+	}
+
+	/**
+	 * The constructor.
+	 *
+	 * @param itemID
+	 *            The id of the Item whose Form was changed
+	 * @param revision
+	 *            The revision of the Form on which the changes were made
+	 */
+	public FormDelta(int itemID, long revision) {
+		this.itemID = itemID;
+		this.revision = revision;
+		changes = new ArrayList<EntryChange>();
+	}
+
+	/**
+	 * This operation returns the id of the Item whose Form was changed.
+	 *
+	 * @return The Item id
+	 */
+	public int getItemID() {
+		return itemID;
+	}
+
+	/**
+	 * This operation returns the revision of the Form on which the changes
+	 * were made.
+	 *
+	 * @return The revision
+	 */
+	public long getRevision() {
+		return revision;
+	}
+
+	/**
+	 * This operation adds a change to the delta.
+	 *
+	 * @param componentId
+	 *            The id of the DataComponent that holds the Entry
+	 * @param entryId
+	 *            The id of the Entry
+	 * @param value
+	 *            The new value of the Entry
+	 */
+	public void addChange(int componentId, int entryId, String value) {
+		changes.add(new EntryChange(componentId, entryId, value));
+	}
+
+	/**
+	 * This operation returns the changes in the delta.
+	 *
+	 * @return An unmodifiable list of the changes
+	 */
+	public List<EntryChange> getChanges() {
+		return Collections.unmodifiableList(changes);
+	}
+
+	/**
+	 * An EntryChange is a new value for one Entry in a DataComponent.
+	 *
+	 * @author Jay Jay Billings
+	 */
+	@XmlAccessorType(XmlAccessType.FIELD)
+	public static class EntryChange {
+
+		/**
+		 * The id of the DataComponent that holds the Entry.
+		 */
+		@XmlAttribute
+		private int componentId;
+
+		/**
+		 * The id of the Entry.
+		 */
+		@XmlAttribute
+		private int entryId;
+
+		/**
+		 * The new value of the Entry.
+		 */
+		@XmlElement
+		private String value;
+
+		/**
+		 * The nullary constructor, which is required by JAXB.
+		 */
+		public EntryChange() {
+		}
+
+		/**
+		 * The constructor.
+		 *
+		 * @param componentId
+		 *            The id of the DataComponent that holds the Entry
+		 * @param entryId
+		 *            The id of the Entry
+		 * @param value
+		 *            The new value of the Entry
+		 */
+		public EntryChange(int componentId, int entryId, String value) {
+			this.componentId = componentId;
+			this.entryId = entryId;
+			this.value = value;
+		}
+
+		/**
+		 * This operation returns the id of the DataComponent that holds the
+		 * Entry.
+		 *
+		 * @return The component id
+		 */
+		public int getComponentId() {
+			return componentId;
+		}
+
+		/**
+		 * This operation returns the id of the Entry.
+		 *
+		 * @return The Entry id
+		 */
+		public int getEntryId() {
+			return entryId;
+		}
+
+		/**
+		 * This operation returns the new value of the Entry.
+		 *
+		 * @return The value
+		 */
+		public String getValue() {
+			return value;
+		}
+	}
+
+}
@@ -307,6 +307,9 @@ public class GeometryComponent extends ICEObject
 
 		final GeometryComponent geometryComponent = this;
 
+		// The state changed, so the revision changes
+		markContentChanged();
+
 		// If the listeners are empty, return
 		if (this.listeners == null || this.listeners.isEmpty()) {
 			return;
@@ -12,8 +12,13 @@
  *******************************************************************************/
 package org.eclipse.ice.datastructures.form;
 
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
 import javax.xml.bind.annotation.XmlAttribute;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
@@ -39,11 +44,27 @@ import org.eclipse.ice.datastructures.componentVisitor.IComponentVisitor;
  * an element of a desired set of elements, or the matrix elements must exist
  * within a given range of values.
  * </p>
+ * <p>
+ * The elements are stored in a primitive, row-major double array whose row
+ * stride (the allocated number of columns) and row capacity grow
+ * geometrically, so adding rows and columns is amortized constant time per
+ * element and reading or writing an element never boxes a value. Small
+ * matrices are persisted as a list of elements. Matrices with more than
+ * {@link #PACKED_ELEMENT_THRESHOLD} elements are persisted as a single
+ * base64-encoded block of row-major, big-endian IEEE 754 doubles.
+ * </p>
  * 
  * @author Jay Jay Billings
  */
 @XmlRootElement(name = "MatrixComponent")
 public class MatrixComponent extends ICEObject implements Component {
+
+	/**
+	 * The number of elements above which the matrix is persisted in the packed
+	 * binary form instead of as a list of elements.
+	 */
+	public static final int PACKED_ELEMENT_THRESHOLD = 4096;
+
 	/**
 	 * <p>
 	 * Boolean attribute that indicates whether this MatrixComponent represents
@@ -56,13 +77,44 @@ public class MatrixComponent extends ICEObject implements Component {
 
 	/**
 	 * <p>
-	 * The individual elements of this matrix. This is a list of n*m double
-	 * values for a given matrix of size nxm.
+	 * The individual elements of this matrix, stored row-major. Element (i,j)
+	 * is at index i*rowStride+j. The array may be larger than nRows*rowStride
+	 * to leave room for new rows.
+	 * </p>
+	 * 
+	 */
+	private double[] data;
+
+	/**
+	 * <p>
+	 * The number of columns allocated for each row in the data array. This is
+	 * always greater than or equal to nCols.
+	 * </p>
+	 * 
+	 */
+	private int rowStride;
+
+	/**
+	 * <p>
+	 * The individual elements of this matrix as a list of n*m double values
+	 * for a given matrix of size nxm. This is only used to persist small
+	 * matrices and is null at all other times.
 	 * </p>
 	 * 
 	 */
 	@XmlElement
 	private ArrayList<Double> elements;
+
+	/**
+	 * <p>
+	 * The individual elements of this matrix packed as row-major, big-endian
+	 * doubles. This is only used to persist large matrices and is null at all
+	 * other times.
+	 * </p>
+	 * 
+	 */
+	@XmlElement
+	private byte[] packedElements;
 	/**
 	 * <p>
 	 * Reference to the current number of rows in this matrix.
@@ -185,8 +237,8 @@ public class MatrixComponent extends ICEObject implements Component {
 		this.valueType = allowedValueType;
 
 		// Setup a 1x1 matrix.
-		this.elements = new ArrayList<Double>();
-		elements.add(0.0);
+		this.data = new double[1];
+		this.rowStride = 1;
 		this.nCols = 1;
 		this.nRows = 1;
 
@@ -228,21 +280,17 @@ public class MatrixComponent extends ICEObject implements Component {
 
 		// If there is only 1 element in the list and its not default, delete
 		// the whole entity and reset
-		if (elements.size() == 1 && elements.get(0) != defaultValue) {
-			this.elements = new ArrayList<Double>();
-			this.elements.add(defaultValue);
+		if (nRows * nCols == 1 && data[0] != defaultValue) {
+			this.reset(defaultValue);
 			return true; // Return
-		} else if (elements.size() == 1 && elements.get(0) == defaultValue) {
+		} else if (nRows * nCols == 1 && data[0] == defaultValue) {
 			return false; // Nothing to delete, return
 		}
 
 		// If there is only one row, delete whole row, reset to 1x1 matrix, and
 		// return true
-		if (elements.size() == this.nCols) {
-			this.nCols = 1;
-			this.nRows = 1;
-			this.elements = new ArrayList<Double>();
-			this.elements.add(defaultValue);
+		if (this.nRows == 1) {
+			this.reset(defaultValue);
 			return true; // Return
 		}
 
@@ -318,14 +366,9 @@ public class MatrixComponent extends ICEObject implements Component {
 						.get(i));
 			}
 		}
-		if (otherMatrixComponent.elements == null) {
-			this.elements = otherMatrixComponent.elements;
-		} else {
-			this.elements = new ArrayList<Double>();
-			for (int i = 0; i < otherMatrixComponent.elements.size(); i++) {
-				this.elements.add(otherMatrixComponent.elements.get(i));
-			}
-		}
+		// Only the used part of the other matrix is copied
+		this.data = otherMatrixComponent.toArray();
+		this.rowStride = otherMatrixComponent.nCols;
 
 		// get other attributes
 		this.isSquare = otherMatrixComponent.isSquare;
@@ -397,11 +440,13 @@ public class MatrixComponent extends ICEObject implements Component {
 
 		retVal = (this.isSquare == castedComponent.isSquare)
 				&& (this.resizable == castedComponent.resizable)
-				&& (this.allowedValues.equals(castedComponent.allowedValues))
-				&& (this.elements.equals(castedComponent.elements))
+				&& (this.allowedValues == null ? castedComponent.allowedValues == null
+						: this.allowedValues
+								.equals(castedComponent.allowedValues))
 				&& (this.nCols == castedComponent.nCols)
 				&& (this.nRows == castedComponent.nRows)
-				&& (this.valueType == castedComponent.valueType);
+				&& (this.valueType == castedComponent.valueType)
+				&& this.elementsEqual(castedComponent);
 		return retVal;
 
 	}
@@ -436,10 +481,16 @@ public class MatrixComponent extends ICEObject implements Component {
 			hash = 31 * hash + this.allowedValues.hashCode();
 		}
 
-		// if elements are not null
-		if (this.elements != null) {
-			hash = 31 * hash + this.elements.hashCode();
+		// Hash the elements the same way a list of them would be hashed
+		int elementHash = 1;
+		for (int i = 0; i < nRows; i++) {
+			int offset = i * rowStride;
+			for (int j = 0; j < nCols; j++) {
+				elementHash = 31 * elementHash
+						+ Double.hashCode(data[offset + j]);
+			}
 		}
+		hash = 31 * hash + elementHash;
 
 		// Value type
 		hash = 31 * hash + this.valueType.hashCode();
@@ -532,21 +583,17 @@ public class MatrixComponent extends ICEObject implements Component {
 
 		// If there is only 1 element in the list and its not default, delete
 		// the whole entity and reset
-		if (elements.size() == 1 && elements.get(0) != defaultValue) {
-			this.elements = new ArrayList<Double>();
-			this.elements.add(defaultValue);
+		if (nRows * nCols == 1 && data[0] != defaultValue) {
+			this.reset(defaultValue);
 			return true; // Return
-		} else if (elements.size() == 1 && elements.get(0) == defaultValue) {
+		} else if (nRows * nCols == 1 && data[0] == defaultValue) {
 			return false; // Nothing to delete, return
 		}
 
 		// If there is only one col, delete whole col, reset to 1x1 matrix, and
 		// return true
-		if (elements.size() == this.nRows) {
-			this.nCols = 1;
-			this.nRows = 1;
-			this.elements = new ArrayList<Double>();
-			this.elements.add(defaultValue);
+		if (this.nCols == 1) {
+			this.reset(defaultValue);
 			return true; // Return
 		}
 
@@ -587,13 +634,32 @@ public class MatrixComponent extends ICEObject implements Component {
 	 *         </p>
 	 */
 	public boolean setElementValue(int rowIndex, int colIndex, Double value) {
-		int location;
 
 		// Return if value is null
 		if (value == null) {
 			return false;
 		}
 
+		return setElementValue(rowIndex, colIndex, value.doubleValue());
+	}
+
+	/**
+	 * <p>
+	 * Set the value of the individual matrix element at index i,j without
+	 * boxing it. Returns true if successful, false if the value was not valid
+	 * or the index was out of range.
+	 * </p>
+	 * 
+	 * @param rowIndex
+	 *            The row index.
+	 * @param colIndex
+	 *            The column index.
+	 * @param value
+	 *            The value to be set.
+	 * @return Returns true if operation was successful. False otherwise.
+	 */
+	public boolean setElementValue(int rowIndex, int colIndex, double value) {
+
 		// Return if negative
 		if (rowIndex < 0 || colIndex < 0) {
 			return false;
@@ -612,17 +678,11 @@ public class MatrixComponent extends ICEObject implements Component {
 		}
 
 		// check value to see if valid
-		if (this.valueType == AllowedValueType.Continuous) {
-			if (value < this.allowedValues.get(0)
-					|| value > this.allowedValues.get(1)) {
-				return false;
-			}
-		} else if (this.valueType == AllowedValueType.Discrete
-				&& !this.allowedValues.contains(value)) {
+		if (!this.isAllowed(value)) {
 			return false;
 		}
 
-		elements.set(nCols * rowIndex + colIndex, value);
+		data[rowStride * rowIndex + colIndex] = value;
 
 		// notify listeners
 		this.notifyListeners();
@@ -649,7 +709,6 @@ public class MatrixComponent extends ICEObject implements Component {
 	 *         </p>
 	 */
 	public Double getElementValue(int rowIndex, int colIndex) {
-		int location;
 		// Return if negative
 		if (rowIndex < 0 || colIndex < 0) {
 			return null;
@@ -667,8 +726,36 @@ public class MatrixComponent extends ICEObject implements Component {
 			return null;
 		}
 
-		return this.elements.get(nCols * rowIndex + colIndex);
+		return this.data[rowStride * rowIndex + colIndex];
+
+	}
+
+	/**
+	 * <p>
+	 * Return the matrix element at index i,j without boxing it. Returns NaN if
+	 * the index is invalid or the allowed values have not been set.
+	 * </p>
+	 * 
+	 * @param rowIndex
+	 *            The row index.
+	 * @param colIndex
+	 *            The column index.
+	 * @return The value at rowIndex, colIndex.
+	 */
+	public double getDoubleValue(int rowIndex, int colIndex) {
+		// Return if the index is negative or out of range
+		if (rowIndex < 0 || colIndex < 0 || rowIndex >= this.nRows
+				|| colIndex >= this.nCols) {
+			return Double.NaN;
+		}
+
+		// Return if Continuous or Discrete and valueType not set
+		if (this.valueType != AllowedValueType.Undefined
+				&& this.allowedValues == null) {
+			return Double.NaN;
+		}
 
+		return this.data[rowStride * rowIndex + colIndex];
 	}
 
 	/**
@@ -708,11 +795,11 @@ public class MatrixComponent extends ICEObject implements Component {
 		// This should not happen, but this is a safety feature. Values can only
 		// be set IFF there is
 		// only a fresh matrix
-		if (this.elements.size() > 1 || this.elements.isEmpty()) {
+		if (nRows * nCols != 1) {
 			return;
 		}
 
-		elements.set(0, values.get(0));
+		data[0] = values.get(0);
 
 		// Set values - Do a copy
 		this.allowedValues = new ArrayList<Double>();
@@ -736,8 +823,8 @@ public class MatrixComponent extends ICEObject implements Component {
 		this.valueType = AllowedValueType.Undefined;
 
 		// Setup a 1x1 matrix.
-		this.elements = new ArrayList<Double>();
-		elements.add(0.0);
+		this.data = new double[1];
+		this.rowStride = 1;
 		this.nCols = 1;
 		this.nRows = 1;
 
@@ -760,8 +847,8 @@ public class MatrixComponent extends ICEObject implements Component {
 		this.valueType = AllowedValueType.Undefined;
 
 		// Setup a 1x1 matrix.
-		this.elements = new ArrayList<Double>();
-		elements.add(0.0);
+		this.data = new double[1];
+		this.rowStride = 1;
 		this.nCols = 1;
 		this.nRows = 1;
 
@@ -791,14 +878,14 @@ public class MatrixComponent extends ICEObject implements Component {
 		}
 
 		// create a new double array
-		rowArray = new ArrayList<Double>();
+		rowArray = new ArrayList<Double>(this.nCols);
 
 		// Figure out where in the elements list the item is
-		placeInElements = this.nCols * index;
+		placeInElements = this.rowStride * index;
 
 		// copy contents of row
-		for (int i = placeInElements; i < this.nCols * (index + 1); i++) {
-			rowArray.add(this.elements.get(i));
+		for (int i = placeInElements; i < placeInElements + nCols; i++) {
+			rowArray.add(this.data[i]);
 		}
 
 		// return array
@@ -829,14 +916,15 @@ public class MatrixComponent extends ICEObject implements Component {
 		}
 
 		// create a new double array
-		colArray = new ArrayList<Double>();
+		colArray = new ArrayList<Double>(this.nRows);
 
 		// Figure out where in the elements list the item is
-		placeInElements = this.nRows * index;
+		placeInElements = index;
 
-		// copy contents of row
-		for (int i = placeInElements; i < this.nRows * (index + 1); i++) {
-			colArray.add(this.elements.get(i));
+		// copy contents of the column, one row at a time
+		for (int i = 0; i < this.nRows; i++) {
+			colArray.add(this.data[placeInElements]);
+			placeInElements += this.rowStride;
 		}
 
 		// return array
@@ -858,7 +946,6 @@ public class MatrixComponent extends ICEObject implements Component {
 	private void resizeRow(boolean addOrRemove) {
 
 		// Local Declaration
-		int i, j;
 		double defaultValue = 0.0;
 
 		// Get the defaultValue
@@ -867,21 +954,17 @@ public class MatrixComponent extends ICEObject implements Component {
 			defaultValue = this.allowedValues.get(0);
 		}
 
-		// If true, add to the arraylist
+		// If true, add to the array
 		if (addOrRemove) {
 
-			// Add for the number of columns
-			for (i = 0; i < this.nCols; i++) {
-				this.elements.add(defaultValue);
-			}
+			// Make room for the row and fill it with the default value
+			this.ensureCapacity(this.nRows + 1, this.nCols);
+			int offset = this.nRows * this.rowStride;
+			Arrays.fill(this.data, offset, offset + this.nCols, defaultValue);
 			// Add to the row
 			this.nRows += 1;
 		} else {
-			// Remove for the number of columns
-			for (i = 0; i < this.nCols; i++) {
-				this.elements.remove(this.elements.size() - 1);
-			}
-			// Remove a row
+			// Remove a row. The storage is kept for later growth.
 			this.nRows -= 1;
 		}
 
@@ -901,7 +984,6 @@ public class MatrixComponent extends ICEObject implements Component {
 	 */
 	private void resizeColumn(boolean addOrRemove) {
 		// Local Declaration
-		int i, j;
 		double defaultValue = 0.0;
 
 		// Get the defaultValue
@@ -910,21 +992,18 @@ public class MatrixComponent extends ICEObject implements Component {
 			defaultValue = this.allowedValues.get(0);
 		}
 
-		// If true, add to the arraylist
+		// If true, add to the array
 		if (addOrRemove) {
 
-			// Add for the number of rows
-			for (i = 0; i < this.nRows; i++) {
-				this.elements.add(((i + 1) * this.nCols) + i, defaultValue);
+			// Make room for the column and fill it with the default value
+			this.ensureCapacity(this.nRows, this.nCols + 1);
+			for (int i = 0; i < this.nRows; i++) {
+				this.data[i * this.rowStride + this.nCols] = defaultValue;
 			}
 			// Add to the cols
 			this.nCols += 1;
 		} else {
-			// Remove for the number of rows
-			for (i = 0; i < this.nRows; i++) {
-				this.elements.remove(((i + 1) * this.nCols) - i - 1);
-			}
-			// Remove a Column
+			// Remove a Column. The storage is kept for later growth.
 			this.nCols -= 1;
 		}
 
@@ -1030,6 +1109,320 @@ public class MatrixComponent extends ICEObject implements Component {
 		return tempDoubles;
 	}
 
+	/**
+	 * <p>
+	 * Return a copy of the row at the given index as a primitive array.
+	 * </p>
+	 * 
+	 * @param index
+	 *            The index of the row.
+	 * @return The values of the row or null if the index is out of range.
+	 */
+	public double[] getRowValues(int index) {
+		// If the index is negative or out of range, return null
+		if (index < 0 || index >= nRows) {
+			return null;
+		}
+
+		int offset = index * rowStride;
+		return Arrays.copyOfRange(data, offset, offset + nCols);
+	}
+
+	/**
+	 * <p>
+	 * Return a copy of the column at the given index as a primitive array.
+	 * </p>
+	 * 
+	 * @param index
+	 *            The index of the column.
+	 * @return The values of the column or null if the index is out of range.
+	 */
+	public double[] getColumnValues(int index) {
+		// If the index is negative or out of range, return null
+		if (index < 0 || index >= nCols) {
+			return null;
+		}
+
+		double[] column = new double[nRows];
+		for (int i = 0, j = index; i < nRows; i++, j += rowStride) {
+			column[i] = data[j];
+		}
+		return column;
+	}
+
+	/**
+	 * <p>
+	 * Set every value in the row at the given index. Listeners are notified
+	 * once. Nothing is changed if any of the values are not allowed.
+	 * </p>
+	 * 
+	 * @param index
+	 *            The index of the row.
+	 * @param values
+	 *            The new values of the row. There must be exactly one value
+	 *            per column.
+	 * @return True if the row was set, false otherwise.
+	 */
+	public boolean setRowValues(int index, double[] values) {
+		// Check the index and the number of values
+		if (index < 0 || index >= nRows || values == null
+				|| values.length != nCols) {
+			return false;
+		}
+
+		// Check all the values before changing any of them
+		for (double value : values) {
+			if (!isAllowed(value)) {
+				return false;
+			}
+		}
+
+		System.arraycopy(values, 0, data, index * rowStride, nCols);
+
+		// notify listeners
+		this.notifyListeners();
+
+		return true;
+	}
+
+	/**
+	 * <p>
+	 * Set every value in the column at the given index. Listeners are notified
+	 * once. Nothing is changed if any of the values are not allowed.
+	 * </p>
+	 * 
+	 * @param index
+	 *            The index of the column.
+	 * @param values
+	 *            The new values of the column. There must be exactly one value
+	 *            per row.
+	 * @return True if the column was set, false otherwise.
+	 */
+	public boolean setColumnValues(int index, double[] values) {
+		// Check the index and the number of values
+		if (index < 0 || index >= nCols || values == null
+				|| values.length != nRows) {
+			return false;
+		}
+
+		// Check all the values before changing any of them
+		for (double value : values) {
+			if (!isAllowed(value)) {
+				return false;
+			}
+		}
+
+		for (int i = 0, j = index; i < nRows; i++, j += rowStride) {
+			data[j] = values[i];
+		}
+
+		// notify listeners
+		this.notifyListeners();
+
+		return true;
+	}
+
+	/**
+	 * <p>
+	 * Return a copy of all of the elements of the matrix as a dense,
+	 * row-major array of length numberOfRows()*numberOfColumns().
+	 * </p>
+	 * 
+	 * @return The elements of the matrix.
+	 */
+	public double[] toArray() {
+		// The storage is already dense if the stride matches the columns
+		if (rowStride == nCols) {
+			return Arrays.copyOf(data, nRows * nCols);
+		}
+
+		double[] array = new double[nRows * nCols];
+		for (int i = 0; i < nRows; i++) {
+			System.arraycopy(data, i * rowStride, array, i * nCols, nCols);
+		}
+		return array;
+	}
+
+	/**
+	 * <p>
+	 * This operation releases any storage that was reserved for future rows
+	 * and columns.
+	 * </p>
+	 * 
+	 */
+	public void trimToSize() {
+		data = toArray();
+		rowStride = nCols;
+	}
+
+	/**
+	 * <p>
+	 * This operation makes sure that the data array can hold the given number
+	 * of rows and columns. The stride and row capacity are at least doubled
+	 * when they need to grow so that repeated resizing is amortized.
+	 * </p>
+	 * 
+	 * @param rows
+	 *            The required number of rows
+	 * @param cols
+	 *            The required number of columns
+	 */
+	private void ensureCapacity(int rows, int cols) {
+		int rowCapacity = data.length / rowStride;
+
+		// Return if there is already enough room
+		if (cols <= rowStride && rows <= rowCapacity) {
+			return;
+		}
+
+		int newStride = (cols > rowStride) ? Math.max(cols, 2 * rowStride)
+				: rowStride;
+		int newRowCapacity = (rows > rowCapacity)
+				? Math.max(rows, 2 * rowCapacity) : rowCapacity;
+
+		// Only a longer array is needed if the stride did not change
+		if (newStride == rowStride) {
+			data = Arrays.copyOf(data, newStride * newRowCapacity);
+		} else {
+			double[] newData = new double[newStride * newRowCapacity];
+			for (int i = 0; i < nRows; i++) {
+				System.arraycopy(data, i * rowStride, newData, i * newStride,
+						nCols);
+			}
+			data = newData;
+			rowStride = newStride;
+		}
+	}
+
+	/**
+	 * <p>
+	 * This operation resets the matrix to a 1x1 matrix holding the given
+	 * value.
+	 * </p>
+	 * 
+	 * @param value
+	 *            The value of the only element
+	 */
+	private void reset(double value) {
+		this.nCols = 1;
+		this.nRows = 1;
+		this.rowStride = 1;
+		this.data = new double[] { value };
+	}
+
+	/**
+	 * <p>
+	 * This operation checks a value against the allowed values of the matrix.
+	 * </p>
+	 * 
+	 * @param value
+	 *            The value to check
+	 * @return True if the value is allowed, false otherwise.
+	 */
+	private boolean isAllowed(double value) {
+		if (this.valueType == AllowedValueType.Continuous) {
+			return value >= this.allowedValues.get(0)
+					&& value <= this.allowedValues.get(1);
+		} else if (this.valueType == AllowedValueType.Discrete) {
+			return this.allowedValues.contains(value);
+		}
+		return true;
+	}
+
+	/**
+	 * <p>
+	 * This operation compares the elements of this matrix with those of a
+	 * matrix of the same size. Elements are compared the same way Double
+	 * compares them.
+	 * </p>
+	 * 
+	 * @param other
+	 *            The other matrix
+	 * @return True if all of the elements are equal, false otherwise.
+	 */
+	private boolean elementsEqual(MatrixComponent other) {
+		for (int i = 0; i < nRows; i++) {
+			int offset = i * rowStride;
+			int otherOffset = i * other.rowStride;
+			for (int j = 0; j < nCols; j++) {
+				if (Double.doubleToLongBits(data[offset + j]) != Double
+						.doubleToLongBits(other.data[otherOffset + j])) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * <p>
+	 * This operation is called by JAXB before the matrix is marshalled. It
+	 * fills either the element list or the packed elements, depending on the
+	 * size of the matrix.
+	 * </p>
+	 * 
+	 * @param marshaller
+	 *            The marshaller
+	 */
+	private void beforeMarshal(Marshaller marshaller) {
+		int size = nRows * nCols;
+		if (size > PACKED_ELEMENT_THRESHOLD) {
+			ByteBuffer buffer = ByteBuffer.allocate(size * Double.BYTES);
+			buffer.asDoubleBuffer().put(toArray());
+			packedElements = buffer.array();
+		} else {
+			elements = new ArrayList<Double>(size);
+			for (int i = 0; i < nRows; i++) {
+				int offset = i * rowStride;
+				for (int j = 0; j < nCols; j++) {
+					elements.add(data[offset + j]);
+				}
+			}
+		}
+	}
+
+	/**
+	 * <p>
+	 * This operation is called by JAXB after the matrix is marshalled. It
+	 * releases the element list and packed elements.
+	 * </p>
+	 * 
+	 * @param marshaller
+	 *            The marshaller
+	 */
+	private void afterMarshal(Marshaller marshaller) {
+		elements = null;
+		packedElements = null;
+	}
+
+	/**
+	 * <p>
+	 * This operation is called by JAXB after the matrix is unmarshalled. It
+	 * loads the data array from the element list or the packed elements.
+	 * </p>
+	 * 
+	 * @param unmarshaller
+	 *            The unmarshaller
+	 * @param parent
+	 *            The parent object of the matrix, if any
+	 */
+	private void afterUnmarshal(Unmarshaller unmarshaller, Object parent) {
+		int size = nRows * nCols;
+		data = new double[Math.max(size, 1)];
+		rowStride = Math.max(nCols, 1);
+		if (packedElements != null) {
+			DoubleBuffer buffer = ByteBuffer.wrap(packedElements)
+					.asDoubleBuffer();
+			buffer.get(data, 0, Math.min(size, buffer.remaining()));
+		} else if (elements != null) {
+			for (int i = 0; i < Math.min(size, elements.size()); i++) {
+				data[i] = elements.get(i);
+			}
+		}
+		elements = null;
+		packedElements = null;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.eclipse.ice.datastructures.ICEObject.ICEObject#update(java.lang.String, java.lang.String)
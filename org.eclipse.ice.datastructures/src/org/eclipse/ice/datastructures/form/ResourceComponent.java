@@ -13,6 +13,7 @@
 package org.eclipse.ice.datastructures.form;
 
 import java.util.ArrayList;
+import java.util.Collection;
 
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlTransient;
@@ -69,6 +70,77 @@ public class ResourceComponent extends ListComponent<ICEResource> {
 		return;
 	}
 
+	/**
+	 * This operation adds several ICEResources to the component. Listeners are
+	 * notified once for the whole set instead of once for each resource.
+	 * 
+	 * @param resources
+	 *            The new resources to add. Null resources are ignored.
+	 */
+	public void addResources(Collection<ICEResource> resources) {
+
+		// Local Declarations
+		ArrayList<ICEResource> newResources = new ArrayList<ICEResource>();
+
+		// Add the resources that are good. They are added to the source list
+		// directly since it adds them in a single event.
+		for (ICEResource resource : resources) {
+			if (resource != null) {
+				newResources.add(resource);
+			}
+		}
+		if (!newResources.isEmpty()) {
+			source.addAll(newResources);
+		}
+
+		return;
+	}
+
+	/**
+	 * This operation removes several ICEResources from the component.
+	 * Listeners are notified once for the whole set instead of once for each
+	 * resource.
+	 * 
+	 * @param resources
+	 *            The resources to remove
+	 */
+	public void removeResources(Collection<ICEResource> resources) {
+
+		// Remove them from the source list directly since it removes them in
+		// a single event
+		if (!resources.isEmpty()) {
+			source.removeAll(resources);
+		}
+
+		return;
+	}
+
+	/**
+	 * This operation tells the listeners of the component that the files of
+	 * some of its ICEResources have been modified. Each resource is replaced
+	 * by itself in the source list, so listeners are notified once for each
+	 * resource that is in the component.
+	 * 
+	 * @param resources
+	 *            The resources whose files were modified. Resources that are
+	 *            not in the component are ignored.
+	 */
+	public void updateResources(Collection<ICEResource> resources) {
+
+		// Local Declarations
+		int index;
+
+		// Set each resource to itself to post an update event for it
+		for (ICEResource resource : resources) {
+			index = source.indexOf(resource);
+			if (index >= 0) {
+				source.set(index, resource);
+			}
+		}
+
+		return;
+	}
+
 	/**
 	 * This operation gets all of the ICEResources from the component.
 	 * 
@@ -15,13 +15,16 @@ package org.eclipse.ice.datastructures.form;
 import java.util.ArrayList;
 import java.util.Hashtable;
 
+import javax.xml.bind.Unmarshaller;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlTransient;
 
 import org.eclipse.ice.datastructures.ICEObject.Component;
 import org.eclipse.ice.datastructures.ICEObject.ICEObject;
+import org.eclipse.ice.datastructures.ICEObject.IContentRevisionListener;
 import org.eclipse.ice.datastructures.ICEObject.IUpdateableListener;
 import org.eclipse.ice.datastructures.componentVisitor.IComponentVisitor;
 import org.eclipse.ice.datastructures.entry.IEntry;
@@ -88,6 +91,19 @@ public class TableComponent extends ICEObject implements Component {
 	@XmlElement(name = "SelectedRow")
 	private ArrayList<Integer> selectedRows;
 
+	/**
+	 * The listener that marks this TableComponent as changed as soon as one of
+	 * its rows changes. The Entries of the rows are edited directly, so the
+	 * containers of the table must be told right away.
+	 */
+	@XmlTransient
+	private final IContentRevisionListener rowRevisionListener = new IContentRevisionListener() {
+		@Override
+		public void contentRevisionChanged(Object source) {
+			markContentChanged();
+		}
+	};
+
 	/**
 	 * <p>
 	 * The constructor
@@ -223,7 +239,7 @@ public class TableComponent extends ICEObject implements Component {
 					.retrieveAllEntries().get(i).clone());
 		}
 
-		rowComponents.add(dataComponent);
+		addRowComponent(dataComponent);
 		notifyListeners();
 
 		// Index shift -> index 0 of rowComponents are the column tags and are
@@ -262,7 +278,8 @@ public class TableComponent extends ICEObject implements Component {
 		// delete row
 		// Index shift -> index 0 of rowComponents are the column tags and are
 		// not considered rows.
-		rowComponents.remove(index + 1);
+		rowComponents.remove(index + 1)
+				.unregisterRevisionListener(rowRevisionListener);
 
 		// set indexes up
 		// Index shift -> index 0 of rowComponents are the column tags and are
@@ -278,6 +295,74 @@ public class TableComponent extends ICEObject implements Component {
 
 	}
 
+	/**
+	 * <p>
+	 * This operation adds several rows to the Table at once and returns the
+	 * index of the first new row. The new rows have consecutive indices and
+	 * are configured from the row template exactly like rows added with
+	 * addRow(), but listeners are only notified once. If the Row Template has
+	 * not yet been set or the number of rows is not positive, no rows are
+	 * added and it returns -1.
+	 * </p>
+	 *
+	 * @param count
+	 *            <p>
+	 *            The number of rows to add.
+	 *            </p>
+	 * @return <p>
+	 *         The index of the first new row in the table.
+	 *         </p>
+	 */
+	public int addRows(int count) {
+
+		// Return -1 if the template has not been set or there is nothing to do
+		if (rowComponents.isEmpty() || count <= 0) {
+			return -1;
+		}
+
+		// Index shift -> index 0 of rowComponents are the column tags and are
+		// not considered rows.
+		int firstIndex = rowComponents.size() - 1;
+		ArrayList<IEntry> template = rowComponents.get(0).retrieveAllEntries();
+		rowComponents.ensureCapacity(rowComponents.size() + count);
+
+		// Create the rows from the template
+		for (int i = 0; i < count; i++) {
+			DataComponent dataComponent = new DataComponent();
+			dataComponent.setId(firstIndex + i);
+			dataComponent.setName("Row");
+			dataComponent.setDescription("This is a row");
+			for (IEntry entry : template) {
+				dataComponent.addEntry((IEntry) entry.clone());
+			}
+			addRowComponent(dataComponent);
+		}
+
+		notifyListeners();
+
+		return firstIndex;
+	}
+
+	/**
+	 * <p>
+	 * This operation deletes all of the rows in the table and clears the
+	 * selected rows. The row template and the column names are kept. Listeners
+	 * are notified once if any rows were deleted.
+	 * </p>
+	 *
+	 */
+	public void deleteAllRows() {
+
+		// Only remove the rows, not the row template at index 0
+		if (rowComponents.size() > 1) {
+			rowComponents.subList(1, rowComponents.size()).clear();
+			selectedRows.clear();
+			notifyListeners();
+		}
+
+		return;
+	}
+
 	/**
 	 * <p>
 	 * This operation sets the collection of Entries which should be used as the
@@ -320,7 +405,7 @@ public class TableComponent extends ICEObject implements Component {
 		}
 
 		// add dataComponent to rowComponents
-		rowComponents.add(dataComponent);
+		addRowComponent(dataComponent);
 
 		this.notifyListeners();
 	}
@@ -433,11 +518,13 @@ public class TableComponent extends ICEObject implements Component {
 		}
 
 		// Deep copy row components
+		for (DataComponent row : rowComponents) {
+			row.unregisterRevisionListener(rowRevisionListener);
+		}
 		this.rowComponents.clear();
 		for (int i = 0; i < otherTableComponent.rowComponents.size(); i++) {
-			this.rowComponents
-					.add((DataComponent) otherTableComponent.rowComponents.get(
-							i).clone());
+			addRowComponent((DataComponent) otherTableComponent.rowComponents
+					.get(i).clone());
 		}
 
 		// Copy the selected rows
@@ -542,6 +629,28 @@ public class TableComponent extends ICEObject implements Component {
 		return hash;
 	}
 
+	/**
+	 * This operation returns the content revision of the TableComponent, which
+	 * is the largest content revision of the TableComponent and its rows. The
+	 * Entries of the rows are edited directly, so their revisions must be
+	 * included.
+	 * 
+	 * @see Component#getContentRevision()
+	 */
+	@Override
+	public long getContentRevision() {
+
+		// Local Declarations
+		long contentRevision = super.getContentRevision();
+
+		for (DataComponent row : rowComponents) {
+			contentRevision = Math.max(contentRevision,
+					row.getContentRevision());
+		}
+
+		return contentRevision;
+	}
+
 	/**
 	 * <p>
 	 * This operation returns an array of the row ids that have been marked as
@@ -584,6 +693,8 @@ public class TableComponent extends ICEObject implements Component {
 			// Update the list if it exists
 			if (!rowsToStore.isEmpty()) {
 				selectedRows = rowsToStore;
+				// The selection is persisted, so it is a change
+				markContentChanged();
 			}
 		}
 
@@ -602,4 +713,32 @@ public class TableComponent extends ICEObject implements Component {
 
 	}
 
+	/**
+	 * This operation adds a row to the list of rows and registers the
+	 * revision listener with it.
+	 * 
+	 * @param row
+	 *            The row
+	 */
+	private void addRowComponent(DataComponent row) {
+		row.registerRevisionListener(rowRevisionListener);
+		rowComponents.add(row);
+	}
+
+	/**
+	 * This operation is called by JAXB after the TableComponent is
+	 * unmarshalled. It registers the revision listener with the rows.
+	 * 
+	 * @param unmarshaller
+	 *            The unmarshaller
+	 * @param parentObject
+	 *            The object that holds this TableComponent, if any
+	 */
+	private void afterUnmarshal(Unmarshaller unmarshaller,
+			Object parentObject) {
+		for (DataComponent row : rowComponents) {
+			row.registerRevisionListener(rowRevisionListener);
+		}
+	}
+
 }
\ No newline at end of file
@@ -13,8 +13,13 @@
 package org.eclipse.ice.datastructures.form;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import javax.xml.bind.Unmarshaller;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlAnyElement;
@@ -30,6 +35,7 @@ import javax.xml.bind.annotation.XmlTransient;
 import org.eclipse.ice.datastructures.ICEObject.Component;
 import org.eclipse.ice.datastructures.ICEObject.Composite;
 import org.eclipse.ice.datastructures.ICEObject.ICEObject;
+import org.eclipse.ice.datastructures.ICEObject.IContentRevisionListener;
 import org.eclipse.ice.datastructures.ICEObject.IUpdateable;
 import org.eclipse.ice.datastructures.ICEObject.IUpdateableListener;
 import org.eclipse.ice.datastructures.ICEObject.ListComponent;
@@ -37,6 +43,7 @@ import org.eclipse.ice.datastructures.componentVisitor.IComponentVisitor;
 import org.eclipse.ice.datastructures.componentVisitor.IReactorComponent;
 import org.eclipse.ice.datastructures.entry.IEntry;
 import org.eclipse.ice.datastructures.form.emf.EMFComponent;
+import org.eclipse.ice.datastructures.form.iterator.TreeCompositeSpliterator;
 
 /**
  * The TreeComposite realizes the Composite interface to provide a multi-level
@@ -125,6 +132,29 @@ import org.eclipse.ice.datastructures.form.emf.EMFComponent;
  * the list returned by getChildExemplars() is submitted. Special care should be
  * taken that children from this list are added to the TreeComposite *before*
  * they themselves are modified.
+ * </p>
+ * <p>
+ * The hash code of a TreeComposite is cached and the cache is invalidated on
+ * this node and every node above it - parents and, for exemplars, the tree
+ * that owns the exemplar - whenever the node is modified. Changes made
+ * directly to a data node are picked up through the data node's listener
+ * notifications. The diff() operation uses these hashes to skip identical
+ * subtrees when looking for the nodes that differ between two trees.
+ * </p>
+ * <p>
+ * Copying a TreeComposite shares its child exemplars with the original
+ * instead of cloning them. The shared exemplars are only cloned when one of
+ * the trees hands them out through getChildExemplars(), so copies of large
+ * trees with many exemplars, such as MOOSE trees, are cheap until their
+ * exemplars are needed.
+ * </p>
+ * <p>
+ * Nodes can be looked up by their path below a tree, the names of the nodes
+ * on the way down separated by "/", with getNodeByPath(). The first lookup
+ * builds an index of the paths that is then kept up to date as children are
+ * added, removed and renamed anywhere below the tree. The tree can also be
+ * traversed in pre-order with a (parallel) stream from stream().
+ * </p>
  * 
  * @author Jay Jay Billings
  */
@@ -239,6 +269,81 @@ public class TreeComposite extends ICEObject implements Composite,
 	@XmlAttribute
 	private boolean active = false;
 
+	/**
+	 * The cached hash code of this tree or null if it has not been computed.
+	 * It is only valid if its stamp is equal to hashStamp.
+	 */
+	@XmlTransient
+	private volatile CachedHash cachedHash = null;
+
+	/**
+	 * A stamp that is given a new value from the content revision clock every
+	 * time the cached hash code of this tree is invalidated.
+	 */
+	@XmlTransient
+	private volatile long hashStamp = 0;
+
+	/**
+	 * The listener that invalidates the cached hash code of this tree as soon
+	 * as one of its data nodes changes. It is called on the thread that makes
+	 * the change, unlike the IUpdateableListeners.
+	 */
+	@XmlTransient
+	private final IContentRevisionListener dataNodeRevisionListener = new IContentRevisionListener() {
+		@Override
+		public void contentRevisionChanged(Object source) {
+			invalidateHash();
+		}
+	};
+
+	/**
+	 * The TreeComposite that holds this tree in its set of child exemplars or
+	 * null if this tree is not an exemplar.
+	 */
+	@XmlTransient
+	private TreeComposite exemplarOwner = null;
+
+	/**
+	 * True if the child exemplars of this tree may also be held by another
+	 * tree and must be cloned before they are handed out, false otherwise.
+	 */
+	@XmlTransient
+	private boolean exemplarsShared = false;
+
+	/**
+	 * The index of the nodes below this tree keyed by their path relative to
+	 * this tree or null if the index has not been built. If more than one node
+	 * has the same path, one of them is in the index.
+	 */
+	@XmlTransient
+	private Map<String, TreeComposite> pathIndex = null;
+
+	/**
+	 * This class holds a cached hash code along with the state of the tree
+	 * when it was computed. It is immutable so that the hash and its state
+	 * are always read together.
+	 */
+	private static class CachedHash {
+
+		/**
+		 * The hash code
+		 */
+		private final int hash;
+
+		/**
+		 * The value of hashStamp when the hash code was computed
+		 */
+		private final long stamp;
+
+		/**
+		 * The constructor
+		 */
+		private CachedHash(int hash, long stamp) {
+			this.hash = hash;
+			this.stamp = stamp;
+		}
+	}
+
 	/**
 	 * <p>
 	 * The constructor.
@@ -337,6 +442,8 @@ public class TreeComposite extends ICEObject implements Composite,
 			currentChild = children.get(currentChildIndex);
 			// Increment the counter
 			currentChildIndex++;
+			// The iterator position is part of the hash
+			invalidateHash();
 		}
 
 		return currentChild;
@@ -406,6 +513,8 @@ public class TreeComposite extends ICEObject implements Composite,
 			children.add(cNode);
 			// Set the parent reference for the child
 			cNode.parent = this;
+			// Add the child to any path indexes
+			updatePathIndexes(cNode, true);
 			// Register the listeners with this child
 			for (IUpdateableListener listener : listeners) {
 				cNode.register(listener);
@@ -439,6 +548,8 @@ public class TreeComposite extends ICEObject implements Composite,
 			currentChildIndex--;
 			// Return the next child.
 			currentChild = children.get(currentChildIndex);
+			// The iterator position is part of the hash
+			invalidateHash();
 		}
 
 		return currentChild;
@@ -477,6 +588,8 @@ public class TreeComposite extends ICEObject implements Composite,
 			children.remove(cNode);
 			// Remove the parent link of the child
 			cNode.parent = null;
+			// Remove the child from any path indexes
+			updatePathIndexes(cNode, false);
 			// Fix the currentChildIndex iterator if needed
 			if (currentChildIndex > i) {
 				currentChildIndex--;
@@ -514,7 +627,10 @@ public class TreeComposite extends ICEObject implements Composite,
 	public void resetChildIterator() {
 
 		// Reset the child iterator to the starting position.
-		currentChildIndex = 0;
+		if (currentChildIndex != 0) {
+			currentChildIndex = 0;
+			invalidateHash();
+		}
 
 	}
 
@@ -587,6 +703,31 @@ public class TreeComposite extends ICEObject implements Composite,
 		return dataNodes;
 	}
 
+	/**
+	 * This operation returns the content revision of the TreeComposite, which
+	 * is the largest content revision of the TreeComposite, its data nodes and
+	 * all of its descendants.
+	 * 
+	 * @see ICEObject#getContentRevision()
+	 */
+	@Override
+	public long getContentRevision() {
+
+		// Local Declarations
+		long contentRevision = super.getContentRevision();
+
+		for (Component dataNode : dataNodes) {
+			contentRevision = Math.max(contentRevision,
+					dataNode.getContentRevision());
+		}
+		for (TreeComposite child : children) {
+			contentRevision = Math.max(contentRevision,
+					child.getContentRevision());
+		}
+
+		return contentRevision;
+	}
+
 	/**
 	 * <p>
 	 * This operation returns the number of data nodes of this TreeComposite.
@@ -728,7 +869,11 @@ public class TreeComposite extends ICEObject implements Composite,
 	 * <p>
 	 * This operation returns the hashcode value of the TreeComposite. It does
 	 * not include the parent and sibling references when computing the
-	 * hashcode.
+	 * hashcode. The hashcode is cached until this tree, one of its nodes or
+	 * one of their data nodes is modified. Every change invalidates the cache
+	 * of the changed tree and of the trees above it on the thread that makes
+	 * the change, so checking the cache does not visit the nodes of the tree
+	 * and the hashcode is current as soon as the change is made.
 	 * </p>
 	 * 
 	 * @return <p>
@@ -738,6 +883,13 @@ public class TreeComposite extends ICEObject implements Composite,
 	@Override
 	public int hashCode() {
 
+		// Return the cached value if nothing has changed since it was computed
+		long stamp = hashStamp;
+		CachedHash cached = cachedHash;
+		if (cached != null && cached.stamp == stamp) {
+			return cached.hash;
+		}
+
 		// Local Declarations
 		int hash = 8;
 
@@ -751,9 +903,347 @@ public class TreeComposite extends ICEObject implements Composite,
 		hash = 31 * hash + currentChildIndex;
 		hash = 31 * hash + childExemplars.hashCode();
 
+		// Cache the hash. It is stale right away if the tree was modified
+		// while it was computed.
+		cachedHash = new CachedHash(hash, stamp);
+
 		return hash;
 	}
 
+	/**
+	 * This operation invalidates the cached hashcode of this tree and of every
+	 * tree above it, following the parent references and, for exemplars, the
+	 * tree that owns the exemplar. Subclasses that modify the tree without
+	 * notifying the listeners should call it. The stamps are taken from the
+	 * content revision clock, so concurrent invalidations can't give a stamp
+	 * the value it had when a hash was cached.
+	 */
+	protected void invalidateHash() {
+		long stamp = ICEObject.nextContentRevision();
+		TreeComposite tree = this;
+		while (tree != null) {
+			tree.hashStamp = stamp;
+			tree = (tree.parent != null) ? tree.parent : tree.exemplarOwner;
+		}
+	}
+
+	/**
+	 * This operation returns a sequential stream of this tree and all of the
+	 * nodes below it in pre-order. The stream can be made parallel with
+	 * parallel(). The tree must not be modified while the stream is in use.
+	 * 
+	 * @return The stream of TreeComposites.
+	 */
+	public Stream<TreeComposite> stream() {
+		return StreamSupport.stream(new TreeCompositeSpliterator(this), false);
+	}
+
+	/**
+	 * This operation returns the node below this tree with the given path.
+	 * The path is made of the names of the nodes on the way down from this
+	 * tree, not including its own name, separated by "/". For example, the
+	 * path of a grandchild is "childName/grandChildName". Leading and trailing
+	 * slashes are ignored and an empty path returns this tree.
+	 * 
+	 * @param path
+	 *            The path of the node
+	 * @return The node or null if no node has that path. If there is more
+	 *         than one node with the path, one of them is returned.
+	 */
+	public TreeComposite getNodeByPath(String path) {
+
+		// Check the path
+		if (path == null) {
+			return null;
+		}
+		int start = 0, end = path.length();
+		while (start < end && path.charAt(start) == '/') {
+			start++;
+		}
+		while (end > start && path.charAt(end - 1) == '/') {
+			end--;
+		}
+		if (start == end) {
+			return this;
+		}
+
+		// Build the index the first time it is needed
+		if (pathIndex == null) {
+			pathIndex = new HashMap<String, TreeComposite>();
+			for (TreeComposite child : children) {
+				indexSubtree(pathIndex, "", child);
+			}
+		}
+
+		return pathIndex.get(path.substring(start, end));
+	}
+
+	/**
+	 * This operation adds a subtree to, or removes it from, the path indexes
+	 * of this tree and every tree above it that has one.
+	 * 
+	 * @param child
+	 *            The child of this tree whose subtree was added or removed
+	 * @param added
+	 *            True if the child was added, false if it was removed
+	 */
+	private void updatePathIndexes(TreeComposite child, boolean added) {
+
+		// The prefix is the path of this tree relative to the indexed tree
+		String prefix = "";
+		TreeComposite tree = this;
+		while (tree != null) {
+			if (tree.pathIndex != null) {
+				if (added) {
+					indexSubtree(tree.pathIndex, prefix, child);
+				} else {
+					// Remove the paths and then put back any other node with
+					// one of the same paths
+					List<String> paths = new ArrayList<String>();
+					unindexSubtree(tree.pathIndex, prefix, child, paths);
+					for (String path : paths) {
+						TreeComposite other = tree.findByPath(path.split("/"),
+								0, child);
+						if (other != null) {
+							tree.pathIndex.put(path, other);
+						}
+					}
+				}
+			}
+			prefix = tree.getName() + "/" + prefix;
+			tree = tree.parent;
+		}
+
+		return;
+	}
+
+	/**
+	 * This operation adds a tree and all of the nodes below it to a path
+	 * index. Paths that are already in the index are not replaced.
+	 * 
+	 * @param index
+	 *            The path index
+	 * @param prefix
+	 *            The path of the parent of the tree relative to the indexed
+	 *            tree, followed by a "/", or an empty string for its children
+	 * @param tree
+	 *            The tree to add
+	 */
+	private static void indexSubtree(Map<String, TreeComposite> index,
+			String prefix, TreeComposite tree) {
+		String path = prefix + tree.getName();
+		if (!index.containsKey(path)) {
+			index.put(path, tree);
+		}
+		for (TreeComposite child : tree.children) {
+			indexSubtree(index, path + "/", child);
+		}
+	}
+
+	/**
+	 * This operation removes a tree and all of the nodes below it from a path
+	 * index.
+	 * 
+	 * @param index
+	 *            The path index
+	 * @param prefix
+	 *            The path of the parent of the tree relative to the indexed
+	 *            tree, followed by a "/", or an empty string for its children
+	 * @param tree
+	 *            The tree to remove
+	 * @param removedPaths
+	 *            The list to which the paths that were removed are added
+	 */
+	private static void unindexSubtree(Map<String, TreeComposite> index,
+			String prefix, TreeComposite tree, List<String> removedPaths) {
+		String path = prefix + tree.getName();
+		if (index.get(path) == tree) {
+			index.remove(path);
+			removedPaths.add(path);
+		}
+		for (TreeComposite child : tree.children) {
+			unindexSubtree(index, path + "/", child, removedPaths);
+		}
+	}
+
+	/**
+	 * This operation searches the children of this tree for a node with the
+	 * given path, following every child with a matching name.
+	 * 
+	 * @param names
+	 *            The names of the nodes on the path
+	 * @param depth
+	 *            The position in the path of the children of this tree
+	 * @param excluded
+	 *            A subtree that should not be searched
+	 * @return The node or null if it was not found
+	 */
+	private TreeComposite findByPath(String[] names, int depth,
+			TreeComposite excluded) {
+		for (TreeComposite child : children) {
+			if (child != excluded && names[depth].equals(child.getName())) {
+				TreeComposite found = (depth == names.length - 1) ? child
+						: child.findByPath(names, depth + 1, excluded);
+				if (found != null) {
+					return found;
+				}
+			}
+		}
+		return null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.eclipse.ice.datastructures.ICEObject.ICEObject#setName(java.lang.
+	 * String)
+	 */
+	@Override
+	public void setName(String name) {
+
+		// Renaming changes the paths of this node and the nodes below it, so
+		// it is moved in the path indexes of the trees above it.
+		if (name != null && parent != null && !name.equals(objectName)) {
+			TreeComposite parentTree = parent;
+			parentTree.updatePathIndexes(this, false);
+			super.setName(name);
+			parentTree.updatePathIndexes(this, true);
+		} else {
+			super.setName(name);
+		}
+
+		return;
+	}
+
+	/**
+	 * This operation gives the tree a new content revision and invalidates
+	 * the cached hashcode. It is called every time the listeners of the tree
+	 * are notified.
+	 */
+	@Override
+	protected void markContentChanged() {
+		super.markContentChanged();
+		invalidateHash();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.eclipse.ice.datastructures.ICEObject.ICEObject#setContext(java.lang.
+	 * String)
+	 */
+	@Override
+	public void setContext(String context) {
+		super.setContext(context);
+		// The context is part of the hash
+		invalidateHash();
+	}
+
+	/**
+	 * <p>
+	 * This operation compares this tree with another tree and returns the
+	 * nodes of this tree that are different from the matching nodes of the
+	 * other tree. Children are matched by their position in their parent.
+	 * Subtrees that are equal are skipped without being walked again once
+	 * their hashcodes have been computed.
+	 * </p>
+	 * <p>
+	 * A node is reported if its own data - its ICEObject data, data nodes,
+	 * exemplars or settings - differs, if it has fewer or more children than
+	 * the matching node, or if it has no match. Nodes below a node that has no
+	 * match are not reported separately.
+	 * </p>
+	 * 
+	 * @param otherTree
+	 *            The tree to compare against.
+	 * @return The nodes of this tree that differ from the other tree, in
+	 *         pre-order. The list is empty if the trees are equal.
+	 */
+	public List<TreeComposite> diff(TreeComposite otherTree) {
+		List<TreeComposite> changedNodes = new ArrayList<TreeComposite>();
+		diff(this, otherTree, changedNodes);
+		return changedNodes;
+	}
+
+	/**
+	 * This operation adds the nodes of a tree that differ from the matching
+	 * nodes of another tree to the list.
+	 * 
+	 * @param tree
+	 *            The tree whose changed nodes should be added to the list
+	 * @param otherTree
+	 *            The matching tree, which may be null
+	 * @param changedNodes
+	 *            The list of changed nodes
+	 */
+	private static void diff(TreeComposite tree, TreeComposite otherTree,
+			List<TreeComposite> changedNodes) {
+
+		// A node without a match is a change
+		if (otherTree == null) {
+			changedNodes.add(tree);
+			return;
+		}
+
+		// Skip equal subtrees. Comparing the hashes first keeps equals() from
+		// walking subtrees that are known to be different.
+		if (tree == otherTree || (tree.hashCode() == otherTree.hashCode()
+				&& tree.equals(otherTree))) {
+			return;
+		}
+
+		// Check this node
+		int position = changedNodes.size();
+		int numChildren = tree.children.size();
+		int numOtherChildren = otherTree.children.size();
+		boolean nodeChanged = tree.getClass() != otherTree.getClass()
+				|| numChildren != numOtherChildren
+				|| !tree.nodeEquals(otherTree);
+		if (nodeChanged) {
+			changedNodes.add(tree);
+		}
+
+		// Compare the children
+		for (int i = 0; i < numChildren; i++) {
+			diff(tree.children.get(i),
+					(i < numOtherChildren) ? otherTree.children.get(i) : null,
+					changedNodes);
+		}
+
+		// If the trees are not equal but no difference was found, the
+		// difference is in a property of this node that is not compared
+		// directly, such as the child iterator or subclass data.
+		if (changedNodes.size() == position) {
+			changedNodes.add(tree);
+		}
+
+		return;
+	}
+
+	/**
+	 * This operation compares the data that belongs to this node alone - its
+	 * ICEObject data, data nodes, exemplars and settings - with that of
+	 * another tree. Children are not compared.
+	 * 
+	 * @param tree
+	 *            The other tree
+	 * @return True if the node data is equal, false otherwise.
+	 */
+	private boolean nodeEquals(TreeComposite tree) {
+		return this.uniqueId == tree.uniqueId
+				&& this.objectName.equals(tree.objectName)
+				&& this.objectDescription.equals(tree.objectDescription)
+				&& dataNodes.equals(tree.dataNodes)
+				&& ((activeDataNode != null)
+						? activeDataNode.equals(tree.activeDataNode)
+						: tree.activeDataNode == null)
+				&& allowActiveDataNodes == tree.allowActiveDataNodes
+				&& active == tree.active
+				&& childExemplars.equals(tree.childExemplars);
+	}
+
 	/**
 	 * <p>
 	 * This operation performs a deep copy of the attributes of another
@@ -855,6 +1345,9 @@ public class TreeComposite extends ICEObject implements Composite,
 		this.currentChildIndex = otherTreeComposite.currentChildIndex;
 
 		// Deep copy dataNodes
+		for (Component dataNode : this.dataNodes) {
+			dataNode.unregisterRevisionListener(dataNodeRevisionListener);
+		}
 		this.dataNodes.clear();
 		this.activeDataNode = null;
 		this.allowActiveDataNodes = otherTreeComposite.allowActiveDataNodes;
@@ -863,6 +1356,7 @@ public class TreeComposite extends ICEObject implements Composite,
 			Component dataNode = otherTreeComposite.dataNodes.get(i);
 			Component clone = (Component) ((ICEObject) dataNode).clone();
 			// Add the clone to this tree's set of data nodes.
+			clone.registerRevisionListener(dataNodeRevisionListener);
 			this.dataNodes.add(clone);
 			// Synchronize the active data node with the other tree's active
 			// data node if the cloned data node is the active one.
@@ -874,12 +1368,19 @@ public class TreeComposite extends ICEObject implements Composite,
 		// Copy activity marker
 		this.active = otherTreeComposite.active;
 
-		// Copy the exemplars
-		this.childExemplars.clear();
-		for (int i = 0; i < otherTreeComposite.childExemplars.size(); i++) {
-			this.childExemplars
-					.add((TreeComposite) otherTreeComposite.childExemplars.get(
-							i).clone());
+		// The children were replaced, so the path indexes of this tree and
+		// the trees above it are rebuilt the next time they are used.
+		for (TreeComposite tree = this; tree != null; tree = tree.parent) {
+			tree.pathIndex = null;
+		}
+
+		// Share the exemplars with the other tree. They are cloned by either
+		// tree when it hands them out in getChildExemplars().
+		this.childExemplars = new ArrayList<TreeComposite>(
+				otherTreeComposite.childExemplars);
+		this.exemplarsShared = !this.childExemplars.isEmpty();
+		if (this.exemplarsShared) {
+			otherTreeComposite.exemplarsShared = true;
 		}
 
 		// Re-register with all of the listeners.
@@ -933,6 +1434,12 @@ public class TreeComposite extends ICEObject implements Composite,
 		// Check that the incoming list is valid
 		if (exemplars != null) {
 			childExemplars = (ArrayList<TreeComposite>) exemplars.clone();
+			// The exemplars belong to the caller and this tree now
+			exemplarsShared = false;
+			for (TreeComposite exemplar : childExemplars) {
+				exemplar.exemplarOwner = this;
+			}
+			invalidateHash();
 		}
 
 		return;
@@ -967,7 +1474,9 @@ public class TreeComposite extends ICEObject implements Composite,
 
 			// Add the new child exemplar
 			TreeComposite cloneExemplar = (TreeComposite) exemplar.clone();
+			cloneExemplar.exemplarOwner = this;
 			childExemplars.add(cloneExemplar);
+			invalidateHash();
 		}
 
 		return;
@@ -986,6 +1495,19 @@ public class TreeComposite extends ICEObject implements Composite,
 	 *         </p>
 	 */
 	public ArrayList<TreeComposite> getChildExemplars() {
+
+		// Clone the exemplars before handing them out if they are shared with
+		// another tree so that changes to them stay in this tree.
+		if (exemplarsShared) {
+			for (int i = 0; i < childExemplars.size(); i++) {
+				TreeComposite exemplar = (TreeComposite) childExemplars.get(i)
+						.clone();
+				exemplar.exemplarOwner = this;
+				childExemplars.set(i, exemplar);
+			}
+			exemplarsShared = false;
+		}
+
 		return (ArrayList<TreeComposite>) childExemplars.clone();
 	}
 
@@ -1051,6 +1573,7 @@ public class TreeComposite extends ICEObject implements Composite,
 	private void addDataNodeToList(Component comp) {
 
 		// Add the component to the list
+		comp.registerRevisionListener(dataNodeRevisionListener);
 		dataNodes.add(comp);
 		// Register the listeners
 		for (IUpdateableListener listener : listeners) {
@@ -1058,6 +1581,43 @@ public class TreeComposite extends ICEObject implements Composite,
 		}
 	}
 
+	/**
+	 * This operation is called by JAXB after the tree is unmarshalled. It
+	 * restores the parent and sibling references of the children and the
+	 * owner of the exemplars, neither of which are persisted.
+	 * 
+	 * @param unmarshaller
+	 *            The unmarshaller
+	 * @param parentObject
+	 *            The object that holds this tree, if any
+	 */
+	private void afterUnmarshal(Unmarshaller unmarshaller,
+			Object parentObject) {
+
+		// Re-link the children
+		TreeComposite previousChild = null;
+		for (TreeComposite child : children) {
+			child.parent = this;
+			child.previousSibling = previousChild;
+			if (previousChild != null) {
+				previousChild.nextSibling = child;
+			}
+			previousChild = child;
+		}
+
+		// Set the owner of the exemplars
+		for (TreeComposite exemplar : childExemplars) {
+			exemplar.exemplarOwner = this;
+		}
+
+		// Watch the data nodes
+		for (Component dataNode : dataNodes) {
+			dataNode.registerRevisionListener(dataNodeRevisionListener);
+		}
+
+		invalidateHash();
+	}
+
 	/**
 	 * (non-Javadoc)
 	 * 
@@ -1111,6 +1671,7 @@ public class TreeComposite extends ICEObject implements Composite,
 			if (component.getId() == childId) {
 				dataNodes.remove(i);
 				// Unregister all listeners from the removed data node.
+				component.unregisterRevisionListener(dataNodeRevisionListener);
 				for (IUpdateableListener listener : listeners) {
 					component.unregister(listener);
 				}
@@ -16,14 +16,13 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.util.HashMap;
+import java.util.ArrayDeque;
 
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlTransient;
 
 import org.eclipse.emf.common.util.TreeIterator;
-import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EPackage;
@@ -34,7 +33,6 @@ import org.eclipse.ice.datastructures.ICEObject.Component;
 import org.eclipse.ice.datastructures.ICEObject.ICEObject;
 import org.eclipse.ice.datastructures.componentVisitor.IComponentVisitor;
 import org.eclipse.ice.datastructures.form.TreeComposite;
-import org.xml.sax.SAXException;
 
 /**
  * The EMFComponent is a realization of the Component interface that
@@ -64,7 +62,9 @@ public class EMFComponent extends ICEObject implements Component {
 
 	/**
 	 * Reference to the XMLProcessor that is used to read and write the
-	 * EMFComponent's XML Resource.
+	 * EMFComponent's XML Resource. It is shared with other EMFComponents that
+	 * use the same schema through the {@link XMLProcessorCache}, so it is
+	 * locked while it is used.
 	 * 
 	 */
 	@XmlTransient
@@ -102,13 +102,9 @@ public class EMFComponent extends ICEObject implements Component {
 
 		// Make sure we have a valid File object.
 		if (file != null) {
-			// Create a new XMLProcessor to be used in creating
-			// and persisting XML Resources
-			try {
-				xmlProcessor = new XMLProcessor(URI.createFileURI(file.getAbsolutePath()));
-			} catch (SAXException e) {
-				logger.error(getClass().getName() + " Exception!", e);
-			}
+			// Get the XMLProcessor to be used in creating and persisting XML
+			// Resources. It is only built if the schema is new or changed.
+			xmlProcessor = XMLProcessorCache.getProcessor(file);
 
 			if (xmlProcessor != null) {
 
@@ -184,7 +180,9 @@ public class EMFComponent extends ICEObject implements Component {
 				xmlResource.getContents().add(iceEMFTree.getEcoreNode());
 
 				// Direct the XMLProcessor to save the Resource
-				xmlProcessor.save(outputStream, xmlResource, null);
+				synchronized (xmlProcessor) {
+					xmlProcessor.save(outputStream, xmlResource, null);
+				}
 
 				outputStream.close();
 
@@ -211,12 +209,11 @@ public class EMFComponent extends ICEObject implements Component {
 	 * @return
 	 */
 	public boolean load(File schema, File file) {
-		// Create a new XMLProcessor to be used in creating
-		// and persisting XML Resources
-		try {
-			xmlProcessor = new XMLProcessor(URI.createFileURI(schema.getAbsolutePath()));
-		} catch (SAXException e) {
-			logger.error(getClass().getName() + " Exception!", e);
+		// Get the XMLProcessor to be used in creating and persisting XML
+		// Resources. Only the document is parsed if the schema was already
+		// loaded.
+		xmlProcessor = XMLProcessorCache.getProcessor(schema);
+		if (xmlProcessor == null) {
 			return false;
 		}
 
@@ -235,8 +232,10 @@ public class EMFComponent extends ICEObject implements Component {
 		EObject documentRoot = null;
 
 		if (xmlProcessor != null) {
-			try {
-				xmlResource = (XMLResource) xmlProcessor.load(new FileInputStream(file), null);
+			try (FileInputStream stream = new FileInputStream(file)) {
+				synchronized (xmlProcessor) {
+					xmlResource = (XMLResource) xmlProcessor.load(stream, null);
+				}
 			} catch (IOException e) {
 				logger.error(getClass().getName() + " Exception!", e);
 				return false;
@@ -258,34 +257,25 @@ public class EMFComponent extends ICEObject implements Component {
 			iceEMFTree = new EMFTreeComposite(documentRoot);
 			iceEMFTree.setId(id);
 			
-			// Create the a map to store EObject keys to their corresponding
-			// EMFTreeComposite value.
-			HashMap<EObject, EMFTreeComposite> map = new HashMap<EObject, EMFTreeComposite>();
-
-			// Put the root node in the tree
-			map.put(documentRoot, iceEMFTree);
-
-			// Use the EMF tree iterator to walk the Ecore tree.
+			// The EMF tree iterator walks the Ecore tree in pre-order, so each
+			// node's parent is on the stack of its ancestors and the children
+			// are added in document order.
+			ArrayDeque<EMFTreeComposite> ancestors = new ArrayDeque<EMFTreeComposite>();
+			ancestors.push(iceEMFTree);
 			TreeIterator<EObject> tree = documentRoot.eAllContents();
 			EObject obj = null;
 			EMFTreeComposite tempTree = null;
-			while (tree.hasNext()){
+			while (tree.hasNext()) {
 				id++;
 				obj = tree.next();
 				tempTree = new EMFTreeComposite(obj);
 				tempTree.setId(id);
-				// Put this EObject in the map with its
-				// EMFTreeComposite representation
-				map.put(obj, tempTree);
-			}
-			
-			// Loop through all the EObject keys and
-			// set each EMFTreeComposite's parent
-			for (EObject o : map.keySet()) {
-				EObject parent = o.eContainer();
-				if (parent != null) {
-					map.get(parent).setNextChild(map.get(o));
+				// Pop back up to this EObject's parent
+				while (ancestors.peek().getEcoreNode() != obj.eContainer()) {
+					ancestors.pop();
 				}
+				ancestors.peek().setNextChild(tempTree);
+				ancestors.push(tempTree);
 			}
 		} else {
 			return false;
@@ -407,7 +397,9 @@ public class EMFComponent extends ICEObject implements Component {
 
 			// Write to standard out
 			try {
-				xmlProcessor.save(System.out, xmlResource, null);
+				synchronized (xmlProcessor) {
+					xmlProcessor.save(System.out, xmlResource, null);
+				}
 			} catch (IOException e) {
 				logger.error(getClass().getName() + " Exception!", e);
 				return false;
@@ -426,7 +418,9 @@ public class EMFComponent extends ICEObject implements Component {
 	public String saveToString() {
 		String retString = null;
 		try {
-			retString = xmlProcessor.saveToString(xmlResource, null);
+			synchronized (xmlProcessor) {
+				retString = xmlProcessor.saveToString(xmlResource, null);
+			}
 		} catch (IOException e) {
 			logger.error(getClass().getName() + " Exception!", e);
 			return null;
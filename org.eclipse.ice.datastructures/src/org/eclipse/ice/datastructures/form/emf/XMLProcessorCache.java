@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (c) 2016 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - Jay Jay Billings
+ *******************************************************************************/
+package org.eclipse.ice.datastructures.form.emf;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.xmi.util.XMLProcessor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.xml.sax.SAXException;
+
+/**
+ * <p>
+ * The XMLProcessorCache keeps one XMLProcessor for each XML schema so that the
+ * schema only has to be converted to an Ecore EPackage once, no matter how
+ * many EMFComponents are created for it. Processors are keyed by the URI of
+ * the schema and the hash of its contents, so a schema that is edited on disk
+ * is compiled again the next time it is requested.
+ * </p>
+ * <p>
+ * Only the contents of the main schema file are hashed. Changes to schemas
+ * that it includes or imports are not detected until {@link #clear()} is
+ * called.
+ * </p>
+ * <p>
+ * The processors are shared between threads. Clients that load or save with
+ * them should synchronize on the processor, as the EMFComponent does.
+ * </p>
+ *
+ * @author Jay Jay Billings
+ */
+public class XMLProcessorCache {
+
+	/**
+	 * Logger for handling event messages and other information.
+	 */
+	private static final Logger logger = LoggerFactory
+			.getLogger(XMLProcessorCache.class);
+
+	/**
+	 * The cached processors, keyed by the URIs of their schemas.
+	 */
+	private static final ConcurrentHashMap<String, CachedProcessor> processors = new ConcurrentHashMap<String, CachedProcessor>();
+
+	/**
+	 * A processor and the hash of the schema from which it was built.
+	 */
+	private static class CachedProcessor {
+
+		/**
+		 * The hash of the schema's contents.
+		 */
+		private final byte[] hash;
+
+		/**
+		 * The processor built from the schema.
+		 */
+		private final XMLProcessor processor;
+
+		/**
+		 * The constructor
+		 *
+		 * @param hash
+		 *            The hash of the schema's contents
+		 * @param processor
+		 *            The processor built from the schema
+		 */
+		private CachedProcessor(byte[] hash, XMLProcessor processor) {
+			this.hash = hash;
+			this.processor = processor;
+		}
+	}
+
+	/**
+	 * This class only has static operations.
+	 */
+	private XMLProcessorCache() {
+	}
+
+	/**
+	 * This operation returns the XMLProcessor for an XML schema, building it
+	 * only if there is no processor for the current contents of the schema.
+	 * Concurrent requests for the same schema wait for a single build.
+	 *
+	 * @param schema
+	 *            The XML schema file
+	 * @return The processor, or null if the schema could not be read or
+	 *         converted to an Ecore model
+	 */
+	public static XMLProcessor getProcessor(File schema) {
+
+		// Local Declarations
+		final URI uri;
+		final byte[] hash;
+		CachedProcessor cached;
+
+		if (schema == null) {
+			return null;
+		}
+
+		// Hash the schema. This is much cheaper than converting it.
+		uri = URI.createFileURI(schema.getAbsolutePath());
+		try {
+			hash = MessageDigest.getInstance("SHA-1")
+					.digest(Files.readAllBytes(schema.toPath()));
+		} catch (IOException | NoSuchAlgorithmException e) {
+			logger.error(XMLProcessorCache.class.getName() + " Exception!", e);
+			return null;
+		}
+
+		// Build a new processor if there is none or the schema changed
+		cached = processors.compute(uri.toString(), (key, current) -> {
+			if (current != null && Arrays.equals(current.hash, hash)) {
+				return current;
+			}
+			try {
+				return new CachedProcessor(hash, new XMLProcessor(uri));
+			} catch (SAXException e) {
+				logger.error(XMLProcessorCache.class.getName() + " Exception!",
+						e);
+				// Drop the stale processor, if any
+				return null;
+			}
+		});
+
+		return (cached != null) ? cached.processor : null;
+	}
+
+	/**
+	 * This operation removes all of the cached processors so that every schema
+	 * will be converted again the next time that it is requested.
+	 */
+	public static void clear() {
+		processors.clear();
+	}
+
+}
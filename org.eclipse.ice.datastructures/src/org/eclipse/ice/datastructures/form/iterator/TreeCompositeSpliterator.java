@@ -0,0 +1,210 @@
+/*******************************************************************************
+ * Copyright (c) 2016 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - Jay Jay Billings
+ *******************************************************************************/
+package org.eclipse.ice.datastructures.form.iterator;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import org.eclipse.ice.datastructures.form.TreeComposite;
+
+/**
+ * This class implements a pre-order {@link Spliterator} for a
+ * {@link TreeComposite} so that trees can be traversed with streams, including
+ * parallel streams:
+ *
+ * <pre>
+ * <code>
+ * TreeComposite root;
+ * // Set up your tree here...
+ *
+ * long activeNodes = root.stream().parallel()
+ *         .filter(TreeComposite::isActive).count();
+ * </code>
+ * </pre>
+ *
+ * The spliterator keeps a queue of pending subtrees in pre-order. Splitting
+ * hands the first half of the queue to a new spliterator. If only one subtree
+ * is pending, it is first broken into its root node and the subtrees of its
+ * children. Only the child lists of the tree are read, so the tree must not be
+ * modified during the traversal.
+ *
+ * @author Jay Jay Billings
+ *
+ */
+public class TreeCompositeSpliterator implements Spliterator<TreeComposite> {
+
+	/**
+	 * The pending work in pre-order. Each item is either a subtree that must
+	 * be traversed completely or a single node whose children are already in
+	 * the queue.
+	 */
+	private final Deque<Pending> pending;
+
+	/**
+	 * The estimated number of nodes left in this spliterator. It is unknown to
+	 * start with and halved on each split.
+	 */
+	private long estimatedSize;
+
+	/**
+	 * A node in the queue of pending work.
+	 */
+	private static class Pending {
+
+		/**
+		 * The node
+		 */
+		private final TreeComposite node;
+
+		/**
+		 * True if the children of the node must also be traversed, false if
+		 * they are already in the queue.
+		 */
+		private final boolean expand;
+
+		/**
+		 * The constructor
+		 *
+		 * @param node
+		 *            The node
+		 * @param expand
+		 *            True if the children of the node must also be traversed
+		 */
+		private Pending(TreeComposite node, boolean expand) {
+			this.node = node;
+			this.expand = expand;
+		}
+	}
+
+	/**
+	 * The default constructor.
+	 *
+	 * @param root
+	 *            The root TreeComposite that is the starting point for this
+	 *            spliterator.
+	 */
+	public TreeCompositeSpliterator(TreeComposite root) {
+
+		// A null root is an error, just like for the iterators.
+		if (root == null) {
+			throw new IllegalArgumentException(
+					"TreeCompositeSpliterator error: "
+							+ "Root cannot be null.");
+		}
+
+		pending = new ArrayDeque<Pending>();
+		pending.add(new Pending(root, true));
+		estimatedSize = Long.MAX_VALUE;
+
+		return;
+	}
+
+	/**
+	 * The constructor used when splitting.
+	 *
+	 * @param pending
+	 *            The pending work of the new spliterator
+	 * @param estimatedSize
+	 *            The estimated number of nodes in the new spliterator
+	 */
+	private TreeCompositeSpliterator(Deque<Pending> pending,
+			long estimatedSize) {
+		this.pending = pending;
+		this.estimatedSize = estimatedSize;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see java.util.Spliterator#tryAdvance(java.util.function.Consumer)
+	 */
+	@Override
+	public boolean tryAdvance(Consumer<? super TreeComposite> action) {
+
+		// Stop if there is nothing left
+		Pending next = pending.pollFirst();
+		if (next == null) {
+			return false;
+		}
+
+		// Queue the children in front of everything else so that they are
+		// visited next, first child first.
+		TreeComposite node = next.node;
+		if (next.expand) {
+			for (int i = node.getNumberOfChildren() - 1; i >= 0; i--) {
+				pending.addFirst(new Pending(node.getChildAtIndex(i), true));
+			}
+		}
+
+		action.accept(node);
+
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see java.util.Spliterator#trySplit()
+	 */
+	@Override
+	public Spliterator<TreeComposite> trySplit() {
+
+		// Break a single subtree into its root and its child subtrees
+		if (pending.size() == 1) {
+			Pending only = pending.peekFirst();
+			TreeComposite node = only.node;
+			if (!only.expand || node.getNumberOfChildren() < 2) {
+				return null;
+			}
+			pending.clear();
+			pending.add(new Pending(node, false));
+			for (int i = 0; i < node.getNumberOfChildren(); i++) {
+				pending.add(new Pending(node.getChildAtIndex(i), true));
+			}
+		} else if (pending.size() < 2) {
+			return null;
+		}
+
+		// Hand the first half of the work to the new spliterator. It comes
+		// first in pre-order.
+		int splitSize = pending.size() / 2;
+		Deque<Pending> prefix = new ArrayDeque<Pending>(splitSize);
+		for (int i = 0; i < splitSize; i++) {
+			prefix.add(pending.pollFirst());
+		}
+		estimatedSize = estimatedSize / 2;
+
+		return new TreeCompositeSpliterator(prefix, estimatedSize);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see java.util.Spliterator#estimateSize()
+	 */
+	@Override
+	public long estimateSize() {
+		return estimatedSize;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see java.util.Spliterator#characteristics()
+	 */
+	@Override
+	public int characteristics() {
+		return ORDERED | DISTINCT | NONNULL;
+	}
+
+}
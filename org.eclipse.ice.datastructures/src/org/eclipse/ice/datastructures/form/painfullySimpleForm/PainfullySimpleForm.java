@@ -16,6 +16,9 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.regex.Pattern;
 
 import javax.xml.bind.annotation.XmlRootElement;
 
@@ -44,6 +47,21 @@ import org.eclipse.ice.datastructures.form.TableComponent;
  */
 @XmlRootElement(name = "Form")
 public class PainfullySimpleForm extends Form {
+
+	/**
+	 * The pattern that matches empty lines and lines that only contain
+	 * whitespace. It is compiled once since every line is checked against it.
+	 */
+	private static final Pattern BLANK_LINE = Pattern.compile("\\s*");
+
+	/**
+	 * The keys of the Form, group and table statements at the top of a PSF
+	 * file.
+	 */
+	private static final Set<String> HEADER_KEYS = new HashSet<String>(
+			Arrays.asList("formName", "formDescription", "formType", "group",
+					"groupDescription", "table", "tableDescription"));
+
 	/**
 	 * <p>
 	 * An attribute that holds an arraylist of entries with a key relative to
@@ -86,6 +104,13 @@ public class PainfullySimpleForm extends Form {
 	 * it has been delegated to the PSF, which means that it is its duty to
 	 * throw the error.
 	 * </p>
+	 * <p>
+	 * The lines are read in a single pass. Each line is classified once and
+	 * the Form, group and table statements at the top of the file are
+	 * collected until the first Entry statement is found. The DataComponents
+	 * are created at that point and each Entry is then created and added as
+	 * soon as the empty line at the end of its block is read.
+	 * </p>
 	 * 
 	 * @param inputLines
 	 *            <p>
@@ -97,153 +122,176 @@ public class PainfullySimpleForm extends Form {
 	public void loadFromPSF(ArrayList<String> inputLines) throws IOException {
 
 		// Local Declarations
-		int firstEntryLine = 0;
-		ArrayList<String> emptyLines = new ArrayList<String>();
-		ArrayList<String> formAndGroupLines = new ArrayList<String>();
-		ArrayList<String> entryLines = new ArrayList<String>();
+		ArrayList<String> headerKeys = new ArrayList<String>();
+		ArrayList<String> headerValues = new ArrayList<String>();
+		HashMap<String, Component> componentMap = null;
+		EntryBlock block = new EntryBlock();
+		int entryCount = 0;
 
 		// This will only work if the stream is not null
-		if (inputLines != null) {
-			// Segregate the lines
-			for (String currentLine : inputLines) {
-				// Get the group lines and make sure it has an "=" character in
-				// it!
-				if (currentLine.startsWith("group=")
-						|| currentLine.startsWith("table=")
-						|| currentLine.startsWith("groupDescription=")
-						|| currentLine.startsWith("tableDescription=")
-						|| currentLine.startsWith("formName=")
-						|| currentLine.startsWith("formDescription=")
-						|| currentLine.startsWith("formType=")) {
-					formAndGroupLines.add(currentLine);
+		if (inputLines == null) {
+			throw new IOException("PSF InputStream cannot be null!");
+		}
+
+		for (int i = 0; i < inputLines.size(); i++) {
+			String currentLine = inputLines.get(i);
+			LineType lineType = classify(currentLine);
+
+			// Collect the Form, group and table statements until the first
+			// Entry statement is found. Comments, empty lines and erroneous
+			// data lines without the equals sign are skipped.
+			if (componentMap == null) {
+				int index = currentLine.indexOf('=');
+				if (lineType != LineType.STATEMENT || index < 0) {
+					continue;
 				}
-				// Skip over comments, empty lines and erroneous data lines
-				// without the equals sign
-				else if (currentLine.matches("^$|(?m)^\\s+$")
-						|| currentLine.startsWith("#")
-						|| currentLine.startsWith("//")
-						|| !currentLine.contains("=")) {
+				String key = currentLine.substring(0, index);
+				if (HEADER_KEYS.contains(key)) {
+					headerKeys.add(key);
+					headerValues.add(getValue(currentLine, index).trim());
 					continue;
-				} else {
-					// Else if it is not one of the previous tags, whitespace or
-					// a comment then it must be a line from an Entry block. Get
-					// the index and break.
-					firstEntryLine = inputLines.indexOf(currentLine);
-					break;
 				}
+				// Otherwise it is the first line of the first Entry block, so
+				// create the components
+				componentMap = loadComponents(headerKeys, headerValues);
 			}
-			// Make sure it is a PSF stream, fail if not
-			if (!isPSF(formAndGroupLines)) {
-				throw new IOException("This is not a PSF InputStream! "
-						+ "Check the blocks and make sure they are in the "
-						+ "proper order!");
+
+			// Read the Entry blocks, which are separated by empty lines. Blocks
+			// that only contain comments are ignored.
+			if (lineType == LineType.BLANK) {
+				if (block.hasStatements) {
+					addEntry(block, ++entryCount, componentMap);
+					block = new EntryBlock();
+				}
+			} else if (lineType == LineType.STATEMENT) {
+				block.read(currentLine, i + 1);
 			}
-			// Set the Form name
-			setName(formAndGroupLines.get(0).split("=")[1].trim());
-			setDescription(formAndGroupLines.get(1).split("=")[1].trim());
-			// Load the DataComponents
-			loadComponents(formAndGroupLines);
-			// Load the Entries by getting the subset of the lines
-			loadEntries(new ArrayList<String>(inputLines.subList(
-					firstEntryLine, inputLines.size())));
-			// sets up the rowTemplates into the tableComponents
-			setupRowTemplates();
+		}
 
-		} else {
-			throw new IOException("PSF InputStream cannot be null!");
+		// Make sure the components are created if there were no Entries and
+		// add the last Entry if the file does not end with an empty line.
+		if (componentMap == null) {
+			componentMap = loadComponents(headerKeys, headerValues);
+		} else if (block.hasStatements) {
+			addEntry(block, ++entryCount, componentMap);
 		}
+
+		// sets up the rowTemplates into the tableComponents
+		setupRowTemplates();
+
 		return;
 	}
 
+	/**
+	 * This operation classifies a line of a PSF file.
+	 * 
+	 * @param line
+	 *            The line
+	 * @return The type of the line
+	 */
+	private static LineType classify(String line) {
+		if (BLANK_LINE.matcher(line).matches()) {
+			return LineType.BLANK;
+		} else if (line.startsWith("#") || line.startsWith("//")) {
+			return LineType.COMMENT;
+		}
+		return LineType.STATEMENT;
+	}
+
+	/**
+	 * This operation returns the value of a PSF statement, which is the text
+	 * between the first equals sign and the next equals sign or the end of
+	 * the line.
+	 * 
+	 * @param statement
+	 *            The statement
+	 * @param index
+	 *            The index of the first equals sign in the statement
+	 * @return The value
+	 */
+	private static String getValue(String statement, int index) {
+		int end = statement.indexOf('=', index + 1);
+		return statement.substring(index + 1,
+				(end < 0) ? statement.length() : end);
+	}
+
 	/**
 	 * <p>
-	 * This operation checks the InputStream to determine if it is in the
-	 * Painfully Simple Form file format.
+	 * This operation checks the statements at the top of the PSF file to
+	 * determine if they are in the Painfully Simple Form file format.
 	 * </p>
 	 * 
-	 * @param lines
+	 * @param keys
 	 *            <p>
-	 *            The lines from the PSF stream.
+	 *            The keys of the Form, group and table statements from the
+	 *            PSF stream.
 	 *            </p>
 	 * @return <p>
 	 *         True if the format matches the PSF, false otherwise.
 	 *         </p>
 	 */
-	private boolean isPSF(ArrayList<String> lines) {
-
-		// Local Declarations
-		boolean retFlag = false;
-
-		// The first tag should be the Form name
-		if (lines.get(0).contains("=")) {
-			retFlag = (("formName").equals((lines.get(0).split("="))[0])
-			// The third tag should be a group name
-			&& ("group".equals((lines.get(3).split("="))[0])
-			// The fourth tag should be a groupDescription
-			&& ("groupDescription".equals((lines.get(4).split("="))[0]))));
-		}
-
-		return retFlag;
+	private boolean isPSF(ArrayList<String> keys) {
+		// The first tag should be the Form name, the fourth tag should be a
+		// group name and the fifth tag should be a groupDescription
+		return keys.size() > 4 && "formName".equals(keys.get(0))
+				&& "group".equals(keys.get(3))
+				&& "groupDescription".equals(keys.get(4));
 	}
 
 	/**
 	 * <p>
-	 * This operation loads the DataComponents and sets up the rowTemplates in
-	 * the PSF stream into the Form.
+	 * This operation sets the name and description of the Form and loads the
+	 * DataComponents and TableComponents from the statements at the top of
+	 * the PSF stream.
 	 * </p>
 	 * 
-	 * @param lines
+	 * @param keys
 	 *            <p>
-	 *            The lines of text from the PSF file.
+	 *            The keys of the Form, group and table statements.
 	 *            </p>
+	 * @param values
+	 *            <p>
+	 *            The values of the Form, group and table statements.
+	 *            </p>
+	 * @return A map of the component names to the components
 	 * @throws IOException
 	 */
-	private void loadComponents(ArrayList<String> lines) throws IOException {
+	private HashMap<String, Component> loadComponents(ArrayList<String> keys,
+			ArrayList<String> values) throws IOException {
 
 		// Local Declarations
-		String[] splitLines = { "", "" };
 		ArrayList<String> groups = new ArrayList<String>();
 		ArrayList<String> groupDescriptions = new ArrayList<String>();
 		ArrayList<String> tables = new ArrayList<String>();
 		ArrayList<String> tableDescriptions = new ArrayList<String>();
-		int idCount = 0;
+		HashMap<String, Component> componentMap = new HashMap<String, Component>();
 		int i;
 
 		DataComponent dataComp = null;
 		TableComponent tableComp = null;
-		// A flag that is marked when the block of group text is hit. This flag
-		// is checked during the parse to make sure that the we haven't run into
-		// the Entry blocks.
-		boolean hitGroupsBlock = false;
-
-		// Loop over the lines and load the components. This loop assumes that
-		// group descriptions are always after group tags, which is part of the
-		// spec!
-		for (i = 3; i < lines.size(); i++) {
-			String currentLine = lines.get(i);
-			splitLines = currentLine.split("=");
-			// If it is a new "group" line, add it to the appropriate list
-			if (currentLine.startsWith("group=")) {
-				groups.add(splitLines[1].trim());
-				// Set a flag so that we know that we are now in the groups
-				// block
-				hitGroupsBlock = true;
-			}
-			if (currentLine.startsWith("table=")) {
-				tables.add(splitLines[1].trim());
-				// Set a flag so that we know that we are now in the groups
-				// block
-				hitGroupsBlock = true;
-			} else if (currentLine.startsWith("groupDescription=")) {
-				// Add a group description line to the appropriate list
-				groupDescriptions.add(splitLines[1].trim());
-			} else if (currentLine.startsWith("tableDescription=")) {
-				// Add a group description line to the appropriate list
-				tableDescriptions.add(splitLines[1].trim());
-			} else if (currentLine.matches("^$|(?m)^\\s+$") && hitGroupsBlock) {
-				// Break out of the loop if we hit an empty line after we hit
-				// the groups block
-				break;
+
+		// Make sure it is a PSF stream, fail if not
+		if (!isPSF(keys)) {
+			throw new IOException("This is not a PSF InputStream! "
+					+ "Check the blocks and make sure they are in the "
+					+ "proper order!");
+		}
+		// Set the Form name
+		setName(values.get(0));
+		setDescription(values.get(1));
+
+		// Sort the group and table statements. This assumes that group
+		// descriptions are always after group tags, which is part of the spec!
+		for (i = 3; i < keys.size(); i++) {
+			String key = keys.get(i);
+			if ("group".equals(key)) {
+				groups.add(values.get(i));
+			} else if ("table".equals(key)) {
+				tables.add(values.get(i));
+			} else if ("groupDescription".equals(key)) {
+				groupDescriptions.add(values.get(i));
+			} else if ("tableDescription".equals(key)) {
+				tableDescriptions.add(values.get(i));
 			}
 		}
 
@@ -263,6 +311,7 @@ public class PainfullySimpleForm extends Form {
 			dataComp.setName(groups.get(i));
 			dataComp.setDescription(groupDescriptions.get(i));
 			addComponent(dataComp);
+			componentMap.put(dataComp.getName(), dataComp);
 		}
 
 		// Create the TableComponents
@@ -274,238 +323,76 @@ public class PainfullySimpleForm extends Form {
 			tableComp.setName(tables.get(i));
 			tableComp.setDescription(tableDescriptions.get(i));
 			addComponent(tableComp);
+			componentMap.put(tableComp.getName(), tableComp);
 
 			// Prepare the rowTemplates
 			rowTemplates.put(tableComp.getName(), new ArrayList<IEntry>());
 		}
 
-		return;
+		return componentMap;
 
 	}
 
 	/**
 	 * <p>
-	 * This operations loads the Entries in the PSF stream into the
-	 * DataComponents of the Form.
+	 * This operation creates the Entry for a block of the PSF stream and adds
+	 * it to its DataComponent or to the row template of its TableComponent.
 	 * </p>
 	 * 
-	 * @param lines
-	 *            <p>
-	 *            The lines of text from the PSF file.
-	 *            </p>
+	 * @param block
+	 *            The statements of the Entry block
+	 * @param id
+	 *            The id of the Entry
+	 * @param componentMap
+	 *            A map of the component names to the components
 	 * @throws IOException
 	 */
-	private void loadEntries(ArrayList<String> lines) throws IOException {
+	private void addEntry(EntryBlock block, int id,
+			HashMap<String, Component> componentMap) throws IOException {
 
 		// Local Declarations
-		int lowerBound = 0, upperBound = 0; // Loop variables for tracking block
-											// boundaries
-		// A map of the component names to the component ids
-		ArrayList<Integer> emptyLines = new ArrayList<Integer>();
-		HashMap<String, Integer> componentMap = new HashMap<String, Integer>();
-		ICEObject compRef = null;
-		TableComponent tableRef = null;
-		DataComponent dataRef = null;
-
-		// Temp list for TableEntries
-		Integer tableCount = 0;
-		ArrayList<IEntry> tempArray = null;
-
-//		PainfullySimpleEntry entry = null;
 		IEntry entry = null;
-
-		boolean lastLineEmpty = false;
-
-		// Setup the component map
-		for (Component i : this.getComponents()) {
-			compRef = (ICEObject) i;
-			componentMap.put(compRef.getName(), compRef.getId());
+		String[] allowed = block.allowedValues
+				.toArray(new String[block.allowedValues.size()]);
+
+		// Create the Entry
+		if ("Discrete".equals(block.valueType)) {
+			entry = new DiscreteEntry(allowed);
+		} else if ("Continuous".equals(block.valueType)) {
+			entry = new ContinuousEntry(allowed);
+		} else if ("Undefined".equals(block.valueType)) {
+			entry = new StringEntry();
+		} else {
+			throw new IOException("Entry " + block.name
+					+ " has an invalid allowedValueType! Type = "
+					+ block.valueType);
 		}
-
-		// Check the last line. If it is empty, then continue, but if it is not
-		// empty then add an empty line
-		if (!lines.get(lines.size() - 1).matches("^$|(?m)^\\s+$")) {
-			lines.add("\t \n");
+		entry.setName(block.name);
+		entry.setDefaultValue(block.defaultValue);
+		entry.setValue(block.defaultValue);
+		entry.setDescription(block.description);
+		entry.setTag(block.tag);
+		entry.setId(id);
+
+		// The group is remembered from the previous blocks if this block does
+		// not have one. Make sure it is valid and throw an exception if not.
+		if (block.group != null) {
+			currentGroup = block.group;
 		}
-		// Get the block numbers
-		for (int i = 0; i < lines.size(); i++) {
-			String currentLine = lines.get(i);
-			// Identify an empty line and add it to the list. Empty lines only -
-			// not comments! Also make sure that there are not two empty lines
-			// next to each other, which the parser shouldn't care about.
-			if (currentLine.matches("^$|(?m)^\\s+$") && !lastLineEmpty) {
-				emptyLines.add(i);
-				lastLineEmpty = true;
-			} else if (currentLine.startsWith("//")
-					|| currentLine.startsWith("#")) {
-				lastLineEmpty = true;
-			} else {
-				lastLineEmpty = false;
-			}
-
+		Component component = componentMap.get(currentGroup);
+		if (component == null) {
+			throw new IOException("Entry " + entry.getName()
+					+ " has an invalid group! Group = " + currentGroup);
 		}
 
-		// Create the Entries - start with the first empty line because this
-		// function will always be called with a list that starts with a "name"
-		// statement.
-		lowerBound = 0;
-		upperBound = emptyLines.get(0);
-		for (int i = 0; i < emptyLines.size(); i++) {
-
-			// Create the Entry
-//			entry = new PainfullySimpleEntry();
-			// Load from an ArrayList of the PSF block created as a sublist.
-			ArrayList<String> lineList = new ArrayList<String>(lines.subList(lowerBound, upperBound +1));
-			
-			entry = loadFromPSFBlock(new ArrayList<String>(lines.subList(
-					lowerBound, upperBound + 1)));
-			
-			// Set the id
-			entry.setId(i + 1);
-			// Make sure the group is valid and throw an exception if not
-			if (componentMap.containsKey(currentGroup)) {
-
-				// Get the Component and add the Entry
-				compRef = (ICEObject) getComponent(componentMap.get(currentGroup));
-				// Case handle for DataComponent or TableComponent
-
-				// If TableComponent, add entry to a temp list
-				if (rowTemplates.containsKey(currentGroup)) {
-					// If the group exists, add to the array
-					tempArray = rowTemplates.get(currentGroup);
-					tempArray.add(entry);
-				} else {
-					dataRef = (DataComponent) compRef;
-					dataRef.addEntry(entry);
-				}
-
-				// Update the lowerbound
-				lowerBound = upperBound;
-				// Determine the correct upper bound for the next loop
-				upperBound = (upperBound == emptyLines
-						.get(emptyLines.size() - 1) || upperBound == lines
-						.size()) ? lines.size() : emptyLines.get(i + 1);
-			} else {
-				throw new IOException("Entry " + entry.getName()
-						+ " has an invalid group! Group = " + currentGroup);
-			}
-
+		// If TableComponent, add entry to the row template
+		if (rowTemplates.containsKey(currentGroup)) {
+			rowTemplates.get(currentGroup).add(entry);
+		} else {
+			((DataComponent) component).addEntry(entry);
 		}
 
-		// finished!
 		return;
-
-	}
-
-	/**
-	 * Create a new IEntry from the given lines of text. 
-	 * 
-	 * @param inputStrings
-	 * @return
-	 * @throws IOException
-	 */
-	private IEntry loadFromPSFBlock(ArrayList<String> inputStrings) throws IOException {
-
-		// Local Declarations
-		ArrayList<String> linesToRemove = new ArrayList<String>();
-		String[] splitStrings = { "", "" };
-		ArrayList<String> validKeys = new ArrayList<String>();
-		IEntry retEntry = null;
-		String name = "", description = "", tag = "", defaultValue = "", valueType = "";
-		ArrayList<String> allowed = new ArrayList<String>();
-		
-		// This will only work if the string is not null
-		if (inputStrings != null) {
-			// Setup the list of valid keys
-			validKeys.add("name");
-			validKeys.add("description");
-			validKeys.add("defaultValue");
-			validKeys.add("allowedValueType");
-			validKeys.add("allowedValue");
-			validKeys.add("tag");
-//			validKeys.add("parent");
-			validKeys.add("group");
-			// Loop over all of the strings and parse the data
-			for (String currentString : inputStrings) {
-				// Search for any lines that are whitespace are comments
-				if (currentString.matches("^$|(?m)^\\s+$") || // Whitespace
-						currentString.startsWith("#") || // Comments with #
-						currentString.startsWith("//")) { // Comments with //
-					continue;
-				}
-				// Search for comments at the end of the line and remove them
-				if (currentString.contains("#")) {
-					currentString = currentString.replaceAll("\\#.*", "");
-				} else if (currentString.contains("//")) {
-					currentString = currentString.replaceAll("\\/\\/.*", "");
-				}
-				// Make sure the string contains an equal sign or throw an
-				// exception
-				if (!currentString.contains("=")) {
-					throw new IOException(
-							"String in Entry block does not contain an " + "equals sign! The string was at line "
-									+ inputStrings.indexOf(currentString) + ":\n" + currentString);
-				}
-				// Trim and split the string
-				splitStrings = currentString.trim().split("\\=");
-				// Get the name
-				if ("name".equals(splitStrings[0])) {
-					name = splitStrings[1];
-				}
-				// Get the description
-				else if ("description".equals(splitStrings[0])) {
-					description = splitStrings[1];
-				}
-				// Get the default value
-				else if ("defaultValue".equals(splitStrings[0])) {
-					defaultValue = splitStrings[1];
-				}
-				// Get the AllowedValueType
-				else if ("allowedValueType".equals(splitStrings[0])) {
-					// this.setAllowedValueType(AllowedValueType
-					// .valueOf(splitStrings[1]));
-					valueType = splitStrings[1];
-				}
-				// Get the AllowedValues
-				else if ("allowedValue".equals(splitStrings[0])) {
-//					this.setAllowedValues(Arrays.asList(splitStrings[1]));// allowedValues);
-					allowed.add(splitStrings[1]);
-				}
-				// Get the tag
-				else if ("tag".equals(splitStrings[0])) {
-					tag = splitStrings[1];
-				}
-				// Get the parent
-				// else if ("parent".equals(splitStrings[0])) {
-				// setParent(splitStrings[1]);
-				// }
-				// Get the group name
-				else if ("group".equals(splitStrings[0])) {
-					currentGroup = splitStrings[1];
-				}
-				// Check for an invalid tag. If it is found, throw an exception.
-				else if (!validKeys.contains(splitStrings[0])) {
-					throw new IOException("Invalid PSF statement: " + currentString);
-				}
-			}
-		}
-
-		
-		if ("Discrete".equals(valueType)) {
-			retEntry = new DiscreteEntry(allowed.toArray(new String[allowed.size()]));
-		} else if ("Continuous".equals(valueType)) {
-			retEntry = new ContinuousEntry(allowed.toArray(new String[allowed.size()]));
-		} else if ("Undefined".equals(valueType)) {
-			retEntry = new StringEntry();
-		}
-		
-		retEntry.setName(name);
-		retEntry.setDefaultValue(defaultValue);
-		retEntry.setValue(defaultValue);
-		retEntry.setDescription(description);
-		retEntry.setTag(tag);
-		
-		return retEntry;
 	}
 
 	/**
@@ -568,4 +455,125 @@ public class PainfullySimpleForm extends Form {
 		}
 
 	}
-}
\ No newline at end of file
+
+	/**
+	 * The types of lines in a PSF file.
+	 */
+	private enum LineType {
+		/**
+		 * An empty line or a line that only contains whitespace
+		 */
+		BLANK,
+		/**
+		 * A comment that starts with "#" or "//"
+		 */
+		COMMENT,
+		/**
+		 * Anything else, which should be a key=value statement
+		 */
+		STATEMENT
+	}
+
+	/**
+	 * The statements of a single Entry block, which are collected as its
+	 * lines are read.
+	 * 
+	 * @author Jay Jay Billings
+	 */
+	private static class EntryBlock {
+
+		/**
+		 * True if at least one statement has been read
+		 */
+		private boolean hasStatements = false;
+
+		/**
+		 * The name of the Entry
+		 */
+		private String name = "";
+
+		/**
+		 * The description of the Entry
+		 */
+		private String description = "";
+
+		/**
+		 * The default value of the Entry
+		 */
+		private String defaultValue = "";
+
+		/**
+		 * The allowed value type of the Entry
+		 */
+		private String valueType = "";
+
+		/**
+		 * The tag of the Entry
+		 */
+		private String tag = "";
+
+		/**
+		 * The group of the Entry or null if the block does not have one
+		 */
+		private String group = null;
+
+		/**
+		 * The allowed values of the Entry
+		 */
+		private final ArrayList<String> allowedValues = new ArrayList<String>();
+
+		/**
+		 * This operation reads a statement from the block.
+		 * 
+		 * @param line
+		 *            The line that contains the statement
+		 * @param lineNumber
+		 *            The number of the line in the PSF file
+		 * @throws IOException
+		 */
+		private void read(String line, int lineNumber) throws IOException {
+
+			// Remove any comments at the end of the line
+			int commentIndex = line.indexOf('#');
+			if (commentIndex < 0) {
+				commentIndex = line.indexOf("//");
+			}
+			String statement = ((commentIndex < 0) ? line
+					: line.substring(0, commentIndex)).trim();
+
+			// Make sure the string contains an equal sign or throw an
+			// exception
+			int index = statement.indexOf('=');
+			if (index < 0) {
+				throw new IOException("String in Entry block does not contain "
+						+ "an equals sign! The string was at line "
+						+ lineNumber + ":\n" + line);
+			}
+
+			// Store the value
+			String key = statement.substring(0, index);
+			String value = getValue(statement, index);
+			if ("name".equals(key)) {
+				name = value;
+			} else if ("description".equals(key)) {
+				description = value;
+			} else if ("defaultValue".equals(key)) {
+				defaultValue = value;
+			} else if ("allowedValueType".equals(key)) {
+				valueType = value;
+			} else if ("allowedValue".equals(key)) {
+				allowedValues.add(value);
+			} else if ("tag".equals(key)) {
+				tag = value;
+			} else if ("group".equals(key)) {
+				group = value;
+			} else {
+				// Throw an exception for invalid keys
+				throw new IOException("Invalid PSF statement: " + line);
+			}
+			hasStatements = true;
+
+			return;
+		}
+	}
+}
@@ -0,0 +1,40 @@
+/*******************************************************************************
+ * Copyright (c) 2016 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - Jay Jay Billings
+ *******************************************************************************/
+package org.eclipse.ice.datastructures.resource;
+
+import java.util.List;
+
+/**
+ * This interface is implemented by classes that receive the changes found by
+ * a {@link ResourceIndexer}.
+ *
+ * @author Jay Jay Billings
+ */
+public interface IResourceIndexListener {
+
+	/**
+	 * This operation is called by the indexer with the resources that changed
+	 * since it was last called. It is called on the indexer's thread, never on
+	 * the UI thread, and at most once per the indexer's interval.
+	 *
+	 * @param added
+	 *            The resources for the files that were created
+	 * @param modified
+	 *            The resources for the files that were modified. These are the
+	 *            same instances that were previously reported as added.
+	 * @param removed
+	 *            The resources for the files that were deleted. These are the
+	 *            same instances that were previously reported as added.
+	 */
+	public void resourcesChanged(List<ICEResource> added,
+			List<ICEResource> modified, List<ICEResource> removed);
+
+}
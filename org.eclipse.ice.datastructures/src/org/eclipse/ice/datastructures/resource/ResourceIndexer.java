@@ -0,0 +1,368 @@
+/*******************************************************************************
+ * Copyright (c) 2016 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - Jay Jay Billings
+ *******************************************************************************/
+package org.eclipse.ice.datastructures.resource;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>
+ * This class watches a directory, such as the output folder of a job, and
+ * builds the {@link ICEResource}s for its files on a background thread with a
+ * {@link ResourceHandler}. The changes are delivered to an
+ * {@link IResourceIndexListener} as lists of added, modified and removed
+ * resources so that clients only have to process what changed.
+ * </p>
+ * <p>
+ * Changes are collected for at least the interval given to the constructor
+ * before they are delivered, so a job that writes hundreds of files causes a
+ * handful of deliveries instead of hundreds. The files that are in the
+ * directory when the indexer is started are delivered as added resources in
+ * the first batch. Only regular files directly in the directory are indexed.
+ * </p>
+ *
+ * @author Jay Jay Billings
+ */
+public class ResourceIndexer {
+
+	/**
+	 * Logger for handling event messages and other information.
+	 */
+	private static final Logger logger = LoggerFactory
+			.getLogger(ResourceIndexer.class);
+
+	/**
+	 * The default minimum time between deliveries in milliseconds.
+	 */
+	public static final long DEFAULT_INTERVAL = 500L;
+
+	/**
+	 * The directory that is watched.
+	 */
+	private final Path directory;
+
+	/**
+	 * The listener that receives the changes.
+	 */
+	private final IResourceIndexListener listener;
+
+	/**
+	 * The minimum time between deliveries in milliseconds.
+	 */
+	private final long interval;
+
+	/**
+	 * The handler that creates the resources.
+	 */
+	private final ResourceHandler resourceHandler = new ResourceHandler();
+
+	/**
+	 * The resources that have been delivered, keyed by the paths of their
+	 * files. It is only used by the indexing thread.
+	 */
+	private final Map<Path, IndexedFile> index = new HashMap<>();
+
+	/**
+	 * The watch service for the directory.
+	 */
+	private WatchService watchService;
+
+	/**
+	 * The indexing thread.
+	 */
+	private Thread thread;
+
+	/**
+	 * The constructor.
+	 *
+	 * @param directory
+	 *            The directory to watch
+	 * @param listener
+	 *            The listener that receives the changes
+	 * @param interval
+	 *            The minimum time between deliveries in milliseconds
+	 */
+	public ResourceIndexer(File directory, IResourceIndexListener listener,
+			long interval) {
+		this.directory = directory.toPath();
+		this.listener = listener;
+		this.interval = interval;
+	}
+
+	/**
+	 * This operation starts watching the directory. It does nothing if the
+	 * indexer is already running.
+	 *
+	 * @throws IOException
+	 *             if the directory can not be watched
+	 */
+	public synchronized void start() throws IOException {
+
+		if (thread != null) {
+			return;
+		}
+
+		// Register for changes before the first scan so that nothing is
+		// missed in between
+		watchService = directory.getFileSystem().newWatchService();
+		directory.register(watchService, ENTRY_CREATE, ENTRY_DELETE,
+				ENTRY_MODIFY);
+
+		thread = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				index();
+			}
+		}, "ResourceIndexer " + directory);
+		thread.setDaemon(true);
+		thread.start();
+
+		return;
+	}
+
+	/**
+	 * This operation stops watching the directory and waits for any delivery
+	 * that is in progress to finish. Changes that have not been delivered yet
+	 * are dropped.
+	 */
+	public void stop() {
+
+		// Local Declarations
+		Thread indexingThread;
+
+		synchronized (this) {
+			if (thread == null) {
+				return;
+			}
+			indexingThread = thread;
+			thread = null;
+			try {
+				watchService.close();
+			} catch (IOException e) {
+				logger.error(getClass().getName() + " Exception!", e);
+			}
+		}
+
+		// Wait for the thread unless this is called from the listener
+		if (indexingThread != Thread.currentThread()) {
+			try {
+				indexingThread.join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		return;
+	}
+
+	/**
+	 * This operation returns true if the indexer is running.
+	 *
+	 * @return True if the directory is being watched, false otherwise
+	 */
+	public synchronized boolean isRunning() {
+		return thread != null;
+	}
+
+	/**
+	 * This operation collects the changed files and delivers them until the
+	 * watch service is closed. It runs on the indexing thread.
+	 */
+	private void index() {
+
+		// Local Declarations
+		Set<Path> changedPaths = new LinkedHashSet<>();
+		long lastDelivery = 0L;
+
+		// Index the files that are already there
+		scan(changedPaths);
+
+		try {
+			while (true) {
+				// Wait for changes, but only until the next delivery is due
+				// if there are some waiting
+				WatchKey key;
+				if (changedPaths.isEmpty()) {
+					key = watchService.take();
+				} else {
+					long wait = lastDelivery + interval
+							- System.currentTimeMillis();
+					key = (wait > 0)
+							? watchService.poll(wait, TimeUnit.MILLISECONDS)
+							: watchService.poll();
+				}
+
+				// Collect the changes
+				if (key != null) {
+					for (WatchEvent<?> event : key.pollEvents()) {
+						if (event.kind() == OVERFLOW) {
+							// Some events were lost, so check everything
+							scan(changedPaths);
+						} else {
+							changedPaths.add(
+									directory.resolve((Path) event.context()));
+						}
+					}
+					// The key is invalid if the directory was deleted. Its
+					// files are reported as removed and the indexer stops.
+					if (!key.reset()) {
+						changedPaths.addAll(index.keySet());
+						deliver(changedPaths);
+						return;
+					}
+				}
+
+				// Deliver the changes if the interval has passed
+				if (!changedPaths.isEmpty() && System.currentTimeMillis()
+						- lastDelivery >= interval) {
+					deliver(changedPaths);
+					changedPaths.clear();
+					lastDelivery = System.currentTimeMillis();
+				}
+			}
+		} catch (ClosedWatchServiceException | InterruptedException e) {
+			// The indexer was stopped
+		}
+
+		return;
+	}
+
+	/**
+	 * This operation adds the paths of all of the files in the directory and
+	 * all of the indexed files to a set of changed paths.
+	 *
+	 * @param changedPaths
+	 *            The set of changed paths
+	 */
+	private void scan(Set<Path> changedPaths) {
+		try (DirectoryStream<Path> stream = Files
+				.newDirectoryStream(directory)) {
+			for (Path path : stream) {
+				changedPaths.add(path);
+			}
+		} catch (IOException e) {
+			logger.error(getClass().getName() + " Exception!", e);
+		}
+		changedPaths.addAll(index.keySet());
+	}
+
+	/**
+	 * This operation checks the current state of the changed files, updates
+	 * the index and delivers the differences to the listener.
+	 *
+	 * @param changedPaths
+	 *            The paths of the files that may have changed
+	 */
+	private void deliver(Set<Path> changedPaths) {
+
+		// Local Declarations
+		List<ICEResource> added = new ArrayList<>();
+		List<ICEResource> modified = new ArrayList<>();
+		List<ICEResource> removed = new ArrayList<>();
+
+		for (Path path : changedPaths) {
+			IndexedFile indexedFile = index.get(path);
+			File file = path.toFile();
+			if (file.isFile()) {
+				long lastModified = file.lastModified();
+				if (indexedFile == null) {
+					// Create the resource for the new file
+					try {
+						ICEResource resource = resourceHandler.getResource(
+								file.getPath(), file.getName());
+						if (resource != null) {
+							index.put(path,
+									new IndexedFile(resource, lastModified));
+							added.add(resource);
+						}
+					} catch (IOException e) {
+						logger.error(getClass().getName() + " Exception!", e);
+					}
+				} else if (indexedFile.lastModified != lastModified) {
+					// Several modification events are usually sent for each
+					// write, so only report real changes
+					indexedFile.lastModified = lastModified;
+					modified.add(indexedFile.resource);
+				}
+			} else if (indexedFile != null) {
+				index.remove(path);
+				removed.add(indexedFile.resource);
+			}
+		}
+
+		// Deliver the changes if there are any
+		if (!added.isEmpty() || !modified.isEmpty() || !removed.isEmpty()) {
+			try {
+				listener.resourcesChanged(added, modified, removed);
+			} catch (RuntimeException e) {
+				// Don't let a bad listener stop the indexer
+				logger.error(getClass().getName() + " Exception!", e);
+			}
+		}
+
+		return;
+	}
+
+	/**
+	 * A resource in the index and the modification time of its file when it
+	 * was last checked.
+	 *
+	 * @author Jay Jay Billings
+	 */
+	private static class IndexedFile {
+
+		/**
+		 * The resource
+		 */
+		private final ICEResource resource;
+
+		/**
+		 * The modification time of the file
+		 */
+		private long lastModified;
+
+		/**
+		 * The constructor.
+		 *
+		 * @param resource
+		 *            The resource
+		 * @param lastModified
+		 *            The modification time of the file
+		 */
+		private IndexedFile(ICEResource resource, long lastModified) {
+			this.resource = resource;
+			this.lastModified = lastModified;
+		}
+	}
+
+}
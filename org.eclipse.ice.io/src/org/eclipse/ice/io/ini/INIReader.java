@@ -12,17 +12,18 @@
  *******************************************************************************/
 package org.eclipse.ice.io.ini;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.ice.datastructures.ICEObject.Component;
 import org.eclipse.ice.datastructures.entry.ContinuousEntry;
 import org.eclipse.ice.datastructures.entry.DiscreteEntry;
 import org.eclipse.ice.datastructures.entry.IEntry;
@@ -32,6 +33,7 @@ import org.eclipse.ice.datastructures.form.DataComponent;
 import org.eclipse.ice.datastructures.form.Form;
 import org.eclipse.ice.datastructures.form.TableComponent;
 import org.eclipse.ice.io.serializable.ITemplatedReader;
+import org.eclipse.ice.io.util.LineTokenizer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -55,6 +57,11 @@ public class INIReader implements ITemplatedReader {
 	 */
 	private String comment;
 
+	/**
+	 * The compiled comment symbol
+	 */
+	private Pattern commentPattern;
+
 	/**
 	 * A string that can be used if there is an unusual prefix before
 	 * assignments within sections
@@ -72,6 +79,16 @@ public class INIReader implements ITemplatedReader {
 	 */
 	private String assignmentPattern = "(=|\\b(\\s)+?|\\b\\t)";
 
+	/**
+	 * The compiled regex that matches the variable assignments
+	 */
+	private Pattern assignmentRegex = LineTokenizer.compile(assignmentPattern);
+
+	/**
+	 * Regex to split the lists of allowed values in template files
+	 */
+	private static final Pattern valueSeparator = Pattern.compile(",\\s");
+
 	/**
 	 * The type of template to use. If null just read a bare ini file
 	 */
@@ -104,7 +121,7 @@ public class INIReader implements ITemplatedReader {
 	 *            the symbol to use to specify a comment
 	 */
 	public INIReader(String c) {
-		comment = c;
+		setCommentString(c);
 	}
 
 	/**
@@ -129,23 +146,21 @@ public class INIReader implements ITemplatedReader {
 			// Build the default version of the form
 			// Make sure the file exists before trying to read
 			if (file != null && file.exists()) {
-				ArrayList<DataComponent> sections = null;
-				BufferedReader reader = null;
+				LineTokenizer reader = null;
 
 				try {
 					// Open up the reader and start reading
 					iniForm = new Form();
-					reader = new BufferedReader(new InputStreamReader(
-							file.getContents()));
+					reader = new LineTokenizer(file.getContents());
 					String line;
 					String[] splitLine;
 					String section = "Default Section";
 					DataComponent sectionComp = new DataComponent();
 					sectionComp.setName(section);
-					while ((line = reader.readLine()) != null) {
+					while (reader.hasNext()) {
 						// Make sure that comments are taken into consideration
-						splitLine = line.split(comment);
-						line = splitLine[0].trim();
+						line = LineTokenizer.stripComment(reader.next(),
+								commentPattern).trim();
 						// If at a new section, add the previous section to
 						// the list and create a new DataComponent for the
 						// next section
@@ -157,11 +172,12 @@ public class INIReader implements ITemplatedReader {
 							sectionComp = new DataComponent();
 							sectionComp.setName(sectionMatch.group(0).trim()
 									.replace("[", "").replace("]", ""));
-						} else if ((splitLine = line.split(assignmentPattern)).length >= 2) {
+						} else if ((splitLine = LineTokenizer.splitAssignment(line,
+								assignmentRegex)) != null) {
 							// Get the key and value and put it in the Data
 							// Component
 							String var = splitLine[0].trim();
-							String val = splitLine[splitLine.length - 1].trim();
+							String val = splitLine[1].trim();
 							sectionComp.addEntry(makeTemplateEntry(var, val,
 									new ArrayList<String>(),
 									AllowedValueType.Undefined));
@@ -175,7 +191,7 @@ public class INIReader implements ITemplatedReader {
 				} catch (CoreException e) {
 					logger.error(getClass().getName() + " Exception!",e);
 					return null;
-				} catch (IOException e) {
+				} catch (IOException | UncheckedIOException e) {
 					logger.error(getClass().getName() + " Exception!",e);
 					return null;
 				}
@@ -203,11 +219,10 @@ public class INIReader implements ITemplatedReader {
 
 		// Make sure the file exists before trying to read
 		if (templateFile != null && templateFile.exists()) {
-			BufferedReader reader = null;
+			LineTokenizer reader = null;
 			try {
 				// Open up the reader and start reading
-				reader = new BufferedReader(new InputStreamReader(
-						templateFile.getContents()));
+				reader = new LineTokenizer(templateFile.getContents());
 				String line, varName, defaultVal;
 				String[] templateSections;
 				String section = "Default Section";
@@ -217,7 +232,8 @@ public class INIReader implements ITemplatedReader {
 				AllowedValueType valueType;
 				sectionComp.setName(section);
 				sectionComp.setId(componentNumber);
-				while ((line = reader.readLine()) != null) {
+				while (reader.hasNext()) {
+					line = reader.next();
 					// If at a new section, add the previous section to
 					// the list and create a new TableComponent for the
 					// next section
@@ -236,7 +252,7 @@ public class INIReader implements ITemplatedReader {
 						// Get the key and value and put it in the table
 						varName = templateSections[0].split("=")[0].trim();
 						defaultVal = templateSections[0].split("=")[1].trim();
-						valueArray = templateSections[1].split(",\\s");
+						valueArray = valueSeparator.split(templateSections[1]);
 						allowedValues = new ArrayList<String>(
 								Arrays.asList(valueArray));
 
@@ -265,7 +281,7 @@ public class INIReader implements ITemplatedReader {
 			} catch (CoreException e) {
 				logger.error(getClass().getName() + " Exception!",e);
 				return null;
-			} catch (IOException e) {
+			} catch (IOException | UncheckedIOException e) {
 				logger.error(getClass().getName() + " Exception!",e);
 				return null;
 			}
@@ -284,31 +300,42 @@ public class INIReader implements ITemplatedReader {
 	 * @return the updated form
 	 */
 	private Form loadIntoTemplate(Form form, IFile file) {
-		// Initialize the form & table row template
-		ArrayList<IEntry> entries = new ArrayList<IEntry>();
-		IEntry variableTemplate = new StringEntry();
-		IEntry valueTemplate = new StringEntry();
-		variableTemplate.setName("Name");
-		valueTemplate.setName("Value");
-		entries.add(variableTemplate);
-		entries.add(valueTemplate);
 
 		if (file != null && file.exists()) {
-			ArrayList<TableComponent> sections = null;
-			BufferedReader reader = null;
+			LineTokenizer reader = null;
+
+			// Index the template Entries by name once so that each line of
+			// the file can be matched without searching the Form. Only the
+			// Entries in the component recorded for each variable are used.
+			HashMap<String, List<IEntry>> templateEntries = new HashMap<String, List<IEntry>>();
+			for (Component component : form.getComponents()) {
+				if (component instanceof DataComponent) {
+					for (IEntry ent : ((DataComponent) component)
+							.retrieveAllEntries()) {
+						Integer number = variableToComponentNumber
+								.get(ent.getName());
+						if (number != null
+								&& number.intValue() == component.getId()) {
+							List<IEntry> named = templateEntries
+									.get(ent.getName());
+							if (named == null) {
+								named = new ArrayList<IEntry>(1);
+								templateEntries.put(ent.getName(), named);
+							}
+							named.add(ent);
+						}
+					}
+				}
+			}
 
 			try {
 				// Open up the reader and start reading
-				reader = new BufferedReader(new InputStreamReader(
-						file.getContents()));
+				reader = new LineTokenizer(file.getContents());
 				String line, var, val;
 				String[] splitLine;
-				String section = "Default Section";
-				boolean foundInTemplate;
-				int rowNumber;
-				DataComponent sectionTable = new DataComponent();
-				sectionTable.setName(section);
-				while ((line = reader.readLine()) != null) {
+				List<IEntry> named;
+				while (reader.hasNext()) {
+					line = reader.next();
 					Matcher sectionMatch = sectionPattern.matcher(line);
 					if (sectionMatch.matches()) {
 						System.err
@@ -318,30 +345,24 @@ public class INIReader implements ITemplatedReader {
 												.replace("]", ""));
 
 						// Make sure that comments are taken into consideration
-					} else if ((splitLine = line.split(comment)[0].trim()
-							.split(assignmentPattern)).length >= 2) {
+					} else if ((splitLine = LineTokenizer.splitAssignment(
+							LineTokenizer.stripComment(line, commentPattern)
+									.trim(),
+							assignmentRegex)) != null) {
 						// Get the variable name and value
 						var = splitLine[0].trim();
-						val = splitLine[splitLine.length - 1].trim();
-						foundInTemplate = false;
+						val = splitLine[1].trim();
 
 						// Try to find the variable in the existing form. If it
 						// exists update the data component
-						if (variableToComponentNumber.containsKey(var)) {
-							DataComponent comp = (DataComponent) form
-									.getComponent(variableToComponentNumber
-											.get(var));
-							for (IEntry ent : comp.retrieveAllEntries()) {
-								if (ent.getName().equals(var)) {
-									ent.setValue(val);
-									foundInTemplate = true;
-								}
+						named = templateEntries.get(var);
+						if (named != null) {
+							for (IEntry ent : named) {
+								ent.setValue(val);
 							}
-						}
-
-						// If the variable didn't exist add it to the first data
-						// componenet
-						if (!foundInTemplate) {
+						} else {
+							// If the variable didn't exist add it to the first
+							// data componenet
 							DataComponent comp = (DataComponent) form
 									.getComponents().get(0);
 							IEntry newEntry = makeTemplateEntry(var, val,
@@ -355,7 +376,7 @@ public class INIReader implements ITemplatedReader {
 			} catch (CoreException e) {
 				logger.error(getClass().getName() + " Exception!",e);
 				return null;
-			} catch (IOException e) {
+			} catch (IOException | UncheckedIOException e) {
 				logger.error(getClass().getName() + " Exception!",e);
 				return null;
 			}
@@ -400,6 +421,7 @@ public class INIReader implements ITemplatedReader {
 	@Override
 	public void setCommentString(String comm) {
 		comment = comm;
+		commentPattern = LineTokenizer.compile(comm);
 	}
 
 	/**
@@ -433,6 +455,7 @@ public class INIReader implements ITemplatedReader {
 	@Override
 	public void setAssignmentPattern(String regex) {
 		assignmentPattern = regex;
+		assignmentRegex = LineTokenizer.compile(regex);
 	}
 
 	/**
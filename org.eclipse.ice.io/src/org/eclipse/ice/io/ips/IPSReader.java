@@ -12,14 +12,15 @@
  *******************************************************************************/
 package org.eclipse.ice.io.ips;
 
-import java.io.BufferedReader;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.runtime.CoreException;
@@ -32,6 +33,7 @@ import org.eclipse.ice.datastructures.form.Form;
 import org.eclipse.ice.datastructures.form.MasterDetailsComponent;
 import org.eclipse.ice.datastructures.form.TableComponent;
 import org.eclipse.ice.io.serializable.IReader;
+import org.eclipse.ice.io.util.LineTokenizer;
 import org.eclipse.jface.dialogs.ErrorDialog;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Shell;
@@ -55,6 +57,17 @@ public class IPSReader implements IReader {
 	 */
 	private static final Logger logger = LoggerFactory.getLogger(IPSReader.class);
 
+	/**
+	 * The pattern that matches the characters that are removed from a section
+	 * header to get the name of a port.
+	 */
+	private static final Pattern nonNameCharacters = Pattern.compile("[^a-zA-Z0-9_]");
+
+	/**
+	 * The pattern that separates a key from its value in the ports table.
+	 */
+	private static final Pattern keyValueSeparator = Pattern.compile(" = ");
+
 	/**
 	 * <p>
 	 * Keeps track of the current ID for entries. Since we don't know how many
@@ -106,20 +119,34 @@ public class IPSReader implements IReader {
 		}
 		Form form = new Form();
 
-		// Read in the ini file to an ArrayList<String>
-		ArrayList<String> lines = null;
-		try {
-			lines = readFileLines(ifile);
-		} catch (FileNotFoundException e) {
-			logger.info("IPSReader Message: Error!  Could not find file for loading.");
+		// Stream the lines of the ini file to the loading methods
+		LineTokenizer iniIterator = openFileLines(ifile, "EOF");
+		if (iniIterator == null) {
 			return null;
-		} catch (IOException e) {
+		}
+		try {
+			readForm(form, iniIterator);
+		} catch (UncheckedIOException e) {
 			logger.info("IPSReader Message: Error!  Trouble reading file.");
 			return null;
+		} finally {
+			closeFileLines(iniIterator);
 		}
 
-		// Get an iterator over the input to pass to the loading methods
-		Iterator<String> iniIterator = lines.iterator();
+		// Return the form
+		return form;
+	}
+
+	/**
+	 * This operation parses the lines of an IPS INI file into the Components
+	 * of a Form.
+	 * 
+	 * @param form
+	 *            The Form that will hold the Components
+	 * @param iniIterator
+	 *            Iterator over the lines of the INI file
+	 */
+	private void readForm(Form form, Iterator<String> iniIterator) {
 
 		// Read in the global configuration and ports data
 		TableComponent globalConfiguration = loadGlobalConfiguration(iniIterator);
@@ -153,8 +180,7 @@ public class IPSReader implements IReader {
 		form.addComponent(portsData);
 		form.addComponent(portsMaster);
 
-		// Return the form
-		return form;
+		return;
 	}
 
 	/**
@@ -179,29 +205,32 @@ public class IPSReader implements IReader {
 			return null;
 		}
 
-		// Read in the ini file and create the iterator
+		// Open the ini file as a stream of lines
 		IEntry foundEntry;
 		ArrayList<IEntry> matchedEntries = new ArrayList<IEntry>();
-		ArrayList<String> lines = null;
-		try {
-			lines = readFileLines(ifile);
-		} catch (FileNotFoundException e) {
-			logger.info("IPSReader Message: " + "Error!  Could not find file for loading.");
-			return null;
-		} catch (IOException e) {
-			logger.info("IPSReader Message: " + "Error!  Trouble reading file.");
+		LineTokenizer lines = openFileLines(ifile, null);
+		if (lines == null) {
 			return null;
 		}
 
-		// Go through each line and look for matches
-		for (String line : lines) {
-			if (line.matches(regex)) {
-				foundEntry = makeIPSEntry();
-				foundEntry.setName(line);
-				foundEntry.setDescription(regex);
-				foundEntry.setValue(line);
-				matchedEntries.add(foundEntry);
+		// Go through each line and look for matches, reusing one matcher
+		Matcher matcher = LineTokenizer.compile(regex).matcher("");
+		try {
+			while (lines.hasNext()) {
+				String line = lines.next();
+				if (matcher.reset(line).matches()) {
+					foundEntry = makeIPSEntry();
+					foundEntry.setName(line);
+					foundEntry.setDescription(regex);
+					foundEntry.setValue(line);
+					matchedEntries.add(foundEntry);
+				}
 			}
+		} catch (UncheckedIOException e) {
+			logger.info("IPSReader Message: " + "Error!  Trouble reading file.");
+			return null;
+		} finally {
+			closeFileLines(lines);
 		}
 
 		return matchedEntries;
@@ -220,47 +249,40 @@ public class IPSReader implements IReader {
 	}
 
 	/**
-	 * Read the INI file lines into entries of an ArrayList so that it is easy
-	 * to parse the sections into ICE.
+	 * Open the INI file as a stream of lines so that it is easy to parse the
+	 * sections into ICE without holding the whole file in memory.
 	 * 
-	 * @param iniFile
+	 * @param ifile
 	 *            The INI file to be read in.
-	 * @return An ArrayList of strings of the lines of the INI file.
-	 * @throws FileNotFoundException
-	 *             Thrown when the INI file cannot be found.
-	 * @throws IOException
-	 *             Thrown when the INI file cannot be read or closed.
+	 * @param endLine
+	 *            A dummy line, such as "EOF", to return after the last line
+	 *            so that the last line of the file is read in correctly, or
+	 *            null to only return the lines of the file.
+	 * @return The lines of the INI file, or null if the file could not be
+	 *         opened.
 	 */
-	private ArrayList<String> readFileLines(IFile ifile) throws FileNotFoundException, IOException {
-
-		// Read in the ini file and create the iterator
-		BufferedReader reader = null;
+	private LineTokenizer openFileLines(IFile ifile, String endLine) {
 		try {
-			reader = new BufferedReader(new InputStreamReader(ifile.getContents()));
+			return new LineTokenizer(new InputStreamReader(ifile.getContents()), endLine);
 		} catch (CoreException e) {
-			// TODO Auto-generated catch block
+			logger.info("IPSReader Message: Error!  Could not find file for loading.");
 			logger.error(getClass().getName() + " Exception!", e);
 		}
+		return null;
+	}
 
-		// Read the FileInputStream and append to a StringBuffer
-		StringBuffer buffer = new StringBuffer();
-		int fileByte;
-
-		//Read each the file, putting each line into its own string
-		ArrayList<String> fileLines = new ArrayList<String>();
-		String line = reader.readLine();
-		while(line != null){
-			fileLines.add(line);
-			line = reader.readLine();
+	/**
+	 * Close the lines of an INI file opened by openFileLines().
+	 * 
+	 * @param lines
+	 *            The lines to close
+	 */
+	private void closeFileLines(LineTokenizer lines) {
+		try {
+			lines.close();
+		} catch (IOException e) {
+			logger.error(getClass().getName() + " Exception!", e);
 		}
-		reader.close();
-
-		// Add a dummy EOF line so that the last line of the file is
-		// read in correctly
-		fileLines.add("EOF");
-
-		// Return the ArrayList
-		return fileLines;
 	}
 
 	/**
@@ -399,7 +421,7 @@ public class IPSReader implements IReader {
 		// Get the names specified in the NAMES entry by splitting on the =
 		// sign and then keeping everything after, which we then split on each
 		// space, and turn that into an ArrayList for easier searching later
-		ArrayList<String> portNames = new ArrayList<String>(Arrays.asList(line.split(" = ")[1].split(" ")));
+		ArrayList<String> portNames = new ArrayList<String>(Arrays.asList(keyValueSeparator.split(line)[1].split(" ")));
 
 		// Go through the rest of the ports table and add the entries as we
 		// find them, while making sure that we find all of them.
@@ -423,7 +445,7 @@ public class IPSReader implements IReader {
 				int rowID = portsTable.addRow();
 				ArrayList<IEntry> row = portsTable.getRow(rowID);
 
-				String portName = line.replaceAll("[^a-zA-Z0-9_]", "");
+				String portName = nonNameCharacters.matcher(line).replaceAll("");
 				if (portNames.contains(portName)) {
 					// Set the details for the entry
 					row.get(0).setValue(portName);
@@ -436,7 +458,7 @@ public class IPSReader implements IReader {
 
 					// See if the information we are looking for is there
 					if (line.contains("IMPLEMENTATION = ")) {
-						String implementation = line.split(" = ", 2)[1];
+						String implementation = keyValueSeparator.split(line, 2)[1];
 						row.get(1).setValue(implementation);
 					} else {
 						logger.error(
@@ -498,7 +520,7 @@ public class IPSReader implements IReader {
 		}
 
 		// Pull the port name and start parsing through the parameters
-		String portName = line.replaceAll("[^a-zA-Z0-9_]", "");
+		String portName = nonNameCharacters.matcher(line).replaceAll("");
 		portComponent.setName(portName);
 		portComponent.setDescription("A port in an IPS file.");
 		portComponent.setId(currID);
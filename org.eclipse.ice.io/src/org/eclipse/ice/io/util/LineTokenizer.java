@@ -0,0 +1,289 @@
+/*******************************************************************************
+ * Copyright (c) 2016 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - Jay Jay Billings
+ *******************************************************************************/
+package org.eclipse.ice.io.util;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * <p>
+ * The LineTokenizer streams the lines of a text file one at a time so that the
+ * readers in this bundle do not need to hold an entire file in memory. It also
+ * provides the small set of line operations that those readers share, such as
+ * stripping comments and splitting assignments, using precompiled patterns
+ * instead of the regular expressions that String.split() compiles on every
+ * call.
+ * </p>
+ * <p>
+ * Patterns that are configured at run time should be compiled with
+ * {@link #compile(String)}, which caches them so that readers that are created
+ * over and over do not compile the same expressions again.
+ * </p>
+ * <p>
+ * Iteration can not throw an IOException, so read errors are wrapped in an
+ * {@link UncheckedIOException}.
+ * </p>
+ *
+ * @author Jay Jay Billings
+ *
+ */
+public class LineTokenizer implements Iterator<String>, Closeable {
+
+	/**
+	 * The largest number of patterns kept by {@link #compile(String)}. The
+	 * cache is cleared when it grows past this size.
+	 */
+	private static final int MAX_CACHED_PATTERNS = 128;
+
+	/**
+	 * The shared cache of compiled patterns, keyed by their expressions.
+	 */
+	private static final ConcurrentHashMap<String, Pattern> patternCache = new ConcurrentHashMap<String, Pattern>();
+
+	/**
+	 * The reader from which lines are pulled.
+	 */
+	private final BufferedReader reader;
+
+	/**
+	 * An extra line that is returned after the last line of the stream, or
+	 * null if there is none.
+	 */
+	private String endLine;
+
+	/**
+	 * The next line to return, or null if it has not been read yet.
+	 */
+	private String nextLine;
+
+	/**
+	 * True if there are no more lines to return.
+	 */
+	private boolean finished = false;
+
+	/**
+	 * The number of lines returned so far.
+	 */
+	private int lineNumber = 0;
+
+	/**
+	 * The constructor
+	 *
+	 * @param stream
+	 *            The stream to read. It is closed by {@link #close()}.
+	 */
+	public LineTokenizer(InputStream stream) {
+		this(new InputStreamReader(stream), null);
+	}
+
+	/**
+	 * The constructor
+	 *
+	 * @param reader
+	 *            The reader to read. It is closed by {@link #close()}.
+	 */
+	public LineTokenizer(Reader reader) {
+		this(reader, null);
+	}
+
+	/**
+	 * This constructor adds an extra line after the last line of the stream.
+	 * It is useful for parsers that read one line past the end of a section
+	 * and would otherwise drop the last line of the file.
+	 *
+	 * @param reader
+	 *            The reader to read. It is closed by {@link #close()}.
+	 * @param endLine
+	 *            The line to return after the last line of the stream, or null
+	 *            if no extra line should be returned.
+	 */
+	public LineTokenizer(Reader reader, String endLine) {
+		this.reader = (reader instanceof BufferedReader)
+				? (BufferedReader) reader : new BufferedReader(reader);
+		this.endLine = endLine;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see java.util.Iterator#hasNext()
+	 */
+	@Override
+	public boolean hasNext() {
+
+		// Read ahead one line if needed
+		if (nextLine == null && !finished) {
+			try {
+				nextLine = reader.readLine();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			// Hand out the end line once the stream is exhausted
+			if (nextLine == null) {
+				nextLine = endLine;
+				endLine = null;
+				finished = (nextLine == null);
+			}
+		}
+
+		return nextLine != null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see java.util.Iterator#next()
+	 */
+	@Override
+	public String next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException("LineTokenizer Message: "
+					+ "There are no more lines.");
+		}
+		String line = nextLine;
+		nextLine = null;
+		lineNumber++;
+		return line;
+	}
+
+	/**
+	 * This operation returns the number of lines that have been returned by
+	 * {@link #next()}, which is also the line number of the last one.
+	 *
+	 * @return The number of lines read
+	 */
+	public int getLineNumber() {
+		return lineNumber;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see java.io.Closeable#close()
+	 */
+	@Override
+	public void close() throws IOException {
+		finished = true;
+		nextLine = null;
+		reader.close();
+	}
+
+	/**
+	 * This operation returns a compiled pattern for a regular expression,
+	 * compiling it only the first time it is requested.
+	 *
+	 * @param regex
+	 *            The regular expression
+	 * @return The compiled pattern
+	 */
+	public static Pattern compile(String regex) {
+		Pattern pattern = patternCache.get(regex);
+		if (pattern == null) {
+			// Keep the cache from growing without bound if clients make up
+			// their own expressions.
+			if (patternCache.size() >= MAX_CACHED_PATTERNS) {
+				patternCache.clear();
+			}
+			pattern = Pattern.compile(regex);
+			patternCache.put(regex, pattern);
+		}
+		return pattern;
+	}
+
+	/**
+	 * This operation removes everything from the first match of a comment
+	 * pattern to the end of a line. It is equivalent to
+	 * <code>line.split(comment)[0]</code> without building the array of
+	 * pieces.
+	 *
+	 * @param line
+	 *            The line
+	 * @param comment
+	 *            The pattern that starts a comment
+	 * @return The line up to the comment, or the entire line if it has no
+	 *         comment
+	 */
+	public static String stripComment(String line, Pattern comment) {
+		Matcher matcher = comment.matcher(line);
+		// A zero width match at the start of the line does not split it
+		while (matcher.find()) {
+			if (matcher.end() > 0) {
+				return line.substring(0, matcher.start());
+			}
+		}
+		return line;
+	}
+
+	/**
+	 * This operation splits an assignment into its first and last pieces. It
+	 * is equivalent to splitting the line with
+	 * <code>line.split(assignment)</code> and keeping the first and last
+	 * elements of an array with at least two elements, but it does not build
+	 * the array or the pieces in between.
+	 *
+	 * @param line
+	 *            The line
+	 * @param assignment
+	 *            The pattern that separates the pieces of the assignment
+	 * @return An array with the first and last pieces, which are not trimmed,
+	 *         or null if the line would not split into at least two pieces
+	 */
+	public static String[] splitAssignment(String line, Pattern assignment) {
+
+		// Local Declarations
+		Matcher matcher = assignment.matcher(line);
+		int firstEnd = -1, lastStart = -1, lastEnd = -1, start = 0;
+
+		while (matcher.find()) {
+			// A zero width match at the start of the line does not split it
+			if (matcher.end() == 0) {
+				continue;
+			}
+			if (firstEnd < 0) {
+				firstEnd = matcher.start();
+			} else if (matcher.start() > start) {
+				// Remember the last non-empty piece after the first
+				lastStart = start;
+				lastEnd = matcher.start();
+			}
+			start = matcher.end();
+		}
+
+		// There is no assignment if there are no matches
+		if (firstEnd < 0) {
+			return null;
+		}
+		// The remainder of the line is the last piece unless it is empty
+		if (start < line.length()) {
+			lastStart = start;
+			lastEnd = line.length();
+		}
+		// Trailing empty pieces are dropped, so there must be a non-empty
+		// piece after the first one.
+		if (lastStart < 0) {
+			return null;
+		}
+
+		return new String[] { line.substring(0, firstEnd),
+				line.substring(lastStart, lastEnd) };
+	}
+
+}
@@ -0,0 +1,251 @@
+/*******************************************************************************
+ * Copyright (c) 2016 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - Jay Jay Billings
+ *******************************************************************************/
+package org.eclipse.ice.item;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.ice.datastructures.ICEObject.Component;
+import org.eclipse.ice.datastructures.componentVisitor.SelectiveComponentVisitor;
+import org.eclipse.ice.datastructures.entry.IEntry;
+import org.eclipse.ice.datastructures.form.DataComponent;
+import org.eclipse.ice.datastructures.form.Form;
+import org.eclipse.ice.datastructures.jaxbclassprovider.ICEJAXBClassProvider;
+import org.eclipse.ice.datastructures.jaxbclassprovider.IJAXBClassProvider;
+
+/**
+ * This class exports Forms to files in the tagged (key-value) output format
+ * and in ICE's native XML format. Both formats are written directly to a
+ * buffered channel on the output file as the Form is walked, so no copy of
+ * the Form's data is built in memory first.
+ * <p>
+ * The tagged format writes one "key=value" line for every Entry in the
+ * DataComponents of the Form. The key is the tag of the Entry if it has one
+ * and its name otherwise, with all white space removed. Entries are written
+ * in the order that they appear in the Form.
+ * </p>
+ * <p>
+ * This class is thread safe, so several Forms may be exported at the same
+ * time.
+ * </p>
+ *
+ * @author Jay Jay Billings
+ */
+public class FormExporter {
+
+	/**
+	 * The size of the buffer used for writing files in bytes
+	 */
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	/**
+	 * The JAXB contexts used for native exports, keyed by the class of the
+	 * Form. Each is created the first time that a Form of its class is
+	 * exported.
+	 */
+	private static final HashMap<Class<?>, JAXBContext> contexts = new HashMap<Class<?>, JAXBContext>();
+
+	/**
+	 * This operation exports a Form to a file, replacing the file if it
+	 * already exists.
+	 *
+	 * @param form
+	 *            The Form to export
+	 * @param file
+	 *            The file to which it should be written
+	 * @param tagged
+	 *            True if the Form should be written in the tagged output
+	 *            format, false if it should be written in the native XML
+	 *            format
+	 * @throws IOException
+	 *             This exception is thrown if the file can not be written
+	 */
+	public static void export(Form form, File file, boolean tagged)
+			throws IOException {
+
+		// Open the channel, truncating anything already in the file
+		try (FileChannel channel = FileChannel.open(file.toPath(),
+				StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING);
+				OutputStream stream = new BufferedOutputStream(
+						Channels.newOutputStream(channel), BUFFER_SIZE)) {
+			// Write the Form
+			if (tagged) {
+				writeTaggedOutput(form, stream);
+			} else {
+				writeNativeOutput(form, stream);
+			}
+		}
+
+		return;
+	}
+
+	/**
+	 * This operation writes the Entries of a Form to a stream in the tagged
+	 * output format. The stream is flushed, but not closed.
+	 *
+	 * @param form
+	 *            The Form to write
+	 * @param stream
+	 *            The stream to which it should be written
+	 * @throws IOException
+	 *             This exception is thrown if the stream can not be written
+	 */
+	public static void writeTaggedOutput(Form form, OutputStream stream)
+			throws IOException {
+
+		// Local Declarations
+		final Writer writer = new BufferedWriter(
+				new OutputStreamWriter(stream, StandardCharsets.UTF_8));
+		final ArrayList<IOException> errors = new ArrayList<IOException>();
+
+		// Write the Entries of each DataComponent as it is visited
+		SelectiveComponentVisitor visitor = new SelectiveComponentVisitor() {
+			@Override
+			public void visit(DataComponent component) {
+				try {
+					for (IEntry entry : component.retrieveAllEntries()) {
+						writeEntry(entry, writer);
+					}
+				} catch (IOException e) {
+					errors.add(e);
+				}
+			}
+		};
+		for (Component component : form.getComponents()) {
+			component.accept(visitor);
+			// Stop at the first failure
+			if (!errors.isEmpty()) {
+				throw errors.get(0);
+			}
+		}
+		writer.flush();
+
+		return;
+	}
+
+	/**
+	 * This operation writes a Form to a stream in ICE's native XML format. The
+	 * stream is flushed, but not closed.
+	 *
+	 * @param form
+	 *            The Form to write
+	 * @param stream
+	 *            The stream to which it should be written
+	 * @throws IOException
+	 *             This exception is thrown if the Form can not be marshalled
+	 *             or the stream can not be written
+	 */
+	public static void writeNativeOutput(Form form, OutputStream stream)
+			throws IOException {
+		try {
+			Marshaller marshaller = getContext(form.getClass())
+					.createMarshaller();
+			marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT,
+					Boolean.TRUE);
+			marshaller.marshal(form, stream);
+		} catch (JAXBException | CoreException e) {
+			throw new IOException("Unable to write Form " + form.getName()
+					+ " to XML.", e);
+		}
+		stream.flush();
+
+		return;
+	}
+
+	/**
+	 * This operation writes a single Entry as a "key=value" line. Entries
+	 * without a value are skipped.
+	 *
+	 * @param entry
+	 *            The Entry
+	 * @param writer
+	 *            The writer to which it should be written
+	 * @throws IOException
+	 *             This exception is thrown if the writer fails
+	 */
+	private static void writeEntry(IEntry entry, Writer writer)
+			throws IOException {
+
+		// Use tags if they are available and the name otherwise. Entries that
+		// were never tagged have empty tags.
+		String tag = entry.getTag();
+		String key = (tag != null && !tag.isEmpty()) ? tag : entry.getName();
+		String value = entry.getValue();
+		if (key != null && value != null) {
+			writer.write(key.replaceAll("\\s+", ""));
+			writer.write('=');
+			writer.write(value);
+			writer.write('\n');
+		}
+
+		return;
+	}
+
+	/**
+	 * This operation returns the JAXB context for native exports of a class of
+	 * Form, creating it from the class, ICE's classes and those of any
+	 * registered IJAXBClassProviders if it does not exist yet.
+	 *
+	 * @param formClass
+	 *            The class of the Form
+	 * @return The context
+	 * @throws JAXBException
+	 * @throws CoreException
+	 */
+	private static synchronized JAXBContext getContext(Class<?> formClass)
+			throws JAXBException, CoreException {
+
+		// Local Declarations
+		JAXBContext context = contexts.get(formClass);
+
+		if (context == null) {
+			// Start with the Form and ICE's classes
+			ArrayList<Class> classList = new ArrayList<Class>();
+			Class[] classArray = {};
+			classList.add(formClass);
+			classList.addAll(new ICEJAXBClassProvider().getClasses());
+			// Add the classes of the registered providers if the platform is
+			// running
+			if (Platform.getExtensionRegistry() != null) {
+				IJAXBClassProvider[] providers = IJAXBClassProvider
+						.getJAXBProviders();
+				if (providers != null) {
+					for (IJAXBClassProvider provider : providers) {
+						classList.addAll(provider.getClasses());
+					}
+				}
+			}
+			context = JAXBContext.newInstance(classList.toArray(classArray));
+			contexts.put(formClass, context);
+		}
+
+		return context;
+	}
+
+}
@@ -13,7 +13,6 @@
 package org.eclipse.ice.item;
 
 import java.io.BufferedReader;
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -27,7 +26,10 @@ import java.nio.file.SimpleFileVisitor;
 import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.Hashtable;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 
 import javax.xml.bind.annotation.XmlAnyElement;
 import javax.xml.bind.annotation.XmlAttribute;
@@ -41,6 +43,8 @@ import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IFolder;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.IResourceDeltaVisitor;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -55,10 +59,12 @@ import org.eclipse.ice.datastructures.ICEObject.Identifiable;
 import org.eclipse.ice.datastructures.ICEObject.ListComponent;
 import org.eclipse.ice.datastructures.componentVisitor.IComponentVisitor;
 import org.eclipse.ice.datastructures.componentVisitor.IReactorComponent;
+import org.eclipse.ice.datastructures.entry.AbstractEntry;
 import org.eclipse.ice.datastructures.entry.IEntry;
 import org.eclipse.ice.datastructures.form.AdaptiveTreeComposite;
 import org.eclipse.ice.datastructures.form.DataComponent;
 import org.eclipse.ice.datastructures.form.Form;
+import org.eclipse.ice.datastructures.form.FormDelta;
 import org.eclipse.ice.datastructures.form.FormStatus;
 import org.eclipse.ice.datastructures.form.GeometryComponent;
 import org.eclipse.ice.datastructures.form.MasterDetailsComponent;
@@ -344,6 +350,18 @@ public class Item
 	@XmlTransient()
 	protected IProject project;
 
+	/**
+	 * The names of the files at the top of the project, cached by
+	 * getProjectFileNames() and kept up to date from resource deltas. It is
+	 * null until the project is first listed.
+	 */
+	private Set<String> projectFileNames;
+
+	/**
+	 * The project for which the file names were cached.
+	 */
+	private IProject projectFileNamesProject;
+
 	/**
 	 * The most recent status of the Item.
 	 */
@@ -357,6 +375,37 @@ public class Item
 	 */
 	protected ArrayList<IEntry> entryList;
 
+	/**
+	 * The Form whose Entries were last registered by registerUpdateables().
+	 * The Entries in a FormDelta can only be reviewed on their own if they
+	 * belong to this Form, otherwise the whole Form must be reviewed.
+	 */
+	@XmlTransient()
+	private Form registeredForm;
+
+	/**
+	 * The Form, content revision and status of the Item when it was last
+	 * persisted. They are used by isDirty() to decide whether or not the Item
+	 * needs to be persisted again.
+	 */
+	@XmlTransient()
+	private Form persistedForm;
+	@XmlTransient()
+	private long persistedRevision = -1;
+	@XmlTransient()
+	private FormStatus persistedStatus;
+
+	/**
+	 * The Form, content revision and status of the Item when the revision of
+	 * its Form was last increased by increaseFormRevision().
+	 */
+	@XmlTransient()
+	private Form publishedForm;
+	@XmlTransient()
+	private long publishedRevision = -1;
+	@XmlTransient()
+	private FormStatus publishedStatus;
+
 	/**
 	 * The string that is used to describe the process by which the Item class
 	 * writes the Form in ICE's native XML format.
@@ -891,6 +940,147 @@ public class Item
 		return retVal;
 	}
 
+	/**
+	 * This operation submits a set of changes to the Entries of the Item's Form
+	 * for processing. The changes are only applied if the delta was made on
+	 * the current revision of the Form, every Entry it names is found and
+	 * every new value is valid for its Entry. The changes are then reviewed by
+	 * {@link #reviewEntries(Form, List)}. If an Entry still rejects its new
+	 * value, all of the changed Entries are restored to their previous state.
+	 * 
+	 * Deltas can not be submitted while the Item needs more information from
+	 * its Action. The Action's Form must be submitted with submitForm() in
+	 * that case.
+	 * 
+	 * @param delta
+	 *            The changes to the Form
+	 * @return The status of the Item after the review, or
+	 *         FormStatus.InfoError if the delta could not be applied.
+	 */
+	public FormStatus submitDelta(FormDelta delta) {
+
+		// Local Declarations
+		FormStatus retVal = FormStatus.InfoError;
+		List<IEntry> changedEntries = new ArrayList<IEntry>();
+		Map<Integer, Map<Integer, IEntry>> entryMaps = new HashMap<Integer, Map<Integer, IEntry>>();
+
+		// Only accept the submission if the Item is enabled
+		if (!enabled) {
+			return FormStatus.Unacceptable;
+		}
+		// Make sure the delta belongs to the current revision of this Form
+		if (delta == null || status.equals(FormStatus.NeedsInfo)
+				|| delta.getItemID() != form.getItemID()) {
+			logger.error("Item " + getId() + " Message: The delta is not "
+					+ "for this Item's Form.");
+			return FormStatus.InfoError;
+		} else if (delta.getRevision() != form.getRevision()) {
+			logger.error("Item " + getId() + " Message: The delta was made "
+					+ "on revision " + delta.getRevision()
+					+ " of the Form, but the current revision is "
+					+ form.getRevision() + ".");
+			return FormStatus.InfoError;
+		}
+
+		// Find all of the Entries before changing any of them
+		for (FormDelta.EntryChange change : delta.getChanges()) {
+			Map<Integer, IEntry> entryMap = entryMaps
+					.get(change.getComponentId());
+			if (entryMap == null) {
+				Component component = form
+						.getComponent(change.getComponentId());
+				if (!(component instanceof DataComponent)) {
+					logger.error("Item " + getId() + " Message: Component "
+							+ change.getComponentId()
+							+ " is not a DataComponent in this Form.");
+					return FormStatus.InfoError;
+				}
+				entryMap = new HashMap<Integer, IEntry>();
+				for (IEntry entry : ((DataComponent) component)
+						.retrieveAllEntries()) {
+					entryMap.put(entry.getId(), entry);
+				}
+				entryMaps.put(change.getComponentId(), entryMap);
+			}
+			IEntry entry = entryMap.get(change.getEntryId());
+			if (entry == null) {
+				logger.error("Item " + getId() + " Message: Entry "
+						+ change.getEntryId() + " is not in component "
+						+ change.getComponentId() + ".");
+				return FormStatus.InfoError;
+			}
+			changedEntries.add(entry);
+		}
+
+		// Check all of the new values before changing any Entries
+		List<FormDelta.EntryChange> changes = delta.getChanges();
+		for (int i = 0; i < changes.size(); i++) {
+			String error = changedEntries.get(i)
+					.validate(changes.get(i).getValue());
+			if (error != null) {
+				logger.error("Item " + getId() + " Message: Entry "
+						+ changedEntries.get(i).getName() + " rejected the "
+						+ "value " + changes.get(i).getValue() + ". " + error);
+				return FormStatus.InfoError;
+			}
+		}
+
+		// Apply the changes. The previous state of each Entry is saved so that
+		// it can be restored even if its old value would not be accepted by
+		// setValue().
+		IEntry[] oldEntries = new IEntry[changes.size()];
+		for (int i = 0; i < changes.size(); i++) {
+			IEntry entry = changedEntries.get(i);
+			oldEntries[i] = (entry instanceof AbstractEntry)
+					? (IEntry) ((AbstractEntry) entry).clone() : null;
+			if (!entry.setValue(changes.get(i).getValue())) {
+				for (int j = i; j >= 0; j--) {
+					restoreEntry(changedEntries.get(j), oldEntries[j]);
+				}
+				logger.error("Item " + getId() + " Message: Entry "
+						+ entry.getName() + " rejected the value "
+						+ changes.get(i).getValue() + ".");
+				status = retVal;
+				return retVal;
+			}
+		}
+
+		// Review the changed Entries
+		status = FormStatus.InReview;
+		retVal = reviewEntries(form, changedEntries);
+		if (retVal == FormStatus.ReadyToProcess) {
+			form.markReady(true);
+		}
+
+		// Set the status
+		status = retVal;
+
+		return retVal;
+	}
+
+	/**
+	 * This operation restores an Entry to a state that was saved before it was
+	 * changed by submitDelta().
+	 * 
+	 * @param entry
+	 *            The Entry to restore
+	 * @param oldEntry
+	 *            A clone of the Entry from before it was changed, or null if
+	 *            it could not be cloned
+	 */
+	private void restoreEntry(IEntry entry, IEntry oldEntry) {
+
+		if (oldEntry instanceof AbstractEntry) {
+			// Copy the state back without validating it again
+			((AbstractEntry) entry).copy((AbstractEntry) oldEntry);
+		} else {
+			logger.error("Item " + getId() + " Message: Entry "
+					+ entry.getName() + " could not be restored.");
+		}
+
+		return;
+	}
+
 	/**
 	 * The process operation processes the data in the Form to perform a certain
 	 * action. The action name must be one of the set of actions from the Form
@@ -914,8 +1104,9 @@ public class Item
 	 * extension. If the name of the Form contains spaces or other whitespace,
 	 * they are converted to a single underscore. The names of the available
 	 * actions are be "Export to ICE Native Format" and
-	 * "Export to key-value pair output." Subclasses may choose to add
-	 * additional actions or to remove the default actions.
+	 * "Export to key-value pair output." Both are streamed directly to the file
+	 * by a {@link FormExporter}. Subclasses may choose to add additional
+	 * actions or to remove the default actions.
 	 * 
 	 * @param actionName
 	 *            The name of action that should be performed using the
@@ -930,68 +1121,33 @@ public class Item
 		// Local Declarations
 		FormStatus retStatus = FormStatus.InfoError;
 		IFile outputFile = null;
-		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-		Hashtable<String, String> propsDictionary = null;
 		String filename = (form.getName() + "_" + form.getId())
 				.replaceAll("\\s+", "_");
 
 		// Make sure the action is allowed and that the Item is enabled
 		if (allowedActions.contains(actionName) && enabled) {
-			// Write the file to XML if requested
-			if (actionName.equals(nativeExportActionString)) {
-				// Setup the IFile handle
-				outputFile = project.getFile(filename + ".xml");
-				// Get the XML io service
-				IWriter xmlWriter = ioService.getWriter("xml");
-				// Write the file
-				xmlWriter.write(form, outputFile);
-				// Set the status
-				retStatus = FormStatus.Processed;
-			} else if (actionName.equals(taggedExportActionString)) {
-				System.out.println("Executing Tagged Output Writer");
-				// Otherwise write the file to a tagged output if requested -
-				// first create the action
-				action = actionFactory.getAction("Tagged Output Writer");
-				if (action == null) {
-					logger.error(
-							"Could not get a reference to the TaggedOutputWriter Action");
-					return FormStatus.InfoError;
-				}
-				// Setup the IFile handle
+			// Write the file to XML or a tagged output if requested
+			boolean tagged = actionName.equals(taggedExportActionString);
+			if (tagged) {
 				outputFile = project.getFile(filename + ".dat");
+			} else if (actionName.equals(nativeExportActionString)) {
+				outputFile = project.getFile(filename + ".xml");
+			}
+			if (outputFile != null) {
 				try {
-					// Setup the dictionary
-					propsDictionary = new Hashtable<String, String>();
-					// Set the output file name
-					propsDictionary.put("iceTaggedOutputFileName",
-							outputFile.getLocationURI().getPath());
-					// Add the key-value pairs
-					for (IEntry i : entryList) {
-						System.out.println("Looping - " + i.getName());
-						// Use tags if they are available
-						if (i.getTag() != null) {
-							System.out.println("Putting in " + i.getTag() + ", " + i.getValue());
-							propsDictionary.put(i.getTag(), i.getValue());
-						} else {
-							// Otherwise just use the Entry's name
-							propsDictionary.put(i.getName(), i.getValue());
-							logger.info("Item Message: Processing value "
-									+ i.getTag() + " = " + i.getValue());
-						}
-					}
-					// Write the file. This will always overwrite an existing
-					// file
-					retStatus = action.execute(propsDictionary);
+					// Stream the Form to the file. This will always overwrite
+					// an existing file.
+					FormExporter.export(form,
+							new File(outputFile.getLocationURI()), tagged);
+					retStatus = FormStatus.Processed;
 					// Refresh the project space so that the file is added or
 					// updated
 					project.refreshLocal(IResource.DEPTH_ONE, null);
 					// Notify any observers of the change
 					notifyListenersOfProjectChange();
-				} catch (CoreException e) {
-					// TODO Auto-generated catch block
+				} catch (IOException | CoreException e) {
 					logger.error(getClass().getName() + " Exception!", e);
 				}
-
 			}
 		}
 
@@ -1069,6 +1225,75 @@ public class Item
 		return status;
 	}
 
+	/**
+	 * This operation returns the content revision of the Item's Form, which
+	 * increases every time that the Form or any of its Components or Entries
+	 * change.
+	 * 
+	 * @return The content revision of the Form or -1 if the Item does not
+	 *         have a Form
+	 */
+	public long getContentRevision() {
+		return (form != null) ? form.getContentRevision() : -1;
+	}
+
+	/**
+	 * This operation returns true if the Item has changed since it was last
+	 * marked as persisted with markPersisted(). The Item has changed if its
+	 * Form was replaced or modified or if its status changed.
+	 * 
+	 * @return True if the Item needs to be persisted, false otherwise
+	 */
+	public boolean isDirty() {
+		return form != persistedForm
+				|| getContentRevision() != persistedRevision
+				|| getStatus() != persistedStatus;
+	}
+
+	/**
+	 * This operation marks the current state of the Item as persisted. It
+	 * should be called after the Item has been written by a persistence
+	 * provider.
+	 */
+	public void markPersisted() {
+		persistedForm = form;
+		persistedRevision = getContentRevision();
+		persistedStatus = getStatus();
+	}
+
+	/**
+	 * This operation increases the revision of the Form returned by getForm()
+	 * if the Item changed since the last time that it was increased, so that
+	 * clients that cached an older copy of the Form know to retrieve it
+	 * again. Clients with a current copy can keep it.
+	 * 
+	 * @return True if the revision was increased, false if the Item has not
+	 *         changed
+	 * @see Form#getRevision()
+	 */
+	public boolean increaseFormRevision() {
+
+		// Local Declarations
+		Form currentForm = getForm();
+		boolean changed = false;
+
+		if (currentForm != null) {
+			long contentRevision = currentForm.getContentRevision();
+			FormStatus currentStatus = getStatus();
+			changed = currentForm != publishedForm
+					|| contentRevision != publishedRevision
+					|| currentStatus != publishedStatus;
+			if (changed) {
+				currentForm.incrementRevision();
+				publishedForm = currentForm;
+				publishedRevision = contentRevision;
+				publishedStatus = currentStatus;
+			}
+		}
+
+		return changed;
+	}
+
 	/**
 	 * This protected operation setups the Entries, DataComponents and Form for
 	 * a subclass of Item. Subclasses should tailor this operation as needed.
@@ -1176,6 +1401,75 @@ public class Item
 
 	}
 
+	/**
+	 * This operation reviews the Entries that were changed by a FormDelta.
+	 * The values of the Entries have already been set on the Form when it is
+	 * called.
+	 * 
+	 * By default, it reviews the whole Form with reviewEntries(Form), since
+	 * the business checks of a subclass may depend on any Entry. Subclasses
+	 * whose checks only depend on the changed Entries can override it to call
+	 * {@link #reviewChangedEntries(Form, List)} instead.
+	 * 
+	 * @param preparedForm
+	 *            The Form with the changes applied
+	 * @param changedEntries
+	 *            The Entries that were changed
+	 * @return The status of the Form as a literal from the FormStatus
+	 *         enumeration
+	 */
+	protected FormStatus reviewEntries(Form preparedForm,
+			List<IEntry> changedEntries) {
+		return reviewEntries(preparedForm);
+	}
+
+	/**
+	 * This operation reviews only the Entries that were changed by a
+	 * FormDelta by pushing their values through the Registry. It performs the
+	 * same checks as the default reviewEntries(Form) for those Entries. The
+	 * whole Form is reviewed instead if its Entries have not been registered
+	 * yet.
+	 * 
+	 * @param preparedForm
+	 *            The Form with the changes applied
+	 * @param changedEntries
+	 *            The Entries that were changed
+	 * @return The status of the Form as a literal from the FormStatus
+	 *         enumeration
+	 */
+	protected FormStatus reviewChangedEntries(Form preparedForm,
+			List<IEntry> changedEntries) {
+
+		// Local Declarations
+		FormStatus retStatus = FormStatus.InfoError;
+		boolean updateStatus = true;
+
+		// Fall back to reviewing the whole Form if it was never registered
+		if (registeredForm != preparedForm) {
+			return reviewEntries(preparedForm);
+		}
+
+		// Update the values of the changed Entries in the Registry
+		for (IEntry entry : changedEntries) {
+			if (registry.containsKey(entry.getName())) {
+				updateStatus = registry.updateValue(entry.getName(),
+						entry.getValue());
+			}
+		}
+
+		// Dispatch the updates
+		registry.dispatch();
+
+		logger.info("Item Message: " + changedEntries.size()
+				+ " changed Entries reviewed.");
+
+		// Set the status
+		if (updateStatus) {
+			retStatus = FormStatus.ReadyToProcess;
+		}
+		return retStatus;
+	}
+
 	/**
 	 * This operation performs dependency matching by registering IUpdateable
 	 * objects with the registry based on values and child names. Subclasses
@@ -1202,6 +1496,7 @@ public class Item
 		}
 
 		// Map the components
+		registeredForm = form;
 		for (Component component : form.getComponents()) {
 			component.accept(this);
 		}
@@ -1523,38 +1818,56 @@ public class Item
 	 */
 	protected ArrayList<String> getProjectFileNames(String type) {
 
-		ArrayList<String> files = null, allFiles = null;
+		ArrayList<String> files = null;
 
 		// Make sure that the project is available
 		if (project != null && project.isAccessible()) {
-			allFiles = new ArrayList<String>();
-			// Get the files from the project space
+			// Get the files from the cache or the project space
+			Set<String> allFiles = getCachedProjectFileNames();
+			if (allFiles != null) {
+				files = new ArrayList<String>();
+				synchronized (allFiles) {
+					// Only keep the files of the right type if and only if a
+					// type has been selected
+					for (String fileName : allFiles) {
+						if (type == null || type.isEmpty()
+								|| fileName.endsWith(type)) {
+							files.add(fileName);
+						}
+					}
+				}
+			}
+		}
+
+		return files;
+	}
+
+	/**
+	 * This operation returns the cached names of the files at the top of the
+	 * project, listing the project if they are not cached yet.
+	 * 
+	 * @return The file names or null if the project could not be listed
+	 */
+	private synchronized Set<String> getCachedProjectFileNames() {
+
+		// Drop the cache if the project was replaced
+		if (projectFileNamesProject != project) {
+			projectFileNames = null;
+			projectFileNamesProject = project;
+		}
+
+		if (projectFileNames == null) {
 			try {
 				// Load the file names into the list
+				Set<String> names = new TreeSet<String>();
 				IResource[] resources = project.members();
 				for (int i = 0; i < resources.length; i++) {
 					// Only load files, not directories
 					if (resources[i].getType() == IResource.FILE) {
-						allFiles.add(resources[i].getName());
+						names.add(resources[i].getName());
 					}
 				}
-				// Remove the files that are of the wrong type if and only if a
-				// type has been selected
-				if (type != null && !type.isEmpty()) {
-					files = new ArrayList<String>();
-					int size = allFiles.size();
-					// Check all the files
-					for (int i = 0; i < size; i++) {
-						String fileName = allFiles.get(i);
-						if (fileName.endsWith(type)) {
-							// Add the correct ones to the list
-							files.add(fileName);
-						}
-					}
-				} else {
-					// Return all the files
-					files = allFiles;
-				}
+				projectFileNames = names;
 			} catch (CoreException e) {
 				// Complain
 				logger.info("Item Message: " + "Unable to load project files!");
@@ -1562,7 +1875,129 @@ public class Item
 			}
 		}
 
-		return files;
+		return projectFileNames;
+	}
+
+	/**
+	 * This operation returns true if the Item reads the given resource from
+	 * its project and should reload its project data when it changes. By
+	 * default, Items depend on the files at the top of their project, which
+	 * are the files reported by getProjectFileNames(). Subclasses should
+	 * override this operation to narrow it down to the resources they
+	 * actually use.
+	 * 
+	 * @param resource
+	 *            A resource in the project of this Item that was added,
+	 *            removed or changed
+	 * @return True if the Item depends on the resource, false otherwise
+	 */
+	protected boolean dependsOn(IResource resource) {
+		return resource.getType() == IResource.FILE
+				&& project.equals(resource.getParent());
+	}
+
+	/**
+	 * This operation directs the Item to reload the data that it has read
+	 * from its project if, and only if, the given changes affect a resource
+	 * that it depends on. It also updates the cached names of the files in
+	 * the project so that they do not have to be listed again.
+	 * 
+	 * This operation is called by the ItemManager for resource change events
+	 * from the workspace.
+	 * 
+	 * @param delta
+	 *            The changes to the project of this Item. Changes to other
+	 *            projects are ignored.
+	 * @return True if the Item reloaded its project data, false if none of
+	 *         the changes affected it
+	 */
+	public boolean reloadProjectData(IResourceDelta delta) {
+
+		// Ignore changes to other projects
+		if (project == null || delta == null
+				|| !project.equals(delta.getResource().getProject())) {
+			return false;
+		}
+
+		// Local Declarations
+		final boolean[] affected = { false };
+
+		// If the project itself was added, removed, opened or closed, forget
+		// what was cached and reload everything
+		if (delta.getResource().getType() == IResource.PROJECT
+				&& (delta.getKind() != IResourceDelta.CHANGED
+						|| (delta.getFlags() & IResourceDelta.OPEN) != 0)) {
+			synchronized (this) {
+				projectFileNames = null;
+			}
+			affected[0] = true;
+		} else {
+			// Otherwise look at the changed resources
+			try {
+				delta.accept(new IResourceDeltaVisitor() {
+					@Override
+					public boolean visit(IResourceDelta child) {
+						IResource resource = child.getResource();
+						// Changes to markers alone don't change the files
+						boolean markersOnly = child
+								.getKind() == IResourceDelta.CHANGED
+								&& (child.getFlags()
+										& ~IResourceDelta.MARKERS) == 0;
+						if (resource.getType() == IResource.FILE
+								&& !markersOnly) {
+							updateProjectFileNames(child);
+							if (dependsOn(resource)) {
+								affected[0] = true;
+							}
+						}
+						// Keep going into the project and its folders
+						return true;
+					}
+				});
+			} catch (CoreException e) {
+				logger.error(getClass().getName() + " Exception!", e);
+				affected[0] = true;
+			}
+		}
+
+		// Only reload if something the Item uses was changed
+		if (affected[0]) {
+			reloadProjectData();
+		}
+
+		return affected[0];
+	}
+
+	/**
+	 * This operation updates the cached names of the files in the project
+	 * from the delta for one file.
+	 * 
+	 * @param delta
+	 *            The delta for the file
+	 */
+	private void updateProjectFileNames(IResourceDelta delta) {
+
+		// Local Declarations
+		IResource resource = delta.getResource();
+		Set<String> names;
+
+		synchronized (this) {
+			names = (projectFileNamesProject == project) ? projectFileNames
+					: null;
+		}
+
+		// Only files at the top of the project are cached
+		if (names != null && project.equals(resource.getParent())) {
+			synchronized (names) {
+				if (delta.getKind() == IResourceDelta.ADDED) {
+					names.add(resource.getName());
+				} else if (delta.getKind() == IResourceDelta.REMOVED) {
+					names.remove(resource.getName());
+				}
+			}
+		}
+
+		return;
 	}
 
 	/**
@@ -1657,6 +2092,26 @@ public class Item
 		return;
 	}
 
+	/**
+	 * This utility method can be used by subclasses to refresh only one
+	 * resource in the project space, such as the folder that a job writes
+	 * to, instead of the whole project.
+	 * 
+	 * @param resource
+	 *            The file or folder that should be refreshed. Folders are
+	 *            refreshed with all of their contents.
+	 */
+	protected void refreshProjectSpace(IResource resource) {
+		if (resource != null) {
+			try {
+				resource.refreshLocal(IResource.DEPTH_INFINITE, null);
+			} catch (CoreException e) {
+				logger.error(getClass().getName() + " Exception!", e);
+			}
+		}
+		return;
+	}
+
 	/**
 	 * <p>
 	 * This method is intended to discover and create {@link ICEResource}
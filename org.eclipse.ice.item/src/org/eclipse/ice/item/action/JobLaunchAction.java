@@ -1004,9 +1004,11 @@ public class JobLaunchAction extends Action implements Runnable {
 			}
 		}
 
-		// Try to open the connection and fail if it will not open
+		// Get an open connection from the pool and fail if it will not open.
+		// The upload action below shares its channel.
 		try {
-			connection.open(null);
+			connection = RemoteConnectionPool.getDefault().acquire(connection,
+					null);
 		} catch (RemoteConnectionException e) {
 			// Print diagnostic information and fail
 			logger.error(getClass().getName() + " Exception!", e);
@@ -1015,111 +1017,131 @@ public class JobLaunchAction extends Action implements Runnable {
 		}
 
 		// Do the upload(s), launch the job, and download the results if the
-		// connection is open
-		if (connection.isOpen() && !cancelled.get()) {
-			// Diagnostic info
-			logger.info("JobLaunchAction Message:"
-					+ " PTP connection established. Uploading required files to remote machine.");
+		// connection is open. The channel goes back to the pool however this
+		// ends.
+		boolean channelHeld = true;
+		try {
+			if (connection.isOpen() && !cancelled.get()) {
+				// Diagnostic info
+				logger.info("JobLaunchAction Message:"
+						+ " PTP connection established. Uploading required files to remote machine.");
 
-			status = FormStatus.Processing;
+				status = FormStatus.Processing;
 			
-			// !============= FILES UPLOAD ==============!
+				// !============= FILES UPLOAD ==============!
 			
-			// Get the file separator on the remote system
-			String remoteSeparator = connection.getProperty(IRemoteConnection.FILE_SEPARATOR_PROPERTY);
-			uploadDataMap.put("remoteDir", "ICEJobs" + remoteSeparator + workingDirectoryBaseName);
-			uploadDataMap.put("remoteHost", execDictionary.get("hostname"));
-			String filesString = "";
-			for (IFile f : files) {
-				filesString += f.getLocation().toOSString() + ";";
-			}
-			filesString = filesString.substring(0, filesString.length()-1);
-			uploadDataMap.put("uploadFiles", filesString);
-			uploadDataMap.put("localFilesLocation", localLaunchFolder.getLocation().toOSString());
-
-			// Create and execute a Remote File Upload action
-			RemoteFileUploadAction uploadAction = new RemoteFileUploadAction();
-			status = uploadAction.execute(uploadDataMap);
-			if (status == FormStatus.InfoError) {
-				logger.error("JobLaunchAction Error - Failed to upload files to remote machine.");
-				return;
-			}
+				// Get the file separator on the remote system
+				String remoteSeparator = connection.getProperty(IRemoteConnection.FILE_SEPARATOR_PROPERTY);
+				uploadDataMap.put("remoteDir", "ICEJobs" + remoteSeparator + workingDirectoryBaseName);
+				uploadDataMap.put("remoteHost", execDictionary.get("hostname"));
+				String filesString = "";
+				for (IFile f : files) {
+					filesString += f.getLocation().toOSString() + ";";
+				}
+				filesString = filesString.substring(0, filesString.length()-1);
+				uploadDataMap.put("uploadFiles", filesString);
+				uploadDataMap.put("localFilesLocation", localLaunchFolder.getLocation().toOSString());
+
+				// Create and execute a Remote File Upload action
+				RemoteFileUploadAction uploadAction = new RemoteFileUploadAction();
+				uploadAction.shareConnection(connection);
+				status = uploadAction.execute(uploadDataMap);
+				if (status == FormStatus.InfoError) {
+					logger.error("JobLaunchAction Error - Failed to upload files to remote machine.");
+					return;
+				}
 
-			// !============= JOB EXECUTION ==============!
+				// !============= JOB EXECUTION ==============!
 			
-			// Get the IRemoteProcessService
-			processService = connection.getService(IRemoteProcessService.class);
+				// Get the IRemoteProcessService
+				processService = connection.getService(IRemoteProcessService.class);
 
-			// Set the new working directory
-			//processService.setWorkingDirectory(uploadAction.getRemoteUploadDirectoryPath());
+				// Set the new working directory
+				//processService.setWorkingDirectory(uploadAction.getRemoteUploadDirectoryPath());
 
-			// Dump the new working directory
-			logger.info(
-					"JobLaunchActionMessage: " + "PTP working directory set to " + processService.getWorkingDirectory());
+				// Dump the new working directory
+				logger.info(
+						"JobLaunchActionMessage: " + "PTP working directory set to " + processService.getWorkingDirectory());
 
-			// Create the process builder for the remote job
-			IRemoteProcessBuilder processBuilder = processService.getProcessBuilder("sh", launchCMD);
+				// Create the process builder for the remote job
+				IRemoteProcessBuilder processBuilder = processService.getProcessBuilder("sh", launchCMD);
 
-			// Do not redirect the streams
-			processBuilder.redirectErrorStream(false);
+				// Do not redirect the streams
+				processBuilder.redirectErrorStream(false);
 			
-			try {
-				logger.info("JobLaunchAction Message: " + "Attempting to launch with PTP...");
-				logger.info("JobLaunchAction Message: " + "Command sent to PTP = " + "sh ./" + launchCMDFileName);
-				remoteJob = processBuilder.start(IRemoteProcessBuilder.FORWARD_X11);
-			} catch (IOException e) {
-				// Print diagnostic information and fail
-				logger.error(getClass().getName() + " Exception!", e);
-				status = FormStatus.InfoError;
-				return;
-			}
+				try {
+					logger.info("JobLaunchAction Message: " + "Attempting to launch with PTP...");
+					logger.info("JobLaunchAction Message: " + "Command sent to PTP = " + "sh ./" + launchCMDFileName);
+					remoteJob = processBuilder.start(IRemoteProcessBuilder.FORWARD_X11);
+				} catch (IOException e) {
+					// Print diagnostic information and fail
+					logger.error(getClass().getName() + " Exception!", e);
+					status = FormStatus.InfoError;
+					return;
+				}
 
-			// Log the ouput
-			InputStream stdOutStream = remoteJob.getInputStream();
-			InputStream stdErrStream = remoteJob.getErrorStream();
-			if (logOutput(stdOutStream, stdErrStream).equals(FormStatus.InfoError)) {
-				// Throw an error if the streaming fails
-				status = FormStatus.InfoError;
-				return;
-			}
+				// Log the ouput
+				InputStream stdOutStream = remoteJob.getInputStream();
+				InputStream stdErrStream = remoteJob.getErrorStream();
+				if (logOutput(stdOutStream, stdErrStream).equals(FormStatus.InfoError)) {
+					// Throw an error if the streaming fails
+					status = FormStatus.InfoError;
+					return;
+				}
 
-			// !========== JOB MONITORING ============!
-			
-			// Monitor the job
-			monitorJob();
+				// !========== JOB MONITORING ============!
+
+				// Waiting for the job does not open new channels, so give
+				// the channel back to the pool while the job runs. The
+				// connection is held open for the job and the download below
+				// takes a channel of its own.
+				RemoteConnectionPool pool = RemoteConnectionPool.getDefault();
+				pool.holdOpen(connection);
+				pool.release(connection);
+				channelHeld = false;
+
+				// Monitor the job
+				try {
+					monitorJob();
+				} finally {
+					pool.releaseHold(connection);
+				}
 
-			// !=========== DOWNLOAD FILES ===========!
+				// !=========== DOWNLOAD FILES ===========!
 
-			// - Download the output if possible and if it wasn't cancelled - //
-			// Check to see if the job should be cancelled.
-			if (!cancelled.get()) {
+				// - Download the output if possible and if it wasn't cancelled - //
+				// Check to see if the job should be cancelled.
+				if (!cancelled.get()) {
 
-				// Get download directory
-				String remoteDir = processService.getWorkingDirectory();
-				downloadDataMap.put("remoteDir", remoteDir);
-				downloadDataMap.put("remoteHost", execDictionary.get("hostname"));
+					// Get download directory
+					String remoteDir = processService.getWorkingDirectory();
+					downloadDataMap.put("remoteDir", remoteDir);
+					downloadDataMap.put("remoteHost", execDictionary.get("hostname"));
 
-				logger.info("JobLaunchAction Message: " + "Downloading files to local directory "
-						+ localDirectory.getName() + " from remote directory" + remoteDir + ".");
+					logger.info("JobLaunchAction Message: " + "Downloading files to local directory "
+							+ localDirectory.getName() + " from remote directory" + remoteDir + ".");
 
-				// Create and execute the remote files download action!
-				RemoteFileDownloadAction downloadAction = new RemoteFileDownloadAction();
-				status = downloadAction.execute(downloadDataMap);
-				if (status == FormStatus.InfoError) {
-					logger.error("JobLaunchAction Error - Failed to download files from remote machine.");
-					return;
+					// Create and execute the remote files download action!
+					RemoteFileDownloadAction downloadAction = new RemoteFileDownloadAction();
+					status = downloadAction.execute(downloadDataMap);
+					if (status == FormStatus.InfoError) {
+						logger.error("JobLaunchAction Error - Failed to download files from remote machine.");
+						return;
+					}
 				}
 			}
-		}
-
-		// Set the status
-		status = FormStatus.Processed;
 
-		// Clear the files we care about
-		fileMap.clear();
-		
-		// Close the connection
-		connection.close();
+			// Set the status
+			status = FormStatus.Processed;
+
+			// Clear the files we care about
+			fileMap.clear();
+		} finally {
+			// Give the connection back to the pool
+			if (channelHeld) {
+				RemoteConnectionPool.getDefault().release(connection);
+			}
+		}
 
 		return;
 	}
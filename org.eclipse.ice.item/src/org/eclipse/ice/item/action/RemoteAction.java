@@ -17,7 +17,14 @@ import org.osgi.framework.ServiceReference;
 /**
  * The RemoteAction is an abstract extension of the Action abstract class that
  * provides subclasses with a means to create an IRemoteConnection to a remote
- * host by providing the String host name.
+ * host by providing the String host name. Connections are opened through the
+ * shared {@link RemoteConnectionPool} so that Actions working with the same
+ * remote account share one session. Subclasses should call
+ * {@link #openConnection()} instead of opening the connection themselves and
+ * {@link #releaseConnection()} instead of closing it. An Action that is run by
+ * another Action can use the connection of its caller through
+ * {@link #shareConnection(IRemoteConnection)}, so that it does not take a
+ * second channel on the same host.
  * 
  * @author Alex McCaskey
  *
@@ -29,6 +36,18 @@ public abstract class RemoteAction extends Action {
 	 */
 	protected IRemoteConnection connection;
 
+	/**
+	 * True if the connection was acquired from the pool and has not been
+	 * released yet.
+	 */
+	private boolean connectionAcquired = false;
+
+	/**
+	 * The connection that the caller of this Action acquired from the pool
+	 * and shares with it or null if this Action acquires its own.
+	 */
+	private IRemoteConnection sharedConnection = null;
+
 	/**
 	 * Return the OSGi service with the given service interface.
 	 *
@@ -47,6 +66,61 @@ public abstract class RemoteAction extends Action {
 		}
 	}
 
+	/**
+	 * This operation returns the pool that the connections of this Action are
+	 * opened through. Subclasses may override it to use a different pool.
+	 *
+	 * @return The connection pool
+	 */
+	protected RemoteConnectionPool getConnectionPool() {
+		return RemoteConnectionPool.getDefault();
+	}
+
+	/**
+	 * This operation makes the Action use a connection that its caller
+	 * acquired from the pool instead of acquiring its own. The caller keeps
+	 * the channel and must not release it until the Action is finished.
+	 *
+	 * @param connection
+	 *            The connection returned by
+	 *            {@link RemoteConnectionPool#acquire(IRemoteConnection, org.eclipse.core.runtime.IProgressMonitor)}
+	 *            or null to acquire one again
+	 */
+	public void shareConnection(IRemoteConnection connection) {
+		sharedConnection = connection;
+	}
+
+	/**
+	 * This operation acquires an open, pooled connection to the same user and
+	 * host as the current connection and stores it as the connection of this
+	 * Action. If the caller shares its connection, that connection is used
+	 * instead. It must be followed by a call to {@link #releaseConnection()}.
+	 *
+	 * @throws RemoteConnectionException
+	 *             if the connection could not be opened
+	 */
+	protected void openConnection() throws RemoteConnectionException {
+		releaseConnection();
+		if (sharedConnection != null) {
+			connection = sharedConnection;
+		} else {
+			connection = getConnectionPool().acquire(connection, null);
+			connectionAcquired = true;
+		}
+	}
+
+	/**
+	 * This operation returns the connection of this Action to the pool if it
+	 * was acquired with {@link #openConnection()}. The connection is left
+	 * open for other Actions.
+	 */
+	protected void releaseConnection() {
+		if (connectionAcquired) {
+			connectionAcquired = false;
+			getConnectionPool().release(connection);
+		}
+	}
+
 	/**
 	 * This method returns an IRemoteConnection stored in the Remote Preferences
 	 * that corresponds to the provided hostname.
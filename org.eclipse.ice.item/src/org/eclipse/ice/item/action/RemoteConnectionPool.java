@@ -0,0 +1,685 @@
+/*******************************************************************************
+ * Copyright (c) 2016 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - Jay Jay Billings
+ *******************************************************************************/
+package org.eclipse.ice.item.action;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.remote.core.IRemoteConnection;
+import org.eclipse.remote.core.IRemoteConnectionHostService;
+import org.eclipse.remote.core.exception.RemoteConnectionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>
+ * This class is a pool of open IRemoteConnections that is shared by the
+ * remote Actions. Connections are pooled by user, host and port, so the SSH
+ * handshake and authentication are only done once for every Action that
+ * works with the same remote account, even if each Action looked up its own
+ * IRemoteConnection.
+ * </p>
+ * <p>
+ * Clients call {@link #acquire(IRemoteConnection, IProgressMonitor)} before
+ * they use a connection and {@link #release(IRemoteConnection)} when they
+ * are done with it. They should not close the connection themselves. Each
+ * acquired connection counts as one channel and the number of channels that
+ * may be open on a single connection at once is limited. The connection is
+ * checked before it is handed out and reopened if it was dropped, and
+ * connections that have not been used for longer than the idle timeout are
+ * closed in the background.
+ * </p>
+ * <p>
+ * Pools other than the default pool must be disposed with {@link #dispose()}
+ * when they are no longer needed. This stops the background check and closes
+ * the pooled connections.
+ * </p>
+ *
+ * @author Jay Jay Billings
+ *
+ */
+public class RemoteConnectionPool {
+
+	/**
+	 * Logger for handling event messages and other information.
+	 */
+	private static final Logger logger = LoggerFactory
+			.getLogger(RemoteConnectionPool.class);
+
+	/**
+	 * The default idle timeout in milliseconds.
+	 */
+	public static final long DEFAULT_IDLE_TIMEOUT = 5 * 60 * 1000;
+
+	/**
+	 * The default number of channels that may be open on one connection.
+	 */
+	public static final int DEFAULT_MAX_CHANNELS = 8;
+
+	/**
+	 * The time in seconds that a client waits for a free channel before it
+	 * gives up.
+	 */
+	private static final long CHANNEL_WAIT = 60;
+
+	/**
+	 * The thread that closes the idle connections of all pools.
+	 */
+	private static final ScheduledExecutorService reaper = Executors
+			.newSingleThreadScheduledExecutor(new ThreadFactory() {
+				@Override
+				public Thread newThread(Runnable runnable) {
+					Thread thread = new Thread(runnable,
+							"RemoteConnectionPool");
+					thread.setDaemon(true);
+					return thread;
+				}
+			});
+
+	/**
+	 * The pool that is shared by the remote Actions.
+	 */
+	private static final RemoteConnectionPool defaultPool = new RemoteConnectionPool(
+			DEFAULT_IDLE_TIMEOUT, DEFAULT_MAX_CHANNELS);
+
+	/**
+	 * The pooled connections, keyed by user, host and port.
+	 */
+	private final Map<String, PooledConnection> connections;
+
+	/**
+	 * The time in milliseconds after which an unused connection is closed.
+	 */
+	private final long idleTimeout;
+
+	/**
+	 * The number of channels that may be open on one connection at once.
+	 */
+	private final int maxChannels;
+
+	/**
+	 * The background task that closes the idle connections of this pool.
+	 */
+	private final ScheduledFuture<?> reaperTask;
+
+	/**
+	 * True if the pool has been disposed. It is guarded by the pool.
+	 */
+	private boolean disposed = false;
+
+	/**
+	 * The number of times that a connection was opened by the pool.
+	 */
+	private long opened;
+
+	/**
+	 * The number of times that an open connection was handed out again.
+	 */
+	private long reused;
+
+	/**
+	 * The number of connections that were closed because they were idle.
+	 */
+	private long closed;
+
+	/**
+	 * The number of pooled connections that were found closed and had to be
+	 * opened again.
+	 */
+	private long failedHealthChecks;
+
+	/**
+	 * This class holds a pooled connection and its bookkeeping. Its fields
+	 * are guarded by the pool.
+	 */
+	private static class PooledConnection {
+
+		/**
+		 * The shared connection
+		 */
+		private final IRemoteConnection connection;
+
+		/**
+		 * The permits for the channels on the connection
+		 */
+		private final Semaphore channels;
+
+		/**
+		 * The number of channels that are currently in use
+		 */
+		private int leases;
+
+		/**
+		 * The number of clients that keep the connection open without using
+		 * a channel
+		 */
+		private int holds;
+
+		/**
+		 * The time at which the connection was last released
+		 */
+		private long lastUsed;
+
+		/**
+		 * True if the connection was open when it was last released
+		 */
+		private boolean wasOpen;
+
+		/**
+		 * The constructor
+		 *
+		 * @param connection
+		 *            The shared connection
+		 * @param maxChannels
+		 *            The number of channels allowed on the connection
+		 */
+		private PooledConnection(IRemoteConnection connection,
+				int maxChannels) {
+			this.connection = connection;
+			channels = new Semaphore(maxChannels, true);
+			lastUsed = System.currentTimeMillis();
+		}
+	}
+
+	/**
+	 * This class is a snapshot of the statistics of a pool.
+	 *
+	 * @author Jay Jay Billings
+	 *
+	 */
+	public static class Statistics {
+
+		/**
+		 * The number of pooled connections
+		 */
+		private final int pooledConnections;
+
+		/**
+		 * The number of channels in use
+		 */
+		private final int activeChannels;
+
+		/**
+		 * The number of times a connection was opened
+		 */
+		private final long opened;
+
+		/**
+		 * The number of times an open connection was reused
+		 */
+		private final long reused;
+
+		/**
+		 * The number of idle connections that were closed
+		 */
+		private final long closed;
+
+		/**
+		 * The number of dropped connections that were reopened
+		 */
+		private final long failedHealthChecks;
+
+		/**
+		 * The constructor
+		 */
+		private Statistics(int pooledConnections, int activeChannels,
+				long opened, long reused, long closed,
+				long failedHealthChecks) {
+			this.pooledConnections = pooledConnections;
+			this.activeChannels = activeChannels;
+			this.opened = opened;
+			this.reused = reused;
+			this.closed = closed;
+			this.failedHealthChecks = failedHealthChecks;
+		}
+
+		/**
+		 * @return The number of connections held by the pool
+		 */
+		public int getPooledConnections() {
+			return pooledConnections;
+		}
+
+		/**
+		 * @return The number of channels that are currently acquired
+		 */
+		public int getActiveChannels() {
+			return activeChannels;
+		}
+
+		/**
+		 * @return The number of times that the pool opened a connection
+		 */
+		public long getOpenedConnections() {
+			return opened;
+		}
+
+		/**
+		 * @return The number of times that an open connection was handed
+		 *         out without opening it again
+		 */
+		public long getReusedConnections() {
+			return reused;
+		}
+
+		/**
+		 * @return The number of connections that were closed because they
+		 *         were idle
+		 */
+		public long getClosedConnections() {
+			return closed;
+		}
+
+		/**
+		 * @return The number of pooled connections that were dropped and had
+		 *         to be opened again
+		 */
+		public long getFailedHealthChecks() {
+			return failedHealthChecks;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 *
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return "pooled=" + pooledConnections + ", active="
+					+ activeChannels + ", opened=" + opened + ", reused="
+					+ reused + ", closed=" + closed + ", failedHealthChecks="
+					+ failedHealthChecks;
+		}
+	}
+
+	/**
+	 * The constructor.
+	 *
+	 * @param idleTimeout
+	 *            The time in milliseconds after which a connection that is
+	 *            not in use is closed
+	 * @param maxChannels
+	 *            The number of channels that may be open on one connection
+	 *            at once
+	 */
+	public RemoteConnectionPool(long idleTimeout, int maxChannels) {
+		this.idleTimeout = idleTimeout;
+		this.maxChannels = Math.max(1, maxChannels);
+		connections = new HashMap<String, PooledConnection>();
+
+		// Check for idle connections regularly
+		long period = Math.max(1000, idleTimeout / 2);
+		reaperTask = reaper.scheduleWithFixedDelay(new Runnable() {
+			@Override
+			public void run() {
+				closeIdleConnections();
+			}
+		}, period, period, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * This operation returns the pool that is shared by the remote Actions.
+	 *
+	 * @return The default pool
+	 */
+	public static RemoteConnectionPool getDefault() {
+		return defaultPool;
+	}
+
+	/**
+	 * This operation acquires a channel on an open connection to the same
+	 * user and host as the given connection. If the pool already holds such a
+	 * connection it is returned, otherwise the given connection is added to
+	 * the pool. The returned connection is open and must be released with
+	 * {@link #release(IRemoteConnection)}.
+	 *
+	 * @param connection
+	 *            The connection that the client looked up
+	 * @param monitor
+	 *            The progress monitor used if the connection must be opened.
+	 *            It may be null.
+	 * @return The pooled connection
+	 * @throws RemoteConnectionException
+	 *             if the connection could not be opened, no channel became
+	 *             free in time or the pool has been disposed
+	 */
+	public IRemoteConnection acquire(IRemoteConnection connection,
+			IProgressMonitor monitor) throws RemoteConnectionException {
+
+		// Local Declarations
+		String key = getKey(connection);
+		PooledConnection pooled;
+
+		// Get the pooled connection or pool this one
+		synchronized (connections) {
+			if (disposed) {
+				throw new RemoteConnectionException(
+						"The connection pool has been disposed.");
+			}
+			pooled = connections.get(key);
+			if (pooled == null) {
+				pooled = new PooledConnection(connection, maxChannels);
+				connections.put(key, pooled);
+			}
+			pooled.leases++;
+		}
+
+		try {
+			// Wait for a free channel
+			if (!pooled.channels.tryAcquire(CHANNEL_WAIT, TimeUnit.SECONDS)) {
+				throw new RemoteConnectionException(
+						"Timed out waiting for a free channel to " + key + ".");
+			}
+
+			// Make sure the connection is open. The check is synchronized on
+			// the connection so that it is only opened once.
+			try {
+				synchronized (pooled) {
+					IRemoteConnection shared = pooled.connection;
+					if (shared.isOpen()) {
+						synchronized (connections) {
+							reused++;
+						}
+					} else {
+						shared.open(monitor);
+						synchronized (connections) {
+							opened++;
+							if (pooled.wasOpen) {
+								failedHealthChecks++;
+							}
+						}
+						logger.info("RemoteConnectionPool Message: "
+								+ "Opened connection to " + key + ".");
+					}
+				}
+			} catch (RemoteConnectionException | RuntimeException e) {
+				pooled.channels.release();
+				throw e;
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			releaseLease(key, pooled, false);
+			throw new RemoteConnectionException(e);
+		} catch (RemoteConnectionException | RuntimeException e) {
+			releaseLease(key, pooled, false);
+			throw e;
+		}
+
+		return pooled.connection;
+	}
+
+	/**
+	 * This operation releases a channel that was acquired with
+	 * {@link #acquire(IRemoteConnection, IProgressMonitor)}. The connection
+	 * stays open until it has been idle for longer than the idle timeout.
+	 *
+	 * @param connection
+	 *            The connection returned by acquire()
+	 */
+	public void release(IRemoteConnection connection) {
+
+		// Local Declarations
+		String key = getKey(connection);
+		PooledConnection pooled = getPooled(key, connection);
+
+		if (pooled != null) {
+			pooled.channels.release();
+			releaseLease(key, pooled, false);
+		}
+
+		return;
+	}
+
+	/**
+	 * This operation keeps a connection open without using a channel, for
+	 * example while a remote job started on the connection runs. It should be
+	 * called before the channel is released so that the connection is not
+	 * closed in between. The hold must be released with
+	 * {@link #releaseHold(IRemoteConnection)}.
+	 *
+	 * @param connection
+	 *            The connection returned by acquire()
+	 */
+	public void holdOpen(IRemoteConnection connection) {
+
+		// Local Declarations
+		String key = getKey(connection);
+		PooledConnection pooled = getPooled(key, connection);
+
+		if (pooled != null) {
+			synchronized (connections) {
+				pooled.holds++;
+			}
+		}
+
+		return;
+	}
+
+	/**
+	 * This operation releases a hold that was taken with
+	 * {@link #holdOpen(IRemoteConnection)}. The connection stays open until it
+	 * has been idle for longer than the idle timeout.
+	 *
+	 * @param connection
+	 *            The connection that was held
+	 */
+	public void releaseHold(IRemoteConnection connection) {
+
+		// Local Declarations
+		String key = getKey(connection);
+		PooledConnection pooled = getPooled(key, connection);
+
+		if (pooled != null) {
+			releaseLease(key, pooled, true);
+		}
+
+		return;
+	}
+
+	/**
+	 * This operation returns the pooled connection of a client and complains
+	 * if the connection is not pooled.
+	 *
+	 * @param key
+	 *            The key of the connection
+	 * @param connection
+	 *            The connection returned by acquire()
+	 * @return The pooled connection or null if it is not pooled
+	 */
+	private PooledConnection getPooled(String key,
+			IRemoteConnection connection) {
+
+		// Local Declarations
+		PooledConnection pooled;
+
+		synchronized (connections) {
+			pooled = connections.get(key);
+		}
+
+		// Complain if the connection is not pooled
+		if (pooled == null || pooled.connection != connection) {
+			logger.warn("RemoteConnectionPool Message: Connection to " + key
+					+ " is not pooled.");
+			return null;
+		}
+
+		return pooled;
+	}
+
+	/**
+	 * This operation closes the pooled connections that are not in use and
+	 * that have been idle for longer than the idle timeout. It is called
+	 * regularly in the background.
+	 *
+	 * @return The number of connections that were closed
+	 */
+	public int closeIdleConnections() {
+		return closeConnections(idleTimeout);
+	}
+
+	/**
+	 * This operation disposes the pool. The background check for idle
+	 * connections is cancelled and the connections that are not in use are
+	 * closed. Connections that are still in use are closed when they are
+	 * released. The pool can not be used after it is disposed.
+	 */
+	public void dispose() {
+
+		// Stop checking for idle connections
+		reaperTask.cancel(false);
+
+		synchronized (connections) {
+			disposed = true;
+		}
+
+		// Close everything that is not in use, however recently it was used
+		closeConnections(0);
+
+		return;
+	}
+
+	/**
+	 * This operation closes the pooled connections that are not in use and
+	 * that have been idle for at least the given time.
+	 *
+	 * @param minIdleTime
+	 *            The time in milliseconds that a connection must have been
+	 *            idle to be closed
+	 * @return The number of connections that were closed
+	 */
+	private int closeConnections(long minIdleTime) {
+
+		// Local Declarations
+		long now = System.currentTimeMillis();
+		List<IRemoteConnection> idle = new ArrayList<IRemoteConnection>();
+
+		// Remove the idle connections from the pool
+		synchronized (connections) {
+			Iterator<PooledConnection> iterator = connections.values()
+					.iterator();
+			while (iterator.hasNext()) {
+				PooledConnection pooled = iterator.next();
+				if (pooled.leases == 0 && pooled.holds == 0
+						&& now - pooled.lastUsed >= minIdleTime) {
+					iterator.remove();
+					idle.add(pooled.connection);
+				}
+			}
+			closed += idle.size();
+		}
+
+		// Close them outside of the lock since it may block
+		closeAll(idle);
+
+		return idle.size();
+	}
+
+	/**
+	 * This operation closes connections, logging any errors.
+	 *
+	 * @param toClose
+	 *            The connections to close
+	 */
+	private void closeAll(List<IRemoteConnection> toClose) {
+		for (IRemoteConnection connection : toClose) {
+			try {
+				connection.close();
+			} catch (RuntimeException e) {
+				logger.error(getClass().getName() + " Exception!", e);
+			}
+		}
+	}
+
+	/**
+	 * This operation returns a snapshot of the statistics of the pool.
+	 *
+	 * @return The statistics
+	 */
+	public Statistics getStatistics() {
+		synchronized (connections) {
+			int active = 0;
+			for (PooledConnection pooled : connections.values()) {
+				active += pooled.leases;
+			}
+			return new Statistics(connections.size(), active, opened, reused,
+					closed, failedHealthChecks);
+		}
+	}
+
+	/**
+	 * This operation drops a lease or a hold on a pooled connection and marks
+	 * when it was last used. If the pool has been disposed, the connection is
+	 * closed once it is no longer in use.
+	 *
+	 * @param key
+	 *            The key of the connection
+	 * @param pooled
+	 *            The pooled connection
+	 * @param hold
+	 *            True if a hold is dropped, false if a lease is dropped
+	 */
+	private void releaseLease(String key, PooledConnection pooled,
+			boolean hold) {
+
+		// Local Declarations
+		List<IRemoteConnection> unused = new ArrayList<IRemoteConnection>();
+
+		synchronized (connections) {
+			if (hold) {
+				pooled.holds--;
+			} else {
+				pooled.leases--;
+			}
+			pooled.lastUsed = System.currentTimeMillis();
+			pooled.wasOpen = pooled.connection.isOpen();
+			if (disposed && pooled.leases == 0 && pooled.holds == 0
+					&& connections.remove(key) != null) {
+				unused.add(pooled.connection);
+				closed++;
+			}
+		}
+
+		// Close it outside of the lock since it may block
+		closeAll(unused);
+
+		return;
+	}
+
+	/**
+	 * This operation returns the key under which a connection is pooled. It
+	 * is made from the user, host and port of the connection or the name of
+	 * the connection if it is not a host connection.
+	 *
+	 * @param connection
+	 *            The connection
+	 * @return The key
+	 */
+	private String getKey(IRemoteConnection connection) {
+		IRemoteConnectionHostService hostService = connection
+				.getService(IRemoteConnectionHostService.class);
+		if (hostService != null && hostService.getHostname() != null) {
+			return hostService.getUsername() + "@" + hostService.getHostname()
+					+ ":" + hostService.getPort();
+		}
+		return connection.getName();
+	}
+
+}
@@ -479,89 +479,100 @@ public class RemoteExecutionAction extends RemoteAction implements Runnable {
 			connection.getService(IRemoteConnectionHostService.class).setPort(port);
 		}
 
-		// Try to open the connection and fail if it will not open
-		if (!connection.isOpen()) {
-			try {
-				connection.open(null);
-			} catch (RemoteConnectionException e) {
-				// Print diagnostic information and fail
-				actionError("Remote Execution Action could not open the connection.!", e);
-				return;
-			}
+		// Get an open connection from the pool and fail if it will not open
+		try {
+			openConnection();
+		} catch (RemoteConnectionException e) {
+			// Print diagnostic information and fail
+			actionError("Remote Execution Action could not open the connection.!", e);
+			return;
 		}
 
-		// Launch the job!
-		if (connection.isOpen() && !cancelled.get()) {
-
-			// Get the IRemoteProcessService
-			processService = connection.getService(IRemoteProcessService.class);
-
-			// Set the new working directory
-			String remoteSeparator = connection.getProperty(IRemoteConnection.FILE_SEPARATOR_PROPERTY);
-			String userHome = connection.getProperty(IRemoteConnection.USER_HOME_PROPERTY);
-			processService.setWorkingDirectory(userHome + remoteSeparator + "ICEJobs" + remoteSeparator
-					+ helper.getParameter("localJobLaunchDirectory"));
-
-			// Move the Launch Script to the Remote Directory!!
-			try {
-				File launchScript = localLaunchFolder.getFile(launchCMDFileName).getLocation().toFile();
-				IRemoteFileService fileManager = connection.getService(IRemoteFileService.class);
-				IFileStore remoteDirectory = EFS.getStore(fileManager.toURI(processService.getWorkingDirectory()));
-				remoteDirectory.mkdir(EFS.NONE, null);
-				IFileStore remoteFileStore = remoteDirectory.getChild(launchScript.getName());
-				IFileStore localFileStore = EFS.getLocalFileSystem().fromLocalFile(launchScript);
-				localFileStore.copy(remoteFileStore, EFS.OVERWRITE, null);
-				logger.info("RemoteExecutionAction Message: " + "Uploaded file " + launchScript.getName());
-			} catch (CoreException e) {
-				// Print diagnostic information and fail
-				actionError(
-						getClass().getName() + " Exception! Could not move " + launchCMDFileName + " to remote host.",
-						e);
-				return;
-
-			}
+		try {
+			// Launch the job!
+			if (connection.isOpen() && !cancelled.get()) {
+
+				// Get the IRemoteProcessService
+				processService = connection.getService(IRemoteProcessService.class);
+
+				// Set the new working directory
+				String remoteSeparator = connection.getProperty(IRemoteConnection.FILE_SEPARATOR_PROPERTY);
+				String userHome = connection.getProperty(IRemoteConnection.USER_HOME_PROPERTY);
+				processService.setWorkingDirectory(userHome + remoteSeparator + "ICEJobs" + remoteSeparator
+						+ helper.getParameter("localJobLaunchDirectory"));
+
+				// Move the Launch Script to the Remote Directory!!
+				try {
+					File launchScript = localLaunchFolder.getFile(launchCMDFileName).getLocation().toFile();
+					IRemoteFileService fileManager = connection.getService(IRemoteFileService.class);
+					IFileStore remoteDirectory = EFS.getStore(fileManager.toURI(processService.getWorkingDirectory()));
+					remoteDirectory.mkdir(EFS.NONE, null);
+					IFileStore remoteFileStore = remoteDirectory.getChild(launchScript.getName());
+					IFileStore localFileStore = EFS.getLocalFileSystem().fromLocalFile(launchScript);
+					localFileStore.copy(remoteFileStore, EFS.OVERWRITE, null);
+					logger.info("RemoteExecutionAction Message: " + "Uploaded file " + launchScript.getName());
+				} catch (CoreException e) {
+					// Print diagnostic information and fail
+					actionError(
+							getClass().getName() + " Exception! Could not move " + launchCMDFileName + " to remote host.",
+							e);
+					return;
 
-			// Dump the new working directory
-			logger.info("Remote Execution Action Message: " + "PTP working directory set to "
-					+ processService.getWorkingDirectory());
+				}
 
-			// Create the process builder for the remote job
-			IRemoteProcessBuilder processBuilder = processService.getProcessBuilder("sh", launchCMD);
+				// Dump the new working directory
+				logger.info("Remote Execution Action Message: " + "PTP working directory set to "
+						+ processService.getWorkingDirectory());
+
+				// Create the process builder for the remote job
+				IRemoteProcessBuilder processBuilder = processService.getProcessBuilder("sh", launchCMD);
+
+				// Do not redirect the streams
+				processBuilder.redirectErrorStream(false);
+
+				try {
+					logger.info("Remote Execution Action Message: " + "Attempting to launch with PTP...");
+					logger.info(
+							"Remote Execution Action Message: " + "Command sent to PTP = " + "sh ./" + launchCMDFileName);
+					remoteJob = processBuilder.start(IRemoteProcessBuilder.FORWARD_X11);
+				} catch (IOException e) {
+					// Print diagnostic information and fail
+					actionError("Error in executing the remote command.", e);
+					return;
+				}
 
-			// Do not redirect the streams
-			processBuilder.redirectErrorStream(false);
+				// Log the ouput
+				InputStream stdOutStream = remoteJob.getInputStream();
+				InputStream stdErrStream = remoteJob.getErrorStream();
+				if (logOutput(stdOutStream, stdErrStream).equals(FormStatus.InfoError)) {
+					// Throw an error if the streaming fails
+					actionError("Remote Execution Error in logging the output.", null);
+					return;
+				}
 
-			try {
-				logger.info("Remote Execution Action Message: " + "Attempting to launch with PTP...");
-				logger.info(
-						"Remote Execution Action Message: " + "Command sent to PTP = " + "sh ./" + launchCMDFileName);
-				remoteJob = processBuilder.start(IRemoteProcessBuilder.FORWARD_X11);
-			} catch (IOException e) {
-				// Print diagnostic information and fail
-				actionError("Error in executing the remote command.", e);
-				return;
-			}
+				// Waiting for the job does not open new channels, so give
+				// the channel back to the pool while the job runs. The
+				// connection is held open for the job.
+				RemoteConnectionPool pool = getConnectionPool();
+				pool.holdOpen(connection);
+				releaseConnection();
+
+				// Monitor the job
+				try {
+					monitorJob();
+				} finally {
+					pool.releaseHold(connection);
+				}
 
-			// Log the ouput
-			InputStream stdOutStream = remoteJob.getInputStream();
-			InputStream stdErrStream = remoteJob.getErrorStream();
-			if (logOutput(stdOutStream, stdErrStream).equals(FormStatus.InfoError)) {
-				// Throw an error if the streaming fails
-				actionError("Remote Execution Error in logging the output.", null);
-				return;
 			}
 
-			// Monitor the job
-			monitorJob();
-
+			// Clear the files we care about
+			helper.getInputFileMap().clear();
+		} finally {
+			// Give the connection back to the pool
+			releaseConnection();
 		}
 
-		// Clear the files we care about
-		helper.getInputFileMap().clear();
-
-		// Close the connection
-		connection.close();
-
 		return;
 	}
 
@@ -179,76 +179,79 @@ public class RemoteFileDownloadAction extends RemoteAction {
 					"Could not get a valid connection to " + hostName, null);
 		}
 
-		// Make sure the connection is actually open
-		if (!connection.isOpen()) {
-			try {
-				connection.open(null);
-			} catch (RemoteConnectionException e) {
-				return actionError(
-						"Remote File Download could not open the IRemoteConnection.",
-						e);
-			}
+		// Get an open connection from the pool
+		try {
+			openConnection();
+		} catch (RemoteConnectionException e) {
+			return actionError(
+					"Remote File Download could not open the IRemoteConnection.",
+					e);
 		}
 
-		// Get the remote file manager
-		IRemoteFileService fileManager = connection
-				.getService(IRemoteFileService.class);
+		try {
+			// Get the remote file manager
+			IRemoteFileService fileManager = connection
+					.getService(IRemoteFileService.class);
+
+			// Get the Local Directory
+			IFileStore localDirectory = EFS.getLocalFileSystem().fromLocalFile(
+					helper.getLocalLaunchFolder().getLocation().toFile());
 
-		// Get the Local Directory
-		IFileStore localDirectory = EFS.getLocalFileSystem().fromLocalFile(
-				helper.getLocalLaunchFolder().getLocation().toFile());
+			// Get the remote directory.
+			String remoteSeparator = connection
+					.getProperty(IRemoteConnection.FILE_SEPARATOR_PROPERTY);
+			String userHome = connection
+					.getProperty(IRemoteConnection.USER_HOME_PROPERTY);
+			IFileStore downloadFileStore = fileManager.getResource(userHome
+					+ remoteSeparator + "ICEJobs" + remoteSeparator + localDir);
 
-		// Get the remote directory.
-		String remoteSeparator = connection
-				.getProperty(IRemoteConnection.FILE_SEPARATOR_PROPERTY);
-		String userHome = connection
-				.getProperty(IRemoteConnection.USER_HOME_PROPERTY);
-		IFileStore downloadFileStore = fileManager.getResource(userHome
-				+ remoteSeparator + "ICEJobs" + remoteSeparator + localDir);
+			// Try to download the files.
+			try {
+				// Get the children
+				IFileStore[] remoteStores = downloadFileStore.childStores(EFS.NONE,
+						null);
+				// Download all of the children
+				for (IFileStore remoteFile : remoteStores) {
+					// Get the information about the current child
+					IFileInfo fileInfo = remoteFile.fetchInfo();
+					if (fileInfo.getLength() < maxFileSize) {
 
-		// Try to download the files.
-		try {
-			// Get the children
-			IFileStore[] remoteStores = downloadFileStore.childStores(EFS.NONE,
-					null);
-			// Download all of the children
-			for (IFileStore remoteFile : remoteStores) {
-				// Get the information about the current child
-				IFileInfo fileInfo = remoteFile.fetchInfo();
-				if (fileInfo.getLength() < maxFileSize) {
+						// Print some debug information about the download
+						String msg = "Remote File Download - " + "Downloading "
+								+ fileInfo.getName() + " with length "
+								+ fileInfo.getLength() + ".";
+						logger.info(msg);
+						postConsoleText(msg);
+						// Get a handle to the local file. Note that it may
+						// not exist yet.
+						IFileStore childStore = localDirectory
+								.getChild(remoteFile.getName());
 
-					// Print some debug information about the download
-					String msg = "Remote File Download - " + "Downloading "
-							+ fileInfo.getName() + " with length "
-							+ fileInfo.getLength() + ".";
-					logger.info(msg);
-					postConsoleText(msg);
-					// Get a handle to the local file. Note that it may
-					// not exist yet.
-					IFileStore childStore = localDirectory
-							.getChild(remoteFile.getName());
+						// Copy the file from the remote machine to the
+						// local machine.
+						remoteFile.copy(childStore, EFS.OVERWRITE, null);
+					} else {
+						long sizeDiff = fileInfo.getLength() - maxFileSize;
+						// Print a debug note saying that the file is too
+						// big to
+						// download.
+						String msg = "RemoteFileDownloadAction Message: "
+								+ "File exceeds download limit. "
+								+ "File with size " + fileInfo.getLength() + " is "
+								+ sizeDiff + " bytes over the " + maxFileSize
+								+ " byte limit.";
+						postConsoleText(msg);
+						logger.info(msg);
+					}
 
-					// Copy the file from the remote machine to the
-					// local machine.
-					remoteFile.copy(childStore, EFS.OVERWRITE, null);
-				} else {
-					long sizeDiff = fileInfo.getLength() - maxFileSize;
-					// Print a debug note saying that the file is too
-					// big to
-					// download.
-					String msg = "RemoteFileDownloadAction Message: "
-							+ "File exceeds download limit. "
-							+ "File with size " + fileInfo.getLength() + " is "
-							+ sizeDiff + " bytes over the " + maxFileSize
-							+ " byte limit.";
-					postConsoleText(msg);
-					logger.info(msg);
 				}
-
+			} catch (CoreException e) {
+				return actionError(getClass().getName()
+						+ " Exception! Error in downloading the files.", e);
 			}
-		} catch (CoreException e) {
-			return actionError(getClass().getName()
-					+ " Exception! Error in downloading the files.", e);
+		} finally {
+			// Give the connection back to the pool
+			releaseConnection();
 		}
 
 		status = FormStatus.Processed;
@@ -260,82 +260,85 @@ public class RemoteFileUploadAction extends RemoteAction {
 					null);
 		}
 
-		// Make sure the connection is actually open
-		if (!connection.isOpen()) {
-			try {
-				connection.open(null);
-			} catch (RemoteConnectionException e) {
-				return actionError(
-						"Remote File Upload could not open the IRemoteConnection.",
-						e);
-			}
-		}
-
-		// Get the remote file manager
-		IRemoteFileService fileManager = connection
-				.getService(IRemoteFileService.class);
-
-		// Get the IRemoteProcessService
-		IRemoteProcessService processService = connection
-				.getService(IRemoteProcessService.class);
-
-		// Set the working directory as $HOME/ICEJobs/`localFilesLocation`
-		String remoteSeparator = connection
-				.getProperty(IRemoteConnection.FILE_SEPARATOR_PROPERTY);
-		String userHome = connection
-				.getProperty(IRemoteConnection.USER_HOME_PROPERTY);
-		processService.setWorkingDirectory(userHome + remoteSeparator
-				+ "ICEJobs" + remoteSeparator + localFilesDir);
-
-		// Get the working directory
+		// Get an open connection from the pool
 		try {
-			remoteDirectory = EFS.getStore(
-					fileManager.toURI(processService.getWorkingDirectory()));
-		} catch (CoreException e1) {
+			openConnection();
+		} catch (RemoteConnectionException e) {
 			return actionError(
-					"Remote File Upload could not get a reference to the remote working directory.",
-					e1);
+					"Remote File Upload could not open the IRemoteConnection.",
+					e);
 		}
 
-		// Create the remote working directory and upload required files.
 		try {
-			// Make that directory if necessary
-			remoteDirectory.mkdir(EFS.NONE, null);
-			logger.info("RemoteFileUploadAction Message: "
-					+ "Created directory on remote system, "
-					+ remoteDirectory.getName());
+			// Get the remote file manager
+			IRemoteFileService fileManager = connection
+					.getService(IRemoteFileService.class);
+
+			// Get the IRemoteProcessService
+			IRemoteProcessService processService = connection
+					.getService(IRemoteProcessService.class);
+
+			// Set the working directory as $HOME/ICEJobs/`localFilesLocation`
+			String remoteSeparator = connection
+					.getProperty(IRemoteConnection.FILE_SEPARATOR_PROPERTY);
+			String userHome = connection
+					.getProperty(IRemoteConnection.USER_HOME_PROPERTY);
+			processService.setWorkingDirectory(userHome + remoteSeparator
+					+ "ICEJobs" + remoteSeparator + localFilesDir);
+
+			// Get the working directory
+			try {
+				remoteDirectory = EFS.getStore(
+						fileManager.toURI(processService.getWorkingDirectory()));
+			} catch (CoreException e1) {
+				return actionError(
+						"Remote File Upload could not get a reference to the remote working directory.",
+						e1);
+			}
 
-			// Loop over all of the files in the file table and upload them
-			for (File file : filesToUpload) {
+			// Create the remote working directory and upload required files.
+			try {
+				// Make that directory if necessary
+				remoteDirectory.mkdir(EFS.NONE, null);
+				logger.info("RemoteFileUploadAction Message: "
+						+ "Created directory on remote system, "
+						+ remoteDirectory.getName());
 
-				// Check to see if the job should be cancelled.
-				if (cancelled.get()) {
-					break;
+				// Loop over all of the files in the file table and upload them
+				for (File file : filesToUpload) {
+
+					// Check to see if the job should be cancelled.
+					if (cancelled.get()) {
+						break;
+					}
+
+					// Get a handle where the input file will be stored
+					// remotely
+					IFileStore remoteFileStore = remoteDirectory
+							.getChild(file.getName());
+
+					// Get a file store handle to the local copy of the
+					// input file
+					IFileStore localFileStore = EFS.getLocalFileSystem()
+							.fromLocalFile(file);
+
+					// Copy the local file to the remote file
+					localFileStore.copy(remoteFileStore, EFS.OVERWRITE, null);
+					postConsoleText("Remote File Upload - Uploaded "
+							+ file.getName() + " to " + hostName + ":" + userHome
+							+ remoteSeparator + "ICEJobs" + remoteSeparator
+							+ localFilesDir + ".");
+					logger.info("RemoteFileUploadAction Message: "
+							+ "Uploaded file " + file.getName());
 				}
 
-				// Get a handle where the input file will be stored
-				// remotely
-				IFileStore remoteFileStore = remoteDirectory
-						.getChild(file.getName());
-
-				// Get a file store handle to the local copy of the
-				// input file
-				IFileStore localFileStore = EFS.getLocalFileSystem()
-						.fromLocalFile(file);
-
-				// Copy the local file to the remote file
-				localFileStore.copy(remoteFileStore, EFS.OVERWRITE, null);
-				postConsoleText("Remote File Upload - Uploaded "
-						+ file.getName() + " to " + hostName + ":" + userHome
-						+ remoteSeparator + "ICEJobs" + remoteSeparator
-						+ localFilesDir + ".");
-				logger.info("RemoteFileUploadAction Message: "
-						+ "Uploaded file " + file.getName());
+			} catch (CoreException e) {
+				// Print diagnostic information and fail
+				return actionError("Remote File Upload could not upload file.", e);
 			}
-
-		} catch (CoreException e) {
-			// Print diagnostic information and fail
-			return actionError("Remote File Upload could not upload file.", e);
+		} finally {
+			// Give the connection back to the pool
+			releaseConnection();
 		}
 
 		// If we make it here, then we've successfully uploaded
@@ -20,6 +20,7 @@ import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.net.InetAddress;
+import java.net.URI;
 import java.net.UnknownHostException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
@@ -49,6 +50,8 @@ import org.eclipse.ice.datastructures.form.FormStatus;
 import org.eclipse.ice.datastructures.form.ResourceComponent;
 import org.eclipse.ice.datastructures.form.TableComponent;
 import org.eclipse.ice.datastructures.resource.ICEResource;
+import org.eclipse.ice.datastructures.resource.IResourceIndexListener;
+import org.eclipse.ice.datastructures.resource.ResourceIndexer;
 import org.eclipse.ice.item.IActionFactory;
 import org.eclipse.ice.item.Item;
 import org.eclipse.ice.item.ItemType;
@@ -516,6 +519,11 @@ public class JobLauncher extends Item {
 			// Find the members that are new
 			for (int i = 0; i < latestMembers.length; i++) {
 				IResource currentResource = latestMembers[i];
+				// Skip files that were already added while the job was running
+				if (resourceNames.contains(
+						currentResource.getLocationURI().toASCIIString())) {
+					continue;
+				}
 				if (!workingDirMemberModMap.keySet()
 						.contains(currentResource)) {
 					logger.info("JobLauncher Message: " + "Adding file "
@@ -568,6 +576,107 @@ public class JobLauncher extends Item {
 
 	}
 
+	/**
+	 * This operation updates the contents of the resource component with the
+	 * files that were created, modified or deleted in the job folder while
+	 * the job was running. It is called by the job folder's
+	 * {@link ResourceIndexer}.
+	 * 
+	 * @param added
+	 *            The resources for the new files
+	 * @param modified
+	 *            The resources for the files that were written to
+	 * @param removed
+	 *            The resources for the deleted files
+	 */
+	private void updateResourceComponent(List<ICEResource> added,
+			List<ICEResource> modified, List<ICEResource> removed) {
+
+		// Local Declarations
+		ResourceComponent resources = (ResourceComponent) form.getComponent(2);
+		HashMap<URI, ICEResource> resourcesByPath = new HashMap<URI, ICEResource>();
+		ArrayList<ICEResource> newResources = new ArrayList<ICEResource>();
+		ArrayList<ICEResource> changedResources = new ArrayList<ICEResource>();
+		ArrayList<ICEResource> oldResources = new ArrayList<ICEResource>();
+		int lastId = 0;
+
+		// Map the current resources by path and get the last id
+		for (ICEResource resource : resources.getResources()) {
+			resourcesByPath.put(resource.getPath(), resource);
+			lastId = Math.max(lastId, resource.getId());
+		}
+
+		// Add the new files that are not already in the component
+		for (ICEResource resource : added) {
+			if (!resourcesByPath.containsKey(resource.getPath())) {
+				resource.setId(++lastId);
+				resource.setDescription(resource.getName() + " from "
+						+ getName() + " " + getId());
+				resourcesByPath.put(resource.getPath(), resource);
+				newResources.add(resource);
+			}
+		}
+		resources.addResources(newResources);
+
+		// Let the listeners know about the files that changed. Files that
+		// were just added are already up to date.
+		for (ICEResource resource : modified) {
+			ICEResource currentResource = resourcesByPath
+					.get(resource.getPath());
+			if (currentResource != null
+					&& !newResources.contains(currentResource)) {
+				changedResources.add(currentResource);
+			}
+		}
+		resources.updateResources(changedResources);
+
+		// Remove the files that were deleted
+		for (ICEResource resource : removed) {
+			ICEResource currentResource = resourcesByPath
+					.get(resource.getPath());
+			if (currentResource != null) {
+				oldResources.add(currentResource);
+			}
+		}
+		resources.removeResources(oldResources);
+
+		return;
+	}
+
+	/**
+	 * This operation starts a {@link ResourceIndexer} for the current job
+	 * folder so that the files written by the job are added to the resource
+	 * component as they appear instead of all at once at the end.
+	 * 
+	 * @return The indexer or null if it could not be started
+	 */
+	private ResourceIndexer startJobFolderIndexer() {
+
+		// Local Declarations
+		ResourceIndexer indexer = null;
+
+		if (currentJobFolder != null && currentJobFolder.getLocation() != null) {
+			indexer = new ResourceIndexer(
+					currentJobFolder.getLocation().toFile(),
+					new IResourceIndexListener() {
+						@Override
+						public void resourcesChanged(List<ICEResource> added,
+								List<ICEResource> modified,
+								List<ICEResource> removed) {
+							updateResourceComponent(added, modified, removed);
+						}
+					}, ResourceIndexer.DEFAULT_INTERVAL);
+			try {
+				indexer.start();
+			} catch (IOException e) {
+				logger.error(getClass().getName() + " Exception!", e);
+				indexer = null;
+			}
+		}
+
+		return indexer;
+	}
+
 	/**
 	 * <p>
 	 * This operation fills the data dictionary for the JobLaunchAction based on
@@ -987,8 +1096,8 @@ public class JobLauncher extends Item {
 					return status;
 				}
 
-				// Refresh the IProject since we just made a new IFolder
-				refreshProjectSpace();
+				// Refresh the new IFolder instead of the whole IProject
+				refreshProjectSpace(currentJobFolder);
 
 				// Create the output files in the project space
 				createOutputFiles();
@@ -1228,7 +1337,7 @@ public class JobLauncher extends Item {
 				return;
 			}
 
-			refreshProjectSpace();
+			refreshProjectSpace(outputFileHandle);
 		}
 	}
 
@@ -1252,6 +1361,7 @@ public class JobLauncher extends Item {
 				BufferedReader stdoutBufferredReader = null,
 						stderrBufferredReader = null;
 				String line = null;
+				ResourceIndexer indexer = null;
 
 				try {
 					// Open the output file for writing
@@ -1264,6 +1374,8 @@ public class JobLauncher extends Item {
 					// Open the JobLauncherAction stderr file
 					stderrReader = new FileReader(stderr);
 					stderrBufferredReader = new BufferedReader(stderrReader);
+					// Index the job folder while the job runs
+					indexer = startJobFolderIndexer();
 					// Run until the launcher is done processing
 					while (status.equals(FormStatus.Processing)
 							|| status.equals(FormStatus.NeedsInfo)) {
@@ -1302,6 +1414,11 @@ public class JobLauncher extends Item {
 					outputFileBufferedWriter.flush();
 					outputFileBufferedWriter.close();
 					outputFileWriter.close();
+					// Stop indexing so that the final check does not race
+					// with it
+					if (indexer != null) {
+						indexer.stop();
+					}
 					// Check the project space to see if new resources were
 					// downloaded that should be added to the ICEResource.
 					updateResourceComponent();
@@ -1309,6 +1426,10 @@ public class JobLauncher extends Item {
 					// Complain and return
 					logger.error(getClass().getName() + " Exception!", e);
 					return;
+				} finally {
+					if (indexer != null) {
+						indexer.stop();
+					}
 				}
 
 			}
@@ -1980,6 +2101,33 @@ public class JobLauncher extends Item {
 		return;
 	}
 
+	/**
+	 * This operation only reports a dependency on the files at the top of the
+	 * project that match one of the input file types of the launcher, since
+	 * those are the only files it lists. In particular, the output written to
+	 * the job folders does not cause the launcher to reload.
+	 * 
+	 * @see org.eclipse.ice.item.Item#dependsOn(org.eclipse.core.resources.IResource)
+	 */
+	@Override
+	protected boolean dependsOn(IResource resource) {
+
+		// Only the files at the top of the project are listed
+		if (!super.dependsOn(resource)) {
+			return false;
+		}
+
+		// Check the name against the types
+		for (FileType type : inputFileNameMap.values()) {
+			if (type.typeExt == null || type.typeExt.isEmpty()
+					|| resource.getName().endsWith(type.typeExt)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
 	/**
 	 * This operation is to be used by subclasses to notify the JobLauncher if
 	 * it should append the name of the input file to the end of the launch
@@ -16,6 +16,7 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.List;
 
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.annotation.XmlRootElement;
@@ -28,6 +29,7 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.ice.datastructures.ICEObject.ICEJAXBHandler;
 import org.eclipse.ice.datastructures.entry.IEntry;
 import org.eclipse.ice.datastructures.form.DataComponent;
+import org.eclipse.ice.datastructures.form.Form;
 import org.eclipse.ice.datastructures.form.FormStatus;
 import org.eclipse.ice.datastructures.form.TableComponent;
 import org.eclipse.ice.datastructures.jaxbclassprovider.ICEJAXBClassProvider;
@@ -283,6 +285,20 @@ public class JobProfile extends Item {
 		return status;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.eclipse.ice.item.Item#reviewEntries(org.eclipse.ice.
+	 * datastructures.form.Form, java.util.List)
+	 */
+	@Override
+	protected FormStatus reviewEntries(Form preparedForm,
+			List<IEntry> changedEntries) {
+		// The Entries of this Item do not depend on each other, so only the
+		// changed ones need to be reviewed.
+		return reviewChangedEntries(preparedForm, changedEntries);
+	}
+
 	/**
 	 * <p>
 	 * This operation sets up the JobProfileForm.
@@ -15,12 +15,16 @@ package org.eclipse.ice.item.nuclear;
 import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Dictionary;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
@@ -45,6 +49,9 @@ import org.eclipse.ice.datastructures.form.TreeComposite;
 import org.eclipse.ice.datastructures.form.iterator.BreadthFirstTreeCompositeIterator;
 import org.eclipse.ice.datastructures.jaxbclassprovider.ICEJAXBClassProvider;
 import org.eclipse.ice.item.action.RemoteAction;
+import org.eclipse.ice.item.nuclear.MooseInputValidationService.ICheckProcess;
+import org.eclipse.ice.item.nuclear.MooseInputValidationService.IValidationListener;
+import org.eclipse.ice.item.nuclear.MooseInputValidationService.ValidationResult;
 import org.eclipse.ice.item.utilities.moose.MOOSEFileHandler;
 import org.eclipse.remote.core.IRemoteConnection;
 import org.eclipse.remote.core.IRemoteProcess;
@@ -64,6 +71,9 @@ import org.eclipse.remote.core.exception.RemoteConnectionException;
  * inputTree - the Moose input tree in XML form, appComp - the Files DataComponent 
  * containing the App URI and output file name in XML form.
  * 
+ * The checks are run by the MooseInputValidationService, so an input that was
+ * already checked with the same application is not checked again.
+ * 
  * @author Alex McCaskey
  *
  */
@@ -77,20 +87,18 @@ public class CheckMooseInputAction extends RemoteAction {
 	@Override
 	public FormStatus execute(Dictionary<String, String> map) {
 		// Local Declarations
-		IRemoteProcessService processService = null;
-		IRemoteProcess checkInputRemoteJob = null;
 		MOOSEFileHandler writer = new MOOSEFileHandler();
 		Form tempForm = new Form();
-		InputStream errorStream = null;
-		String checkInputString = "", line;
+		String key = null;
+		ValidationResult result = null;
 		status = FormStatus.ReadyToProcess;
 		
 		// Get the input params
 		String projectName = map.get("projectSpaceDir");
 		String treeXML = map.get("inputTree");
 		String appCompXML = map.get("appComp");
-		String localFilesDir = map.get("localJobLaunchDirectory");
-		boolean isRemote = Boolean.valueOf(map.get("isRemote"));
+		final String localFilesDir = map.get("localJobLaunchDirectory");
+		final boolean isRemote = Boolean.valueOf(map.get("isRemote"));
 		
 		// Validate we got the right ones. 
 		if (projectName == null || localFilesDir == null || treeXML == null || appCompXML == null || map.get("isRemote") == null) {
@@ -104,11 +112,11 @@ public class CheckMooseInputAction extends RemoteAction {
 		new MOOSEModel().setActiveDataNodes(mooseTree);
 		
 		// Get the IProject reference
-		IProject project = ResourcesPlugin.getWorkspace().getRoot().getProject(projectName);
+		final IProject project = ResourcesPlugin.getWorkspace().getRoot().getProject(projectName);
 
 		// Get the output file reference and the application URI
-		IFile inputFile = project.getFile(appComponent.retrieveEntry("Output File Name").getValue());
-		URI appUri = URI.create(appComponent.retrieveEntry("MOOSE-Based Application").getValue());
+		final IFile inputFile = project.getFile(appComponent.retrieveEntry("Output File Name").getValue());
+		final URI appUri = URI.create(appComponent.retrieveEntry("MOOSE-Based Application").getValue());
 
 		// Make sure we have the correct files in the workspace
 		if (!validateFileEntries(project, mooseTree)) {
@@ -120,148 +128,238 @@ public class CheckMooseInputAction extends RemoteAction {
 		tempForm.addComponent(mooseTree);
 		writer.write(tempForm, inputFile);
 
-		// Check if this MOOSE app is local or remote
-		if (isRemote) {
+		// Identify the check by the input and everything it depends on so
+		// that repeated checks of the same input are answered from the cache
+		String identity = getIdentity(project, mooseTree, appUri, isRemote, localFilesDir);
+		try (InputStream inputStream = new FileInputStream(inputFile.getLocation().toFile())) {
+			key = MooseInputValidationService.computeKey(identity, inputStream);
+		} catch (IOException e) {
+			logger.error(getClass().getName() + " Exception!", e);
+			status = FormStatus.InfoError;
+			return status;
+		}
 
-			// Get the remote connection
-			connection = getRemoteConnection(appUri.getHost());
-			
-			// Try to open the connection and fail if it will not open
-			try {
-				connection.open(null);
-			} catch (RemoteConnectionException e) {
-				// Print diagnostic information and fail
-				logger.error(getClass().getName() + " Exception!", e);
-				String errorMessage = "Could not create connection to remote machine.";
-				throwErrorMessage("Connection Invalid", "", errorMessage, errorMessage);
-				status = FormStatus.InfoError;
-				return status;
+		// Launch the app only if the service has to run the check.
+		ICheckProcess check = new ICheckProcess() {
+			@Override
+			public InputStream start() throws IOException {
+				return isRemote ? startRemoteCheck(appUri, inputFile, localFilesDir)
+						: startLocalCheck(appUri, inputFile, project);
 			}
 
-			// Do the upload(s) and launch the job if the connection is open
-			if (connection.isOpen()) {
-
-				// Get the file separator on the remote system
-				String remoteSeparator = connection.getProperty(IRemoteConnection.FILE_SEPARATOR_PROPERTY);
-
-				// Get the IRemoteProcessService
-				processService = connection.getService(IRemoteProcessService.class);
-
-				// Set the working directory to be where the files were uploaded
-				processService.setWorkingDirectory("ICEJobs" + remoteSeparator + localFilesDir);
-				
-				logger.info("Setting Remote command to " + appUri.getRawPath() + " --no-color --check-input -i " + inputFile.getName());
-				
-				// Create the process builder for the remote job
-				IRemoteProcessBuilder checkInputProcessBuilder = processService.getProcessBuilder("sh", "-c",
-						appUri.getRawPath() + " --no-color --check-input -i " +inputFile.getName());
-
-				// Do not redirect the streams
-				//checkInputProcessBuilder.redirectErrorStream(true);
-
-				logger.info("Remote Connection open - Beginning execution of Moose App with --check-input");
-				// Execute the remote job
-				try {
-					checkInputRemoteJob = checkInputProcessBuilder.start(IRemoteProcessBuilder.FORWARD_X11);
-				} catch (IOException e) {
-					// Print diagnostic information and fail
-					logger.error(getClass().getName() + " Exception!", e);
-					String errorMessage = "Could not execute application --check-input on remote machine.";
-					throwErrorMessage("--check-input execution failed.", "", errorMessage, errorMessage);
-					status = FormStatus.InfoError;
-					return status;
+			@Override
+			public void finish() {
+				// The remote output has been read, so the connection can be
+				// used by others
+				if (isRemote) {
+					releaseConnection();
 				}
+			}
+		};
 
-				// Get the InputStream - this contains standard out 
-				// and standard err
-				errorStream = checkInputRemoteJob.getErrorStream();
-				
-				// Get the remote file manager
-				//IRemoteFileService fileManager = connection.getService(IRemoteFileService.class);
-
-//				try {
-//					IFileStore fileStore = EFS.getStore(fileManager.toURI(processService.getWorkingDirectory()));
-//					//fileStore.delete(EFS.NONE, null); HOLY FUCK ALEX WHAT WERE YOU THINKING!!!!!
-//				} catch (CoreException e) {
-//					e.printStackTrace();
-//				}
-			} else {
-				// Print diagnostic information and fail
-				logger.error(getClass().getName() + " Exception!");
-				String errorMessage = "Could not open remote connection.";
-				throwErrorMessage("Connection Error", "", errorMessage, errorMessage);
-				status = FormStatus.InfoError;
-				return status;
+		// Show the output in the console as it comes in
+		IValidationListener listener = new IValidationListener() {
+			@Override
+			public void outputReceived(String line) {
+				postConsoleText(line);
 			}
+		};
 
-		} else {
+		// Wait for the result
+		try {
+			result = MooseInputValidationService.getDefault()
+					.validate(project.getName() + "/" + inputFile.getName(), key, check, listener).get();
+		} catch (InterruptedException | ExecutionException e) {
+			logger.error(getClass().getName() + " Exception!", e);
+			status = FormStatus.InfoError;
+			return status;
+		}
 
-			// Create a File so we can easily get its file name
+		// Check for any errors
+		if (!result.isValid()) {
+			throwErrorMessage("MOOSE Tree Validation", "org.eclipse.ice.item.nuclear.moose", result.getError(),
+					result.getOutput().trim());
+			status = FormStatus.InfoError;
+		}
+
+		// If we make it here, then we should be good with ReadyToProcess
+		return status;
+			
+	}
+
+	/**
+	 * This operation creates the identity of a check, which is everything
+	 * other than the input file that the result of --check-input depends on:
+	 * the application and the files that the input uses.
+	 * 
+	 * Applications are identified by their location and by a stamp of their
+	 * size and modification time, so rebuilding them counts. The stamp of a
+	 * remote application is read on the remote machine. If it can not be
+	 * read, the identity is made unique so that the check is run again.
+	 * 
+	 * @return The identity
+	 */
+	private String getIdentity(IProject project, TreeComposite mooseTree, URI appUri, boolean isRemote,
+			String localFilesDir) {
+		// Local Declarations
+		StringBuilder identity = new StringBuilder(appUri.toString());
+
+		// Add the stamp of the app
+		if (isRemote) {
+			String stamp = getRemoteStamp(appUri);
+			identity.append("|").append(localFilesDir).append("|")
+					.append(stamp != null ? stamp : UUID.randomUUID().toString());
+		} else {
 			File execFile = new File(appUri);
+			identity.append("|").append(execFile.length()).append("|").append(execFile.lastModified());
+		}
 
-			// Create the exec strings
-			String[] checkInputCmd = { "/bin/sh", "-c",
-					execFile.getAbsolutePath() + " --check-input -i " + project.getLocation().toOSString()
-							+ System.getProperty("file.separator") + inputFile.getName() + " --no-color" };
+		// Add the files that the input uses
+		for (IEntry entry : getFileEntries(mooseTree)) {
+			IFile file = project.getFile(entry.getValue());
+			identity.append("|").append(entry.getValue()).append("|").append(file.getModificationStamp());
+		}
 
-			try {
+		return identity.toString();
+	}
 
-				// Launch the process
-				ProcessBuilder builder = new ProcessBuilder(checkInputCmd)
-						.directory(new File(project.getLocation().toOSString()));
-				//builder.redirectErrorStream(true);
-				Process checkInputProcess = builder.start();
-
-				// Get the InputStream from the process - this contains 
-				// standard out and standard err
-				errorStream = checkInputProcess.getErrorStream();
-				
-			} catch (IOException e) {
-				e.printStackTrace();
-				logger.error(getClass().getName() + " Exception!", e);
-				status = FormStatus.InfoError;
-				return status;
-			}
+	/**
+	 * This operation reads the size and modification time of a remote app
+	 * with stat. The connection is only held while the command runs.
+	 * 
+	 * @param appUri
+	 *            The URI of the app on the remote machine
+	 * @return The stamp or null if it could not be read
+	 */
+	private String getRemoteStamp(URI appUri) {
+		// Local Declarations
+		String stamp = null;
 
+		// Get the remote connection
+		connection = getRemoteConnection(appUri.getHost());
+		if (connection == null) {
+			return null;
 		}
 
-		// Now we have an InputStream from either a local or 
-		// remote launch - let's get the text from that stream
-		// and analyze it for errors. 
 		try {
-			// Read the output from the process
-			BufferedReader error = new BufferedReader(new InputStreamReader(errorStream));
-			while ((line = error.readLine()) != null) {
-				//logger.info("Error: " + line);
-				checkInputString += line + "\n";
-			}
-			
-			// Close the streams
-			//input.close();
-			error.close();
-			
-			
-			// Check for any errors
-			if (checkInputString.contains("*** ERROR ***")) {
-				int indexOfError = checkInputString.indexOf("*** ERROR ***");
-				String errorString = checkInputString.substring(indexOfError,
-						checkInputString.indexOf("\n", indexOfError+15));
-				errorString = errorString.trim();
-				throwErrorMessage("MOOSE Tree Validation", "org.eclipse.ice.item.nuclear.moose", errorString,
-						checkInputString.trim());
-				status = FormStatus.InfoError;
-				return status;
+			openConnection();
+			IRemoteProcessService processService = connection.getService(IRemoteProcessService.class);
+			IRemoteProcess process = processService
+					.getProcessBuilder("sh", "-c", "stat -c '%s %Y' " + appUri.getRawPath()).start();
+
+			// The stamp is the only line of output
+			try (BufferedReader reader = new BufferedReader(
+					new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+				String line = reader.readLine();
+				while (reader.readLine() != null) {
+					// Drain the output so the process can not block on it
+				}
+				if (process.waitFor() == 0 && line != null && !line.trim().isEmpty()) {
+					stamp = line.trim();
+				}
 			}
+		} catch (RemoteConnectionException | IOException e) {
+			logger.error(getClass().getName() + " Exception!", e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			logger.error(getClass().getName() + " Exception!", e);
+		} finally {
+			releaseConnection();
+		}
 
+		return stamp;
+	}
+
+	/**
+	 * This operation runs the app with --check-input on the remote machine
+	 * and returns the stream to which it writes its errors. The connection
+	 * is released by the check when it is done with the stream.
+	 * 
+	 * @return The error stream of the remote process
+	 * @throws IOException
+	 *             if the app could not be launched
+	 */
+	private InputStream startRemoteCheck(URI appUri, IFile inputFile, String localFilesDir) throws IOException {
+		// Local Declarations
+		IRemoteProcess checkInputRemoteJob = null;
+
+		// Get the remote connection
+		connection = getRemoteConnection(appUri.getHost());
+
+		// Get an open connection from the pool and fail if it will not
+		// open
+		try {
+			openConnection();
+		} catch (RemoteConnectionException e) {
+			// Print diagnostic information and fail
+			String errorMessage = "Could not create connection to remote machine.";
+			throwErrorMessage("Connection Invalid", "", errorMessage, errorMessage);
+			throw new IOException(errorMessage, e);
+		}
+
+		// Launch the job if the connection is open
+		if (!connection.isOpen()) {
+			// Print diagnostic information and fail
+			String errorMessage = "Could not open remote connection.";
+			throwErrorMessage("Connection Error", "", errorMessage, errorMessage);
+			throw new IOException(errorMessage);
+		}
+
+		// Get the file separator on the remote system
+		String remoteSeparator = connection.getProperty(IRemoteConnection.FILE_SEPARATOR_PROPERTY);
+
+		// Get the IRemoteProcessService
+		IRemoteProcessService processService = connection.getService(IRemoteProcessService.class);
+
+		// Set the working directory to be where the files were uploaded
+		processService.setWorkingDirectory("ICEJobs" + remoteSeparator + localFilesDir);
+
+		logger.info("Setting Remote command to " + appUri.getRawPath() + " --no-color --check-input -i "
+				+ inputFile.getName());
+
+		// Create the process builder for the remote job
+		IRemoteProcessBuilder checkInputProcessBuilder = processService.getProcessBuilder("sh", "-c",
+				appUri.getRawPath() + " --no-color --check-input -i " + inputFile.getName());
+
+		logger.info("Remote Connection open - Beginning execution of Moose App with --check-input");
+		// Execute the remote job
+		try {
+			checkInputRemoteJob = checkInputProcessBuilder.start(IRemoteProcessBuilder.FORWARD_X11);
 		} catch (IOException e) {
-			logger.error(getClass().getName() + " Exception!", e);
-			status = FormStatus.InfoError;
-			return status;
+			// Print diagnostic information and fail
+			String errorMessage = "Could not execute application --check-input on remote machine.";
+			throwErrorMessage("--check-input execution failed.", "", errorMessage, errorMessage);
+			throw e;
 		}
-		
-		// If we make it here, then we should be good with ReadyToProcess
-		return status;
-			
+
+		// The error stream has the results
+		return checkInputRemoteJob.getErrorStream();
+	}
+
+	/**
+	 * This operation runs the app with --check-input on the local machine and
+	 * returns the stream to which it writes its errors.
+	 * 
+	 * @return The error stream of the local process
+	 * @throws IOException
+	 *             if the app could not be launched
+	 */
+	private InputStream startLocalCheck(URI appUri, IFile inputFile, IProject project) throws IOException {
+		// Create a File so we can easily get its file name
+		File execFile = new File(appUri);
+
+		// Create the exec strings
+		String[] checkInputCmd = { "/bin/sh", "-c",
+				execFile.getAbsolutePath() + " --check-input -i " + project.getLocation().toOSString()
+						+ System.getProperty("file.separator") + inputFile.getName() + " --no-color" };
+
+		// Launch the process
+		ProcessBuilder builder = new ProcessBuilder(checkInputCmd)
+				.directory(new File(project.getLocation().toOSString()));
+		Process checkInputProcess = builder.start();
+
+		// The error stream has the results
+		return checkInputProcess.getErrorStream();
 	}
 
 	/**
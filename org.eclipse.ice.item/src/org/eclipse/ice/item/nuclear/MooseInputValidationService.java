@@ -0,0 +1,611 @@
+/*******************************************************************************
+ * Copyright (c) 2016 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - Jay Jay Billings
+ *******************************************************************************/
+package org.eclipse.ice.item.nuclear;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>
+ * This class runs MOOSE's --check-input validation of input files in the
+ * background and caches the results. Each check is identified by a key that
+ * is computed from the contents of the input file and the identity of the
+ * MOOSE application, so validating an input that has already been validated
+ * with the same application returns the cached result without starting the
+ * application again.
+ * </p>
+ * <p>
+ * Checks are also identified by a scope, such as the name of the input file.
+ * A check in a scope that has no other checks waiting or running starts right
+ * away. A check that is requested while another check in its scope is waiting
+ * or running waits for the debounce delay first and replaces any check in the
+ * scope that has not started yet, so clients that request validation
+ * repeatedly only run the first and the last request. The requests of a
+ * replaced check receive the result of the check that replaced it. Requests
+ * for a check that is already running share its result. The
+ * number of checks that run at once is limited and the output of each check
+ * is passed to its listeners line by line while it is read.
+ * </p>
+ *
+ * @author Jay Jay Billings
+ *
+ */
+public class MooseInputValidationService {
+
+	/**
+	 * Logger for handling event messages and other information.
+	 */
+	private static final Logger logger = LoggerFactory
+			.getLogger(MooseInputValidationService.class);
+
+	/**
+	 * The text that MOOSE writes before the description of an error.
+	 */
+	public static final String ERROR_MARKER = "*** ERROR ***";
+
+	/**
+	 * The default debounce delay in milliseconds.
+	 */
+	public static final long DEFAULT_DEBOUNCE_DELAY = 500;
+
+	/**
+	 * The default number of checks that may run at once.
+	 */
+	public static final int DEFAULT_MAX_CHECKS = 2;
+
+	/**
+	 * The default number of results that are cached.
+	 */
+	public static final int DEFAULT_CACHE_SIZE = 32;
+
+	/**
+	 * The service shared by the Actions.
+	 */
+	private static MooseInputValidationService defaultService;
+
+	/**
+	 * This interface describes a --check-input run of a MOOSE application.
+	 * It is implemented by the clients of the service, which know how to
+	 * launch the application locally or remotely.
+	 */
+	public interface ICheckProcess {
+
+		/**
+		 * This operation launches the application with --check-input.
+		 *
+		 * @return The stream to which the application writes its errors
+		 * @throws IOException
+		 *             if the application could not be launched
+		 */
+		public InputStream start() throws IOException;
+
+		/**
+		 * This operation is called after the output of the application has
+		 * been read or the launch failed. It should release any resources
+		 * that were used by the check.
+		 */
+		public void finish();
+	}
+
+	/**
+	 * This interface is implemented by clients that want to see the output
+	 * of a check while it is read.
+	 */
+	public interface IValidationListener {
+
+		/**
+		 * This operation is called for each line of output of the check.
+		 *
+		 * @param line
+		 *            The line of output
+		 */
+		public void outputReceived(String line);
+	}
+
+	/**
+	 * This class is the result of a check.
+	 */
+	public static class ValidationResult {
+
+		/**
+		 * The error reported by MOOSE or null if the input is valid
+		 */
+		private final String error;
+
+		/**
+		 * The output of the check
+		 */
+		private final String output;
+
+		/**
+		 * True if the result was taken from the cache
+		 */
+		private final boolean cached;
+
+		/**
+		 * The constructor
+		 *
+		 * @param error
+		 *            The error or null if the input is valid
+		 * @param output
+		 *            The output of the check
+		 * @param cached
+		 *            True if the result was taken from the cache
+		 */
+		private ValidationResult(String error, String output,
+				boolean cached) {
+			this.error = error;
+			this.output = output;
+			this.cached = cached;
+		}
+
+		/**
+		 * This operation returns true if MOOSE did not find an error.
+		 *
+		 * @return True if the input is valid, false otherwise
+		 */
+		public boolean isValid() {
+			return error == null;
+		}
+
+		/**
+		 * This operation returns the error reported by MOOSE, which is the
+		 * error marker and the line that describes the error.
+		 *
+		 * @return The error or null if the input is valid
+		 */
+		public String getError() {
+			return error;
+		}
+
+		/**
+		 * This operation returns the complete output of the check.
+		 *
+		 * @return The output
+		 */
+		public String getOutput() {
+			return output;
+		}
+
+		/**
+		 * This operation returns true if the result was taken from the cache
+		 * instead of running the check.
+		 *
+		 * @return True if the result was cached, false otherwise
+		 */
+		public boolean isCached() {
+			return cached;
+		}
+	}
+
+	/**
+	 * This class is a check that is waiting to run or running.
+	 */
+	private static class PendingCheck {
+
+		/**
+		 * The scope of the check
+		 */
+		private final String scope;
+
+		/**
+		 * The key of the check
+		 */
+		private String key;
+
+		/**
+		 * The process that runs the check
+		 */
+		private ICheckProcess process;
+
+		/**
+		 * The listeners that receive the output of the check
+		 */
+		private final List<IValidationListener> listeners = new ArrayList<IValidationListener>();
+
+		/**
+		 * The result of the check, which is shared by every request that
+		 * the check handles
+		 */
+		private final CompletableFuture<ValidationResult> result = new CompletableFuture<ValidationResult>();
+
+		/**
+		 * The scheduled start of the check
+		 */
+		private ScheduledFuture<?> start;
+
+		/**
+		 * True once the check has started
+		 */
+		private boolean started = false;
+
+		/**
+		 * The constructor
+		 *
+		 * @param scope
+		 *            The scope of the check
+		 */
+		private PendingCheck(String scope) {
+			this.scope = scope;
+		}
+	}
+
+	/**
+	 * The debounce delay in milliseconds
+	 */
+	private final long debounceDelay;
+
+	/**
+	 * The executor that runs the checks
+	 */
+	private final ScheduledThreadPoolExecutor executor;
+
+	/**
+	 * The cached results keyed by the keys of their checks. The least
+	 * recently used result is dropped when the cache is full.
+	 */
+	private final Map<String, ValidationResult> cache;
+
+	/**
+	 * The checks that have not started yet, keyed by their scopes
+	 */
+	private final Map<String, PendingCheck> waitingChecks = new HashMap<String, PendingCheck>();
+
+	/**
+	 * The checks that are running, keyed by their keys
+	 */
+	private final Map<String, PendingCheck> runningChecks = new HashMap<String, PendingCheck>();
+
+	/**
+	 * The number of checks that were run
+	 */
+	private int checksRun = 0;
+
+	/**
+	 * The constructor
+	 *
+	 * @param debounceDelay
+	 *            The time in milliseconds that a check waits to be superseded
+	 *            before it starts
+	 * @param maxChecks
+	 *            The number of checks that may run at once
+	 * @param cacheSize
+	 *            The number of results that are cached
+	 */
+	public MooseInputValidationService(long debounceDelay, int maxChecks,
+			final int cacheSize) {
+		this.debounceDelay = debounceDelay;
+		executor = new ScheduledThreadPoolExecutor(Math.max(1, maxChecks),
+				new ThreadFactory() {
+					@Override
+					public Thread newThread(Runnable runnable) {
+						Thread thread = new Thread(runnable,
+								"MOOSE Input Validation");
+						thread.setDaemon(true);
+						return thread;
+					}
+				});
+		cache = new LinkedHashMap<String, ValidationResult>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(
+					Map.Entry<String, ValidationResult> eldest) {
+				return size() > cacheSize;
+			}
+		};
+	}
+
+	/**
+	 * This operation returns the service that is shared by the Actions.
+	 *
+	 * @return The service
+	 */
+	public static synchronized MooseInputValidationService getDefault() {
+		if (defaultService == null) {
+			defaultService = new MooseInputValidationService(
+					DEFAULT_DEBOUNCE_DELAY, DEFAULT_MAX_CHECKS,
+					DEFAULT_CACHE_SIZE);
+		}
+		return defaultService;
+	}
+
+	/**
+	 * This operation computes the key of a check from the identity of the
+	 * application and the contents of the input file. The identity should
+	 * include everything else that the result depends on, such as the
+	 * location and modification time of the application and the files that
+	 * the input uses.
+	 *
+	 * @param identity
+	 *            The identity of the application
+	 * @param input
+	 *            The contents of the input file. The stream is read to the
+	 *            end, but it is not closed.
+	 * @return The key
+	 * @throws IOException
+	 *             if the input could not be read
+	 */
+	public static String computeKey(String identity, InputStream input)
+			throws IOException {
+
+		// Local Declarations
+		MessageDigest digest = null;
+		byte[] buffer = new byte[8192];
+		StringBuilder key = new StringBuilder();
+
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			// Every Java platform is required to provide SHA-256
+			throw new IllegalStateException(e);
+		}
+
+		// Digest the identity and then the input
+		digest.update(identity.getBytes(StandardCharsets.UTF_8));
+		digest.update((byte) 0);
+		int count;
+		while ((count = input.read(buffer)) != -1) {
+			digest.update(buffer, 0, count);
+		}
+
+		for (byte b : digest.digest()) {
+			key.append(String.format("%02x", b));
+		}
+
+		return key.toString();
+	}
+
+	/**
+	 * This operation requests the validation of an input file. If a result
+	 * for the key is cached, it is returned right away. If a check with the
+	 * same key is running, its result is shared. Otherwise the check is
+	 * started right away if no other check in the same scope is waiting or
+	 * running. If one is, the check is scheduled to start after the debounce
+	 * delay and replaces any check in the same scope that has not started
+	 * yet. The requests of the replaced check receive the result of this one.
+	 *
+	 * @param scope
+	 *            The scope of the check, such as the name of the input file
+	 * @param key
+	 *            The key of the check from computeKey()
+	 * @param process
+	 *            The process that runs the check if it is needed
+	 * @param listener
+	 *            The listener that receives the output of the check or null
+	 * @return The future result of the check. It fails with the exception
+	 *         thrown by the process if the check could not be run.
+	 */
+	public synchronized Future<ValidationResult> validate(String scope,
+			String key, ICheckProcess process, IValidationListener listener) {
+
+		// Local Declarations
+		ValidationResult cachedResult = cache.get(key);
+		PendingCheck check = null;
+		long delay = 0;
+
+		// Use the cached result if there is one
+		if (cachedResult != null) {
+			logger.info("MooseInputValidationService Message: Using the "
+					+ "cached result for " + scope + ".");
+			return CompletableFuture.completedFuture(new ValidationResult(
+					cachedResult.error, cachedResult.output, true));
+		}
+
+		// Share the check if it is running
+		check = runningChecks.get(key);
+		if (check == null) {
+			// Otherwise replace the check that is waiting in this scope or
+			// create a new one. Only wait if the scope is busy.
+			check = waitingChecks.get(scope);
+			if (check == null) {
+				check = new PendingCheck(scope);
+				waitingChecks.put(scope, check);
+				if (isRunning(scope)) {
+					delay = debounceDelay;
+				}
+			} else {
+				check.start.cancel(false);
+				delay = debounceDelay;
+			}
+			check.key = key;
+			check.process = process;
+			final PendingCheck scheduledCheck = check;
+			check.start = executor.schedule(new Runnable() {
+				@Override
+				public void run() {
+					runCheck(scheduledCheck);
+				}
+			}, delay, TimeUnit.MILLISECONDS);
+		}
+		if (listener != null) {
+			check.listeners.add(listener);
+		}
+
+		return check.result;
+	}
+
+	/**
+	 * This operation checks whether a check in a scope is running. It must be
+	 * called while holding the lock of the service.
+	 *
+	 * @param scope
+	 *            The scope
+	 * @return True if a check in the scope is running, false otherwise
+	 */
+	private boolean isRunning(String scope) {
+		for (PendingCheck runningCheck : runningChecks.values()) {
+			if (runningCheck.scope.equals(scope)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * This operation runs a check on the executor, publishes its result and
+	 * caches it.
+	 *
+	 * @param check
+	 *            The check
+	 */
+	private void runCheck(PendingCheck check) {
+
+		// Local Declarations
+		StringBuilder output = new StringBuilder();
+		String error = null;
+		boolean errorFound = false;
+		String line;
+		List<IValidationListener> listeners;
+		ValidationResult result = null;
+		Exception failure = null;
+
+		// Move the check from waiting to running unless it was replaced or
+		// another request started the same check in the meantime
+		synchronized (this) {
+			if (check.started || waitingChecks.get(check.scope) != check) {
+				return;
+			}
+			waitingChecks.remove(check.scope);
+			PendingCheck runningCheck = runningChecks.get(check.key);
+			if (runningCheck != null) {
+				runningCheck.listeners.addAll(check.listeners);
+				forward(runningCheck.result, check.result);
+				return;
+			}
+			check.started = true;
+			runningChecks.put(check.key, check);
+			listeners = new ArrayList<IValidationListener>(check.listeners);
+			checksRun++;
+		}
+
+		try {
+			// Read the output of the check and pass it on as it comes in
+			BufferedReader reader = new BufferedReader(new InputStreamReader(
+					check.process.start(), StandardCharsets.UTF_8));
+			try {
+				while ((line = reader.readLine()) != null) {
+					output.append(line).append("\n");
+					// The error is the marker and the line that follows it
+					if (errorFound && error == null) {
+						error = output.substring(output.indexOf(ERROR_MARKER))
+								.trim();
+					} else if (!errorFound && line.contains(ERROR_MARKER)) {
+						errorFound = true;
+					}
+					for (IValidationListener listener : listeners) {
+						listener.outputReceived(line);
+					}
+					// Pick up listeners that joined while the check was
+					// running
+					synchronized (this) {
+						if (check.listeners.size() > listeners.size()) {
+							listeners = new ArrayList<IValidationListener>(
+									check.listeners);
+						}
+					}
+				}
+			} finally {
+				reader.close();
+			}
+			if (errorFound && error == null) {
+				error = ERROR_MARKER;
+			}
+
+			// Cache the result
+			result = new ValidationResult(error, output.toString(), false);
+			synchronized (this) {
+				runningChecks.remove(check.key);
+				cache.put(check.key, result);
+			}
+		} catch (IOException | RuntimeException e) {
+			// Failed checks are not cached so that they can be tried again
+			logger.error(getClass().getName() + " Exception!", e);
+			synchronized (this) {
+				runningChecks.remove(check.key);
+			}
+			failure = e;
+		} finally {
+			check.process.finish();
+		}
+
+		// Publish the result once the check is finished
+		if (result != null) {
+			check.result.complete(result);
+		} else {
+			check.result.completeExceptionally(failure);
+		}
+
+		return;
+	}
+
+	/**
+	 * This operation completes one result with another once the other one is
+	 * complete.
+	 *
+	 * @param source
+	 *            The result that is forwarded
+	 * @param target
+	 *            The result that is completed
+	 */
+	private void forward(final CompletableFuture<ValidationResult> source,
+			final CompletableFuture<ValidationResult> target) {
+		source.whenComplete(new BiConsumer<ValidationResult, Throwable>() {
+			@Override
+			public void accept(ValidationResult result, Throwable exception) {
+				if (exception != null) {
+					target.completeExceptionally(exception);
+				} else {
+					target.complete(result);
+				}
+			}
+		});
+	}
+
+	/**
+	 * This operation returns the number of checks that were actually run,
+	 * which does not include the requests that were answered from the cache,
+	 * shared a running check or were replaced.
+	 *
+	 * @return The number of checks that were run
+	 */
+	public synchronized int getChecksRun() {
+		return checksRun;
+	}
+
+	/**
+	 * This operation clears the cached results.
+	 */
+	public synchronized void clearCache() {
+		cache.clear();
+	}
+
+}
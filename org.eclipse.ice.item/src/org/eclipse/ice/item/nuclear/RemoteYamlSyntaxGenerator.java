@@ -11,15 +11,18 @@
  *******************************************************************************/
 package org.eclipse.ice.item.nuclear;
 
+import java.io.BufferedReader;
 import java.io.File;
-import java.io.PrintStream;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
 import java.util.Dictionary;
+import java.util.List;
 
 import org.eclipse.core.filesystem.EFS;
-import org.eclipse.core.filesystem.IFileInfo;
 import org.eclipse.core.filesystem.IFileStore;
 import org.eclipse.ice.datastructures.form.FormStatus;
 import org.eclipse.ice.item.action.RemoteAction;
+import org.eclipse.ice.item.nuclear.YamlSyntaxChecksum.State;
 import org.eclipse.remote.core.IRemoteConnection;
 import org.eclipse.remote.core.IRemoteFileService;
 import org.eclipse.remote.core.IRemoteProcess;
@@ -49,6 +52,12 @@ public class RemoteYamlSyntaxGenerator extends RemoteAction {
 	 * projectSpace/MOOSE directory from a remotely hosted MOOSE-based
 	 * application. Clients of this Action must provide a Dictionary with 
 	 * the mooseAppPath, mooseFolderPath, and remoteHost key/value pairs. 
+	 * 
+	 * The checksum of the remote application is stored next to the local
+	 * files by a {@link YamlSyntaxChecksum}. If the application has not
+	 * changed since the files were generated, they are neither generated nor
+	 * copied again. The checksum is only stored if both --yaml and --syntax
+	 * succeeded.
 	 *
 	 * @param monitor
 	 */
@@ -72,88 +81,111 @@ public class RemoteYamlSyntaxGenerator extends RemoteAction {
 			return FormStatus.InfoError;
 		}
 		
-		// Try to open the connection and fail if it will not open
+		// Get an open connection from the pool and fail if it will not open
 		try {
-			connection.open(null);
+			openConnection();
 		} catch (RemoteConnectionException e) {
 			// Print diagnostic information and fail
 			logger.error(getClass().getName() + " Exception!", e);
 			return FormStatus.InfoError;
 		}
 
-		// Do the upload(s) and launch the job if the connection is open
-		if (connection.isOpen()) {
+		// Generate the files if the connection is open
+		try {
+			if (!connection.isOpen()) {
+				return FormStatus.InfoError;
+			}
+
 			// Diagnostic info
 			logger.info("RemoteYamlSyntaxGenerator Message:" + " PTP connection established.");
 
-			try {
-				// Local Strings
-				String remoteSeparator = connection.getProperty(IRemoteConnection.FILE_SEPARATOR_PROPERTY);
-				String script = remoteSeparator + "tmp" + remoteSeparator + "executeYamlSyntax_" + System.getProperty("user.name");
-				String fileLoc = remoteSeparator + "tmp" + remoteSeparator + appFile.getName();
-				
-				// Get the remote file system
-				IRemoteFileService fileManager = connection.getService(IRemoteFileService.class);
-				
-				// Create a new script in /tmp
-				IFileStore tmp = fileManager.getResource(script);
-				PrintStream p = new PrintStream(tmp.openOutputStream(EFS.NONE, null));
-				p.println("#!/bin/bash");
-				p.println(appPath + " --yaml &> " + fileLoc + ".yaml");
-				p.println(appPath + " --syntax &> " + fileLoc + ".syntax");
-				p.close();
-				
-				// Make it executable
-				IFileInfo info = tmp.fetchInfo();
-				info.setAttribute(EFS.ATTRIBUTE_EXECUTABLE, true);
-				tmp.putInfo(info, EFS.SET_ATTRIBUTES, null);
-
-				// Get the IRemoteProcessService
-				// and create the process builder to execute the script
-				processService = connection.getService(IRemoteProcessService.class);
-				IRemoteProcessBuilder pb = processService.getProcessBuilder(script);
-				IRemoteProcess process = pb.start(IRemoteProcessBuilder.FORWARD_X11);
-
-				// Wait til it's done
-				while (!process.isCompleted()) {
-					try {
-						Thread.currentThread();
-						Thread.sleep(1000);
-					} catch (InterruptedException e) {
-						// Complain
-						logger.error(getClass().getName() + " Exception!", e);
-					}
-				}
-
-				// Get a reference to the local MOOSE directory
-				IFileStore localMooseFolder = EFS.getLocalFileSystem()
-						.fromLocalFile(new File(mooseFolderPath));
-
-				// Get a handle to the local file. Note that it may
-				// not exist yet.
-				IFileStore yamlStore = localMooseFolder.getChild(appFile.getName() + ".yaml");
-				IFileStore actionStore = localMooseFolder.getChild(appFile.getName() + ".syntax");
-
-				// Get the newly created remote files
-				IFileStore remoteYaml = fileManager.getResource(fileLoc + ".yaml");
-				IFileStore remoteAction = fileManager.getResource(fileLoc + ".syntax");
-
-				// Copy the files from the remote machine to the
-				// local machine.
-				remoteYaml.copy(yamlStore, EFS.OVERWRITE, null);
-				remoteAction.copy(actionStore, EFS.OVERWRITE, null);
-
-				// Clean up by deleting the remote files
-				tmp.delete(EFS.NONE, null);
-				remoteYaml.delete(EFS.NONE, null);
-				remoteAction.delete(EFS.NONE, null);
+			// Local Strings
+			String remoteSeparator = connection.getProperty(IRemoteConnection.FILE_SEPARATOR_PROPERTY);
+			String fileLoc = remoteSeparator + "tmp" + remoteSeparator + appFile.getName();
+
+			// Get a reference to the local MOOSE directory
+			IFileStore localMooseFolder = EFS.getLocalFileSystem().fromLocalFile(new File(mooseFolderPath));
+
+			// Get a handle to the local files. Note that they may not exist
+			// yet.
+			IFileStore yamlStore = localMooseFolder.getChild(appFile.getName() + ".yaml");
+			IFileStore actionStore = localMooseFolder.getChild(appFile.getName() + ".syntax");
+			YamlSyntaxChecksum checksums = new YamlSyntaxChecksum(
+					new File(mooseFolderPath, "." + appFile.getName() + ".checksum"), hostName);
+
+			// The stored checksum only counts if the files it describes are
+			// still there
+			String storedChecksum = "";
+			if (yamlStore.fetchInfo().exists() && actionStore.fetchInfo().exists()) {
+				storedChecksum = checksums.readChecksum();
+			}
 
-			} catch (Exception e) {
-				logger.error("RemoteYamlSyntaxGenerator Error Message", e);
-				return FormStatus.InfoError;
+			// Checksum the app and only generate the files if it changed.
+			// This is done in one remote command to avoid extra round
+			// trips.
+			String command = YamlSyntaxChecksum.createCommand(appPath, fileLoc, storedChecksum);
+
+			// Get the IRemoteProcessService
+			// and create the process builder to execute the command
+			processService = connection.getService(IRemoteProcessService.class);
+			IRemoteProcessBuilder pb = processService.getProcessBuilder("sh", "-c", command);
+			IRemoteProcess process = pb.start(IRemoteProcessBuilder.FORWARD_X11);
+
+			// Read the checksum and the exit status of the generators and
+			// wait for the command to finish
+			List<String> output = new ArrayList<String>();
+			BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()));
+			String line;
+			while ((line = reader.readLine()) != null) {
+				output.add(line);
+			}
+			reader.close();
+			process.waitFor();
+			State state = YamlSyntaxChecksum.parseOutput(output, storedChecksum);
+
+			// Nothing to do if the app didn't change
+			if (state == State.UNCHANGED) {
+				logger.info("RemoteYamlSyntaxGenerator Message: " + appFile.getName()
+						+ " has not changed. Using the existing YAML and syntax files.");
+				return FormStatus.Processed;
 			}
 
+			// Get the remote file system
+			IRemoteFileService fileManager = connection.getService(IRemoteFileService.class);
+
+			// Get the newly created remote files
+			IFileStore remoteYaml = fileManager.getResource(fileLoc + ".yaml");
+			IFileStore remoteAction = fileManager.getResource(fileLoc + ".syntax");
+
+			// Copy the files from the remote machine to the
+			// local machine.
+			remoteYaml.copy(yamlStore, EFS.OVERWRITE, null);
+			remoteAction.copy(actionStore, EFS.OVERWRITE, null);
+
+			// Clean up by deleting the remote files
+			remoteYaml.delete(EFS.NONE, null);
+			remoteAction.delete(EFS.NONE, null);
+
+			// Remember the app that the files came from, but only if they
+			// were generated without errors. Otherwise they are generated
+			// again next time.
+			String checksum = YamlSyntaxChecksum.getChecksum(output);
+			if (state == State.GENERATED && !checksum.isEmpty()) {
+				checksums.writeChecksum(checksum);
+			} else {
+				if (state == State.FAILED) {
+					logger.error("RemoteYamlSyntaxGenerator Error: " + appFile.getName()
+							+ " --yaml or --syntax failed.");
+				}
+				checksums.clearChecksum();
+			}
 
+		} catch (Exception e) {
+			logger.error("RemoteYamlSyntaxGenerator Error Message", e);
+			return FormStatus.InfoError;
+		} finally {
+			// Make sure the connection goes back to the pool
+			releaseConnection();
 		}
 
 		return FormStatus.Processed;
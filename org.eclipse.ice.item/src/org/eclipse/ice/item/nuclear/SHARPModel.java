@@ -17,6 +17,7 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.List;
 
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.annotation.XmlRootElement;
@@ -191,6 +192,20 @@ public class SHARPModel extends Item {
 		}
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.eclipse.ice.item.Item#reviewEntries(org.eclipse.ice.
+	 * datastructures.form.Form, java.util.List)
+	 */
+	@Override
+	protected FormStatus reviewEntries(Form preparedForm,
+			List<IEntry> changedEntries) {
+		// The Entries of this Model do not depend on each other, so only the
+		// changed ones need to be reviewed.
+		return reviewChangedEntries(preparedForm, changedEntries);
+	}
+
 	/**
 	 * <p>
 	 * This operation sets up the Form for the SHARPModel. The Form contains a
@@ -0,0 +1,223 @@
+/*******************************************************************************
+ * Copyright (c) 2016 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - Jay Jay Billings
+ *******************************************************************************/
+package org.eclipse.ice.item.nuclear;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>
+ * This class decides whether the YAML and syntax files of a remote MOOSE
+ * application have to be generated again. It stores the checksum of the
+ * application that the local files were generated from, along with the host
+ * of the application, and creates the remote command that checksums the
+ * application and only generates the files if the checksum changed.
+ * </p>
+ * <p>
+ * The command writes the checksum of the application on its first line. If it
+ * generated the files, it writes the exit status of --yaml and --syntax on a
+ * second line. {@link #parseOutput(List, String)} turns this output into a
+ * {@link State}, and the checksum should only be stored if the state is
+ * {@link State#GENERATED}.
+ * </p>
+ *
+ * @author Jay Jay Billings
+ *
+ */
+public class YamlSyntaxChecksum {
+
+	/**
+	 * Logger for handling event messages and other information.
+	 */
+	private static final Logger logger = LoggerFactory
+			.getLogger(YamlSyntaxChecksum.class);
+
+	/**
+	 * The outcome of the remote command.
+	 */
+	public enum State {
+		/**
+		 * The application has not changed, so the files were not generated
+		 */
+		UNCHANGED,
+		/**
+		 * The files were generated and both commands succeeded
+		 */
+		GENERATED,
+		/**
+		 * The files were generated, but at least one command failed or its
+		 * status is missing
+		 */
+		FAILED
+	}
+
+	/**
+	 * The file in which the checksum is stored
+	 */
+	private final File checksumFile;
+
+	/**
+	 * The host of the application
+	 */
+	private final String hostName;
+
+	/**
+	 * The constructor.
+	 *
+	 * @param checksumFile
+	 *            The file in which the checksum is stored
+	 * @param hostName
+	 *            The host of the application
+	 */
+	public YamlSyntaxChecksum(File checksumFile, String hostName) {
+		this.checksumFile = checksumFile;
+		this.hostName = String.valueOf(hostName);
+	}
+
+	/**
+	 * This operation reads the stored checksum of the application.
+	 *
+	 * @return The checksum or an empty string if it was not stored for the
+	 *         host
+	 */
+	public String readChecksum() {
+
+		// Local Declarations
+		String checksum = "";
+
+		if (checksumFile.isFile()) {
+			try {
+				List<String> lines = Files.readAllLines(checksumFile.toPath(),
+						StandardCharsets.UTF_8);
+				if (lines.size() == 2 && lines.get(0).equals(hostName)) {
+					checksum = lines.get(1);
+				}
+			} catch (IOException e) {
+				// It will be generated again
+				logger.error(getClass().getName() + " Exception!", e);
+			}
+		}
+
+		return checksum;
+	}
+
+	/**
+	 * This operation stores the checksum of the application.
+	 *
+	 * @param checksum
+	 *            The checksum
+	 */
+	public void writeChecksum(String checksum) {
+		try {
+			Files.write(checksumFile.toPath(),
+					Arrays.asList(hostName, checksum), StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			// The files will just be generated again next time
+			logger.error(getClass().getName() + " Exception!", e);
+		}
+	}
+
+	/**
+	 * This operation deletes the stored checksum so that the files are
+	 * generated again the next time.
+	 */
+	public void clearChecksum() {
+		try {
+			Files.deleteIfExists(checksumFile.toPath());
+		} catch (IOException e) {
+			logger.error(getClass().getName() + " Exception!", e);
+		}
+	}
+
+	/**
+	 * This operation creates the remote command that checksums the
+	 * application and generates the YAML and syntax files if the checksum is
+	 * not the stored one.
+	 *
+	 * @param appPath
+	 *            The path of the application on the remote machine
+	 * @param fileLoc
+	 *            The remote path of the files without the .yaml and .syntax
+	 *            extensions
+	 * @param storedChecksum
+	 *            The stored checksum or an empty string
+	 * @return The command, which should be run with "sh -c"
+	 */
+	public static String createCommand(String appPath, String fileLoc,
+			String storedChecksum) {
+		String app = quote(appPath);
+		return "sum=$( (sha1sum " + app + " || cksum " + app
+				+ ") 2>/dev/null ); echo \"$sum\"; "
+				+ "if [ -z \"$sum\" ] || [ \"$sum\" != " + quote(storedChecksum)
+				+ " ]; then " + app + " --yaml > " + quote(fileLoc + ".yaml")
+				+ " 2>&1; yaml=$?; " + app + " --syntax > "
+				+ quote(fileLoc + ".syntax") + " 2>&1; echo \"$yaml $?\"; fi";
+	}
+
+	/**
+	 * This operation reads the output of the command from
+	 * {@link #createCommand(String, String, String)}.
+	 *
+	 * @param output
+	 *            The lines of output of the command
+	 * @param storedChecksum
+	 *            The checksum that was passed to createCommand()
+	 * @return The state of the files
+	 */
+	public static State parseOutput(List<String> output,
+			String storedChecksum) {
+
+		// The files were not generated if the checksum matched
+		String checksum = getChecksum(output);
+		if (!checksum.isEmpty() && checksum.equals(storedChecksum)) {
+			return State.UNCHANGED;
+		}
+
+		// Otherwise both commands must have succeeded
+		if (output.size() >= 2 && "0 0".equals(output.get(1).trim())) {
+			return State.GENERATED;
+		}
+
+		return State.FAILED;
+	}
+
+	/**
+	 * This operation returns the checksum from the output of the command.
+	 *
+	 * @param output
+	 *            The lines of output of the command
+	 * @return The checksum or an empty string if it could not be computed
+	 */
+	public static String getChecksum(List<String> output) {
+		return (!output.isEmpty() && output.get(0) != null)
+				? output.get(0).trim() : "";
+	}
+
+	/**
+	 * This operation quotes a string so that it is passed as a single
+	 * argument by the remote shell.
+	 *
+	 * @param value
+	 *            The string
+	 * @return The quoted string
+	 */
+	public static String quote(String value) {
+		return "'" + value.replace("'", "'\\''") + "'";
+	}
+
+}
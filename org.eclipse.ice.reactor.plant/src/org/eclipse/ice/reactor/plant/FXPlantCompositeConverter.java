@@ -11,7 +11,9 @@
 package org.eclipse.ice.reactor.plant;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.eavp.viz.datastructures.VizObject.IVizUpdateable;
 import org.eclipse.eavp.viz.datastructures.VizObject.IVizUpdateableListener;
@@ -20,19 +22,27 @@ import org.eclipse.eavp.viz.modeling.base.BasicView;
 import org.eclipse.eavp.viz.modeling.base.IController;
 import org.eclipse.eavp.viz.modeling.properties.MeshProperty;
 import org.eclipse.eavp.viz.service.javafx.geometry.plant.IPlantData;
+import org.eclipse.ice.datastructures.ICEObject.IUpdateable;
+import org.eclipse.ice.datastructures.ICEObject.IUpdateableListener;
 import org.eclipse.january.geometry.Geometry;
 import org.eclipse.january.geometry.GeometryFactory;
+import org.eclipse.january.geometry.INode;
 
 /**
  * A class which interfaces between a PlantComposite and a tree of
  * AbstractControllers, converting the RELAP7 data structures into JavaFX
  * modeling data structures for use with the plant view.
  * 
+ * The conversion is incremental. Each PlantComponent is mapped to the nodes
+ * that were created for it, so components that are added to or removed from
+ * the PlantComposite, or whose properties change, are converted or removed on
+ * their own. The whole plant is only converted again by {@link #refresh()}.
+ * 
  * @author Robert Smith
  *
  */
-public class FXPlantCompositeConverter
-		implements IPlantData, IVizUpdateableListener {
+public class FXPlantCompositeConverter implements IPlantData,
+		IVizUpdateableListener, IPlantCompositeListener {
 
 	/**
 	 * The scale which translates between RELAP7 units and JavaFX units. Each
@@ -51,6 +61,32 @@ public class FXPlantCompositeConverter
 	 */
 	PlantComposite source;
 
+	/**
+	 * The nodes in the output that were created for each PlantComponent. The
+	 * components are compared by reference because their hash codes change
+	 * with their properties.
+	 */
+	private final Map<PlantComponent, List<INode>> nodeMap;
+
+	/**
+	 * The visitor that converts components into the output. It is kept
+	 * between updates so that it can find the pipes that were already
+	 * converted.
+	 */
+	private FXPlantComponentVisitor visitor;
+
+	/**
+	 * The component that the visitor is currently converting. Nodes that the
+	 * visitor adds to the output are mapped to it.
+	 */
+	private PlantComponent currentComponent;
+
+	/**
+	 * The listener that converts a component again when its properties
+	 * change.
+	 */
+	private final IUpdateableListener componentListener;
+
 	/**
 	 * The default constructor.
 	 * 
@@ -60,7 +96,16 @@ public class FXPlantCompositeConverter
 	 */
 	public FXPlantCompositeConverter(PlantComposite source) {
 		this.source = source;
-		source.register(this);
+		nodeMap = new IdentityHashMap<PlantComponent, List<INode>>();
+		componentListener = new IUpdateableListener() {
+			@Override
+			public void update(IUpdateable component) {
+				if (component instanceof PlantComponent) {
+					updateComponent((PlantComponent) component);
+				}
+			}
+		};
+		source.registerPlantCompositeListener(this);
 	}
 
 	/**
@@ -72,26 +117,176 @@ public class FXPlantCompositeConverter
 	@Override
 	public Geometry getPlant() {
 
-		// If the output has not been initialized, create it
-		if (output == null) {
-			refresh();
+		// Apply any changes that are still on their way from the source
+		source.flushNotifications();
+
+		synchronized (nodeMap) {
+			// If the output has not been initialized, create it
+			if (output == null) {
+				refresh();
+			}
+
+			return output;
 		}
+	}
+
+	/**
+	 * Gets the nodes in the output that were created for a component.
+	 * 
+	 * @param plantComp
+	 *            The component.
+	 * @return A copy of the list of nodes for the component, or null if the
+	 *         component has not been converted.
+	 */
+	public List<INode> getNodes(PlantComponent plantComp) {
+
+		// Apply any changes that are still on their way from the source
+		source.flushNotifications();
 
-		return output;
+		synchronized (nodeMap) {
+			List<INode> nodes = nodeMap.get(plantComp);
+			return (nodes != null) ? new ArrayList<INode>(nodes) : null;
+		}
 	}
 
 	/**
 	 * Recreate the output model based on the current state of the source.
+	 * This is only needed if the output was changed by another client, since
+	 * changes to the source are applied to the output as they happen.
 	 */
-	private void refresh() {
+	public void refresh() {
 
-		// Create a new root
-		output = GeometryFactory.eINSTANCE.createGeometry();
+		synchronized (nodeMap) {
+			// Stop listening to the old components
+			for (PlantComponent plantComp : nodeMap.keySet()) {
+				plantComp.unregister(componentListener);
+			}
+			nodeMap.clear();
+
+			// Create a new root
+			output = GeometryFactory.eINSTANCE.createGeometry();
 
-		// Visit each plant component, converting it for the new data structure
-		FXPlantComponentVisitor visitor = new FXPlantComponentVisitor(output);
-		for (PlantComponent plantComp : source.getPlantComponents()) {
-			plantComp.accept(visitor);
+			// Visit each plant component, converting it for the new data
+			// structure
+			visitor = new FXPlantComponentVisitor(output);
+			for (PlantComponent plantComp : source.getPlantComponents()) {
+				addComponent(plantComp);
+			}
+		}
+	}
+
+	/**
+	 * Converts a component into the output and starts listening for changes
+	 * to it. Components that were already converted are skipped.
+	 * 
+	 * @param plantComp
+	 *            The component to convert.
+	 */
+	private void addComponent(PlantComponent plantComp) {
+		if (!nodeMap.containsKey(plantComp)) {
+			convertComponent(plantComp);
+			plantComp.register(componentListener);
+		}
+	}
+
+	/**
+	 * Converts a component into the output and maps the new nodes to it.
+	 * 
+	 * @param plantComp
+	 *            The component to convert.
+	 */
+	private void convertComponent(PlantComponent plantComp) {
+		// Components may be converted while converting others that depend on
+		// them, so restore the current one afterwards.
+		PlantComponent previous = currentComponent;
+		nodeMap.put(plantComp, new ArrayList<INode>());
+		currentComponent = plantComp;
+		plantComp.accept(visitor);
+		currentComponent = previous;
+	}
+
+	/**
+	 * Removes the nodes for a component from the output and stops listening
+	 * for changes to it.
+	 * 
+	 * @param plantComp
+	 *            The component to remove.
+	 */
+	private void removeComponent(PlantComponent plantComp) {
+		if (nodeMap.containsKey(plantComp)) {
+			plantComp.unregister(componentListener);
+			removeNodes(plantComp);
+		}
+	}
+
+	/**
+	 * Removes the nodes for a component from the output.
+	 * 
+	 * @param plantComp
+	 *            The component whose nodes should be removed.
+	 */
+	private void removeNodes(PlantComponent plantComp) {
+		List<INode> nodes = nodeMap.remove(plantComp);
+		if (nodes != null) {
+			output.getNodes().removeAll(nodes);
+			visitor.pipeList.removeAll(nodes);
+			visitor.heatExchangerList.removeAll(nodes);
+		}
+	}
+
+	/**
+	 * Converts a component again after its properties changed. The listener
+	 * stays registered, since this is called while the component notifies its
+	 * listeners.
+	 * 
+	 * @param plantComp
+	 *            The component that changed.
+	 */
+	private void updateComponent(PlantComponent plantComp) {
+		synchronized (nodeMap) {
+			if (output != null && nodeMap.containsKey(plantComp)) {
+				removeNodes(plantComp);
+				convertComponent(plantComp);
+			}
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.eclipse.ice.reactor.plant.IPlantCompositeListener#
+	 * addedComponents(org.eclipse.ice.reactor.plant.PlantComposite,
+	 * java.util.List)
+	 */
+	@Override
+	public void addedComponents(PlantComposite composite,
+			List<PlantComponent> added) {
+		synchronized (nodeMap) {
+			// Nothing needs to be done until the output is requested
+			if (output != null) {
+				for (PlantComponent plantComp : added) {
+					addComponent(plantComp);
+				}
+			}
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.eclipse.ice.reactor.plant.IPlantCompositeListener#
+	 * removedComponents(org.eclipse.ice.reactor.plant.PlantComposite,
+	 * java.util.List)
+	 */
+	@Override
+	public void removedComponents(PlantComposite composite,
+			List<PlantComponent> removed) {
+		synchronized (nodeMap) {
+			if (output != null) {
+				for (PlantComponent plantComp : removed) {
+					removeComponent(plantComp);
+				}
+			}
 		}
 	}
 
@@ -123,7 +318,29 @@ public class FXPlantCompositeConverter
 
 			// Initialize the data members
 			pipeList = new ArrayList<org.eclipse.january.geometry.Pipe>();
+			heatExchangerList = new ArrayList<org.eclipse.january.geometry.HeatExchanger>();
+
+		}
 
+		/**
+		 * Adds a node to the root and maps it to the component that is being
+		 * converted so that it can be removed or replaced on its own later.
+		 * Conversions should add their nodes through this operation.
+		 * 
+		 * @param node
+		 *            The node to add.
+		 */
+		private void addNode(INode node) {
+			root.getNodes().add(node);
+			if (currentComponent != null) {
+				nodeMap.get(currentComponent).add(node);
+			}
+			if (node instanceof org.eclipse.january.geometry.Pipe) {
+				pipeList.add((org.eclipse.january.geometry.Pipe) node);
+			} else if (node instanceof org.eclipse.january.geometry.HeatExchanger) {
+				heatExchangerList.add(
+						(org.eclipse.january.geometry.HeatExchanger) node);
+			}
 		}
 
 		/**
@@ -147,7 +364,10 @@ public class FXPlantCompositeConverter
 			// create a new pipe
 
 			// Convert the pipe into a modeling data structure
-			source.getPlantComponent(ID).accept(this);
+			PlantComponent plantComp = source.getPlantComponent(ID);
+			if (plantComp != null) {
+				addComponent(plantComp);
+			}
 
 			// // Refresh the list of pipes
 			// pipeList =
@@ -192,7 +412,10 @@ public class FXPlantCompositeConverter
 			// create a new pipe
 
 			// Convert the pipe into a modeling data structure
-			source.getPlantComponent(ID).accept(this);
+			PlantComponent plantComp = source.getPlantComponent(ID);
+			if (plantComp != null) {
+				addComponent(plantComp);
+			}
 
 			// Now that the pipe is guaranteed to be in the root, as it
 			// was added when visited, find the pipe with that id and
@@ -752,7 +975,8 @@ public class FXPlantCompositeConverter
 	@Override
 	public void update(IVizUpdateable component) {
 
-		// On receiving an update, refresh the data structure
+		// Changes to the source are applied as they happen, so an explicit
+		// update request rebuilds the whole data structure.
 		refresh();
 	}
 }
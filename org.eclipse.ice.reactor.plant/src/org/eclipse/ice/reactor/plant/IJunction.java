@@ -62,7 +62,8 @@ public interface IJunction {
 
 	/**
 	 * Notifies all registered {@link IJunctionListener}s of any added or
-	 * removed pipes <i>in a separate notifier thread</i>.
+	 * removed pipes <i>in a separate notifier thread</i>. Notifications are
+	 * delivered in the order in which they were made.
 	 * 
 	 * @param components
 	 *            The PlantComponents that have been added or removed from the
@@ -15,6 +15,7 @@ package org.eclipse.ice.reactor.plant;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * <p>
@@ -57,6 +58,11 @@ public class Junction extends PlantComponent implements IJunction {
 	 */
 	private final List<IJunctionListener> listeners;
 
+	/**
+	 * The bus that delivers added and removed pipes to the listeners in order.
+	 */
+	private final PlantEventBus eventBus;
+
 	/**
 	 * This visitor adds supported PlantComponents to {@link #inputs}.
 	 */
@@ -135,8 +141,27 @@ public class Junction extends PlantComponent implements IJunction {
 		inputs = new ArrayList<PlantComponent>();
 		outputs = new ArrayList<PlantComponent>();
 
-		// Initialize the list of listeners.
-		listeners = new ArrayList<IJunctionListener>();
+		// Initialize the list of listeners. It is read by the event bus while
+		// it may be changed on other threads.
+		listeners = new CopyOnWriteArrayList<IJunctionListener>();
+
+		// Create the bus that notifies the listeners of added and removed
+		// pipes.
+		eventBus = new PlantEventBus(new PlantEventBus.IPlantEventHandler() {
+			@Override
+			public void handle(List<PlantComponent> components,
+					boolean added) {
+				if (added) {
+					for (IJunctionListener listener : listeners) {
+						listener.addedPipes(Junction.this, components);
+					}
+				} else {
+					for (IJunctionListener listener : listeners) {
+						listener.removedPipes(Junction.this, components);
+					}
+				}
+			}
+		});
 
 	}
 
@@ -464,28 +489,28 @@ public class Junction extends PlantComponent implements IJunction {
 	@Override
 	public void notifyJunctionListeners(final List<PlantComponent> components,
 			final boolean added) {
+		eventBus.post(components, added);
+	}
 
-		if (components != null && !components.isEmpty()) {
-			// Create a thread to notify IJunctionListeners that pipes were
-			// either added or removed.
-			Thread notifierThread = new Thread() {
-				@Override
-				public void run() {
-					if (added) {
-						for (IJunctionListener listener : listeners) {
-							listener.addedPipes(Junction.this, components);
-						}
-					} else {
-						for (IJunctionListener listener : listeners) {
-							listener.removedPipes(Junction.this, components);
-						}
-					}
-				}
-			};
-			notifierThread.start();
-		}
+	/**
+	 * Sets whether the {@link IJunctionListener}s are notified on the thread
+	 * that adds or removes pipes, before the add or remove operation returns.
+	 * By default they are notified on a shared notifier thread.
+	 * 
+	 * @param synchronous
+	 *            True if listeners should be notified synchronously, false
+	 *            otherwise.
+	 */
+	public void setSynchronousNotifications(boolean synchronous) {
+		eventBus.setSynchronous(synchronous);
+	}
 
-		return;
+	/**
+	 * Blocks until all of the {@link IJunctionListener}s have been notified of
+	 * the pipes that have been added or removed so far.
+	 */
+	public void flushNotifications() {
+		eventBus.flush();
 	}
 
 	@Override
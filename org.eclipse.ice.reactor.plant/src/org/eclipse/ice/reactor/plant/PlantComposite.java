@@ -15,6 +15,7 @@ package org.eclipse.ice.reactor.plant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.eclipse.eavp.viz.datastructures.VizObject.IVizUpdateable;
 import org.eclipse.eavp.viz.datastructures.VizObject.IVizUpdateableListener;
@@ -49,6 +50,11 @@ public class PlantComposite extends PlantComponent
 	 */
 	private List<IVizUpdateableListener> basicListeners;
 
+	/**
+	 * The bus that delivers add and remove events to the listeners in order.
+	 */
+	private final PlantEventBus eventBus;
+
 	/**
 	 * The default, nullary constructor. Initializes all default values.
 	 */
@@ -62,9 +68,34 @@ public class PlantComposite extends PlantComponent
 		// Initialize the map of PlantComponents.
 		components = new TreeMap<Integer, PlantComponent>();
 
-		// Initialize the lists of listeners.
-		listeners = new ArrayList<IPlantCompositeListener>();
-		basicListeners = new ArrayList<IVizUpdateableListener>();
+		// Initialize the lists of listeners. They are read by the event bus
+		// while they may be changed on other threads.
+		listeners = new CopyOnWriteArrayList<IPlantCompositeListener>();
+		basicListeners = new CopyOnWriteArrayList<IVizUpdateableListener>();
+
+		// Create the bus that notifies the listeners of added and removed
+		// components.
+		eventBus = new PlantEventBus(new PlantEventBus.IPlantEventHandler() {
+			@Override
+			public void handle(List<PlantComponent> components,
+					boolean added) {
+				if (added) {
+					for (IPlantCompositeListener listener : listeners) {
+						listener.addedComponents(PlantComposite.this,
+								components);
+					}
+				} else {
+					for (IPlantCompositeListener listener : listeners) {
+						listener.removedComponents(PlantComposite.this,
+								components);
+					}
+				}
+
+				for (IVizUpdateableListener listener : basicListeners) {
+					listener.update(PlantComposite.this);
+				}
+			}
+		});
 
 		return;
 	}
@@ -235,44 +266,43 @@ public class PlantComposite extends PlantComponent
 
 	/**
 	 * Notifies all registered {@link IPlantCompositeListener}s of any added or
-	 * removed PlantComponents <i>in a separate notifier thread</i>.
+	 * removed PlantComponents. The notifications are delivered in order on a
+	 * shared notifier thread, and consecutive changes of the same kind may be
+	 * delivered together in one list, unless synchronous notifications are
+	 * enabled.
 	 * 
 	 * @param components
 	 *            The PlantComponents that have been added or removed from the
 	 *            Composite.
 	 * @param added
 	 *            Whether the components were added or removed.
+	 * @see #setSynchronousNotifications(boolean)
 	 */
 	public void notifyPlantCompositeListeners(
 			final List<PlantComponent> components, final boolean added) {
+		eventBus.post(components, added);
+	}
 
-		if (components != null && !components.isEmpty()) {
-			// Create a thread to notify IPlantCompositeListeners that
-			// PlantComponents were either added or removed.
-			Thread notifierThread = new Thread() {
-				@Override
-				public void run() {
-					if (added) {
-						for (IPlantCompositeListener listener : listeners) {
-							listener.addedComponents(PlantComposite.this,
-									components);
-						}
-					} else {
-						for (IPlantCompositeListener listener : listeners) {
-							listener.removedComponents(PlantComposite.this,
-									components);
-						}
-					}
-
-					for (IVizUpdateableListener listener : basicListeners) {
-						listener.update(PlantComposite.this);
-					}
-				}
-			};
-			notifierThread.start();
-		}
+	/**
+	 * Sets whether the {@link IPlantCompositeListener}s are notified on the
+	 * thread that adds or removes components, before the add or remove
+	 * operation returns. By default they are notified on a shared notifier
+	 * thread.
+	 * 
+	 * @param synchronous
+	 *            True if listeners should be notified synchronously, false
+	 *            otherwise.
+	 */
+	public void setSynchronousNotifications(boolean synchronous) {
+		eventBus.setSynchronous(synchronous);
+	}
 
-		return;
+	/**
+	 * Blocks until all of the {@link IPlantCompositeListener}s have been
+	 * notified of the components that have been added or removed so far.
+	 */
+	public void flushNotifications() {
+		eventBus.flush();
 	}
 
 	/*
@@ -0,0 +1,302 @@
+/*******************************************************************************
+ * Copyright (c) 2016 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - Jay Jay Billings
+ *******************************************************************************/
+package org.eclipse.ice.reactor.plant;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>
+ * A PlantEventBus delivers the add and remove events of one plant model
+ * object, such as a {@link PlantComposite} or a {@link Junction}, to its
+ * listeners. Events are delivered in the order in which they were posted, and
+ * consecutive events of the same kind that are posted before they can be
+ * delivered are batched into a single list. This means that building a plant
+ * with hundreds of components results in a handful of notifications instead
+ * of hundreds of them.
+ * </p>
+ * <p>
+ * Events are delivered on threads from an executor that is shared by all of
+ * the buses and that never has more threads than there are processors. At
+ * most one thread delivers the events of any one bus at a time, so the order
+ * of the events of each bus is kept. In synchronous mode, events are instead delivered on the thread that
+ * posts them before {@link #post(List, boolean)} returns, which is useful for
+ * tests and for clients that must see every change before they continue.
+ * </p>
+ *
+ * @author Jay Jay Billings
+ *
+ */
+public class PlantEventBus {
+
+	/**
+	 * The handler that delivers a batch of events to the listeners of a plant
+	 * model object.
+	 *
+	 * @author Jay Jay Billings
+	 *
+	 */
+	public interface IPlantEventHandler {
+
+		/**
+		 * Delivers a batch of events to the listeners.
+		 *
+		 * @param components
+		 *            The PlantComponents that were added or removed, in the
+		 *            order in which they were posted.
+		 * @param added
+		 *            Whether the components were added or removed.
+		 */
+		public void handle(List<PlantComponent> components, boolean added);
+	}
+
+	/**
+	 * Logger for handling event messages and other information.
+	 */
+	private static final Logger logger = LoggerFactory
+			.getLogger(PlantEventBus.class);
+
+	/**
+	 * The maximum number of threads used to deliver events.
+	 */
+	private static final int MAX_THREADS = Runtime.getRuntime()
+			.availableProcessors();
+
+	/**
+	 * The executor that is shared by all buses. It has at most
+	 * {@link #MAX_THREADS} threads and queues the delivery tasks of any other
+	 * buses until one of them is free. Its threads are reused between batches,
+	 * exit when they have been idle for a while and do not keep the
+	 * application alive.
+	 */
+	private static final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+			MAX_THREADS, MAX_THREADS, 30L, TimeUnit.SECONDS,
+			new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+				private final AtomicInteger count = new AtomicInteger();
+
+				@Override
+				public Thread newThread(Runnable runnable) {
+					Thread thread = new Thread(runnable,
+							"Plant Event Bus " + count.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				}
+			});
+
+	static {
+		// Let idle threads exit since there may not be a plant for a while
+		executor.allowCoreThreadTimeOut(true);
+	}
+
+	/**
+	 * A batch of events of the same kind.
+	 */
+	private static class Batch {
+
+		/**
+		 * The components that were added or removed.
+		 */
+		private final List<PlantComponent> components;
+
+		/**
+		 * Whether the components were added or removed.
+		 */
+		private final boolean added;
+
+		/**
+		 * The constructor
+		 *
+		 * @param components
+		 *            The first components in the batch
+		 * @param added
+		 *            Whether the components were added or removed
+		 */
+		private Batch(List<PlantComponent> components, boolean added) {
+			this.components = new ArrayList<PlantComponent>(components);
+			this.added = added;
+		}
+	}
+
+	/**
+	 * The handler that delivers events to the listeners.
+	 */
+	private final IPlantEventHandler handler;
+
+	/**
+	 * The batches that have not been delivered yet. Access to this queue and
+	 * to {@link #delivering} is guarded by the queue itself.
+	 */
+	private final ArrayDeque<Batch> pending;
+
+	/**
+	 * Whether a task is currently delivering the pending batches.
+	 */
+	private boolean delivering;
+
+	/**
+	 * Whether events are delivered on the posting thread.
+	 */
+	private volatile boolean synchronous;
+
+	/**
+	 * The task that delivers the pending batches in order.
+	 */
+	private final Runnable deliveryTask = new Runnable() {
+		@Override
+		public void run() {
+			deliverPending();
+		}
+	};
+
+	/**
+	 * The default constructor.
+	 *
+	 * @param handler
+	 *            The handler that delivers events to the listeners.
+	 */
+	public PlantEventBus(IPlantEventHandler handler) {
+		this.handler = handler;
+		pending = new ArrayDeque<Batch>();
+		delivering = false;
+		synchronous = false;
+	}
+
+	/**
+	 * Posts an event for the listeners.
+	 *
+	 * @param components
+	 *            The PlantComponents that were added or removed. The list is
+	 *            copied.
+	 * @param added
+	 *            Whether the components were added or removed.
+	 */
+	public void post(List<PlantComponent> components, boolean added) {
+
+		if (components != null && !components.isEmpty()) {
+			if (synchronous) {
+				// Deliver anything posted before synchronous mode was enabled
+				// first so that the listeners see the events in order.
+				flush();
+				deliver(new Batch(components, added));
+			} else {
+				synchronized (pending) {
+					// Add the components to the last batch if it has the same
+					// kind and has not been picked up yet.
+					Batch last = pending.peekLast();
+					if (last != null && last.added == added) {
+						last.components.addAll(components);
+					} else {
+						pending.add(new Batch(components, added));
+					}
+					// Start delivering if nothing else is
+					if (!delivering) {
+						delivering = true;
+						executor.execute(deliveryTask);
+					}
+				}
+			}
+		}
+
+		return;
+	}
+
+	/**
+	 * Blocks until all of the events that have been posted have been
+	 * delivered. It returns immediately if it is called while events are being
+	 * delivered on the current thread.
+	 */
+	public void flush() {
+		synchronized (pending) {
+			while (delivering && !Thread.holdsLock(handler)) {
+				try {
+					pending.wait();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Sets whether events are delivered on the posting thread. Any pending
+	 * events are delivered before this operation returns when synchronous mode
+	 * is enabled.
+	 *
+	 * @param synchronous
+	 *            True if events should be delivered on the posting thread,
+	 *            false if they should be delivered on the shared executor.
+	 */
+	public void setSynchronous(boolean synchronous) {
+		this.synchronous = synchronous;
+		if (synchronous) {
+			flush();
+		}
+	}
+
+	/**
+	 * Gets whether events are delivered on the posting thread.
+	 *
+	 * @return True if the bus is in synchronous mode, false otherwise.
+	 */
+	public boolean isSynchronous() {
+		return synchronous;
+	}
+
+	/**
+	 * Delivers the pending batches in order until there are none left.
+	 */
+	private void deliverPending() {
+
+		Batch batch;
+
+		while (true) {
+			// Take the next batch, or stop if there are none
+			synchronized (pending) {
+				batch = pending.poll();
+				if (batch == null) {
+					delivering = false;
+					pending.notifyAll();
+					return;
+				}
+			}
+			deliver(batch);
+		}
+	}
+
+	/**
+	 * Delivers one batch to the handler. The handler is locked so that
+	 * synchronous and asynchronous deliveries never overlap.
+	 *
+	 * @param batch
+	 *            The batch to deliver.
+	 */
+	private void deliver(Batch batch) {
+		synchronized (handler) {
+			try {
+				handler.handle(batch.components, batch.added);
+			} catch (RuntimeException e) {
+				// A broken listener should not stop the others.
+				logger.error(getClass().getName() + " Exception!", e);
+			}
+		}
+	}
+
+}
@@ -16,6 +16,7 @@ import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.List;
 
 import javax.xml.bind.annotation.XmlRootElement;
 
@@ -442,6 +443,20 @@ public class ReflectivityModel extends Model {
 		return retVal;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.eclipse.ice.item.Item#reviewEntries(org.eclipse.ice.
+	 * datastructures.form.Form, java.util.List)
+	 */
+	@Override
+	protected FormStatus reviewEntries(Form preparedForm,
+			List<IEntry> changedEntries) {
+		// The Entries of this Model do not depend on each other, so only the
+		// changed ones need to be reviewed.
+		return reviewChangedEntries(preparedForm, changedEntries);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 *
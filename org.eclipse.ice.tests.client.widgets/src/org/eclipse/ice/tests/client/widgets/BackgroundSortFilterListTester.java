@@ -0,0 +1,188 @@
+/*******************************************************************************
+ * Copyright (c) 2016 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - Jay Jay Billings
+ *******************************************************************************/
+package org.eclipse.ice.tests.client.widgets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ice.client.widgets.BackgroundSortFilterList;
+import org.eclipse.ice.datastructures.ICEObject.ListComponent;
+import org.junit.Before;
+import org.junit.Test;
+
+import ca.odell.glazedlists.event.ListEvent;
+import ca.odell.glazedlists.event.ListEventListener;
+import ca.odell.glazedlists.matchers.Matcher;
+
+/**
+ * This class is responsible for testing {@link BackgroundSortFilterList}.
+ *
+ * @author Jay Jay Billings
+ */
+public class BackgroundSortFilterListTester {
+
+	/**
+	 * The time to wait for the background thread in seconds
+	 */
+	private static final long TIMEOUT = 10;
+
+	/**
+	 * The source list
+	 */
+	private ListComponent<Integer> source;
+
+	/**
+	 * The list under test
+	 */
+	private BackgroundSortFilterList<Integer> list;
+
+	/**
+	 * The events sent by the list under test
+	 */
+	private BlockingQueue<ListEvent<Integer>> events;
+
+	/**
+	 * This operation creates the lists.
+	 */
+	@Before
+	public void setUp() {
+		source = new ListComponent<Integer>();
+		source.addAll(Arrays.asList(3, 1, 4, 1, 5, 9, 2, 6));
+		list = new BackgroundSortFilterList<Integer>(source);
+		events = new LinkedBlockingQueue<ListEvent<Integer>>();
+		list.addListEventListener(new ListEventListener<Integer>() {
+			@Override
+			public void listChanged(ListEvent<Integer> listChanges) {
+				events.add(listChanges);
+			}
+		});
+	}
+
+	/**
+	 * This operation checks that the list shows the source as it is and
+	 * forwards its changes when it is not sorted or filtered.
+	 */
+	@Test
+	public void checkPassThrough() {
+		assertEquals(new ArrayList<Integer>(source), list);
+
+		// Changes are forwarded right away
+		source.add(7);
+		assertEquals(1, events.size());
+		assertEquals(9, list.size());
+		assertEquals(Integer.valueOf(7), list.get(8));
+
+		return;
+	}
+
+	/**
+	 * This operation checks sorting, filtering and going back to the order of
+	 * the source. Each change should be published as one event.
+	 *
+	 * @throws InterruptedException
+	 */
+	@Test
+	public void checkSortAndFilter() throws InterruptedException {
+
+		// Sort the list
+		list.setComparator(new Comparator<Integer>() {
+			@Override
+			public int compare(Integer first, Integer second) {
+				return first.compareTo(second);
+			}
+		});
+		awaitEvent();
+		assertEquals(Arrays.asList(1, 1, 2, 3, 4, 5, 6, 9), list);
+
+		// Only show the even numbers
+		list.setMatcher(new Matcher<Integer>() {
+			@Override
+			public boolean matches(Integer item) {
+				return item % 2 == 0;
+			}
+		});
+		awaitEvent();
+		assertEquals(Arrays.asList(2, 4, 6), list);
+
+		// Changes to the source are sorted and filtered too
+		source.add(0);
+		source.add(11);
+		while (!Arrays.asList(0, 2, 4, 6).equals(list)) {
+			awaitEvent();
+		}
+
+		// Go back to the source
+		list.setComparator(null);
+		list.setMatcher(null);
+		while (list.size() != source.size()) {
+			awaitEvent();
+		}
+		assertEquals(new ArrayList<Integer>(source), list);
+
+		return;
+	}
+
+	/**
+	 * This operation checks that a large list is sorted without blocking the
+	 * thread that requests it.
+	 *
+	 * @throws InterruptedException
+	 */
+	@Test
+	public void checkLargeList() throws InterruptedException {
+
+		// Local Declarations
+		int size = 200000;
+		Integer[] values = new Integer[size];
+		for (int i = 0; i < size; i++) {
+			values[i] = size - i;
+		}
+		source.clear();
+		source.addAll(Arrays.asList(values));
+		events.clear();
+
+		// Sort it. It was filled in descending order.
+		list.setComparator(new Comparator<Integer>() {
+			@Override
+			public int compare(Integer first, Integer second) {
+				return first.compareTo(second);
+			}
+		});
+		awaitEvent();
+		assertTrue(events.isEmpty());
+		List<Integer> sorted = list;
+		assertEquals(size, sorted.size());
+		for (int i = 0; i < size; i++) {
+			assertEquals(i + 1, sorted.get(i).intValue());
+		}
+
+		return;
+	}
+
+	/**
+	 * This operation waits for the next event from the list under test.
+	 *
+	 * @throws InterruptedException
+	 */
+	private void awaitEvent() throws InterruptedException {
+		assertNotNull(events.poll(TIMEOUT, TimeUnit.SECONDS));
+	}
+
+}
@@ -17,6 +17,7 @@ import java.io.File;
 import java.io.FileWriter;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.HashMap;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
@@ -25,6 +26,7 @@ import org.eclipse.ice.datastructures.ICEObject.ICEList;
 import org.eclipse.ice.datastructures.ICEObject.ICEObject;
 import org.eclipse.ice.datastructures.ICEObject.Identifiable;
 import org.eclipse.ice.datastructures.form.Form;
+import org.eclipse.ice.datastructures.form.FormDelta;
 import org.eclipse.ice.datastructures.form.FormStatus;
 import org.eclipse.ice.item.ICompositeItemBuilder;
 import org.eclipse.ice.item.ItemBuilder;
@@ -318,6 +320,16 @@ public class FakeCore implements ICore {
 		return retForm;
 	}
 
+	/**
+	 * (non-Javadoc)
+	 * 
+	 * @see ICore#getItemRevision(int)
+	 */
+	@Override
+	public long getItemRevision(int itemId) {
+		return (itemId > 0) ? 0 : -1;
+	}
+
 	/**
 	 * (non-Javadoc)
 	 * 
@@ -374,6 +386,17 @@ public class FakeCore implements ICore {
 
 	}
 
+	/**
+	 * (non-Javadoc)
+	 * 
+	 * @see ICore#updateItem(FormDelta delta, int uniqueClientId)
+	 */
+	@Override
+	public FormStatus updateItem(FormDelta delta, int uniqueClientId) {
+		// Not used by the client tests
+		return FormStatus.InfoError;
+	}
+
 	@Override
 	public FormStatus processItem(int itemId, String actionName,
 			int uniqueClientId) {
@@ -399,6 +422,20 @@ public class FakeCore implements ICore {
 		return lastProcessStatus;
 	}
 
+	@Override
+	public HashMap<Integer, FormStatus> processItems(
+			ArrayList<Integer> itemIds, String actionName, int uniqueClientId) {
+
+		// Process each Item in turn
+		HashMap<Integer, FormStatus> statuses = new HashMap<Integer, FormStatus>();
+		for (Integer itemId : itemIds) {
+			statuses.put(itemId,
+					processItem(itemId, actionName, uniqueClientId));
+		}
+
+		return statuses;
+	}
+
 	/**
 	 * (non-Javadoc)
 	 * 
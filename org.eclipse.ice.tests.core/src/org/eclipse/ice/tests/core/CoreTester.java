@@ -311,6 +311,7 @@ public class CoreTester {
 		// Get the Form and make sure it is not null
 		testForm = iCECore.getItem(testItemId);
 		assertNotNull(testForm);
+		long revision = testForm.getRevision();
 
 		// Add two components to the Form
 		testForm.addComponent(new DataComponent());
@@ -319,6 +320,9 @@ public class CoreTester {
 		// Update the Item and catch the status
 		status = iCECore.updateItem(testForm, 1);
 
+		// The update should increase the revision of the Item's Form
+		assertTrue(iCECore.getItem(testItemId).getRevision() > revision);
+
 		// Check the status. It should be fine since we only added two
 		// components.
 		assertEquals(FormStatus.ReadyToProcess, status);
@@ -22,6 +22,8 @@ import static org.junit.Assert.fail;
 import java.io.File;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 
 import org.eclipse.core.resources.IFile;
@@ -392,6 +394,15 @@ public class ItemManagerTester {
 		// Make sure the persistence provider was called
 		assertTrue(fakePersistenceProvider.itemUpdated());
 
+		// Submitting the same Form again doesn't change the Item, so it
+		// should not be persisted again.
+		fakePersistenceProvider.reset();
+		long revision = itemManager.getItemRevision(itemId);
+		assertEquals(FormStatus.ReadyToProcess,
+				itemManager.updateItem(testForm));
+		assertFalse(fakePersistenceProvider.itemUpdated());
+		assertEquals(revision, itemManager.getItemRevision(itemId));
+
 		// Send a signal for the Item to update/reload its data
 		itemManager.reloadItemData();
 		assertTrue(fakeGeometryBuilder.getLastFakeItem().wasRefreshed());
@@ -508,6 +519,20 @@ public class ItemManagerTester {
 		// Make sure the Item was NOT processed
 		assertFalse(fakeItem.wasProcessed());
 
+		// Process several Items at once, including a bad Item id
+		int secondItemId = itemManager
+				.createItem(fakeGeometryBuilder.getItemName(), null);
+		FakeItem secondFakeItem = fakeGeometryBuilder.getLastFakeItem();
+		HashMap<Integer, FormStatus> statuses = itemManager.processItems(
+				Arrays.asList(itemId, secondItemId, -1), "blend", 2);
+		assertEquals(3, statuses.size());
+		assertEquals(FormStatus.Processed, statuses.get(itemId));
+		assertEquals(FormStatus.Processed, statuses.get(secondItemId));
+		assertEquals(FormStatus.InfoError, statuses.get(-1));
+		assertTrue(fakeItem.wasProcessed());
+		assertTrue(secondFakeItem.wasProcessed());
+		fakeItem.reset();
+
 		// Setup the project space for the output file test
 		fakeItem.setProject(project);
 
@@ -539,8 +564,9 @@ public class ItemManagerTester {
 	}
 
 	/**
-	 * This operation checks that the ItemManager loads and persists all Items
-	 * from and to the persistence provider when requested.
+	 * This operation checks that the ItemManager loads all Items from the
+	 * persistence provider and persists the changed Items to it when
+	 * requested.
 	 */
 	@Test
 	public void checkMassItemManagement() {
@@ -568,12 +594,24 @@ public class ItemManagerTester {
 		// Reset the fake persistence provider
 		fakePersistenceProvider.reset();
 
-		// Tell the ItemManager to store everything in the persistence provider
+		// Tell the ItemManager to store everything in the persistence provider.
+		// Nothing changed since the Items were loaded or created, so nothing
+		// should be updated.
+		itemManager.persistItems();
+		assertFalse(fakePersistenceProvider.itemUpdated());
+
+		// Change an Item and store everything again
+		long revision = itemManager.getItemRevision(itemId);
+		itemManager.retrieveItem(itemId).addComponent(new DataComponent());
 		itemManager.persistItems();
 
-		// See if everything was updated
+		// See if the changed Item was updated
 		assertTrue(fakePersistenceProvider.itemUpdated());
 
+		// The change should be reflected in the revision
+		assertTrue(itemManager.getItemRevision(itemId) > revision);
+		assertEquals(-1, itemManager.getItemRevision(-1));
+
 		return;
 
 	}
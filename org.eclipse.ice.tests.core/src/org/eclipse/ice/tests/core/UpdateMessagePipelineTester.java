@@ -0,0 +1,294 @@
+/*******************************************************************************
+ * Copyright (c) 2016 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - Jay Jay Billings
+ *******************************************************************************/
+package org.eclipse.ice.tests.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.StringReader;
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ice.core.internal.UpdateMessagePipeline;
+import org.eclipse.ice.core.internal.UpdateMessagePipeline.Result;
+import org.eclipse.ice.core.internal.itemmanager.ItemManager;
+import org.eclipse.ice.datastructures.form.Form;
+import org.eclipse.ice.item.messaging.Message;
+import org.junit.Test;
+
+/**
+ * This class tests the UpdateMessagePipeline.
+ *
+ * @author Jay Jay Billings
+ */
+public class UpdateMessagePipelineTester {
+
+	/**
+	 * This operation checks that posts with one object, an array of objects or
+	 * several objects in a row are delivered in order.
+	 */
+	@Test
+	public void checkBatchedPosts() {
+
+		RecordingItemManager itemManager = new RecordingItemManager(null);
+		UpdateMessagePipeline pipeline = new UpdateMessagePipeline(
+				itemManager, UpdateMessagePipeline.DEFAULT_CAPACITY);
+
+		// One object with several messages
+		String post = "{\"item_id\":\"1\", \"client_key\":\"1234567890\", "
+				+ "\"posts\":[{\"type\":\"UPDATED_STATUS\",\"message\":\"a\"},"
+				+ "{\"type\":\"FILE_CREATED\",\"message\":\"/tmp/b\"},"
+				+ "{\"type\":\"UPDATED_STATUS\",\"message\":\"c\"}]}";
+		assertEquals(Result.ACCEPTED, pipeline.post(post));
+		assertEquals(3, itemManager.messages.size());
+		assertEquals("a", itemManager.messages.get(0).getMessage());
+		assertEquals("/tmp/b", itemManager.messages.get(1).getMessage());
+		assertEquals("FILE_CREATED", itemManager.messages.get(1).getType());
+		assertEquals("c", itemManager.messages.get(2).getMessage());
+		for (Message message : itemManager.messages) {
+			assertEquals(1, message.getItemId());
+		}
+
+		// An array of objects for different Items, with the Item id last
+		itemManager.messages.clear();
+		post = "[{\"posts\":[{\"type\":\"UPDATED_STATUS\",\"message\":\"d\"}],"
+				+ "\"item_id\":\"2\"},"
+				+ "{\"item_id\":\"1\",\"posts\":[{\"type\":\"UPDATED_STATUS\","
+				+ "\"message\":\"e\"}]}]";
+		assertEquals(Result.ACCEPTED, pipeline.post(new StringReader(post)));
+		assertEquals(2, itemManager.messages.size());
+		List<String> contents = new ArrayList<String>();
+		for (Message message : itemManager.messages) {
+			contents.add(message.getItemId() + message.getMessage());
+		}
+		assertTrue(contents.contains("2d"));
+		assertTrue(contents.contains("1e"));
+
+		// Objects one after another
+		itemManager.messages.clear();
+		post = "{\"item_id\":\"1\",\"posts\":[{\"type\":\"UPDATED_STATUS\","
+				+ "\"message\":\"f\"}]}\n"
+				+ "{\"item_id\":\"1\",\"posts\":[{\"type\":\"UPDATED_STATUS\","
+				+ "\"message\":\"g\"}]}";
+		assertEquals(Result.ACCEPTED, pipeline.post(new StringReader(post)));
+		assertEquals(2, itemManager.messages.size());
+		assertEquals("f", itemManager.messages.get(0).getMessage());
+		assertEquals("g", itemManager.messages.get(1).getMessage());
+
+		// Nothing is waiting, so no queues are kept
+		assertEquals(0, pipeline.getQueueCount());
+
+		return;
+	}
+
+	/**
+	 * This operation checks that form-encoded posts are accepted whether or
+	 * not the value is URL-encoded.
+	 *
+	 * @throws UnsupportedEncodingException
+	 */
+	@Test
+	public void checkFormEncodedPosts() throws UnsupportedEncodingException {
+
+		RecordingItemManager itemManager = new RecordingItemManager(null);
+		UpdateMessagePipeline pipeline = new UpdateMessagePipeline(
+				itemManager, UpdateMessagePipeline.DEFAULT_CAPACITY);
+		String json = "{\"item_id\":\"1\",\"posts\":[{\"type\":"
+				+ "\"UPDATED_STATUS\",\"message\":\"a & b\"}]}";
+
+		// Plain value, as sent by the updaters
+		assertEquals(Result.ACCEPTED, pipeline.post("post=" + json));
+		// URL-encoded value
+		assertEquals(Result.ACCEPTED,
+				pipeline.post("post=" + URLEncoder.encode(json, "UTF-8")));
+
+		assertEquals(2, itemManager.messages.size());
+		assertEquals("a & b", itemManager.messages.get(0).getMessage());
+		assertEquals("a & b", itemManager.messages.get(1).getMessage());
+
+		return;
+	}
+
+	/**
+	 * This operation checks that empty, malformed and undeliverable posts are
+	 * rejected.
+	 */
+	@Test
+	public void checkRejectedPosts() {
+
+		RecordingItemManager itemManager = new RecordingItemManager(null);
+		UpdateMessagePipeline pipeline = new UpdateMessagePipeline(
+				itemManager, UpdateMessagePipeline.DEFAULT_CAPACITY);
+
+		assertEquals(Result.REJECTED, pipeline.post((String) null));
+		assertEquals(Result.REJECTED, pipeline.post("  "));
+		assertEquals(Result.REJECTED, pipeline.post("not&realContent"));
+		assertEquals(Result.REJECTED, pipeline.post("{\"item_id\":\"1\","));
+		assertEquals(Result.REJECTED, pipeline.post("{\"item_id\":\"1\"}"));
+
+		// Messages for Items that do not exist are dropped, and the post is
+		// refused if nothing is left
+		assertEquals(Result.UNKNOWN_ITEM,
+				pipeline.post("{\"item_id\":\"99\",\"posts\":[{\"type\":"
+						+ "\"UPDATED_STATUS\",\"message\":\"a\"}]}"));
+		assertTrue(itemManager.messages.isEmpty());
+		assertEquals(0, pipeline.getQueueSize(99));
+
+		// Posts with messages for some known Items are accepted
+		assertEquals(Result.ACCEPTED,
+				pipeline.post("[{\"item_id\":\"99\",\"posts\":[{\"type\":"
+						+ "\"UPDATED_STATUS\",\"message\":\"a\"}]},"
+						+ createPost("UPDATED_STATUS", "b") + "]"));
+		assertEquals(1, itemManager.messages.size());
+		assertEquals("b", itemManager.messages.get(0).getMessage());
+
+		return;
+	}
+
+	/**
+	 * This operation checks that messages are coalesced while they wait and
+	 * that posts are refused when an Item's queue is full.
+	 *
+	 * @throws InterruptedException
+	 */
+	@Test
+	public void checkCoalescingAndBackPressure() throws InterruptedException {
+
+		// Block the first delivery so that the other messages have to wait
+		final CountDownLatch release = new CountDownLatch(1);
+		final RecordingItemManager itemManager = new RecordingItemManager(
+				release);
+		final UpdateMessagePipeline pipeline = new UpdateMessagePipeline(
+				itemManager, 3);
+		Thread firstPoster = new Thread() {
+			@Override
+			public void run() {
+				pipeline.post(createPost("UPDATED_STATUS", "first"));
+			}
+		};
+		firstPoster.start();
+		assertTrue(itemManager.delivering.await(10, TimeUnit.SECONDS));
+
+		// The second FILE_MODIFIED message for the same file replaces the
+		// first, as does the second PROGRESS_UPDATED message
+		assertEquals(Result.ACCEPTED,
+				pipeline.post(createPost("FILE_MODIFIED", "/tmp/a")));
+		assertEquals(1, pipeline.getQueueSize(1));
+		assertEquals(Result.ACCEPTED,
+				pipeline.post(createPost("FILE_MODIFIED", "/tmp/a")));
+		assertEquals(1, pipeline.getQueueSize(1));
+		assertEquals(Result.ACCEPTED,
+				pipeline.post(createPost("PROGRESS_UPDATED", "10")));
+		assertEquals(Result.ACCEPTED,
+				pipeline.post(createPost("PROGRESS_UPDATED", "20")));
+		assertEquals(2, pipeline.getQueueSize(1));
+
+		// MESSAGE_POSTED messages are data points and are never coalesced,
+		// so the second one for "pp" does not fit
+		assertEquals(Result.ACCEPTED,
+				pipeline.post(createPost("MESSAGE_POSTED", "pp:1.0:1")));
+		assertEquals(3, pipeline.getQueueSize(1));
+		assertEquals(Result.BUSY,
+				pipeline.post(createPost("MESSAGE_POSTED", "pp:2.0:2")));
+		assertEquals(3, pipeline.getQueueSize(1));
+		assertEquals(1, pipeline.getQueueCount());
+
+		// Let the first poster deliver everything. The drained queue is
+		// dropped.
+		release.countDown();
+		firstPoster.join(10000);
+		assertEquals(0, pipeline.getQueueSize(1));
+		assertEquals(0, pipeline.getQueueCount());
+		assertEquals(4, itemManager.messages.size());
+		assertEquals("first", itemManager.messages.get(0).getMessage());
+		assertEquals("/tmp/a", itemManager.messages.get(1).getMessage());
+		assertEquals("20", itemManager.messages.get(2).getMessage());
+		assertEquals("pp:1.0:1", itemManager.messages.get(3).getMessage());
+
+		return;
+	}
+
+	/**
+	 * This operation creates a post with one message for Item 1.
+	 *
+	 * @param type
+	 *            The type of the message
+	 * @param message
+	 *            The content of the message
+	 * @return The post
+	 */
+	private static String createPost(String type, String message) {
+		return "{\"item_id\":\"1\",\"posts\":[{\"type\":\"" + type
+				+ "\",\"message\":\"" + message + "\"}]}";
+	}
+
+	/**
+	 * An ItemManager that has Items 1 and 2 and records the messages that are
+	 * posted to them. It can hold the first message until it is released.
+	 *
+	 * @author Jay Jay Billings
+	 */
+	private static class RecordingItemManager extends ItemManager {
+
+		/**
+		 * The delivered messages
+		 */
+		private final List<Message> messages = Collections
+				.synchronizedList(new ArrayList<Message>());
+
+		/**
+		 * Counted down when the first message is being delivered
+		 */
+		private final CountDownLatch delivering = new CountDownLatch(1);
+
+		/**
+		 * The latch that releases the first message or null if it should not
+		 * be held
+		 */
+		private final CountDownLatch release;
+
+		/**
+		 * The constructor.
+		 *
+		 * @param release
+		 *            The latch that releases the first message or null if it
+		 *            should not be held
+		 */
+		public RecordingItemManager(CountDownLatch release) {
+			this.release = release;
+		}
+
+		@Override
+		public Form retrieveItem(int itemID) {
+			return (itemID == 1 || itemID == 2) ? new Form() : null;
+		}
+
+		@Override
+		public boolean postUpdateMessage(Message msg) {
+			delivering.countDown();
+			if (release != null) {
+				try {
+					release.await(10, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			messages.add(msg);
+			return true;
+		}
+	}
+
+}
@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright (c) 2016 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - Jay Jay Billings
+ *******************************************************************************/
+package org.eclipse.ice.tests.datastructures;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.bind.JAXBException;
+
+import org.eclipse.ice.datastructures.ICEObject.ICEJAXBHandler;
+import org.eclipse.ice.datastructures.form.FormDelta;
+import org.eclipse.ice.datastructures.form.FormDelta.EntryChange;
+import org.junit.Test;
+
+/**
+ * This class tests the FormDelta class.
+ *
+ * @author Jay Jay Billings
+ */
+public class FormDeltaTester {
+
+	/**
+	 * This operation checks that changes can be added to the delta and are
+	 * kept in order.
+	 */
+	@Test
+	public void checkChanges() {
+
+		FormDelta delta = new FormDelta(3, 12L);
+		assertEquals(3, delta.getItemID());
+		assertEquals(12L, delta.getRevision());
+		assertTrue(delta.getChanges().isEmpty());
+
+		// Add some changes
+		delta.addChange(1, 2, "two");
+		delta.addChange(1, 1, "one");
+		delta.addChange(4, 2, null);
+		List<EntryChange> changes = delta.getChanges();
+		assertEquals(3, changes.size());
+		assertEquals(1, changes.get(0).getComponentId());
+		assertEquals(2, changes.get(0).getEntryId());
+		assertEquals("two", changes.get(0).getValue());
+		assertEquals(1, changes.get(1).getEntryId());
+		assertEquals(4, changes.get(2).getComponentId());
+		assertEquals(null, changes.get(2).getValue());
+
+		// The list can't be modified directly
+		try {
+			changes.clear();
+			fail();
+		} catch (UnsupportedOperationException e) {
+			// Expected
+		}
+
+		return;
+	}
+
+	/**
+	 * This operation checks that the delta can be written to and read from
+	 * XML.
+	 *
+	 * @throws JAXBException
+	 * @throws IOException
+	 */
+	@Test
+	public void checkXMLPersistence() throws JAXBException, IOException {
+
+		// Local Declarations
+		ICEJAXBHandler xmlHandler = new ICEJAXBHandler();
+		ArrayList<Class> classList = new ArrayList<Class>();
+		classList.add(FormDelta.class);
+
+		// Create the delta
+		FormDelta delta = new FormDelta(7, 42L);
+		delta.addChange(1, 5, "The boss");
+		delta.addChange(2, 3, "550 K & rising");
+
+		// Write it and read it back
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		xmlHandler.write(delta, classList, outputStream);
+		FormDelta loadedDelta = (FormDelta) xmlHandler.read(classList,
+				new ByteArrayInputStream(outputStream.toByteArray()));
+
+		// Check it
+		assertEquals(7, loadedDelta.getItemID());
+		assertEquals(42L, loadedDelta.getRevision());
+		assertEquals(2, loadedDelta.getChanges().size());
+		EntryChange change = loadedDelta.getChanges().get(1);
+		assertEquals(2, change.getComponentId());
+		assertEquals(3, change.getEntryId());
+		assertEquals("550 K & rising", change.getValue());
+
+		return;
+	}
+
+}
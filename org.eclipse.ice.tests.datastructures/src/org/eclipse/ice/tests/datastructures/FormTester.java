@@ -23,16 +23,23 @@ import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.List;
 
 import javax.xml.bind.JAXBException;
 
 import org.eclipse.ice.datastructures.ICEObject.Component;
 import org.eclipse.ice.datastructures.ICEObject.ICEJAXBHandler;
+import org.eclipse.ice.datastructures.entry.ContinuousEntry;
+import org.eclipse.ice.datastructures.entry.DiscreteEntry;
 import org.eclipse.ice.datastructures.entry.IEntry;
 import org.eclipse.ice.datastructures.entry.StringEntry;
 import org.eclipse.ice.datastructures.form.DataComponent;
+import org.eclipse.ice.datastructures.form.EntryViolation;
 import org.eclipse.ice.datastructures.form.Form;
+import org.eclipse.ice.datastructures.form.MatrixComponent;
 import org.eclipse.ice.datastructures.form.ResourceComponent;
+import org.eclipse.ice.datastructures.form.TableComponent;
+import org.eclipse.ice.datastructures.form.TreeComposite;
 import org.eclipse.ice.datastructures.jaxbclassprovider.ICEJAXBClassProvider;
 import org.eclipse.ice.datastructures.resource.ICEResource;
 import org.junit.Test;
@@ -101,6 +108,121 @@ public class FormTester {
 
 	}
 
+	/**
+	 * <p>
+	 * This operation checks that the revision of the Form starts at zero, can
+	 * be increased and is kept by clones but not by copies or in equality
+	 * checks.
+	 * </p>
+	 */
+	@Test
+	public void checkRevision() {
+		// Create the form
+		form = new Form();
+		assertEquals(0L, form.getRevision());
+
+		// Increase the revision
+		assertEquals(1L, form.incrementRevision());
+		assertEquals(2L, form.incrementRevision());
+		assertEquals(2L, form.getRevision());
+
+		// Clones have the same revision and are still equal
+		Form clone = (Form) form.clone();
+		assertEquals(2L, clone.getRevision());
+		assertEquals(form, clone);
+
+		// Copies keep their own revision
+		Form copy = new Form();
+		copy.copy(form);
+		assertEquals(0L, copy.getRevision());
+		assertEquals(form, copy);
+		assertEquals(form.hashCode(), copy.hashCode());
+
+		// Setting the revision
+		form.setRevision(58);
+		assertEquals(58L, form.getRevision());
+
+	}
+
+	/**
+	 * <p>
+	 * This operation checks that the content revision of the Form increases
+	 * when any part of the Form changes and only then.
+	 * </p>
+	 */
+	@Test
+	public void checkContentRevision() {
+
+		// Local Declarations
+		long lastRevision;
+		form = new Form();
+		DataComponent dataComp = new DataComponent();
+		StringEntry entry = new StringEntry();
+		entry.setName("entry");
+		entry.setValue("one");
+		dataComp.addEntry(entry);
+		TreeComposite tree = new TreeComposite();
+		TreeComposite child = new TreeComposite();
+		DataComponent childData = new DataComponent();
+		child.addComponent(childData);
+		tree.setNextChild(child);
+		form.addComponent(dataComp);
+		form.addComponent(tree);
+
+		// Reading the Form doesn't change it
+		lastRevision = form.getContentRevision();
+		assertEquals(lastRevision, form.getContentRevision());
+
+		// Changing an Entry changes the Form
+		entry.setValue("two");
+		assertTrue(form.getContentRevision() > lastRevision);
+		lastRevision = form.getContentRevision();
+
+		// Setting the same value doesn't
+		entry.setValue("two");
+		assertEquals(lastRevision, form.getContentRevision());
+
+		// Changes deep in a tree change the Form
+		childData.setName("child data");
+		assertTrue(form.getContentRevision() > lastRevision);
+		lastRevision = form.getContentRevision();
+
+		// Removing a Component changes the Form
+		form.removeComponent(tree.getId());
+		assertTrue(form.getContentRevision() > lastRevision);
+		lastRevision = form.getContentRevision();
+
+		// Editing a cell of a table in place changes the Form
+		TableComponent table = new TableComponent();
+		ArrayList<IEntry> template = new ArrayList<IEntry>();
+		StringEntry column = new StringEntry();
+		column.setName("column");
+		column.setValue("default");
+		template.add(column);
+		table.setRowTemplate(template);
+		table.addRow();
+		form.addComponent(table);
+		lastRevision = form.getContentRevision();
+		table.getRow(0).get(0).setValue("edited");
+		assertTrue(form.getContentRevision() > lastRevision);
+		lastRevision = form.getContentRevision();
+
+		// So does editing an element of a matrix
+		MatrixComponent matrix = new MatrixComponent();
+		form.addComponent(matrix);
+		lastRevision = form.getContentRevision();
+		matrix.setElementValue(0, 0, 2.0);
+		assertTrue(form.getContentRevision() > lastRevision);
+		lastRevision = form.getContentRevision();
+
+		// Reading the Form still doesn't change it
+		assertEquals(lastRevision, form.getContentRevision());
+
+		// The Core revision is not changed by any of this
+		assertEquals(0L, form.getRevision());
+
+	}
+
 	/**
 	 * <p>
 	 * This operation checks the Form to insure that DataComponents can be
@@ -247,6 +369,100 @@ public class FormTester {
 
 	}
 
+	/**
+	 * <p>
+	 * This operation checks that the Form reports every Entry with an
+	 * unacceptable value in one pass.
+	 * </p>
+	 *
+	 */
+	@Test
+	public void checkValidateEntries() {
+
+		// Create the Form
+		form = new Form();
+		assertTrue(form.validateEntries().isEmpty());
+
+		// Add a DataComponent with acceptable and unacceptable Entries
+		DataComponent data = new DataComponent();
+		data.setName("Data");
+		StringEntry string = new StringEntry();
+		string.setName("String");
+		data.addEntry(string);
+		DiscreteEntry discrete = new DiscreteEntry("a", "b");
+		discrete.setName("Discrete");
+		discrete.setValue("b");
+		data.addEntry(discrete);
+		ContinuousEntry continuous = new ContinuousEntry("0.0", "1.0");
+		continuous.setName("Continuous");
+		continuous.setValue("0.5");
+		data.addEntry(continuous);
+		form.addComponent(data);
+		assertTrue(form.validateEntries().isEmpty());
+
+		// Change the allowed values so that the current values are wrong
+		discrete.setAllowedValues(new ArrayList<String>());
+		continuous.getAllowedValues().set(0, "2.0");
+		continuous.getAllowedValues().set(1, "3.0");
+		assertEquals("0.5", continuous.getValue());
+
+		// Add a TreeComposite with an unacceptable Entry in a child
+		TreeComposite root = new TreeComposite();
+		TreeComposite child = new TreeComposite();
+		DataComponent node = new DataComponent();
+		node.setName("Node");
+		DiscreteEntry nodeEntry = new DiscreteEntry("x", "y");
+		nodeEntry.setName("Node Entry");
+		nodeEntry.setValue("x");
+		node.addEntry(nodeEntry);
+		child.addComponent(node);
+		root.setNextChild(child);
+		form.addComponent(root);
+		nodeEntry.getAllowedValues().set(0, "z");
+
+		// Entries that are not ready are not checked
+		DiscreteEntry hidden = new DiscreteEntry("c");
+		hidden.setName("Hidden");
+		hidden.setReady(false);
+		data.addEntry(hidden);
+
+		// Add a TableComponent with an unacceptable Entry in its second row
+		TableComponent table = new TableComponent();
+		table.setName("Table");
+		ArrayList<IEntry> template = new ArrayList<IEntry>();
+		template.add(new ContinuousEntry("0.0", "10.0"));
+		template.get(0).setValue("1.0");
+		table.setRowTemplate(template);
+		table.addRow();
+		table.addRow();
+		List<String> rowBounds = new ArrayList<String>();
+		rowBounds.add("0.0");
+		rowBounds.add("10.0");
+		IEntry rowEntry = table.getRow(1).get(0);
+		rowEntry.setAllowedValues(rowBounds);
+		rowBounds.set(0, "5.0");
+		form.addComponent(table);
+
+		// Every violation should be reported in the order it was found
+		List<EntryViolation> violations = form.validateEntries();
+		assertEquals(4, violations.size());
+		assertTrue(violations.get(0).getEntry() == discrete);
+		assertTrue(violations.get(0).getComponent() == data);
+		assertTrue(violations.get(1).getEntry() == continuous);
+		assertEquals("'0.5' is an unacceptable value. The value must be "
+				+ "between 2.0 and 3.0.", violations.get(1).getMessage());
+		assertTrue(violations.get(2).getEntry() == nodeEntry);
+		assertTrue(violations.get(2).getComponent() == node);
+		assertTrue(violations.get(3).getEntry() == rowEntry);
+		assertTrue(violations.get(3).getComponent() == table);
+
+		// Validating does not change the Entries
+		assertEquals("b", discrete.getValue());
+		assertEquals("x", nodeEntry.getValue());
+
+		return;
+	}
+
 	/**
 	 * <p>
 	 * This operation checks the Form to insure that its equals() operation
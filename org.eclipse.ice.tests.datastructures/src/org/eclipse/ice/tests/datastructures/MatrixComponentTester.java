@@ -2113,4 +2113,138 @@ public class MatrixComponentTester {
 		assertEquals(10.0, matrixComponent.getAllowedValues().get(3), 0.0);
 
 	}
+
+	/**
+	 * <p>
+	 * This operation checks the primitive row and column accessors and the
+	 * dense array view of the MatrixComponent.
+	 * </p>
+	 * 
+	 */
+	@Test
+	public void checkBulkAccess() {
+
+		// Create a 3x4 matrix
+		matrixComponent = new MatrixComponent();
+		matrixComponent.addRow();
+		matrixComponent.addRow();
+		matrixComponent.addColumn();
+		matrixComponent.addColumn();
+		matrixComponent.addColumn();
+		assertEquals(3, matrixComponent.numberOfRows());
+		assertEquals(4, matrixComponent.numberOfColumns());
+
+		// Out of range and badly sized requests fail
+		assertNull(matrixComponent.getRowValues(-1));
+		assertNull(matrixComponent.getRowValues(3));
+		assertNull(matrixComponent.getColumnValues(4));
+		assertFalse(matrixComponent.setRowValues(0, new double[3]));
+		assertFalse(matrixComponent.setColumnValues(0, new double[4]));
+		assertFalse(matrixComponent.setRowValues(3, new double[4]));
+		assertTrue(Double.isNaN(matrixComponent.getDoubleValue(3, 0)));
+
+		// Set the rows and check them through every accessor
+		matrixComponent.setRowValues(0, new double[] { 1.0, 2.0, 3.0, 4.0 });
+		matrixComponent.setRowValues(1, new double[] { 5.0, 6.0, 7.0, 8.0 });
+		matrixComponent
+				.setRowValues(2, new double[] { 9.0, 10.0, 11.0, 12.0 });
+		assertEquals(7.0, matrixComponent.getElementValue(1, 2), 0.0);
+		assertEquals(12.0, matrixComponent.getDoubleValue(2, 3), 0.0);
+		assertEquals(3, matrixComponent.getColumn(1).size());
+		assertEquals(10.0, matrixComponent.getColumn(1).get(2), 0.0);
+		assertEquals(4, matrixComponent.getRow(2).size());
+		assertEquals(9.0, matrixComponent.getRow(2).get(0), 0.0);
+		assertEquals(11.0, matrixComponent.getColumnValues(2)[2], 0.0);
+
+		// Setting a column only changes that column
+		assertTrue(matrixComponent.setColumnValues(3,
+				new double[] { -1.0, -2.0, -3.0 }));
+		assertEquals(-2.0, matrixComponent.getDoubleValue(1, 3), 0.0);
+		assertEquals(7.0, matrixComponent.getDoubleValue(1, 2), 0.0);
+
+		// Growing the matrix keeps the existing values
+		matrixComponent.addColumn();
+		matrixComponent.addRow();
+		assertEquals(0.0, matrixComponent.getDoubleValue(1, 4), 0.0);
+		assertEquals(0.0, matrixComponent.getDoubleValue(3, 0), 0.0);
+		assertEquals(6.0, matrixComponent.getDoubleValue(1, 1), 0.0);
+		double[] dense = matrixComponent.toArray();
+		assertEquals(20, dense.length);
+		assertEquals(-3.0, dense[2 * 5 + 3], 0.0);
+
+		// Trimming does not change the matrix
+		MatrixComponent copy = (MatrixComponent) matrixComponent.clone();
+		matrixComponent.trimToSize();
+		assertTrue(copy.equals(matrixComponent));
+		assertEquals(copy.hashCode(), matrixComponent.hashCode());
+
+		// Values outside of the allowed range are rejected as a whole
+		ArrayList<Double> range = new ArrayList<Double>();
+		range.add(0.0);
+		range.add(1.0);
+		matrixComponent = new MatrixComponent(false,
+				AllowedValueType.Continuous);
+		matrixComponent.setAllowedValues(range);
+		matrixComponent.addColumn();
+		assertFalse(matrixComponent.setRowValues(0, new double[] { 0.5, 2.0 }));
+		assertEquals(0.0, matrixComponent.getDoubleValue(0, 0), 0.0);
+		assertTrue(matrixComponent.setRowValues(0, new double[] { 0.5, 1.0 }));
+		assertEquals(0.5, matrixComponent.getDoubleValue(0, 0), 0.0);
+
+		return;
+	}
+
+	/**
+	 * <p>
+	 * This operation checks that a MatrixComponent that is large enough to be
+	 * persisted in the packed form can be written to and read from XML.
+	 * </p>
+	 * 
+	 * @throws IOException
+	 * @throws JAXBException
+	 * @throws NullPointerException
+	 */
+	@Test
+	public void checkLoadingLargeMatrixFromXML()
+			throws NullPointerException, JAXBException, IOException {
+		// Local declarations
+		ICEJAXBHandler xmlHandler = new ICEJAXBHandler();
+		ArrayList<Class> classList = new ArrayList<Class>();
+		classList.add(MatrixComponent.class);
+		Random random = new Random(7);
+
+		// Create a square matrix larger than the packed threshold
+		matrixComponent = new MatrixComponent(true);
+		while (matrixComponent.numberOfRows()
+				* matrixComponent.numberOfColumns() <= MatrixComponent.PACKED_ELEMENT_THRESHOLD) {
+			matrixComponent.addRow();
+		}
+		int size = matrixComponent.numberOfRows();
+		for (int i = 0; i < size; i++) {
+			double[] row = new double[size];
+			for (int j = 0; j < size; j++) {
+				row[j] = random.nextDouble();
+			}
+			matrixComponent.setRowValues(i, row);
+		}
+		matrixComponent.setName("Large");
+
+		// Write it and read it back
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		xmlHandler.write(matrixComponent, classList, outputStream);
+		String xml = new String(outputStream.toByteArray());
+		assertTrue(xml.contains("packedElements"));
+		assertFalse(xml.contains("<elements>"));
+		ByteArrayInputStream inputStream = new ByteArrayInputStream(
+				outputStream.toByteArray());
+		MatrixComponent loadMatrix = (MatrixComponent) xmlHandler
+				.read(classList, inputStream);
+
+		// Check contents
+		assertTrue(loadMatrix.equals(matrixComponent));
+		assertEquals(matrixComponent.getDoubleValue(size - 1, size - 2),
+				loadMatrix.getDoubleValue(size - 1, size - 2), 0.0);
+
+		return;
+	}
 }
\ No newline at end of file
@@ -291,4 +291,67 @@ public class PainfullySimpleFormTester {
 		painfullySimpleForm.loadFromPSF(PSFForm);
 
 	}
-}
\ No newline at end of file
+
+	/**
+	 * <p>
+	 * This operation checks that the last Entry is loaded when the PSF does
+	 * not end with an empty line and that comment blocks between Entries are
+	 * ignored.
+	 * </p>
+	 * 
+	 * @throws IOException
+	 */
+	@Test
+	public void checkLoadingFromPSFWithoutTrailingEmptyLine()
+			throws IOException {
+
+		// Remove the whitespace and comments after the last Entry
+		while (!PSFForm.get(PSFForm.size() - 1).startsWith("group=")) {
+			PSFForm.remove(PSFForm.size() - 1);
+		}
+		// Add a comment block between the first two Entries
+		int index = PSFForm.indexOf("#Some more comments to try to confuse "
+				+ "the parser\n");
+		PSFForm.add(index, "\n");
+		PSFForm.add(index, "  \n");
+
+		// Load the Form
+		painfullySimpleForm = new PainfullySimpleForm();
+		painfullySimpleForm.loadFromPSF(PSFForm);
+
+		// Check the Entries
+		DataComponent dataComp = (DataComponent) painfullySimpleForm
+				.getComponent(2);
+		assertEquals(1, dataComp.retrieveAllEntries().size());
+		assertEquals(2, dataComp.retrieveAllEntries().get(0).getId());
+		TableComponent tableComp = (TableComponent) painfullySimpleForm
+				.getComponent(3);
+		assertEquals(2, tableComp.getRowTemplate().size());
+		IEntry entry = tableComp.getRowTemplate().get(1);
+		assertEquals("Table Entry2", entry.getName());
+		assertEquals("9001", entry.getDefaultValue());
+		assertEquals(4, entry.getId());
+
+		return;
+	}
+
+	/**
+	 * <p>
+	 * This operation checks the loadingFromPSFBlock() on PainfullySimpleForm
+	 * for an Entry without an allowed value type. Should throw an
+	 * IOException.
+	 * </p>
+	 * 
+	 * @throws IOException
+	 */
+	@Test(expected = java.io.IOException.class)
+	public void checkLoadingFromPSFBlockwithMissingValueType()
+			throws IOException {
+		// Remove the allowed value type of the last Entry
+		PSFForm.remove("allowedValueType=Undefined\n");
+
+		// Create the Form and load it
+		painfullySimpleForm = new PainfullySimpleForm();
+		painfullySimpleForm.loadFromPSF(PSFForm);
+	}
+}
@@ -23,10 +23,13 @@ import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.xml.bind.JAXBException;
 
 import org.eclipse.ice.datastructures.ICEObject.ICEJAXBHandler;
+import org.eclipse.ice.datastructures.ICEObject.IUpdateable;
+import org.eclipse.ice.datastructures.ICEObject.IUpdateableListener;
 import org.eclipse.ice.datastructures.form.ResourceComponent;
 import org.eclipse.ice.datastructures.resource.ICEResource;
 import org.junit.Test;
@@ -122,6 +125,64 @@ public class ResourceComponentTester {
 		return;
 	}
 
+	/**
+	 * This operation checks that Resources can be added and removed in batches
+	 * and that listeners are only notified once for each batch. It also checks
+	 * that listeners are notified when the files of Resources are modified.
+	 */
+	@Test
+	public void checkBatchResources() {
+
+		// Local Declarations
+		ArrayList<ICEResource> resources = new ArrayList<ICEResource>();
+		final AtomicInteger notifications = new AtomicInteger(0);
+
+		// Create the ResourceComponent and count its notifications
+		resourceComponent = new ResourceComponent();
+		resourceComponent.register(new IUpdateableListener() {
+			@Override
+			public void update(IUpdateable component) {
+				notifications.incrementAndGet();
+			}
+		});
+
+		// Add some resources, including a null one that should be skipped
+		try {
+			resources.add(new ICEResource(new File("Galileo.testFile")));
+			resources.add(new ICEResource(new File("Copernicus.testFile")));
+			resources.add(new ICEResource(new File("Columbus.testFile")));
+		} catch (IOException e) {
+			e.printStackTrace();
+			fail();
+		}
+		resources.add(null);
+		resourceComponent.addResources(resources);
+		assertEquals(1, notifications.get());
+		assertEquals(3, resourceComponent.getResources().size());
+		assertEquals(resources.subList(0, 3),
+				resourceComponent.getResources());
+
+		// Modify one of them. The list should not change.
+		resourceComponent.updateResources(resources.subList(1, 2));
+		assertEquals(2, notifications.get());
+		assertEquals(resources.subList(0, 3),
+				resourceComponent.getResources());
+
+		// Remove two of them
+		resourceComponent.removeResources(resources.subList(0, 2));
+		assertEquals(3, notifications.get());
+		assertEquals(1, resourceComponent.getResources().size());
+		assertEquals(resources.get(2), resourceComponent.getResources().get(0));
+
+		// Empty batches and Resources that were removed should not notify
+		resourceComponent.addResources(new ArrayList<ICEResource>());
+		resourceComponent.removeResources(new ArrayList<ICEResource>());
+		resourceComponent.updateResources(resources.subList(0, 1));
+		assertEquals(3, notifications.get());
+
+		return;
+	}
+
 	/**
 	 * This operation checks the visitation capabilities of the
 	 * ResourceComponent.
@@ -0,0 +1,226 @@
+/*******************************************************************************
+ * Copyright (c) 2016 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - Jay Jay Billings
+ *******************************************************************************/
+package org.eclipse.ice.tests.datastructures;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ice.datastructures.resource.ICEResource;
+import org.eclipse.ice.datastructures.resource.IResourceIndexListener;
+import org.eclipse.ice.datastructures.resource.ResourceIndexer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * This class tests the ResourceIndexer.
+ *
+ * @author Jay Jay Billings
+ */
+public class ResourceIndexerTester {
+
+	/**
+	 * The time to wait for changes in seconds. It is long because some
+	 * platforms poll for file changes.
+	 */
+	private static final long TIMEOUT = 30;
+
+	/**
+	 * The directory that is indexed
+	 */
+	private File directory;
+
+	/**
+	 * The batches of changes that were delivered
+	 */
+	private BlockingQueue<Batch> batches;
+
+	/**
+	 * The indexer under test
+	 */
+	private ResourceIndexer indexer;
+
+	/**
+	 * This operation creates the directory and the indexer.
+	 *
+	 * @throws IOException
+	 */
+	@Before
+	public void setup() throws IOException {
+		directory = Files.createTempDirectory("resourceIndexerTest").toFile();
+		batches = new LinkedBlockingQueue<Batch>();
+		indexer = new ResourceIndexer(directory, new IResourceIndexListener() {
+			@Override
+			public void resourcesChanged(List<ICEResource> added,
+					List<ICEResource> modified, List<ICEResource> removed) {
+				batches.add(new Batch(added, modified, removed));
+			}
+		}, 200L);
+	}
+
+	/**
+	 * This operation stops the indexer and deletes the directory.
+	 */
+	@After
+	public void teardown() {
+		indexer.stop();
+		for (File file : directory.listFiles()) {
+			file.delete();
+		}
+		directory.delete();
+	}
+
+	/**
+	 * This operation checks that files which are created, modified and
+	 * deleted are reported.
+	 *
+	 * @throws IOException
+	 * @throws InterruptedException
+	 */
+	@Test
+	public void checkChanges() throws IOException, InterruptedException {
+
+		// Files that are already there are reported first
+		File first = new File(directory, "first.txt");
+		assertTrue(first.createNewFile());
+		indexer.start();
+		assertTrue(indexer.isRunning());
+		Batch batch = batches.poll(TIMEOUT, TimeUnit.SECONDS);
+		assertNotNull(batch);
+		assertEquals(1, batch.added.size());
+		ICEResource firstResource = batch.added.get(0);
+		assertEquals("first.txt", firstResource.getName());
+
+		// Add some files
+		assertTrue(new File(directory, "second.txt").createNewFile());
+		assertTrue(new File(directory, "third.csv").createNewFile());
+		Map<String, ICEResource> added = new HashMap<String, ICEResource>();
+		while (added.size() < 2) {
+			batch = batches.poll(TIMEOUT, TimeUnit.SECONDS);
+			assertNotNull(batch);
+			for (ICEResource resource : batch.added) {
+				added.put(resource.getName(), resource);
+			}
+		}
+		assertTrue(added.containsKey("second.txt"));
+		assertTrue(added.containsKey("third.csv"));
+
+		// Modify the first file
+		assertTrue(first.setLastModified(first.lastModified() - 10000L));
+		batch = batches.poll(TIMEOUT, TimeUnit.SECONDS);
+		assertNotNull(batch);
+		assertEquals(1, batch.modified.size());
+		assertSame(firstResource, batch.modified.get(0));
+
+		// Delete the second file
+		assertTrue(new File(directory, "second.txt").delete());
+		batch = batches.poll(TIMEOUT, TimeUnit.SECONDS);
+		assertNotNull(batch);
+		assertEquals(1, batch.removed.size());
+		assertSame(added.get("second.txt"), batch.removed.get(0));
+
+		// Nothing is reported after the indexer is stopped
+		indexer.stop();
+		assertFalse(indexer.isRunning());
+		assertTrue(new File(directory, "fourth.txt").createNewFile());
+		assertEquals(null, batches.poll(1, TimeUnit.SECONDS));
+
+		return;
+	}
+
+	/**
+	 * This operation checks that many changes are delivered in a few batches.
+	 *
+	 * @throws IOException
+	 * @throws InterruptedException
+	 */
+	@Test
+	public void checkThrottling() throws IOException, InterruptedException {
+
+		// Local Declarations
+		int numFiles = 200, numAdded = 0, numBatches = 0;
+
+		indexer.start();
+
+		// Write the files as quickly as possible
+		for (int i = 0; i < numFiles; i++) {
+			assertTrue(new File(directory, "output" + i + ".txt")
+					.createNewFile());
+		}
+
+		// Collect the batches
+		while (numAdded < numFiles) {
+			Batch batch = batches.poll(TIMEOUT, TimeUnit.SECONDS);
+			assertNotNull(batch);
+			numAdded += batch.added.size();
+			numBatches++;
+		}
+		assertEquals(numFiles, numAdded);
+		assertTrue(numBatches < numFiles / 10);
+
+		return;
+	}
+
+	/**
+	 * The lists of resources from one delivery.
+	 *
+	 * @author Jay Jay Billings
+	 */
+	private static class Batch {
+
+		/**
+		 * The added resources
+		 */
+		private final List<ICEResource> added;
+
+		/**
+		 * The modified resources
+		 */
+		private final List<ICEResource> modified;
+
+		/**
+		 * The removed resources
+		 */
+		private final List<ICEResource> removed;
+
+		/**
+		 * The constructor.
+		 *
+		 * @param added
+		 *            The added resources
+		 * @param modified
+		 *            The modified resources
+		 * @param removed
+		 *            The removed resources
+		 */
+		private Batch(List<ICEResource> added, List<ICEResource> modified,
+				List<ICEResource> removed) {
+			this.added = new ArrayList<ICEResource>(added);
+			this.modified = new ArrayList<ICEResource>(modified);
+			this.removed = new ArrayList<ICEResource>(removed);
+		}
+	}
+
+}
@@ -569,6 +569,63 @@ public class TableComponentTester {
 		return;
 	}
 
+	/**
+	 * <p>
+	 * This operation checks that rows can be added and deleted in bulk.
+	 * </p>
+	 *
+	 */
+	@Test
+	public void checkBulkRowManipulation() {
+
+		// Local Declarations
+		ArrayList<IEntry> template = new ArrayList<IEntry>();
+		StringEntry entry = new StringEntry();
+		entry.setName("Key");
+		entry.setValue("Default");
+		template.add(entry);
+		tableComponent = new TableComponent();
+
+		// Rows can not be added without a template
+		assertEquals(-1, tableComponent.addRows(5));
+		tableComponent.setRowTemplate(template);
+		assertEquals(-1, tableComponent.addRows(0));
+		assertEquals(0, tableComponent.numberOfRows());
+
+		// Add some rows one at a time and the rest at once
+		assertEquals(0, tableComponent.addRow());
+		assertEquals(1, tableComponent.addRows(1000));
+		assertEquals(1001, tableComponent.numberOfRows());
+		ArrayList<Integer> rowIds = tableComponent.getRowIds();
+		for (int i = 0; i < rowIds.size(); i++) {
+			assertEquals(i, (int) rowIds.get(i));
+		}
+
+		// The new rows should be copies of the template
+		ArrayList<IEntry> row = tableComponent.getRow(500);
+		assertEquals(1, row.size());
+		assertEquals("Default", row.get(0).getValue());
+		assertFalse(row.get(0) == tableComponent.getRow(501).get(0));
+		assertFalse(row.get(0) == entry);
+
+		// Delete all of the rows and make sure the template is still there
+		ArrayList<Integer> selectedRows = new ArrayList<Integer>();
+		selectedRows.add(3);
+		tableComponent.setSelectedRows(selectedRows);
+		tableComponent.deleteAllRows();
+		assertEquals(0, tableComponent.numberOfRows());
+		assertTrue(tableComponent.getRowIds().isEmpty());
+		assertNull(tableComponent.getSelectedRows());
+		assertEquals(1, tableComponent.numberOfColumns());
+		assertEquals(1, tableComponent.getRowTemplate().size());
+
+		// Rows are numbered from zero again
+		assertEquals(0, tableComponent.addRows(2));
+		assertEquals(2, tableComponent.numberOfRows());
+
+		return;
+	}
+
 	/**
 	 * <p>
 	 * This operation tests the TableComponent to insure that it can properly
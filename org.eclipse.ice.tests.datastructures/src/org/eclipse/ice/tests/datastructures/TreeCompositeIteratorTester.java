@@ -19,11 +19,15 @@ import static org.junit.Assert.fail;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 
 import org.eclipse.ice.datastructures.form.TreeComposite;
 import org.eclipse.ice.datastructures.form.iterator.BreadthFirstTreeCompositeIterator;
 import org.eclipse.ice.datastructures.form.iterator.PostOrderTreeCompositeIterator;
 import org.eclipse.ice.datastructures.form.iterator.PreOrderTreeCompositeIterator;
+import org.eclipse.ice.datastructures.form.iterator.TreeCompositeSpliterator;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -443,4 +447,54 @@ public class TreeCompositeIteratorTester {
 		return;
 	}
 
+	/**
+	 * Tests the spliterator and the streams of TreeComposites, both
+	 * sequential and parallel.
+	 */
+	@Test
+	public void checkSpliterator() {
+
+		// A null root is not allowed.
+		try {
+			new TreeCompositeSpliterator(null);
+			fail("TreeCompositeIteratorTester error: "
+					+ "A null root was accepted by the spliterator.");
+		} catch (IllegalArgumentException e) {
+			// Exception thrown as expected.
+		}
+
+		// The base case has a single node and can not be split.
+		Spliterator<TreeComposite> spliterator = new TreeCompositeSpliterator(
+				rootBase);
+		assertSame(null, spliterator.trySplit());
+		assertEquals("A1", rootBase.stream().map(TreeComposite::getName)
+				.collect(Collectors.joining(" ")));
+
+		// A sequential stream is in pre-order.
+		final String expectedOutput = "A1 B1 C1 B2 C2 C3 D1 D2 C4 D3 D4 D5";
+		assertEquals(expectedOutput, root.stream()
+				.map(TreeComposite::getName).collect(Collectors.joining(" ")));
+
+		// Splitting keeps the order: the split part comes first.
+		spliterator = new TreeCompositeSpliterator(root);
+		Spliterator<TreeComposite> prefix = spliterator.trySplit();
+		StringBuilder output = new StringBuilder();
+		prefix.forEachRemaining(tree -> output.append(tree.getName() + " "));
+		spliterator
+				.forEachRemaining(tree -> output.append(tree.getName() + " "));
+		assertEquals(expectedOutput + " ", output.toString());
+
+		// A parallel stream visits every node once and keeps the order when
+		// it is collected.
+		assertEquals(12, root.stream().parallel().count());
+		assertEquals(expectedOutput, root.stream().parallel()
+				.map(TreeComposite::getName).collect(Collectors.joining(" ")));
+		Set<String> names = root.stream().parallel()
+				.map(TreeComposite::getName).collect(Collectors.toSet());
+		assertEquals(12, names.size());
+		assertTrue(names.contains("D5"));
+
+		return;
+	}
+
 }
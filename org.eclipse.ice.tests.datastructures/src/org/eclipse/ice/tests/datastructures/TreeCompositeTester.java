@@ -24,7 +24,9 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.xml.bind.JAXBException;
 
@@ -1124,6 +1126,351 @@ public class TreeCompositeTester extends SelectiveComponentVisitor {
 
 	}
 
+	/**
+	 * <p>
+	 * This operation checks that the cached hashcode of a TreeComposite is
+	 * updated when the tree or one of its descendants changes.
+	 * </p>
+	 * 
+	 */
+	@Test
+	public void checkHashCaching() {
+
+		// Local Declarations
+		TreeComposite root = new TreeComposite();
+		TreeComposite child = new TreeComposite();
+		TreeComposite grandChild = new TreeComposite();
+		TreeComposite exemplar = new TreeComposite();
+		ArrayList<TreeComposite> exemplars = new ArrayList<TreeComposite>();
+
+		// Build a small tree
+		root.setName("root");
+		child.setName("child");
+		grandChild.setName("grandChild");
+		exemplar.setName("exemplar");
+		root.setNextChild(child);
+		child.setNextChild(grandChild);
+		exemplars.add(exemplar);
+		child.setChildExemplars(exemplars);
+
+		// The hash is stable while nothing changes
+		int hash = root.hashCode();
+		assertEquals(hash, root.hashCode());
+		TreeComposite copy = (TreeComposite) root.clone();
+		assertEquals(hash, copy.hashCode());
+
+		// Changing a grandchild changes the hash of the root
+		grandChild.setDescription("changed");
+		assertFalse(hash == root.hashCode());
+		assertFalse(root.equals(copy));
+		hash = root.hashCode();
+
+		// Adding a data node changes it too
+		grandChild.addComponent(new DataComponent());
+		assertFalse(hash == root.hashCode());
+		hash = root.hashCode();
+
+		// So does changing an exemplar that was handed out by the tree
+		child.getChildExemplars().get(0).setName("changed");
+		assertFalse(hash == root.hashCode());
+
+		return;
+	}
+
+	/**
+	 * <p>
+	 * This operation checks that the hashcode of a TreeComposite is current
+	 * right after an Entry in one of its data nodes changes, without waiting
+	 * for the listeners of the Entry to be notified.
+	 * </p>
+	 * 
+	 */
+	@Test
+	public void checkHashAfterEntryChange() {
+
+		// Local Declarations
+		TreeComposite root = new TreeComposite();
+		TreeComposite child = new TreeComposite();
+		DataComponent dataNode = new DataComponent();
+		StringEntry entry = new StringEntry();
+
+		// Build a tree with an Entry in the child's data node
+		entry.setName("entry");
+		entry.setValue("start");
+		dataNode.addEntry(entry);
+		child.addComponent(dataNode);
+		root.setNextChild(child);
+		TreeComposite copy = (TreeComposite) root.clone();
+		assertEquals(copy.hashCode(), root.hashCode());
+		assertTrue(root.equals(copy));
+
+		// Read the hash right after each change
+		for (int i = 0; i < 200; i++) {
+			int hash = root.hashCode();
+			entry.setValue("value " + i);
+			assertFalse(hash == root.hashCode());
+			assertFalse(copy.hashCode() == root.hashCode());
+			// A fresh copy has the same hash and is equal
+			copy = (TreeComposite) root.clone();
+			assertEquals(copy.hashCode(), root.hashCode());
+			assertTrue(root.equals(copy));
+		}
+
+		return;
+	}
+
+	/**
+	 * <p>
+	 * This operation checks that reading the cached hashcode of a
+	 * TreeComposite does not visit its children or data nodes.
+	 * </p>
+	 * 
+	 */
+	@Test
+	public void checkHashCacheHit() {
+
+		// Local Declarations
+		final AtomicInteger visits = new AtomicInteger();
+		TreeComposite root = new TreeComposite();
+		TreeComposite child = new TreeComposite() {
+			@Override
+			public int hashCode() {
+				visits.incrementAndGet();
+				return super.hashCode();
+			}
+
+			@Override
+			public long getContentRevision() {
+				visits.incrementAndGet();
+				return super.getContentRevision();
+			}
+		};
+		DataComponent dataNode = new DataComponent() {
+			@Override
+			public int hashCode() {
+				visits.incrementAndGet();
+				return super.hashCode();
+			}
+
+			@Override
+			public long getContentRevision() {
+				visits.incrementAndGet();
+				return super.getContentRevision();
+			}
+		};
+		StringEntry entry = new StringEntry();
+
+		// Build a tree with a data node in the child
+		entry.setValue("start");
+		dataNode.addEntry(entry);
+		child.addComponent(dataNode);
+		root.setNextChild(child);
+
+		// Computing the hash visits the child and its data node
+		visits.set(0);
+		int hash = root.hashCode();
+		assertTrue(visits.get() > 0);
+
+		// Reading it again does not
+		visits.set(0);
+		for (int i = 0; i < 100; i++) {
+			assertEquals(hash, root.hashCode());
+		}
+		assertEquals(0, visits.get());
+
+		// Until the Entry changes
+		entry.setValue("changed");
+		assertFalse(hash == root.hashCode());
+		assertTrue(visits.get() > 0);
+
+		return;
+	}
+
+	/**
+	 * <p>
+	 * This operation checks that diff() returns the nodes that are different
+	 * between two TreeComposites.
+	 * </p>
+	 * 
+	 */
+	@Test
+	public void checkDiff() {
+
+		// Local Declarations
+		TreeComposite tree = new TreeComposite();
+		TreeComposite child1 = new TreeComposite();
+		TreeComposite child2 = new TreeComposite();
+		TreeComposite grandChild = new TreeComposite();
+
+		// Build a tree and copy it
+		tree.setName("tree");
+		child1.setName("child1");
+		child2.setName("child2");
+		grandChild.setName("grandChild");
+		tree.setNextChild(child1);
+		tree.setNextChild(child2);
+		child2.setNextChild(grandChild);
+		TreeComposite copy = (TreeComposite) tree.clone();
+
+		// Equal trees have no differences
+		assertTrue(tree.diff(copy).isEmpty());
+		assertTrue(tree.diff(tree).isEmpty());
+
+		// Changing a node only reports that node
+		TreeComposite copyGrandChild = copy.getChildAtIndex(1)
+				.getChildAtIndex(0);
+		copyGrandChild.setDescription("Changed");
+		List<TreeComposite> changes = copy.diff(tree);
+		assertEquals(1, changes.size());
+		assertTrue(changes.get(0) == copyGrandChild);
+
+		// Changing data nodes is a change to the node
+		DataComponent dataComponent = new DataComponent();
+		dataComponent.setName("data");
+		copy.getChildAtIndex(0).addComponent(dataComponent);
+		changes = copy.diff(tree);
+		assertEquals(2, changes.size());
+		assertTrue(changes.get(0) == copy.getChildAtIndex(0));
+		assertTrue(changes.get(1) == copyGrandChild);
+
+		// A new child is reported along with its parent
+		TreeComposite newChild = new TreeComposite();
+		copy.setNextChild(newChild);
+		changes = copy.diff(tree);
+		assertEquals(4, changes.size());
+		assertTrue(changes.get(0) == copy);
+		assertTrue(changes.get(3) == newChild);
+
+		// Going the other way only reports the parent of the missing child
+		// and the changed nodes
+		changes = tree.diff(copy);
+		assertEquals(3, changes.size());
+		assertTrue(changes.get(0) == tree);
+
+		return;
+	}
+
+	/**
+	 * <p>
+	 * This operation checks that copies of a TreeComposite share exemplars
+	 * until the exemplars are retrieved and that changes to retrieved
+	 * exemplars do not affect the other tree.
+	 * </p>
+	 * 
+	 */
+	@Test
+	public void checkSharedExemplars() {
+
+		// Local Declarations
+		TreeComposite tree = new TreeComposite();
+		TreeComposite exemplar = new TreeComposite();
+		ArrayList<TreeComposite> exemplars = new ArrayList<TreeComposite>();
+
+		// Configure a tree with an exemplar that has data
+		exemplar.setName("exemplar");
+		exemplar.addComponent(new DataComponent());
+		exemplars.add(exemplar);
+		tree.setChildExemplars(exemplars);
+
+		// Copy the tree and check the copy
+		TreeComposite copy = (TreeComposite) tree.clone();
+		assertTrue(tree.equals(copy));
+		assertEquals(tree.hashCode(), copy.hashCode());
+
+		// Modify the exemplar of the copy
+		TreeComposite copiedExemplar = copy.getChildExemplars().get(0);
+		assertFalse(copiedExemplar == exemplar);
+		assertTrue(copiedExemplar.equals(exemplar));
+		copiedExemplar.setName("changed");
+
+		// The original tree is not affected
+		assertEquals("exemplar", tree.getChildExemplars().get(0).getName());
+		assertEquals("changed", copy.getChildExemplars().get(0).getName());
+		assertFalse(tree.equals(copy));
+
+		// Children can still only be created from the exemplars
+		TreeComposite child = (TreeComposite) tree.getChildExemplars().get(0)
+				.clone();
+		copy.setNextChild(child);
+		assertEquals(0, copy.getNumberOfChildren());
+		tree.setNextChild(child);
+		assertEquals(1, tree.getNumberOfChildren());
+
+		return;
+	}
+
+	/**
+	 * <p>
+	 * This operation checks that nodes can be found by their paths and that
+	 * the path index is updated when children are added, removed and renamed.
+	 * </p>
+	 * 
+	 */
+	@Test
+	public void checkNodeByPath() {
+
+		// Local Declarations
+		TreeComposite root = new TreeComposite();
+		TreeComposite mesh = new TreeComposite();
+		TreeComposite variables = new TreeComposite();
+		TreeComposite u = new TreeComposite();
+		TreeComposite v = new TreeComposite();
+
+		// Build a tree like a MOOSE input tree
+		root.setName("root");
+		mesh.setName("Mesh");
+		variables.setName("Variables");
+		u.setName("u");
+		v.setName("v");
+		root.setNextChild(mesh);
+		root.setNextChild(variables);
+		variables.setNextChild(u);
+
+		// Look up nodes, which builds the index
+		assertTrue(root.getNodeByPath("") == root);
+		assertTrue(root.getNodeByPath("Mesh") == mesh);
+		assertTrue(root.getNodeByPath("/Variables/u/") == u);
+		assertNull(root.getNodeByPath("Variables/v"));
+		assertNull(root.getNodeByPath(null));
+		assertTrue(variables.getNodeByPath("u") == u);
+
+		// Adding a child below the root updates the index
+		variables.setNextChild(v);
+		assertTrue(root.getNodeByPath("Variables/v") == v);
+		assertTrue(variables.getNodeByPath("v") == v);
+
+		// Removing a child removes it and its children from the index
+		root.removeChild(variables);
+		assertNull(root.getNodeByPath("Variables"));
+		assertNull(root.getNodeByPath("Variables/u"));
+		assertTrue(variables.getNodeByPath("u") == u);
+
+		// Renaming a node moves it and its children in the index
+		root.setNextChild(variables);
+		variables.setName("AuxVariables");
+		assertNull(root.getNodeByPath("Variables/u"));
+		assertTrue(root.getNodeByPath("AuxVariables/u") == u);
+
+		// Another node with the same path takes over when one is removed
+		TreeComposite otherU = new TreeComposite();
+		otherU.setName("u");
+		otherU.setDescription("Another u");
+		variables.setNextChild(otherU);
+		assertTrue(root.getNodeByPath("AuxVariables/u") == u);
+		variables.removeChild(u);
+		assertTrue(root.getNodeByPath("AuxVariables/u") == otherU);
+
+		// Copying rebuilds the index
+		TreeComposite copy = (TreeComposite) root.clone();
+		assertEquals("v", copy.getNodeByPath("AuxVariables/v").getName());
+		assertFalse(copy.getNodeByPath("AuxVariables/v") == v);
+		root.copy(copy);
+		assertTrue(root.getNodeByPath("AuxVariables/v") == root
+				.getChildAtIndex(1).getChildAtIndex(0));
+
+		return;
+	}
+
 	/**
 	 * This operation adds a component of the specified type to the map.
 	 * 
@@ -14,6 +14,7 @@ package org.eclipse.ice.tests.datastructures;
 import static org.junit.Assert.assertTrue;
 
 import org.eclipse.ice.datastructures.ICEObject.Component;
+import org.eclipse.ice.datastructures.ICEObject.IContentRevisionListener;
 import org.eclipse.ice.datastructures.ICEObject.IUpdateable;
 import org.eclipse.ice.datastructures.ICEObject.IUpdateableListener;
 import org.eclipse.ice.datastructures.ICEObject.WrappedGlazedEventListener;
@@ -130,6 +131,22 @@ public class WrappedGlazedEventListenerTester
 
 	}
 
+	@Override
+	public long getContentRevision() {
+		// Not used by the test
+		return 0;
+	}
+
+	@Override
+	public void registerRevisionListener(IContentRevisionListener listener) {
+		// Not used by the test
+	}
+
+	@Override
+	public void unregisterRevisionListener(IContentRevisionListener listener) {
+		// Not used by the test
+	}
+
 	/**
 	 * This operation sets some flags for the test when it receives the update
 	 * notification.
@@ -0,0 +1,178 @@
+/*******************************************************************************
+ * Copyright (c) 2016 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - Jay Jay Billings
+ *******************************************************************************/
+package org.eclipse.ice.tests.datastructures;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.eclipse.emf.ecore.xmi.util.XMLProcessor;
+import org.eclipse.ice.datastructures.form.DataComponent;
+import org.eclipse.ice.datastructures.form.TreeComposite;
+import org.eclipse.ice.datastructures.form.emf.EMFComponent;
+import org.eclipse.ice.datastructures.form.emf.XMLProcessorCache;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * This class is responsible for testing the XMLProcessorCache and the way that
+ * the EMFComponent uses it.
+ *
+ * @author Jay Jay Billings
+ */
+public class XMLProcessorCacheTester {
+
+	/**
+	 * A simple schema for a list of items
+	 */
+	private static final String schemaText = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+			+ "<xs:schema xmlns:xs=\"http://www.w3.org/2001/XMLSchema\" "
+			+ "targetNamespace=\"http://www.example.org/items\" "
+			+ "xmlns=\"http://www.example.org/items\" "
+			+ "elementFormDefault=\"qualified\">\n"
+			+ "<xs:element name=\"list\"><xs:complexType><xs:sequence>\n"
+			+ "<xs:element name=\"item\" maxOccurs=\"unbounded\"><xs:complexType>"
+			+ "<xs:sequence><xs:element name=\"part\" minOccurs=\"0\" "
+			+ "maxOccurs=\"unbounded\" type=\"xs:string\"/></xs:sequence>"
+			+ "<xs:attribute name=\"name\" type=\"xs:string\"/>"
+			+ "</xs:complexType></xs:element>\n"
+			+ "</xs:sequence></xs:complexType></xs:element>\n"
+			+ "</xs:schema>\n";
+
+	/**
+	 * A temporary directory for the schema and document
+	 */
+	private File directory;
+
+	/**
+	 * The schema file
+	 */
+	private File schema;
+
+	/**
+	 * The document file
+	 */
+	private File document;
+
+	/**
+	 * This operation writes the schema and a document with several items.
+	 *
+	 * @throws IOException
+	 */
+	@Before
+	public void before() throws IOException {
+		directory = Files.createTempDirectory("xmlProcessorCache").toFile();
+		schema = new File(directory, "items.xsd");
+		document = new File(directory, "items.xml");
+		Files.write(schema.toPath(), schemaText.getBytes(StandardCharsets.UTF_8));
+		StringBuilder builder = new StringBuilder(
+				"<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+						+ "<list xmlns=\"http://www.example.org/items\">\n");
+		for (int i = 0; i < 20; i++) {
+			builder.append("<item name=\"item").append(i).append("\"/>\n");
+		}
+		builder.append("</list>\n");
+		Files.write(document.toPath(),
+				builder.toString().getBytes(StandardCharsets.UTF_8));
+		XMLProcessorCache.clear();
+	}
+
+	/**
+	 * This operation removes the temporary files.
+	 */
+	@After
+	public void after() {
+		schema.delete();
+		document.delete();
+		directory.delete();
+		XMLProcessorCache.clear();
+	}
+
+	/**
+	 * This operation checks that processors are reused until the schema
+	 * changes.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void checkGetProcessor() throws IOException {
+
+		// Missing schemas do not have processors
+		assertNull(XMLProcessorCache.getProcessor(null));
+		assertNull(XMLProcessorCache.getProcessor(new File(directory,
+				"missing.xsd")));
+
+		// The processor should be built once and then reused
+		XMLProcessor processor = XMLProcessorCache.getProcessor(schema);
+		assertNotNull(processor);
+		assertSame(processor, XMLProcessorCache.getProcessor(schema));
+
+		// Changing the schema should build a new processor
+		Files.write(schema.toPath(), (schemaText + "<!-- Changed -->\n")
+				.getBytes(StandardCharsets.UTF_8));
+		XMLProcessor changedProcessor = XMLProcessorCache.getProcessor(schema);
+		assertNotNull(changedProcessor);
+		assertNotSame(processor, changedProcessor);
+		assertSame(changedProcessor, XMLProcessorCache.getProcessor(schema));
+
+		// Clearing the cache should also build a new one
+		XMLProcessorCache.clear();
+		assertNotSame(changedProcessor, XMLProcessorCache.getProcessor(schema));
+
+		return;
+	}
+
+	/**
+	 * This operation checks that EMFComponents loaded from the same schema
+	 * produce the same trees, in document order.
+	 */
+	@Test
+	public void checkLoad() {
+
+		// Load the document twice
+		EMFComponent first = new EMFComponent();
+		EMFComponent second = new EMFComponent();
+		assertTrue(first.load(schema, document));
+		assertTrue(second.load(schema, document));
+
+		// Check the tree. DocumentRoot has the list, which has the items.
+		TreeComposite root = first.getEMFTreeComposite();
+		assertEquals(1, root.getId());
+		assertEquals(1, root.getNumberOfChildren());
+		TreeComposite list = root.getChildAtIndex(0);
+		assertEquals(2, list.getId());
+		assertEquals(20, list.getNumberOfChildren());
+		for (int i = 0; i < 20; i++) {
+			TreeComposite item = list.getChildAtIndex(i);
+			assertEquals(i + 3, item.getId());
+			assertSame(list, item.getParent());
+			DataComponent data = (DataComponent) item.getDataNodes().get(0);
+			assertEquals("item" + i, data.retrieveEntry("name").getValue());
+		}
+		assertEquals(first.getEMFTreeComposite(), second.getEMFTreeComposite());
+
+		// A document that can not be read should fail to load
+		assertFalse(first.load(schema, new File(directory, "missing.xml")));
+
+		return;
+	}
+
+}
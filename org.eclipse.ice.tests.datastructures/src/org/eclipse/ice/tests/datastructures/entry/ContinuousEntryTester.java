@@ -15,6 +15,8 @@ package org.eclipse.ice.tests.datastructures.entry;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
@@ -61,4 +63,44 @@ public class ContinuousEntryTester {
 		bounds.remove(2);
 		assertFalse(entry.setValue("not a number"));
 	}
+
+	/**
+	 * Check that values can be validated against the parsed bounds without
+	 * setting them.
+	 */
+	@Test
+	public void checkValidate() {
+		// Create the Continuous Entry.
+		ContinuousEntry entry = new ContinuousEntry("-1.0", "1.0");
+		assertTrue(entry.setValue("0.5"));
+
+		// Check values inside, on and outside the bounds
+		assertNull(entry.validate("0.0"));
+		assertNull(entry.validate("-1.0"));
+		assertNull(entry.validate("1"));
+		assertNull(entry.validate("1.0e-3"));
+		assertNotNull(entry.validate("1.5"));
+		assertNotNull(entry.validate("NaN"));
+		assertNotNull(entry.validate("one"));
+		assertNotNull(entry.validate(null));
+		assertEquals("0.5", entry.getValue());
+
+		// The error message includes the bounds
+		assertFalse(entry.setValue("2.0"));
+		assertEquals("'2.0' is an unacceptable value. The value must be "
+				+ "between -1.0 and 1.0.", entry.getErrorMessage());
+
+		// New bounds are parsed when they are set
+		List<String> bounds = new ArrayList<String>();
+		bounds.add("10.0");
+		bounds.add("20.0");
+		entry.setAllowedValues(bounds);
+		assertNull(entry.validate("15.0"));
+		assertNotNull(entry.validate("0.5"));
+
+		// Bounds that are not numbers are rejected instead of thrown
+		bounds.set(0, "low");
+		entry.setAllowedValues(bounds);
+		assertFalse(entry.setValue("15.0"));
+	}
 }
@@ -15,6 +15,8 @@ package org.eclipse.ice.tests.datastructures.entry;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -78,6 +80,53 @@ public class DiscreteEntryTester {
 
 	}
 	
+	/**
+	 * Check that values can be validated without setting them and that the
+	 * compiled allowed values follow changes to the allowed values.
+	 */
+	@Test
+	public void checkValidate() {
+		List<String> allowed = new ArrayList<String>();
+		allowed.add("red");
+		allowed.add("green");
+
+		DiscreteEntry entry = new DiscreteEntry();
+		entry.setAllowedValues(allowed);
+		assertEquals("red", entry.getValue());
+
+		// Validating does not change the value or the error message
+		assertNull(entry.validate("green"));
+		assertNotNull(entry.validate("blue"));
+		assertNotNull(entry.validate(null));
+		assertEquals("red", entry.getValue());
+		assertNull(entry.getErrorMessage());
+
+		// The error message lists the allowed values
+		assertFalse(entry.setValue("blue"));
+		assertEquals("'blue' is an unacceptable value. The value must be "
+				+ "one of red or green.", entry.getErrorMessage());
+		assertEquals(entry.getErrorMessage(), entry.validate("blue"));
+
+		// Changes made through getAllowedValues() are picked up, even if the
+		// size of the list does not change
+		entry.getAllowedValues().set(1, "blue");
+		assertTrue(entry.setValue("blue"));
+		assertFalse(entry.setValue("green"));
+
+		// So are changes made directly to the original list
+		allowed.add("green");
+		assertTrue(entry.setValue("green"));
+
+		// And replacing the list
+		List<String> other = new ArrayList<String>();
+		other.add("cyan");
+		entry.setAllowedValues(other);
+		assertEquals("cyan", entry.getValue());
+		assertNotNull(entry.validate("green"));
+
+		return;
+	}
+
 	/**
 	 * This operation checks the Entry to ensure that its copy() and clone()
 	 * operations work as specified.
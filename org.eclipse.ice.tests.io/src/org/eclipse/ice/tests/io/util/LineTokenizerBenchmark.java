@@ -0,0 +1,183 @@
+/*******************************************************************************
+ * Copyright (c) 2016 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - Jay Jay Billings
+ *******************************************************************************/
+package org.eclipse.ice.tests.io.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.ice.io.util.LineTokenizer;
+
+/**
+ * This class compares the line handling of the INI and IPS readers before and
+ * after they were moved to the {@link LineTokenizer} on multi-megabyte
+ * configuration files that are generated in memory. It is not run with the
+ * tests. Run it as a Java application to print the best time of several
+ * passes for each approach.
+ *
+ * @author Jay Jay Billings
+ *
+ */
+public class LineTokenizerBenchmark {
+
+	/**
+	 * The INIReader's default assignment pattern
+	 */
+	private static final String assignment = "(=|\\b(\\s)+?|\\b\\t)";
+
+	/**
+	 * The number of timed passes for each approach
+	 */
+	private static final int passes = 10;
+
+	/**
+	 * A sink for results so that the work is not optimized away
+	 */
+	private static long sink = 0;
+
+	/**
+	 * The entry point
+	 *
+	 * @param args
+	 *            Not used
+	 * @throws IOException
+	 */
+	public static void main(String[] args) throws IOException {
+
+		// Build an INI file with 200 sections of 1000 assignments each
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < 200; i++) {
+			builder.append("[section").append(i).append("]\n");
+			for (int j = 0; j < 1000; j++) {
+				builder.append("key_").append(j).append(" = value_").append(j)
+						.append(" ; comment\n");
+			}
+		}
+		final String ini = builder.toString();
+
+		// Build an IPS file with 100 ports of 1000 parameters each
+		builder = new StringBuilder();
+		for (int i = 0; i < 100; i++) {
+			builder.append("[PORT_").append(i).append("]\n");
+			for (int j = 0; j < 1000; j++) {
+				builder.append("   PARAMETER_").append(j)
+						.append(" = $SIM_ROOT/input # comment\n");
+			}
+			builder.append("\n");
+		}
+		final String ips = builder.toString();
+		final String regex = ".*PARAMETER_99.*";
+
+		System.out.println("INI file: " + ini.length() / 1024 + " KB, IPS file: "
+				+ ips.length() / 1024 + " KB");
+
+		time("INI assignments with String.split()", new Work() {
+			@Override
+			public void run() throws IOException {
+				BufferedReader reader = new BufferedReader(new StringReader(ini));
+				String line;
+				String[] splitLine;
+				while ((line = reader.readLine()) != null) {
+					line = line.split(";")[0].trim();
+					if ((splitLine = line.split(assignment)).length >= 2) {
+						sink += splitLine[0].trim().length()
+								+ splitLine[splitLine.length - 1].trim().length();
+					}
+				}
+			}
+		});
+		time("INI assignments with LineTokenizer", new Work() {
+			@Override
+			public void run() throws IOException {
+				Pattern comment = LineTokenizer.compile(";");
+				Pattern pattern = LineTokenizer.compile(assignment);
+				LineTokenizer reader = new LineTokenizer(new StringReader(ini));
+				String[] splitLine;
+				while (reader.hasNext()) {
+					String line = LineTokenizer.stripComment(reader.next(), comment)
+							.trim();
+					if ((splitLine = LineTokenizer.splitAssignment(line,
+							pattern)) != null) {
+						sink += splitLine[0].trim().length()
+								+ splitLine[1].trim().length();
+					}
+				}
+				reader.close();
+			}
+		});
+		time("IPS findAll with a list and String.matches()", new Work() {
+			@Override
+			public void run() throws IOException {
+				BufferedReader reader = new BufferedReader(new StringReader(ips));
+				ArrayList<String> lines = new ArrayList<String>();
+				String line;
+				while ((line = reader.readLine()) != null) {
+					lines.add(line);
+				}
+				lines.add("EOF");
+				for (String next : lines) {
+					if (next.matches(regex)) {
+						sink++;
+					}
+				}
+			}
+		});
+		time("IPS findAll with LineTokenizer", new Work() {
+			@Override
+			public void run() throws IOException {
+				LineTokenizer reader = new LineTokenizer(new StringReader(ips));
+				Matcher matcher = LineTokenizer.compile(regex).matcher("");
+				while (reader.hasNext()) {
+					if (matcher.reset(reader.next()).matches()) {
+						sink++;
+					}
+				}
+				reader.close();
+			}
+		});
+
+		System.out.println("(" + sink + ")");
+	}
+
+	/**
+	 * A benchmarked piece of work
+	 */
+	private interface Work {
+		public void run() throws IOException;
+	}
+
+	/**
+	 * This operation runs the work a few times to warm up and then prints the
+	 * best time of several passes.
+	 *
+	 * @param name
+	 *            The name of the work
+	 * @param work
+	 *            The work
+	 * @throws IOException
+	 */
+	private static void time(String name, Work work) throws IOException {
+		long best = Long.MAX_VALUE;
+		for (int i = 0; i < 3; i++) {
+			work.run();
+		}
+		for (int i = 0; i < passes; i++) {
+			long start = System.nanoTime();
+			work.run();
+			best = Math.min(best, System.nanoTime() - start);
+		}
+		System.out.println(name + ": " + best / 1000000 + " ms");
+	}
+
+}
@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * Copyright (c) 2016 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - Jay Jay Billings
+ *******************************************************************************/
+package org.eclipse.ice.tests.io.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.NoSuchElementException;
+import java.util.regex.Pattern;
+
+import org.eclipse.ice.io.util.LineTokenizer;
+import org.junit.Test;
+
+/**
+ * Test class for {@link org.eclipse.ice.io.util.LineTokenizer}.
+ *
+ * @author Jay Jay Billings
+ *
+ */
+public class LineTokenizerTester {
+
+	/**
+	 * Lines with all of the assignment and comment forms that the readers
+	 * need to handle.
+	 */
+	private static final String[] lines = { "", "key = value", "key=value",
+			"key\tvalue", "key    value", "key = value ; comment", "; comment",
+			";", ";;;", "key =", "= value", "key = a = b", "key a b c",
+			"  key = value  ", "[section]", "key == value", "key = ;",
+			"novalue", "a=b=", "==a==" };
+
+	/**
+	 * This operation checks that lines are streamed in order and that the end
+	 * line is added after the last one.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void checkIteration() throws IOException {
+
+		// Read a few lines
+		LineTokenizer tokenizer = new LineTokenizer(
+				new StringReader("one\ntwo\r\n\nfour"));
+		assertTrue(tokenizer.hasNext());
+		assertTrue(tokenizer.hasNext());
+		assertEquals("one", tokenizer.next());
+		assertEquals("two", tokenizer.next());
+		assertEquals("", tokenizer.next());
+		assertEquals("four", tokenizer.next());
+		assertEquals(4, tokenizer.getLineNumber());
+		assertFalse(tokenizer.hasNext());
+		try {
+			tokenizer.next();
+			fail();
+		} catch (NoSuchElementException e) {
+			// Expected
+		}
+		tokenizer.close();
+
+		// Add an end line
+		tokenizer = new LineTokenizer(new StringReader("one"), "EOF");
+		assertEquals("one", tokenizer.next());
+		assertEquals("EOF", tokenizer.next());
+		assertFalse(tokenizer.hasNext());
+		tokenizer.close();
+
+		// An empty stream only has the end line
+		tokenizer = new LineTokenizer(new StringReader(""), "EOF");
+		assertEquals("EOF", tokenizer.next());
+		assertFalse(tokenizer.hasNext());
+		tokenizer.close();
+		assertFalse(tokenizer.hasNext());
+
+		return;
+	}
+
+	/**
+	 * This operation checks that assignments are split exactly like
+	 * String.split() splits them.
+	 */
+	@Test
+	public void checkSplitAssignment() {
+
+		// Check the INIReader's default pattern and some simple ones
+		String[] regexes = { "(=|\\b(\\s)+?|\\b\\t)", "=", " = ", "\\s*",
+				"(?=a)" };
+		for (String regex : regexes) {
+			Pattern pattern = LineTokenizer.compile(regex);
+			for (String line : lines) {
+				String[] pieces = line.split(regex);
+				String[] split = LineTokenizer.splitAssignment(line, pattern);
+				if (pieces.length < 2) {
+					assertNull(regex + " " + line, split);
+				} else {
+					assertArrayEquals(regex + " " + line,
+							new String[] { pieces[0],
+									pieces[pieces.length - 1] },
+							split);
+				}
+			}
+		}
+
+		return;
+	}
+
+	/**
+	 * This operation checks that comments are removed exactly like
+	 * String.split() removes them.
+	 */
+	@Test
+	public void checkStripComment() {
+
+		String[] regexes = { ";", "#", "!", "//", "\\s*;" };
+		for (String regex : regexes) {
+			Pattern pattern = LineTokenizer.compile(regex);
+			for (String line : lines) {
+				String[] pieces = line.split(regex);
+				// Lines with nothing but comments split into no pieces at all
+				String expected = (pieces.length > 0) ? pieces[0] : "";
+				assertEquals(regex + " " + line, expected,
+						LineTokenizer.stripComment(line, pattern));
+			}
+		}
+
+		return;
+	}
+
+	/**
+	 * This operation checks that compiled patterns are reused.
+	 */
+	@Test
+	public void checkCompile() {
+		Pattern pattern = LineTokenizer.compile("[a-z]+ = .*");
+		assertSame(pattern, LineTokenizer.compile("[a-z]+ = .*"));
+		assertTrue(pattern.matcher("key = value").matches());
+	}
+
+}
@@ -0,0 +1,334 @@
+/*******************************************************************************
+ * Copyright (c) 2016 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - Jay Jay Billings
+ *******************************************************************************/
+package org.eclipse.ice.tests.item.nuclear;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ice.item.nuclear.MooseInputValidationService;
+import org.eclipse.ice.item.nuclear.MooseInputValidationService.ICheckProcess;
+import org.eclipse.ice.item.nuclear.MooseInputValidationService.IValidationListener;
+import org.eclipse.ice.item.nuclear.MooseInputValidationService.ValidationResult;
+import org.junit.Test;
+
+/**
+ * This class is responsible for testing {@link MooseInputValidationService}.
+ *
+ * @author Jay Jay Billings
+ */
+public class MooseInputValidationServiceTester {
+
+	/**
+	 * The time to wait for a result in seconds
+	 */
+	private static final long TIMEOUT = 10;
+
+	/**
+	 * This class fakes a run of a MOOSE app with --check-input by returning
+	 * fixed output.
+	 */
+	private static class FakeCheck implements ICheckProcess {
+
+		/**
+		 * The output of the app
+		 */
+		private final String output;
+
+		/**
+		 * The latch that the app waits for before it writes its output or
+		 * null if it does not wait
+		 */
+		private final CountDownLatch gate;
+
+		/**
+		 * The number of times the app was started
+		 */
+		private volatile int starts = 0;
+
+		/**
+		 * The number of times the check was finished
+		 */
+		private volatile int finishes = 0;
+
+		/**
+		 * The constructor
+		 */
+		private FakeCheck(String output) {
+			this(output, null);
+		}
+
+		/**
+		 * The constructor for an app that waits for a latch
+		 */
+		private FakeCheck(String output, CountDownLatch gate) {
+			this.output = output;
+			this.gate = gate;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 *
+		 * @see org.eclipse.ice.item.nuclear.MooseInputValidationService.
+		 * ICheckProcess#start()
+		 */
+		@Override
+		public InputStream start() throws IOException {
+			starts++;
+			try {
+				if (gate != null && !gate.await(TIMEOUT, TimeUnit.SECONDS)) {
+					throw new IOException("The app was never released.");
+				}
+			} catch (InterruptedException e) {
+				throw new IOException(e);
+			}
+			if (output == null) {
+				throw new IOException("The app could not be launched.");
+			}
+			return new ByteArrayInputStream(
+					output.getBytes(StandardCharsets.UTF_8));
+		}
+
+		/*
+		 * (non-Javadoc)
+		 *
+		 * @see org.eclipse.ice.item.nuclear.MooseInputValidationService.
+		 * ICheckProcess#finish()
+		 */
+		@Override
+		public void finish() {
+			finishes++;
+		}
+	}
+
+	/**
+	 * This operation checks that keys depend on both the identity and the
+	 * input.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void checkKeys() throws IOException {
+		String key = computeKey("app", "[Mesh]");
+		assertEquals(key, computeKey("app", "[Mesh]"));
+		assertNotEquals(key, computeKey("app2", "[Mesh]"));
+		assertNotEquals(key, computeKey("app", "[Mesh2]"));
+		return;
+	}
+
+	/**
+	 * This operation checks that checks are run, that their output is
+	 * streamed and parsed and that their results are cached.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void checkValidationAndCaching() throws Exception {
+
+		// Local Declarations
+		MooseInputValidationService service = new MooseInputValidationService(
+				0, 2, 4);
+		FakeCheck valid = new FakeCheck("Checking input\nDone\n");
+		FakeCheck invalid = new FakeCheck(
+				"Checking input\n*** ERROR ***\nBad block\nStack trace\n");
+		final List<String> lines = new ArrayList<String>();
+		IValidationListener listener = new IValidationListener() {
+			@Override
+			public void outputReceived(String line) {
+				lines.add(line);
+			}
+		};
+
+		// Check a valid input
+		ValidationResult result = service
+				.validate("input.i", "valid", valid, listener)
+				.get(TIMEOUT, TimeUnit.SECONDS);
+		assertTrue(result.isValid());
+		assertFalse(result.isCached());
+		assertNull(result.getError());
+		assertEquals(2, lines.size());
+		assertEquals(1, valid.finishes);
+
+		// Check an invalid input in the same scope
+		result = service.validate("input.i", "invalid", invalid, null)
+				.get(TIMEOUT, TimeUnit.SECONDS);
+		assertFalse(result.isValid());
+		assertEquals("*** ERROR ***\nBad block", result.getError());
+		assertTrue(result.getOutput().contains("Stack trace"));
+
+		// Checking either again uses the cache
+		result = service.validate("input.i", "valid", valid, null)
+				.get(TIMEOUT, TimeUnit.SECONDS);
+		assertTrue(result.isValid());
+		assertTrue(result.isCached());
+		result = service.validate("input.i", "invalid", invalid, null)
+				.get(TIMEOUT, TimeUnit.SECONDS);
+		assertFalse(result.isValid());
+		assertTrue(result.isCached());
+		assertEquals(1, valid.starts);
+		assertEquals(1, invalid.starts);
+		assertEquals(2, service.getChecksRun());
+
+		// Clearing the cache runs them again
+		service.clearCache();
+		service.validate("input.i", "valid", valid, null).get(TIMEOUT,
+				TimeUnit.SECONDS);
+		assertEquals(2, valid.starts);
+
+		return;
+	}
+
+	/**
+	 * This operation checks that a check in a scope that is not busy starts
+	 * without waiting for the debounce delay.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void checkNoDelayWhenIdle() throws Exception {
+
+		// Local Declarations
+		MooseInputValidationService service = new MooseInputValidationService(
+				60000, 2, 4);
+		FakeCheck check = new FakeCheck("Done\n");
+
+		// The delay is far longer than the timeout, so this only passes if
+		// the check starts right away
+		assertTrue(service.validate("input.i", "check", check, null)
+				.get(TIMEOUT, TimeUnit.SECONDS).isValid());
+		assertEquals(1, check.starts);
+
+		return;
+	}
+
+	/**
+	 * This operation checks that requests in the same scope that come in
+	 * while a check is running only run the last check and that all of them
+	 * receive its result.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void checkDebouncing() throws Exception {
+
+		// Local Declarations
+		MooseInputValidationService service = new MooseInputValidationService(
+				200, 2, 4);
+		CountDownLatch gate = new CountDownLatch(1);
+		FakeCheck first = new FakeCheck("*** ERROR ***\nOld input\n", gate);
+		FakeCheck second = new FakeCheck("*** ERROR ***\nOld input\n");
+		FakeCheck last = new FakeCheck("Done\n");
+		long deadline = System.currentTimeMillis() + TIMEOUT * 1000;
+
+		// The first check starts right away and is held until released
+		Future<ValidationResult> firstResult = service.validate("input.i",
+				"first", first, null);
+		while (first.starts == 0 && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		assertEquals(1, first.starts);
+
+		// Request two more checks of the same file in quick succession
+		Future<ValidationResult> secondResult = service.validate("input.i",
+				"second", second, null);
+		Future<ValidationResult> lastResult = service.validate("input.i",
+				"last", last, null);
+		gate.countDown();
+
+		// The first one gets its own result. Of the others only the last one
+		// runs and both get its result.
+		assertFalse(firstResult.get(TIMEOUT, TimeUnit.SECONDS).isValid());
+		ValidationResult result = lastResult.get(TIMEOUT, TimeUnit.SECONDS);
+		assertTrue(result.isValid());
+		assertSame(result, secondResult.get(TIMEOUT, TimeUnit.SECONDS));
+		assertEquals(1, first.starts);
+		assertEquals(0, second.starts);
+		assertEquals(1, last.starts);
+		assertEquals(2, service.getChecksRun());
+
+		// Other files are not affected
+		FakeCheck other = new FakeCheck("Done\n");
+		service.validate("other.i", "other", other, null).get(TIMEOUT,
+				TimeUnit.SECONDS);
+		assertEquals(1, other.starts);
+
+		return;
+	}
+
+	/**
+	 * This operation checks that checks that fail to run report the failure
+	 * and are not cached.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void checkFailures() throws Exception {
+
+		// Local Declarations
+		MooseInputValidationService service = new MooseInputValidationService(
+				0, 1, 4);
+		FakeCheck broken = new FakeCheck(null);
+
+		// The failure should be reported
+		try {
+			service.validate("input.i", "broken", broken, null).get(TIMEOUT,
+					TimeUnit.SECONDS);
+			fail();
+		} catch (ExecutionException e) {
+			assertTrue(e.getCause() instanceof IOException);
+		}
+		assertEquals(1, broken.finishes);
+
+		// And it should be tried again
+		try {
+			service.validate("input.i", "broken", broken, null).get(TIMEOUT,
+					TimeUnit.SECONDS);
+			fail();
+		} catch (ExecutionException e) {
+			assertEquals(2, broken.starts);
+		}
+
+		return;
+	}
+
+	/**
+	 * This operation computes a key from strings.
+	 *
+	 * @param identity
+	 *            The identity
+	 * @param input
+	 *            The input
+	 * @return The key
+	 * @throws IOException
+	 */
+	private String computeKey(String identity, String input)
+			throws IOException {
+		return MooseInputValidationService.computeKey(identity,
+				new ByteArrayInputStream(
+						input.getBytes(StandardCharsets.UTF_8)));
+	}
+
+}
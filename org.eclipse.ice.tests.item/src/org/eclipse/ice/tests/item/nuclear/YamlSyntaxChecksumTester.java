@@ -0,0 +1,213 @@
+/*******************************************************************************
+ * Copyright (c) 2016 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - Jay Jay Billings
+ *******************************************************************************/
+package org.eclipse.ice.tests.item.nuclear;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.ice.item.nuclear.YamlSyntaxChecksum;
+import org.eclipse.ice.item.nuclear.YamlSyntaxChecksum.State;
+import org.junit.Test;
+
+/**
+ * This class is responsible for testing {@link YamlSyntaxChecksum}.
+ *
+ * @author Jay Jay Billings
+ */
+public class YamlSyntaxChecksumTester {
+
+	/**
+	 * This operation checks that checksums are stored per host and can be
+	 * cleared.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void checkStorage() throws IOException {
+
+		// Local Declarations
+		File file = File.createTempFile("yamlSyntaxChecksumTester", ".checksum");
+		file.delete();
+		YamlSyntaxChecksum checksums = new YamlSyntaxChecksum(file, "host");
+
+		// Nothing is stored yet
+		assertEquals("", checksums.readChecksum());
+
+		// Store one and read it back
+		checksums.writeChecksum("abc123  /bin/app");
+		assertEquals("abc123  /bin/app", checksums.readChecksum());
+
+		// It does not count for other hosts
+		assertEquals("", new YamlSyntaxChecksum(file, "other").readChecksum());
+
+		// Clear it
+		checksums.clearChecksum();
+		assertFalse(file.exists());
+		assertEquals("", checksums.readChecksum());
+
+		return;
+	}
+
+	/**
+	 * This operation checks that the output of the command is turned into the
+	 * right state.
+	 */
+	@Test
+	public void checkParsing() {
+
+		// The checksum matched, so nothing was generated
+		assertEquals(State.UNCHANGED, YamlSyntaxChecksum
+				.parseOutput(Arrays.asList("abc"), "abc"));
+
+		// Both generators succeeded
+		assertEquals(State.GENERATED, YamlSyntaxChecksum
+				.parseOutput(Arrays.asList("abc", "0 0"), "old"));
+		assertEquals(State.GENERATED, YamlSyntaxChecksum
+				.parseOutput(Arrays.asList("", "0 0"), ""));
+
+		// One of them failed or the status is missing
+		assertEquals(State.FAILED, YamlSyntaxChecksum
+				.parseOutput(Arrays.asList("abc", "1 0"), "old"));
+		assertEquals(State.FAILED, YamlSyntaxChecksum
+				.parseOutput(Arrays.asList("abc", "0 127"), "old"));
+		assertEquals(State.FAILED,
+				YamlSyntaxChecksum.parseOutput(Arrays.asList("abc"), "old"));
+		assertEquals(State.FAILED, YamlSyntaxChecksum
+				.parseOutput(Collections.<String> emptyList(), ""));
+
+		// An empty checksum never matches
+		assertEquals(State.FAILED,
+				YamlSyntaxChecksum.parseOutput(Arrays.asList(""), ""));
+
+		return;
+	}
+
+	/**
+	 * This operation checks that quoted strings are passed to the shell as
+	 * one argument.
+	 */
+	@Test
+	public void checkQuoting() {
+		assertEquals("'a b'", YamlSyntaxChecksum.quote("a b"));
+		assertEquals("'it'\\''s'", YamlSyntaxChecksum.quote("it's"));
+		return;
+	}
+
+	/**
+	 * This operation runs the command with a local shell and a fake app to
+	 * check that the files are only generated when the app changes and that
+	 * failures of the app are reported. It is skipped if there is no shell.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void checkCommand() throws Exception {
+
+		assumeTrue(new File("/bin/sh").canExecute());
+
+		// Local Declarations
+		File dir = Files.createTempDirectory("yamlSyntaxChecksumTester")
+				.toFile();
+		File app = new File(dir, "app's");
+		String fileLoc = new File(dir, "out").getPath();
+		File yaml = new File(fileLoc + ".yaml");
+
+		// A working app
+		writeApp(app, 0);
+		List<String> output = run(
+				YamlSyntaxChecksum.createCommand(app.getPath(), fileLoc, ""));
+		assertEquals(State.GENERATED,
+				YamlSyntaxChecksum.parseOutput(output, ""));
+		assertTrue(yaml.isFile());
+		String checksum = YamlSyntaxChecksum.getChecksum(output);
+		assertFalse(checksum.isEmpty());
+
+		// Running it again with the checksum does not generate the files
+		yaml.delete();
+		output = run(YamlSyntaxChecksum.createCommand(app.getPath(), fileLoc,
+				checksum));
+		assertEquals(State.UNCHANGED,
+				YamlSyntaxChecksum.parseOutput(output, checksum));
+		assertFalse(yaml.exists());
+
+		// A changed app that fails is reported
+		writeApp(app, 3);
+		output = run(YamlSyntaxChecksum.createCommand(app.getPath(), fileLoc,
+				checksum));
+		assertEquals(State.FAILED,
+				YamlSyntaxChecksum.parseOutput(output, checksum));
+
+		// Clean up
+		for (File file : dir.listFiles()) {
+			file.delete();
+		}
+		dir.delete();
+
+		return;
+	}
+
+	/**
+	 * This operation writes a fake app that prints its argument and exits
+	 * with the given status.
+	 *
+	 * @param app
+	 *            The file of the app
+	 * @param status
+	 *            The exit status
+	 * @throws IOException
+	 */
+	private void writeApp(File app, int status) throws IOException {
+		Files.write(app.toPath(),
+				Arrays.asList("#!/bin/sh", "echo \"$1\"", "exit " + status),
+				StandardCharsets.UTF_8);
+		app.setExecutable(true);
+	}
+
+	/**
+	 * This operation runs a command with sh and returns its output.
+	 *
+	 * @param command
+	 *            The command
+	 * @return The lines of output
+	 * @throws Exception
+	 */
+	private List<String> run(String command) throws Exception {
+
+		// Local Declarations
+		List<String> output = new ArrayList<String>();
+		Process process = new ProcessBuilder("sh", "-c", command).start();
+		String line;
+
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+				process.getInputStream(), StandardCharsets.UTF_8))) {
+			while ((line = reader.readLine()) != null) {
+				output.add(line);
+			}
+		}
+		process.waitFor();
+
+		return output;
+	}
+
+}
@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright (c) 2016 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - Jay Jay Billings
+ *******************************************************************************/
+package org.eclipse.tests.ice.item;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+
+import org.eclipse.ice.datastructures.ICEObject.ICEJAXBHandler;
+import org.eclipse.ice.datastructures.entry.StringEntry;
+import org.eclipse.ice.datastructures.form.DataComponent;
+import org.eclipse.ice.datastructures.form.Form;
+import org.eclipse.ice.datastructures.form.TableComponent;
+import org.eclipse.ice.datastructures.jaxbclassprovider.ICEJAXBClassProvider;
+import org.eclipse.ice.item.FormExporter;
+import org.junit.Test;
+
+/**
+ * This class is responsible for testing {@link FormExporter}.
+ *
+ * @author Jay Jay Billings
+ */
+public class FormExporterTester {
+
+	/**
+	 * This operation checks that the Entries of the DataComponents of a Form
+	 * are written in order as tagged output and that other Components are
+	 * skipped.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void checkTaggedOutput() throws IOException {
+
+		// Local Declarations
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+
+		// Write the Form
+		FormExporter.writeTaggedOutput(createForm(), stream);
+		assertEquals("jayjaybillings=Awesome\nDavid'sEntry=The boss\n"
+				+ "mesh=square\n",
+				new String(stream.toByteArray(), StandardCharsets.UTF_8));
+
+		return;
+	}
+
+	/**
+	 * This operation checks that a Form written in the native XML format can
+	 * be read back.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void checkNativeOutput() throws Exception {
+
+		// Local Declarations
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		ArrayList<Class> classList = new ArrayList<Class>();
+		classList.add(Form.class);
+		classList.addAll(new ICEJAXBClassProvider().getClasses());
+		Form form = createForm();
+		form.setName("Exported Form");
+
+		// Write the Form and read it back
+		FormExporter.writeNativeOutput(form, stream);
+		Form loadedForm = (Form) new ICEJAXBHandler().read(classList,
+				new ByteArrayInputStream(stream.toByteArray()));
+		assertEquals(form.getName(), loadedForm.getName());
+		assertEquals(3, loadedForm.getComponents().size());
+		assertEquals("Awesome", ((DataComponent) loadedForm.getComponents().get(0))
+				.retrieveEntry("Jay Jay's Entry").getValue());
+
+		return;
+	}
+
+	/**
+	 * This operation checks that exporting to a file replaces its contents.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void checkFileExport() throws IOException {
+
+		// Local Declarations
+		File file = File.createTempFile("formExporterTester", ".dat");
+		file.deleteOnExit();
+
+		// Fill the file with more than the Form needs
+		StringBuilder oldContents = new StringBuilder();
+		for (int i = 0; i < 1000; i++) {
+			oldContents.append("old=").append(i).append("\n");
+		}
+		Files.write(file.toPath(),
+				oldContents.toString().getBytes(StandardCharsets.UTF_8));
+
+		// Export the Form and make sure only it is in the file
+		FormExporter.export(createForm(), file, true);
+		String contents = new String(Files.readAllBytes(file.toPath()),
+				StandardCharsets.UTF_8);
+		assertTrue(contents.startsWith("jayjaybillings=Awesome\n"));
+		assertTrue(contents.endsWith("mesh=square\n"));
+		assertEquals(3, contents.split("\n").length);
+
+		file.delete();
+
+		return;
+	}
+
+	/**
+	 * This operation creates a Form with two DataComponents and a
+	 * TableComponent.
+	 *
+	 * @return The Form
+	 */
+	private Form createForm() {
+
+		// Local Declarations
+		Form form = new Form();
+		DataComponent first = new DataComponent();
+		DataComponent second = new DataComponent();
+
+		// The first Entry is tagged and the second is not
+		StringEntry entry = new StringEntry();
+		entry.setName("Jay Jay's Entry");
+		entry.setTag("jay jay billings");
+		entry.setValue("Awesome");
+		first.addEntry(entry);
+		entry = new StringEntry();
+		entry.setName("David's Entry");
+		entry.setValue("The boss");
+		first.addEntry(entry);
+		entry = new StringEntry();
+		entry.setName("mesh");
+		entry.setValue("square");
+		second.addEntry(entry);
+
+		// Add the Components
+		form.addComponent(first);
+		form.addComponent(new TableComponent());
+		form.addComponent(second);
+
+		return form;
+	}
+
+}
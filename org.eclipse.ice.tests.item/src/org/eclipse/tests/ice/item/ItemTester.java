@@ -28,6 +28,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.xml.bind.JAXBException;
 
@@ -36,6 +37,9 @@ import org.eclipse.core.resources.IFolder;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IProjectDescription;
 import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
 import org.eclipse.core.resources.IWorkspaceRoot;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
@@ -45,10 +49,13 @@ import org.eclipse.eavp.viz.service.IVizServiceFactory;
 import org.eclipse.eavp.viz.service.csv.CSVVizService;
 import org.eclipse.eavp.viz.service.visit.VisItVizService;
 import org.eclipse.ice.datastructures.ICEObject.ICEJAXBHandler;
+import org.eclipse.ice.datastructures.entry.DiscreteEntry;
 import org.eclipse.ice.datastructures.entry.FileEntry;
 import org.eclipse.ice.datastructures.entry.IEntry;
+import org.eclipse.ice.datastructures.entry.StringEntry;
 import org.eclipse.ice.datastructures.form.DataComponent;
 import org.eclipse.ice.datastructures.form.Form;
+import org.eclipse.ice.datastructures.form.FormDelta;
 import org.eclipse.ice.datastructures.form.FormStatus;
 import org.eclipse.ice.datastructures.internal.VizServiceFactoryHolder;
 import org.eclipse.ice.datastructures.jaxbclassprovider.ICEJAXBClassProvider;
@@ -678,6 +685,185 @@ public class ItemTester implements ItemListener {
 
 	}
 
+	/**
+	 * <p>
+	 * This operation checks that the Item applies and reviews FormDeltas. It
+	 * makes sure that valid changes are applied, that a delta with an invalid
+	 * value is reverted completely and that deltas made on an older revision
+	 * of the Form or for Entries that do not exist are rejected.
+	 * </p>
+	 * 
+	 */
+	@Test
+	public void checkDeltaSubmission() {
+
+		// Load the Item from the PSF string
+		Item testItem = new Item(null);
+		try {
+			testItem.loadFromPSF(
+					new ByteArrayInputStream(psfItemString.getBytes()));
+		} catch (IOException e) {
+			// Fail if it can't load
+			fail();
+		}
+		Form form = testItem.getForm();
+		DataComponent dataComp = (DataComponent) form.getComponent(1);
+		IEntry flag = dataComp.retrieveEntry("Full Assembly Flag");
+		IEntry pins = dataComp.retrieveEntry("Number of Pins");
+
+		// Change the flag with a delta
+		FormDelta delta = new FormDelta(form.getItemID(), form.getRevision());
+		delta.addChange(dataComp.getId(), flag.getId(), "true");
+		assertEquals(FormStatus.ReadyToProcess, testItem.submitDelta(delta));
+		assertEquals("true", flag.getValue());
+		assertEquals(FormStatus.ReadyToProcess, testItem.getStatus());
+
+		// A delta with one bad value should not change anything
+		delta = new FormDelta(form.getItemID(), form.getRevision());
+		delta.addChange(dataComp.getId(), flag.getId(), "false");
+		delta.addChange(dataComp.getId(), pins.getId(), "200");
+		assertEquals(FormStatus.InfoError, testItem.submitDelta(delta));
+		assertEquals("true", flag.getValue());
+		assertEquals("289", pins.getValue());
+
+		// Entries that do not exist can't be changed
+		delta = new FormDelta(form.getItemID(), form.getRevision());
+		delta.addChange(dataComp.getId(), 8675309, "196");
+		assertEquals(FormStatus.InfoError, testItem.submitDelta(delta));
+		delta = new FormDelta(form.getItemID(), form.getRevision());
+		delta.addChange(8675309, pins.getId(), "196");
+		assertEquals(FormStatus.InfoError, testItem.submitDelta(delta));
+
+		// Deltas on older revisions are rejected
+		delta = new FormDelta(form.getItemID(), form.getRevision());
+		delta.addChange(dataComp.getId(), pins.getId(), "196");
+		form.incrementRevision();
+		assertEquals(FormStatus.InfoError, testItem.submitDelta(delta));
+		assertEquals("289", pins.getValue());
+
+		// Deltas on the current revision are accepted
+		delta = new FormDelta(form.getItemID(), form.getRevision());
+		delta.addChange(dataComp.getId(), pins.getId(), "196");
+		assertEquals(FormStatus.ReadyToProcess, testItem.submitDelta(delta));
+		assertEquals("196", pins.getValue());
+
+		// Items that review the whole Form still review it for deltas
+		TestItem testItem2 = new TestItem(null);
+		form = testItem2.getForm();
+		dataComp = (DataComponent) form.getComponent(2);
+		IEntry entry = dataComp.retrieveEntry("David's Entry");
+		delta = new FormDelta(form.getItemID(), form.getRevision());
+		delta.addChange(dataComp.getId(), entry.getId(), "Still the boss");
+		assertEquals(FormStatus.ReadyToProcess, testItem2.submitDelta(delta));
+		assertEquals("Still the boss", entry.getValue());
+
+		return;
+	}
+
+	/**
+	 * <p>
+	 * This operation checks that Entries are restored to their previous state
+	 * when a delta can not be applied, even if that state would not be
+	 * accepted by setValue(), and that deltas are reviewed with the whole Form
+	 * unless an Item opts in to reviewing only the changed Entries.
+	 * </p>
+	 * 
+	 */
+	@Test
+	public void checkDeltaRestoreAndReview() {
+
+		// Local Declarations
+		final AtomicInteger fullReviews = new AtomicInteger();
+		final AtomicInteger deltaReviews = new AtomicInteger();
+
+		// Create an Item that counts its full reviews
+		Item testItem = new Item(null) {
+			@Override
+			protected FormStatus reviewEntries(Form preparedForm) {
+				fullReviews.incrementAndGet();
+				return super.reviewEntries(preparedForm);
+			}
+		};
+		Form form = testItem.getForm();
+		DataComponent dataComp = new DataComponent();
+		dataComp.setId(1);
+		form.addComponent(dataComp);
+
+		// The mode was loaded with a value that is not allowed
+		DiscreteEntry mode = new DiscreteEntry("fast", "safe");
+		StringEntry legacy = new StringEntry();
+		legacy.setValue("legacy");
+		mode.copy(legacy);
+		mode.setId(1);
+		mode.setName("Mode");
+		dataComp.addEntry(mode);
+		// This Entry accepts every value until it is set
+		IEntry rejecting = new StringEntry() {
+			@Override
+			public boolean setValue(String newValue) {
+				return false;
+			}
+		};
+		rejecting.setId(2);
+		rejecting.setName("Rejecting");
+		dataComp.addEntry(rejecting);
+
+		// The mode should get its old value back when the second change fails
+		FormDelta delta = new FormDelta(form.getItemID(), form.getRevision());
+		delta.addChange(dataComp.getId(), mode.getId(), "safe");
+		delta.addChange(dataComp.getId(), rejecting.getId(), "anything");
+		assertEquals(FormStatus.InfoError, testItem.submitDelta(delta));
+		assertEquals("legacy", mode.getValue());
+		assertEquals(0, fullReviews.get());
+
+		// Accepted deltas are reviewed with the whole Form by default
+		delta = new FormDelta(form.getItemID(), form.getRevision());
+		delta.addChange(dataComp.getId(), mode.getId(), "safe");
+		assertEquals(FormStatus.ReadyToProcess, testItem.submitDelta(delta));
+		assertEquals("safe", mode.getValue());
+		assertEquals(1, fullReviews.get());
+
+		// Create an Item that only reviews the changed Entries
+		testItem = new Item(null) {
+			@Override
+			protected FormStatus reviewEntries(Form preparedForm) {
+				fullReviews.incrementAndGet();
+				return super.reviewEntries(preparedForm);
+			}
+
+			@Override
+			protected FormStatus reviewEntries(Form preparedForm,
+					List<IEntry> changedEntries) {
+				deltaReviews.incrementAndGet();
+				return reviewChangedEntries(preparedForm, changedEntries);
+			}
+		};
+		fullReviews.set(0);
+		form = testItem.getForm();
+		dataComp = new DataComponent();
+		dataComp.setId(1);
+		StringEntry name = new StringEntry();
+		name.setId(1);
+		name.setName("Name");
+		name.setValue("Old");
+		dataComp.addEntry(name);
+		form.addComponent(dataComp);
+
+		// The first delta reviews the whole Form since its Entries have not
+		// been registered yet, but later ones do not.
+		for (int i = 0; i < 2; i++) {
+			delta = new FormDelta(form.getItemID(), form.getRevision());
+			delta.addChange(dataComp.getId(), name.getId(), "New " + i);
+			assertEquals(FormStatus.ReadyToProcess,
+					testItem.submitDelta(delta));
+			assertEquals("New " + i, name.getValue());
+		}
+		assertEquals(2, deltaReviews.get());
+		assertEquals(1, fullReviews.get());
+
+		return;
+	}
+
 	/**
 	 * This operation checks the Item to make sure that by default it offers two
 	 * actions, one for writing the Form to XML and another for writing the
@@ -771,8 +957,25 @@ public class ItemTester implements ItemListener {
 		// Direct the Item to write the Form to XML
 		assertEquals(FormStatus.Processed,
 				item.process("Export to ICE Native Format"));
-		// Make sure the fake writer was called.
-		assertTrue(xmlWriter.written);
+		// Make sure the Form was written to the project and can be read back
+		filename = (form.getName() + "_" + form.getId() + ".xml")
+				.replaceAll("\\s+", "_");
+		IFile formXMLFile = project.getFile(filename);
+		assertTrue(formXMLFile.exists());
+		try {
+			Form loadedForm = (Form) xmlHandler.read(classList,
+					formXMLFile.getContents());
+			assertEquals(form.getName(), loadedForm.getName());
+			assertEquals(form.getComponents().size(),
+					loadedForm.getComponents().size());
+			formXMLFile.delete(true, null);
+		} catch (NullPointerException | JAXBException | IOException
+				| CoreException e) {
+			e.printStackTrace();
+			fail();
+		}
+		// The XML writer of the IOService is not needed to export the Form
+		assertFalse(xmlWriter.written);
 
 		// ----- This should be replaced to use a FakeIWriter
 
@@ -1283,6 +1486,87 @@ public class ItemTester implements ItemListener {
 		return;
 	}
 
+	/**
+	 * This operation checks that the Item only reloads its project data for
+	 * changes to the files it depends on and that it keeps its listing of the
+	 * project files up to date from the resource deltas.
+	 * 
+	 * @throws CoreException
+	 */
+	@Test
+	public void checkProjectDeltas() throws CoreException {
+
+		// Local Declarations
+		IWorkspaceRoot workspaceRoot = ResourcesPlugin.getWorkspace().getRoot();
+		final IProject project = workspaceRoot.getProject("itemDeltaWorkspace");
+		final List<Boolean> reloads = new ArrayList<Boolean>();
+
+		// Setup the project
+		if (!project.exists()) {
+			project.create(null);
+		}
+		if (!project.isOpen()) {
+			project.open(null);
+		}
+		final TestItem deltaItem = new TestItem(project);
+
+		// List the files so that the listing is cached
+		assertFalse(deltaItem.getTestProjectFileNames(null)
+				.contains("delta.txt"));
+
+		// Forward the deltas to the Item like the ItemManager does. Deltas are
+		// only valid while they are being reported.
+		IResourceChangeListener listener = new IResourceChangeListener() {
+			@Override
+			public void resourceChanged(IResourceChangeEvent event) {
+				IResourceDelta delta = event.getDelta()
+						.findMember(project.getFullPath());
+				if (delta != null) {
+					reloads.add(deltaItem.reloadProjectData(delta));
+				}
+			}
+		};
+		ResourcesPlugin.getWorkspace().addResourceChangeListener(listener,
+				IResourceChangeEvent.POST_CHANGE);
+
+		try {
+			// Adding a file at the top of the project reloads the Item
+			IFile file = project.getFile("delta.txt");
+			file.create(new ByteArrayInputStream("delta".getBytes()), true,
+					null);
+			assertEquals(Arrays.asList(true), reloads);
+			assertTrue(deltaItem.getTestProjectFileNames(".txt")
+					.contains("delta.txt"));
+
+			// Adding files to a folder does not
+			reloads.clear();
+			IFolder folder = project.getFolder("jobs");
+			folder.create(true, true, null);
+			folder.getFile("output.txt").create(
+					new ByteArrayInputStream("output".getBytes()), true, null);
+			assertFalse(reloads.contains(true));
+			assertFalse(deltaItem.getTestProjectFileNames(null)
+					.contains("output.txt"));
+
+			// Removing the file reloads it again
+			reloads.clear();
+			file.delete(true, null);
+			assertEquals(Arrays.asList(true), reloads);
+			assertFalse(deltaItem.getTestProjectFileNames(null)
+					.contains("delta.txt"));
+
+			// Missing deltas are ignored
+			assertFalse(deltaItem.reloadProjectData(null));
+		} finally {
+			// Shut down the project resource
+			ResourcesPlugin.getWorkspace()
+					.removeResourceChangeListener(listener);
+			project.delete(true, null);
+		}
+
+		return;
+	}
+
 	/**
 	 * (non-Javadoc)
 	 * 
@@ -0,0 +1,331 @@
+/*******************************************************************************
+ * Copyright (c) 2016 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - Jay Jay Billings
+ *******************************************************************************/
+package org.eclipse.tests.ice.item;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import org.eclipse.ice.item.action.RemoteConnectionPool;
+import org.eclipse.remote.core.IRemoteConnection;
+import org.eclipse.remote.core.IRemoteConnectionHostService;
+import org.eclipse.remote.core.exception.RemoteConnectionException;
+import org.junit.Test;
+
+/**
+ * This class is responsible for testing {@link RemoteConnectionPool}.
+ *
+ * @author Jay Jay Billings
+ */
+public class RemoteConnectionPoolTester {
+
+	/**
+	 * This class fakes a remote connection to a host. It only implements the
+	 * parts of IRemoteConnection that the pool uses.
+	 */
+	private static class FakeConnection implements InvocationHandler {
+
+		/**
+		 * The user name
+		 */
+		private final String user;
+
+		/**
+		 * The host name
+		 */
+		private final String host;
+
+		/**
+		 * True if the connection is open
+		 */
+		private volatile boolean open = false;
+
+		/**
+		 * The number of times the connection was opened
+		 */
+		private int openCount = 0;
+
+		/**
+		 * The constructor
+		 */
+		private FakeConnection(String user, String host) {
+			this.user = user;
+			this.host = host;
+		}
+
+		/**
+		 * This operation creates an IRemoteConnection backed by this fake.
+		 *
+		 * @return The connection
+		 */
+		private IRemoteConnection create() {
+			return (IRemoteConnection) Proxy.newProxyInstance(
+					getClass().getClassLoader(),
+					new Class<?>[] { IRemoteConnection.class }, this);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 *
+		 * @see java.lang.reflect.InvocationHandler#invoke(java.lang.Object,
+		 * java.lang.reflect.Method, java.lang.Object[])
+		 */
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) {
+			String name = method.getName();
+			if ("isOpen".equals(name)) {
+				return open;
+			} else if ("open".equals(name)) {
+				open = true;
+				openCount++;
+			} else if ("close".equals(name)) {
+				open = false;
+			} else if ("getName".equals(name)) {
+				return host;
+			} else if ("getService".equals(name)
+					&& args[0] == IRemoteConnectionHostService.class) {
+				return Proxy.newProxyInstance(getClass().getClassLoader(),
+						new Class<?>[] { IRemoteConnectionHostService.class },
+						new InvocationHandler() {
+							@Override
+							public Object invoke(Object service, Method method,
+									Object[] args) {
+								String name = method.getName();
+								if ("getHostname".equals(name)) {
+									return host;
+								} else if ("getUsername".equals(name)) {
+									return user;
+								} else if ("getPort".equals(name)) {
+									return 22;
+								}
+								return null;
+							}
+						});
+			} else if ("equals".equals(name)) {
+				return proxy == args[0];
+			} else if ("hashCode".equals(name)) {
+				return System.identityHashCode(proxy);
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * This operation checks that connections to the same user and host are
+	 * opened once and shared, and that connections to other users are not.
+	 *
+	 * @throws RemoteConnectionException
+	 */
+	@Test
+	public void checkSharing() throws RemoteConnectionException {
+
+		// Local Declarations
+		RemoteConnectionPool pool = new RemoteConnectionPool(60000, 4);
+		FakeConnection first = new FakeConnection("kirk", "enterprise");
+		FakeConnection second = new FakeConnection("kirk", "enterprise");
+		FakeConnection other = new FakeConnection("spock", "enterprise");
+
+		// Two lookups of the same account share the first connection
+		IRemoteConnection firstConnection = first.create();
+		IRemoteConnection acquired = pool.acquire(firstConnection, null);
+		assertSame(firstConnection, acquired);
+		IRemoteConnection shared = pool.acquire(second.create(), null);
+		assertSame(firstConnection, shared);
+		assertEquals(1, first.openCount);
+		assertEquals(0, second.openCount);
+
+		// Another user gets its own connection
+		IRemoteConnection otherConnection = pool.acquire(other.create(),
+				null);
+		assertEquals(1, other.openCount);
+
+		// Check the statistics
+		RemoteConnectionPool.Statistics stats = pool.getStatistics();
+		assertEquals(2, stats.getPooledConnections());
+		assertEquals(3, stats.getActiveChannels());
+		assertEquals(2, stats.getOpenedConnections());
+		assertEquals(1, stats.getReusedConnections());
+
+		// Releasing leaves them open
+		pool.release(acquired);
+		pool.release(shared);
+		pool.release(otherConnection);
+		assertTrue(first.open);
+		assertTrue(other.open);
+		assertEquals(0, pool.getStatistics().getActiveChannels());
+
+		// Connections that are not idle for long enough are not closed
+		assertEquals(0, pool.closeIdleConnections());
+
+		pool.dispose();
+
+		return;
+	}
+
+	/**
+	 * This operation checks that dropped connections are reopened and that
+	 * idle connections are closed.
+	 *
+	 * @throws RemoteConnectionException
+	 * @throws InterruptedException
+	 */
+	@Test
+	public void checkHealthAndIdleTimeout()
+			throws RemoteConnectionException, InterruptedException {
+
+		// Local Declarations
+		RemoteConnectionPool pool = new RemoteConnectionPool(50, 4);
+		FakeConnection fake = new FakeConnection("kirk", "enterprise");
+		IRemoteConnection connection = fake.create();
+
+		// Open it and drop it behind the pool's back
+		pool.release(pool.acquire(connection, null));
+		fake.open = false;
+
+		// It should be reopened
+		pool.release(pool.acquire(connection, null));
+		assertEquals(2, fake.openCount);
+		assertEquals(1, pool.getStatistics().getFailedHealthChecks());
+
+		// Let it go idle. It may be closed by the pool's own thread first.
+		Thread.sleep(100);
+		pool.closeIdleConnections();
+		assertFalse(fake.open);
+		assertEquals(0, pool.getStatistics().getPooledConnections());
+		assertEquals(1, pool.getStatistics().getClosedConnections());
+
+		pool.dispose();
+
+		return;
+	}
+
+	/**
+	 * This operation checks that connections in use are not closed, however
+	 * long they have been open.
+	 *
+	 * @throws RemoteConnectionException
+	 * @throws InterruptedException
+	 */
+	@Test
+	public void checkLeasedConnectionsStayOpen()
+			throws RemoteConnectionException, InterruptedException {
+
+		// Local Declarations
+		RemoteConnectionPool pool = new RemoteConnectionPool(0, 1);
+		FakeConnection fake = new FakeConnection("kirk", "enterprise");
+		IRemoteConnection connection = pool.acquire(fake.create(), null);
+
+		// It is in use, so it stays open
+		assertEquals(0, pool.closeIdleConnections());
+		assertTrue(fake.open);
+
+		// Once it is released it is closed
+		pool.release(connection);
+		Thread.sleep(10);
+		pool.closeIdleConnections();
+		assertFalse(fake.open);
+
+		pool.dispose();
+
+		return;
+	}
+
+	/**
+	 * This operation checks that a held connection stays open after its
+	 * channel is released and that the channel can be used by others.
+	 *
+	 * @throws RemoteConnectionException
+	 * @throws InterruptedException
+	 */
+	@Test
+	public void checkHoldOpen()
+			throws RemoteConnectionException, InterruptedException {
+
+		// Local Declarations
+		RemoteConnectionPool pool = new RemoteConnectionPool(0, 1);
+		FakeConnection fake = new FakeConnection("kirk", "enterprise");
+		IRemoteConnection connection = pool.acquire(fake.create(), null);
+
+		// Hold it and give the only channel back
+		pool.holdOpen(connection);
+		pool.release(connection);
+		assertEquals(0, pool.getStatistics().getActiveChannels());
+
+		// It is held, so it stays open
+		Thread.sleep(10);
+		assertEquals(0, pool.closeIdleConnections());
+		assertTrue(fake.open);
+
+		// The channel can be used by another client right away
+		IRemoteConnection other = pool.acquire(
+				new FakeConnection("kirk", "enterprise").create(), null);
+		assertSame(connection, other);
+		pool.release(other);
+
+		// Once the hold is released it is closed
+		pool.releaseHold(connection);
+		Thread.sleep(10);
+		pool.closeIdleConnections();
+		assertFalse(fake.open);
+
+		pool.dispose();
+
+		return;
+	}
+
+	/**
+	 * This operation checks that disposing a pool closes the connections that
+	 * are not in use right away, closes those in use when they are released
+	 * and stops the pool from handing out connections.
+	 *
+	 * @throws RemoteConnectionException
+	 */
+	@Test
+	public void checkDispose() throws RemoteConnectionException {
+
+		// Local Declarations
+		RemoteConnectionPool pool = new RemoteConnectionPool(60000, 4);
+		FakeConnection idle = new FakeConnection("kirk", "enterprise");
+		FakeConnection busy = new FakeConnection("spock", "enterprise");
+		IRemoteConnection busyConnection = pool.acquire(busy.create(), null);
+		pool.release(pool.acquire(idle.create(), null));
+
+		// Only the connection that is not in use is closed
+		pool.dispose();
+		assertFalse(idle.open);
+		assertTrue(busy.open);
+		assertEquals(1, pool.getStatistics().getPooledConnections());
+
+		// The busy one is closed when it is released
+		pool.release(busyConnection);
+		assertFalse(busy.open);
+		assertEquals(0, pool.getStatistics().getPooledConnections());
+		assertEquals(2, pool.getStatistics().getClosedConnections());
+
+		// Nothing more can be acquired
+		try {
+			pool.acquire(idle.create(), null);
+			fail("RemoteConnectionPoolTester error: "
+					+ "A disposed pool handed out a connection.");
+		} catch (RemoteConnectionException e) {
+			// Expected
+		}
+
+		return;
+	}
+
+}
@@ -255,6 +255,18 @@ public class TestItem extends Item {
 		return true;
 	}
 
+	/**
+	 * This method is used by ItemTester to test that
+	 * Item.getProjectFileNames functions appropriately.
+	 * 
+	 * @param type
+	 *            The file type or null for all files
+	 * @return The names of the files in the project
+	 */
+	public ArrayList<String> getTestProjectFileNames(String type) {
+		return getProjectFileNames(type);
+	}
+
 	/**
 	 * This method is used by ItemTester to test that Item.getFiles functions
 	 * appropriately.
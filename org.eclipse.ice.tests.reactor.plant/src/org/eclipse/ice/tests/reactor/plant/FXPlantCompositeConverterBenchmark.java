@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2016 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - Jay Jay Billings
+ *******************************************************************************/
+package org.eclipse.ice.tests.reactor.plant;
+
+import org.eclipse.ice.reactor.plant.FXPlantCompositeConverter;
+import org.eclipse.ice.reactor.plant.Pipe;
+import org.eclipse.ice.reactor.plant.PlantComposite;
+
+/**
+ * This class compares rebuilding the output of the
+ * {@link FXPlantCompositeConverter} from scratch to applying single changes to
+ * it for a plant with 1,000 components. It is not run with the tests. Run it
+ * as a Java application to print the best time of several passes for each
+ * approach.
+ *
+ * @author Jay Jay Billings
+ *
+ */
+public class FXPlantCompositeConverterBenchmark {
+
+	/**
+	 * The number of components in the plant
+	 */
+	private static final int size = 1000;
+
+	/**
+	 * The number of timed passes for each approach
+	 */
+	private static final int passes = 20;
+
+	/**
+	 * The entry point
+	 *
+	 * @param args
+	 *            Not used
+	 */
+	public static void main(String[] args) {
+
+		// Build a plant with a line of pipes
+		final PlantComposite plant = new PlantComposite();
+		for (int i = 0; i < size; i++) {
+			plant.addPlantComponent(createPipe(i));
+		}
+		final FXPlantCompositeConverter converter = new FXPlantCompositeConverter(
+				plant);
+		converter.getPlant();
+
+		time("Full rebuild of " + size + " components", new Runnable() {
+			@Override
+			public void run() {
+				converter.refresh();
+			}
+		});
+		time("Incremental add and remove of one component", new Runnable() {
+			@Override
+			public void run() {
+				plant.addPlantComponent(createPipe(size));
+				converter.getPlant();
+				plant.removeComponent(size);
+				converter.getPlant();
+			}
+		});
+		time("Rebuild after adding and removing one component",
+				new Runnable() {
+					@Override
+					public void run() {
+						plant.addPlantComponent(createPipe(size));
+						converter.refresh();
+						plant.removeComponent(size);
+						converter.refresh();
+					}
+				});
+
+		return;
+	}
+
+	/**
+	 * Creates a pipe along the x axis.
+	 *
+	 * @param id
+	 *            The id of the pipe
+	 * @return The pipe
+	 */
+	private static Pipe createPipe(int id) {
+		Pipe pipe = new Pipe(1.0, 0.1);
+		pipe.setId(id);
+		pipe.setName("Pipe " + id);
+		pipe.setPosition(new double[] { id, 0.0, 0.0 });
+		pipe.setOrientation(new double[] { 1.0, 0.0, 0.0 });
+		return pipe;
+	}
+
+	/**
+	 * This operation runs the work a few times to warm up and then prints the
+	 * best time of several passes.
+	 *
+	 * @param name
+	 *            The name of the work
+	 * @param work
+	 *            The work
+	 */
+	private static void time(String name, Runnable work) {
+		long best = Long.MAX_VALUE;
+		for (int i = 0; i < 3; i++) {
+			work.run();
+		}
+		for (int i = 0; i < passes; i++) {
+			long start = System.nanoTime();
+			work.run();
+			best = Math.min(best, System.nanoTime() - start);
+		}
+		System.out.println(name + ": " + best / 1000 + " us");
+	}
+
+}
@@ -0,0 +1,211 @@
+/*******************************************************************************
+ * Copyright (c) 2016 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - Jay Jay Billings
+ *******************************************************************************/
+package org.eclipse.ice.tests.reactor.plant;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ice.datastructures.ICEObject.IUpdateable;
+import org.eclipse.ice.datastructures.ICEObject.IUpdateableListener;
+import org.eclipse.ice.reactor.plant.FXPlantCompositeConverter;
+import org.eclipse.ice.reactor.plant.Pipe;
+import org.eclipse.ice.reactor.plant.PlantComponent;
+import org.eclipse.ice.reactor.plant.PlantComposite;
+import org.eclipse.january.geometry.Geometry;
+import org.eclipse.january.geometry.INode;
+import org.junit.Test;
+
+/**
+ * This class checks that the {@link FXPlantCompositeConverter} keeps its map
+ * from PlantComponents to the nodes of its output current as components are
+ * added, removed and changed.
+ *
+ * @author Jay Jay Billings
+ *
+ */
+public class FXPlantCompositeConverterTester {
+
+	/**
+	 * This operation checks that the components in the plant when the output
+	 * is first requested are mapped to nodes in the output.
+	 */
+	@Test
+	public void checkInitialConversion() {
+
+		// Local Declarations
+		PlantComposite plant = new PlantComposite();
+		Pipe first = createPipe(1);
+		Pipe second = createPipe(2);
+		plant.addPlantComponent(first);
+		plant.addPlantComponent(second);
+		FXPlantCompositeConverter converter = new FXPlantCompositeConverter(
+				plant);
+
+		// Nothing is converted until the output is requested
+		assertNull(converter.getNodes(first));
+
+		// Both pipes should be converted
+		Geometry output = converter.getPlant();
+		checkNodes(converter, output, first);
+		checkNodes(converter, output, second);
+
+		return;
+	}
+
+	/**
+	 * This operation checks that components that are added to the plant
+	 * after the output was created are mapped and that components that are
+	 * removed are no longer mapped.
+	 */
+	@Test
+	public void checkAddAndRemove() {
+
+		// Local Declarations
+		PlantComposite plant = new PlantComposite();
+		Pipe first = createPipe(1);
+		Pipe second = createPipe(2);
+		plant.addPlantComponent(first);
+		FXPlantCompositeConverter converter = new FXPlantCompositeConverter(
+				plant);
+		Geometry output = converter.getPlant();
+
+		// Add a pipe. It should be mapped without rebuilding the output.
+		plant.addPlantComponent(second);
+		checkNodes(converter, output, second);
+		checkNodes(converter, output, first);
+
+		// Remove the first pipe. Its nodes should leave the output.
+		List<INode> removedNodes = converter.getNodes(first);
+		plant.removeComponent(first.getId());
+		assertNull(converter.getNodes(first));
+		for (INode node : removedNodes) {
+			assertTrue(!output.getNodes().contains(node));
+		}
+		checkNodes(converter, output, second);
+
+		// Add it back
+		plant.addPlantComponent(first);
+		checkNodes(converter, output, first);
+
+		return;
+	}
+
+	/**
+	 * This operation checks that components are still mapped after their
+	 * properties change and that changes to removed components do not bring
+	 * them back.
+	 *
+	 * @throws InterruptedException
+	 */
+	@Test
+	public void checkPropertyChange() throws InterruptedException {
+
+		// Local Declarations
+		PlantComposite plant = new PlantComposite();
+		Pipe first = createPipe(1);
+		Pipe second = createPipe(2);
+		plant.addPlantComponent(first);
+		plant.addPlantComponent(second);
+		FXPlantCompositeConverter converter = new FXPlantCompositeConverter(
+				plant);
+		Geometry output = converter.getPlant();
+
+		// Change the first pipe and wait for the converter to see it
+		changeLength(first, 2.0);
+		checkNodes(converter, output, first);
+		checkNodes(converter, output, second);
+
+		// Remove the second pipe and then change it. It should stay out.
+		plant.removeComponent(second.getId());
+		assertNull(converter.getNodes(second));
+		changeLength(second, 3.0);
+		assertNull(converter.getNodes(second));
+		checkNodes(converter, output, first);
+
+		return;
+	}
+
+	/**
+	 * This operation checks that a component is mapped and that all of its
+	 * nodes are in the output.
+	 *
+	 * @param converter
+	 *            The converter
+	 * @param output
+	 *            The output of the converter
+	 * @param plantComp
+	 *            The component
+	 */
+	private void checkNodes(FXPlantCompositeConverter converter,
+			Geometry output, PlantComponent plantComp) {
+		List<INode> nodes = converter.getNodes(plantComp);
+		assertNotNull(nodes);
+		assertTrue(output.getNodes().containsAll(nodes));
+	}
+
+	/**
+	 * This operation changes the length of a pipe and waits until its
+	 * listeners have been notified. The converter registered its listener
+	 * first, so it has handled the change when the one registered here is
+	 * notified.
+	 *
+	 * @param pipe
+	 *            The pipe
+	 * @param length
+	 *            The new length
+	 * @throws InterruptedException
+	 */
+	private void changeLength(Pipe pipe, double length)
+			throws InterruptedException {
+
+		// Local Declarations
+		final CountDownLatch latch = new CountDownLatch(1);
+		IUpdateableListener listener = new IUpdateableListener() {
+			@Override
+			public void update(IUpdateable component) {
+				latch.countDown();
+			}
+		};
+
+		pipe.register(listener);
+		pipe.setLength(length);
+		if (!latch.await(5, TimeUnit.SECONDS)) {
+			fail("FXPlantCompositeConverterTester error: "
+					+ "The pipe's listeners were not notified.");
+		}
+		pipe.unregister(listener);
+
+		return;
+	}
+
+	/**
+	 * Creates a pipe along the x axis.
+	 *
+	 * @param id
+	 *            The id of the pipe
+	 * @return The pipe
+	 */
+	private Pipe createPipe(int id) {
+		Pipe pipe = new Pipe(1.0, 0.1);
+		pipe.setId(id);
+		pipe.setName("Pipe " + id);
+		pipe.setPosition(new double[] { id, 0.0, 0.0 });
+		pipe.setOrientation(new double[] { 1.0, 0.0, 0.0 });
+		return pipe;
+	}
+
+}
@@ -0,0 +1,252 @@
+/*******************************************************************************
+ * Copyright (c) 2016 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - Jay Jay Billings
+ *******************************************************************************/
+package org.eclipse.ice.tests.reactor.plant;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ice.reactor.plant.Junction;
+import org.eclipse.ice.reactor.plant.PlantComponent;
+import org.eclipse.ice.reactor.plant.PlantComposite;
+import org.eclipse.ice.reactor.plant.PlantEventBus;
+import org.eclipse.ice.reactor.plant.PlantEventBus.IPlantEventHandler;
+import org.junit.Test;
+
+/**
+ * Tests the {@link PlantEventBus} and the way that the PlantComposite and
+ * Junction use it.
+ *
+ * @author Jay Jay Billings
+ *
+ */
+public class PlantEventBusTester {
+
+	/**
+	 * A handler that records the batches it receives and can be held up until
+	 * it is released.
+	 */
+	private class RecordingHandler implements IPlantEventHandler {
+
+		/**
+		 * The batches that were received
+		 */
+		private final List<List<PlantComponent>> batches = Collections
+				.synchronizedList(new ArrayList<List<PlantComponent>>());
+
+		/**
+		 * Whether each batch was added or removed
+		 */
+		private final List<Boolean> kinds = Collections
+				.synchronizedList(new ArrayList<Boolean>());
+
+		/**
+		 * The threads on which the batches were received
+		 */
+		private final List<Thread> threads = Collections
+				.synchronizedList(new ArrayList<Thread>());
+
+		/**
+		 * Counted down when the first batch is received
+		 */
+		private final CountDownLatch started = new CountDownLatch(1);
+
+		/**
+		 * The handler waits on this before it returns
+		 */
+		private final CountDownLatch release;
+
+		/**
+		 * The constructor
+		 *
+		 * @param held
+		 *            Whether the handler should wait to be released
+		 */
+		public RecordingHandler(boolean held) {
+			release = new CountDownLatch(held ? 1 : 0);
+		}
+
+		@Override
+		public void handle(List<PlantComponent> components, boolean added) {
+			batches.add(components);
+			kinds.add(added);
+			threads.add(Thread.currentThread());
+			started.countDown();
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				fail("PlantEventBusTester error: Thread interrupted.");
+			}
+		}
+	}
+
+	/**
+	 * Creates a list with one component.
+	 *
+	 * @param name
+	 *            The name of the component
+	 * @return The list
+	 */
+	private List<PlantComponent> list(String name) {
+		List<PlantComponent> list = new ArrayList<PlantComponent>();
+		list.add(new PlantComponent(name));
+		return list;
+	}
+
+	/**
+	 * Checks that events are delivered in order and that events posted while
+	 * the handler is busy are batched.
+	 *
+	 * @throws InterruptedException
+	 */
+	@Test
+	public void checkOrderingAndBatching() throws InterruptedException {
+
+		RecordingHandler handler = new RecordingHandler(true);
+		PlantEventBus bus = new PlantEventBus(handler);
+		assertFalse(bus.isSynchronous());
+
+		// Empty events are ignored
+		bus.post(null, true);
+		bus.post(new ArrayList<PlantComponent>(), true);
+
+		// Hold up the first batch so that the rest are queued
+		bus.post(list("first"), true);
+		assertTrue(handler.started.await(5, TimeUnit.SECONDS));
+		for (int i = 0; i < 100; i++) {
+			bus.post(list("added" + i), true);
+		}
+		bus.post(list("removed0"), false);
+		bus.post(list("removed1"), false);
+		bus.post(list("last"), true);
+
+		// Release the handler and wait for the rest of the events
+		handler.release.countDown();
+		bus.flush();
+
+		// There should be four batches in order
+		assertEquals(4, handler.batches.size());
+		assertEquals(1, handler.batches.get(0).size());
+		assertEquals(100, handler.batches.get(1).size());
+		for (int i = 0; i < 100; i++) {
+			assertEquals("added" + i,
+					handler.batches.get(1).get(i).getName());
+		}
+		assertEquals(2, handler.batches.get(2).size());
+		assertEquals("removed1", handler.batches.get(2).get(1).getName());
+		assertEquals("last", handler.batches.get(3).get(0).getName());
+		assertEquals(true, handler.kinds.get(0));
+		assertEquals(true, handler.kinds.get(1));
+		assertEquals(false, handler.kinds.get(2));
+		assertEquals(true, handler.kinds.get(3));
+
+		// None of them should have been delivered on this thread
+		assertFalse(handler.threads.contains(Thread.currentThread()));
+
+		return;
+	}
+
+	/**
+	 * Checks that events are delivered on the posting thread in synchronous
+	 * mode.
+	 */
+	@Test
+	public void checkSynchronousMode() {
+
+		RecordingHandler handler = new RecordingHandler(false);
+		PlantEventBus bus = new PlantEventBus(handler);
+		bus.setSynchronous(true);
+		assertTrue(bus.isSynchronous());
+
+		// Each event should be delivered immediately
+		bus.post(list("first"), true);
+		assertEquals(1, handler.batches.size());
+		bus.post(list("second"), false);
+		assertEquals(2, handler.batches.size());
+		assertSame(Thread.currentThread(), handler.threads.get(0));
+		assertSame(Thread.currentThread(), handler.threads.get(1));
+		assertEquals(false, handler.kinds.get(1));
+
+		return;
+	}
+
+	/**
+	 * Checks that the PlantComposite and Junction notify their listeners
+	 * synchronously when asked to.
+	 */
+	@Test
+	public void checkSynchronousNotifications() {
+
+		final List<PlantComponent> added = new ArrayList<PlantComponent>();
+		final List<PlantComponent> pipes = new ArrayList<PlantComponent>();
+
+		// Add a component to a synchronous composite
+		PlantComposite composite = new PlantComposite();
+		composite.setSynchronousNotifications(true);
+		composite.registerPlantCompositeListener(
+				new org.eclipse.ice.reactor.plant.IPlantCompositeListener() {
+					@Override
+					public void addedComponents(PlantComposite composite,
+							List<PlantComponent> components) {
+						added.addAll(components);
+					}
+
+					@Override
+					public void removedComponents(PlantComposite composite,
+							List<PlantComponent> components) {
+						added.removeAll(components);
+					}
+				});
+		PlantComponent component = new PlantComponent("component");
+		composite.addPlantComponent(component);
+		assertEquals(1, added.size());
+		assertSame(component, added.get(0));
+		composite.removeComponent(component.getId());
+		assertTrue(added.isEmpty());
+
+		// Add an input to a synchronous junction
+		Junction junction = new Junction();
+		junction.setSynchronousNotifications(true);
+		junction.registerJunctionListener(
+				new org.eclipse.ice.reactor.plant.IJunctionListener() {
+					@Override
+					public void addedPipes(
+							org.eclipse.ice.reactor.plant.IJunction junction,
+							List<PlantComponent> components) {
+						pipes.addAll(components);
+					}
+
+					@Override
+					public void removedPipes(
+							org.eclipse.ice.reactor.plant.IJunction junction,
+							List<PlantComponent> components) {
+						pipes.removeAll(components);
+					}
+				});
+		List<PlantComponent> notified = new ArrayList<PlantComponent>();
+		notified.add(component);
+		junction.notifyJunctionListeners(notified, true);
+		assertEquals(1, pipes.size());
+		junction.notifyJunctionListeners(notified, false);
+		assertTrue(pipes.isEmpty());
+
+		return;
+	}
+
+}
@@ -17,8 +17,12 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.ArrayList;
 
+import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IProjectDescription;
 import org.eclipse.core.resources.IResource;
@@ -310,6 +314,84 @@ public class VibeKVPairTester {
 		}
 	}
 
+	/**
+	 * Check that a large key-value pair file can be read and written back out
+	 * and that the rows which depend on NUMSEG are hooked up.
+	 */
+	@Test
+	public void checkReadingAndWriting() {
+
+		// Local Declarations
+		int numKeys = 5000;
+		String fileName = "kvPairReadingTest.dat";
+		IFile file = projectSpace.getFile(fileName);
+		StringBuilder contents = new StringBuilder();
+
+		// Create a file with a DualFoil header and lots of keys
+		contents.append("NUMSEG=3\nMODESEG=1,2,3\nCUTOFFL=0.1,0.2,0.3\n");
+		for (int i = 0; i < numKeys; i++) {
+			contents.append("KEY" + i + "=" + i + "\r\n");
+		}
+		try {
+			ByteArrayInputStream stream = new ByteArrayInputStream(
+					contents.toString().getBytes());
+			if (file.exists()) {
+				file.setContents(stream, true, false, null);
+			} else {
+				file.create(stream, true, null);
+			}
+		} catch (CoreException e) {
+			e.printStackTrace();
+			fail("Could not create the key-value pair file.");
+		}
+
+		// Read it twice to make sure the table is replaced, not appended to
+		VibeKVPair vibeKVPair = new VibeKVPair(projectSpace);
+		vibeKVPair.read(file);
+		Form form = vibeKVPair.read(file);
+		ArrayList<Component> components = form.getComponents();
+		TableComponent table = (TableComponent) components
+				.get(components.size() - 1);
+		assertEquals(numKeys + 3, table.numberOfRows());
+		assertEquals("KEY42", table.getRow(45).get(0).getValue());
+		assertEquals("42", table.getRow(45).get(1).getValue());
+
+		// Increasing NUMSEG should lengthen the dependent vectors
+		table.getRow(0).get(1).setValue("4");
+		try {
+			Thread.sleep(100);
+		} catch (InterruptedException e) {
+			e.printStackTrace();
+			fail();
+		}
+		assertEquals("1,2,3,0", table.getRow(1).get(1).getValue());
+		assertEquals("0.1,0.2,0.3,0.0", table.getRow(2).get(1).getValue());
+
+		// Write the table back out
+		StringWriter writer = new StringWriter();
+		try {
+			vibeKVPair.write(table, writer);
+		} catch (IOException e) {
+			e.printStackTrace();
+			fail("Could not write the key-value pairs.");
+		}
+		String[] lines = writer.toString().split("\n");
+		assertEquals(numKeys + 3, lines.length);
+		assertEquals("NUMSEG=4", lines[0]);
+		assertEquals("KEY" + (numKeys - 1) + "=" + (numKeys - 1),
+				lines[lines.length - 1]);
+
+		// Clean up the file
+		try {
+			file.delete(true, null);
+		} catch (CoreException e) {
+			e.printStackTrace();
+			fail("Could not delete test file.");
+		}
+
+		return;
+	}
+
 	/**
 	 * Clean up after ourselves
 	 */
@@ -13,19 +13,24 @@
 package org.eclipse.ice.vibe.kvPair;
 
 import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.io.PipedInputStream;
-import java.io.PipedOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
 
 import javax.xml.bind.annotation.XmlRootElement;
 
@@ -66,6 +71,12 @@ public class VibeKVPair extends Item implements IReader, IWriter {
 	 */
 	private static final int TEMPLATE_COMPONENT_ID = 0;
 
+	/**
+	 * The keys whose rows depend on the value of the NUMSEG row.
+	 */
+	private static final Set<String> DEPENDENT_KEYS = new HashSet<String>(
+			Arrays.asList("MODESEG", "CUTOFFL", "CUTOFFH"));
+
 	/**
 	 * Keep track of everything that we can do with the KV Pair Item
 	 */
@@ -429,33 +440,17 @@ public class VibeKVPair extends Item implements IReader, IWriter {
 			form = new Form();
 		}
 
-		// Read in the ini file to an ArrayList<String>
-		ArrayList<String> lines = new ArrayList<String>();
-		BufferedReader reader = null;
-		try {
-			reader = new BufferedReader(
-					new InputStreamReader(ifile.getContents()));
-			
-			// Read the FileInputStream and append to a StringBuffer
-			StringBuffer buffer = new StringBuffer();
-			int fileByte;
-			while ((fileByte = reader.read()) != -1) {
-				buffer.append((char) fileByte);
-			}
-
-			// Break up the StringBuffer at each newline character
-			String[] bufferSplit = (buffer.toString()).split("\n");
-			for (String each : bufferSplit) {
-				lines.add(each);
+		// Read the key-value pairs from the file one line at a time
+		ArrayList<String[]> pairs = new ArrayList<String[]>();
+		try (BufferedReader reader = new BufferedReader(
+				new InputStreamReader(ifile.getContents()))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (line.contains("=")) {
+					String[] keyValue = line.split("=", -1);
+					pairs.add(new String[] { keyValue[0], keyValue[1] });
+				}
 			}
-
-			// Add a dummy EOF line so that the last line of the file is
-			// read in correctly
-			lines.add("EOF");
-			
-			//Close the reader
-			reader.close();
-			
 		} catch (FileNotFoundException e) {
 			logger.error("VibeKVPair Message: "
 					+ "Error! Could not find file for loading.");
@@ -470,13 +465,9 @@ public class VibeKVPair extends Item implements IReader, IWriter {
 			return null;
 		}
 
-		// Create the table if it doesn't exist or empty it if it does
+		// Create the table if it doesn't exist
 		if (kvTable == null) {
 			kvTable = new TableComponent();
-		} else {
-			for (int i : kvTable.getRowIds()) {
-				kvTable.deleteRow(0);
-			}
 		}
 		ArrayList<IEntry> row;
 		ArrayList<IEntry> kvEntries = new ArrayList<IEntry>();
@@ -488,11 +479,9 @@ public class VibeKVPair extends Item implements IReader, IWriter {
 		kvEntries.add(value);
 		kvTable.setRowTemplate(kvEntries);
 
-		// The list of keys whose rows will be dependent on another row
-		ArrayList<String> dependentKeys = new ArrayList<String>();
-		dependentKeys.add("MODESEG");
-		dependentKeys.add("CUTOFFL");
-		dependentKeys.add("CUTOFFH");
+		// Empty the table and add a row for every pair at once
+		kvTable.deleteAllRows();
+		int firstRowID = kvTable.addRows(pairs.size());
 
 		// The list of rows dependent on another row
 		ArrayList<VibeKVPairRow> dependentRows = new ArrayList<VibeKVPairRow>();
@@ -500,131 +489,130 @@ public class VibeKVPair extends Item implements IReader, IWriter {
 		// The row for the NUMSEG key
 		VibeKVPairRow numsegRow = null;
 
-		for (String line : lines) {
-			if (line.contains("=")) {
-				String[] keyValue = line.split("=");
-				int rowID = kvTable.addRow();
-				row = kvTable.getRow(rowID);
-
-				// The new row under construction
-				VibeKVPairRow entryRow = null;
-
-				// For most keys, create a standard row
-				if (!dependentKeys.contains(keyValue[0])) {
-
-					entryRow = new VibeKVPairRow((StringEntry) row.get(0),
-							(StringEntry) row.get(1));
-
-					if ("NUMSEG".equals(keyValue[0])) {
-						numsegRow = entryRow;
-
-						// The prescence of NUMSEG means that this is a DualFoil
-						// problem. We must set the template name appropriately,
-						// in case this function was invoked by importing a
-						// key-value file directly.
-						templateName = "DualFoil";
-						((DataComponent) form
-								.getComponent(TEMPLATE_COMPONENT_ID))
-										.retrieveAllEntries().get(0)
-										.setValue("DualFoil");
-					}
-				}
+		for (int i = 0; i < pairs.size(); i++) {
+			String[] keyValue = pairs.get(i);
+			row = kvTable.getRow(firstRowID + i);
 
-				else {
-
-					// TODO If we ever want to create more complex relationships
-					// between rows, change this to handle things more
-					// generically
-					// For keys whose lengths depend on numseg, add a listener
-					entryRow = new VibeKVPairRow((StringEntry) row.get(0),
-							(StringEntry) row.get(1)) {
-						@Override
-						public void update(IUpdateable component) {
-
-							// This row won't need to send updates of its own,
-							// so ignore the value entry
-							if (component == getValue()) {
-								return;
-							}
+			// The new row under construction
+			VibeKVPairRow entryRow = null;
+
+			// For most keys, create a standard row
+			if (!DEPENDENT_KEYS.contains(keyValue[0])) {
+
+				entryRow = new VibeKVPairRow((StringEntry) row.get(0),
+						(StringEntry) row.get(1));
 
-							// Cast the component
-							VibeKVPairRow source = (VibeKVPairRow) component;
+				if ("NUMSEG".equals(keyValue[0])) {
+					numsegRow = entryRow;
 
-							// The string that will be written to this row's
-							// value
-							String valueString = getValue().getValue();
+					// The prescence of NUMSEG means that this is a DualFoil
+					// problem. We must set the template name appropriately,
+					// in case this function was invoked by importing a
+					// key-value file directly.
+					templateName = "DualFoil";
+					((DataComponent) form
+							.getComponent(TEMPLATE_COMPONENT_ID))
+									.retrieveAllEntries().get(0)
+									.setValue("DualFoil");
+				}
+			}
 
-							// Calculate the size of the vector
-							int vectorSize = valueString.length()
-									- valueString.replace(",", "").length() + 1;
+			else {
+
+				// TODO If we ever want to create more complex relationships
+				// between rows, change this to handle things more
+				// generically
+				// For keys whose lengths depend on numseg, add a listener
+				entryRow = new VibeKVPairRow((StringEntry) row.get(0),
+						(StringEntry) row.get(1)) {
+					@Override
+					public void update(IUpdateable component) {
+
+						// This row won't need to send updates of its own,
+						// so ignore the value entry
+						if (component == getValue()) {
+							return;
+						}
 
-							// Get the new value of the numseg key
-							int numseg = Integer
-									.valueOf(source.getValue().getValue());
+						// Cast the component
+						VibeKVPairRow source = (VibeKVPairRow) component;
 
-							// If numseg is an invalid value, ignore the change
-							if (numseg <= 0) {
-								return;
-							}
+						// The string that will be written to this row's
+						// value
+						String valueString = getValue().getValue();
+
+						// Calculate the size of the vector
+						int vectorSize = valueString.length()
+								- valueString.replace(",", "").length() + 1;
 
-							// If numseg has been reduced, shorten the value
-							// vector
-							if (numseg < vectorSize) {
+						// Get the new value of the numseg key
+						int numseg = Integer
+								.valueOf(source.getValue().getValue());
 
-								// The amount of numbers to be removed
-								int numRemove = vectorSize - numseg;
+						// If numseg is an invalid value, ignore the change
+						if (numseg <= 0) {
+							return;
+						}
 
-								// Remove the last number in the vector,
-								// numRemove times
-								for (int i = 0; i < numRemove; i++) {
-									valueString = valueString.substring(0,
-											valueString.lastIndexOf(','));
-								}
+						// If numseg has been reduced, shorten the value
+						// vector
+						if (numseg < vectorSize) {
 
-								getValue().setValue(valueString);
+							// The amount of numbers to be removed
+							int numRemove = vectorSize - numseg;
 
+							// Remove the last number in the vector,
+							// numRemove times
+							for (int i = 0; i < numRemove; i++) {
+								valueString = valueString.substring(0,
+										valueString.lastIndexOf(','));
 							}
 
-							// If numseg has been increased, lengthen the value
-							// vector
-							else if (numseg > vectorSize) {
+							getValue().setValue(valueString);
 
-								// The number of additional values to add
-								int numAdd = numseg - vectorSize;
+						}
 
-								// The default value to pad the vector with
-								String pad = null;
+						// If numseg has been increased, lengthen the value
+						// vector
+						else if (numseg > vectorSize) {
 
-								// MODESEG is a vector of integers, all others
-								// are vectors of doubles
-								if (!getKey().getValue().equals("MODESEG")) {
-									pad = ",0.0";
-								} else {
-									pad = ",0";
-								}
+							// The number of additional values to add
+							int numAdd = numseg - vectorSize;
 
-								// Pad the vector out with the default value
-								for (int i = 0; i < numAdd; i++) {
-									valueString += pad;
-								}
+							// The default value to pad the vector with
+							String pad = null;
 
-								getValue().setValue(valueString);
+							// MODESEG is a vector of integers, all others
+							// are vectors of doubles
+							if (!getKey().getValue().equals("MODESEG")) {
+								pad = ",0.0";
+							} else {
+								pad = ",0";
 							}
-						}
-					};
 
-					// Add this row to the list
-					dependentRows.add(entryRow);
-				}
+							// Pad the vector out with the default value
+							for (int i = 0; i < numAdd; i++) {
+								valueString += pad;
+							}
 
-				entryRow.getKey().setValue(keyValue[0]);
-				entryRow.getValue().setValue(keyValue[1]);
+							getValue().setValue(valueString);
+						}
+					}
+				};
+
+				// Add this row to the list
+				dependentRows.add(entryRow);
 			}
+
+			entryRow.getKey().setValue(keyValue[0]);
+			entryRow.getValue().setValue(keyValue[1]);
 		}
 
 		// Register each dependent row as a listener to the NUMSEG row
-		for (VibeKVPairRow dependentRow : dependentRows) {
-			numsegRow.register(dependentRow);
+		if (numsegRow != null) {
+			for (VibeKVPairRow dependentRow : dependentRows) {
+				numsegRow.register(dependentRow);
+			}
 		}
 
 		//Add the table to the form if it isn't already there
@@ -657,36 +645,24 @@ public class VibeKVPair extends Item implements IReader, IWriter {
 		if (components != null && components.size() > 0
 				&& outputFile.isFile()) {
 			try {
-				// Get an output stream to the file
-				PipedInputStream in = new PipedInputStream(8196);
-				PipedOutputStream out = new PipedOutputStream(in);
-
-				if (!ifile.exists()) {
-					byte[] blank = "".getBytes();
-					InputStream s = new ByteArrayInputStream(blank);
-					ifile.create(s, true, new NullProgressMonitor());
-				}
-
-				int numComponents = components.size();
-				String configString = "";
-				ArrayList<IEntry> row;
-				byte[] byteArray;
-
-				// Build the output by going through each row
+				// Write the rows from the last component to a buffer
 				TableComponent kvPairs = (TableComponent) components
-						.get(numComponents - 1);
-				for (int i = 0; i < kvPairs.numberOfRows(); i++) {
-					row = kvPairs.getRow(i);
-					configString += row.get(0).getValue().trim() + "="
-							+ row.get(1).getValue().trim() + "\n";
+						.get(components.size() - 1);
+				ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+				try (Writer writer = new BufferedWriter(
+						new OutputStreamWriter(outputStream))) {
+					write(kvPairs, writer);
 				}
-				configString += "\n";
 
-				// Write it out
-				byteArray = configString.getBytes();
-				out.write(byteArray);
-				out.close();
-				ifile.setContents(in, true, false, new NullProgressMonitor());
+				// Push the buffer to the file, creating it if needed
+				InputStream in = new ByteArrayInputStream(
+						outputStream.toByteArray());
+				if (ifile.exists()) {
+					ifile.setContents(in, true, false,
+							new NullProgressMonitor());
+				} else {
+					ifile.create(in, true, new NullProgressMonitor());
+				}
 
 			} catch (FileNotFoundException e) {
 				logger.info("VibeKVPair Message: Could not find "
@@ -702,6 +678,31 @@ public class VibeKVPair extends Item implements IReader, IWriter {
 
 	}
 
+	/**
+	 * Writes the rows of a key-value pair table to a writer, one "key=value"
+	 * line per row followed by a blank line.
+	 * 
+	 * @param kvPairs
+	 *            The table of key-value pairs
+	 * @param writer
+	 *            The writer to which the pairs are written. It is not closed.
+	 * @throws IOException
+	 *             if the pairs can not be written
+	 */
+	public void write(TableComponent kvPairs, Writer writer)
+			throws IOException {
+		ArrayList<IEntry> row;
+		for (int i = 0; i < kvPairs.numberOfRows(); i++) {
+			row = kvPairs.getRow(i);
+			writer.write(row.get(0).getValue().trim());
+			writer.write('=');
+			writer.write(row.get(1).getValue().trim());
+			writer.write('\n');
+		}
+		writer.write('\n');
+		writer.flush();
+	}
+
 	@Override
 	public ArrayList<IEntry> findAll(IFile file, String regex) {
 		// TODO Auto-generated method stub